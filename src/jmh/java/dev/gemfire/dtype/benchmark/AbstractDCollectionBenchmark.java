@@ -0,0 +1,38 @@
+/*
+ * Copyright 2024 Broadcom. All rights reserved.
+ */
+
+package dev.gemfire.dtype.benchmark;
+
+import dev.gemfire.dtype.ElementStorage;
+import org.openjdk.jmh.annotations.Param;
+
+/**
+ * Base class for the benchmarks of collections, adding the size and storage of the elements as
+ * parameters. Each thread adds and removes its own element so that elements of different threads
+ * are distinct.
+ */
+public abstract class AbstractDCollectionBenchmark extends AbstractDTypeBenchmark {
+
+  private static final int MAX_THREADS = 256;
+
+  @Param({"16", "1024", "65536"})
+  public int elementSize;
+
+  @Param({"OBJECT", "SERIALIZED"})
+  public ElementStorage storage;
+
+  private String[] elements;
+
+  @Override
+  protected void prepare() {
+    elements = new String[MAX_THREADS];
+    for (int i = 0; i < MAX_THREADS; i++) {
+      elements[i] = element(elementSize, i);
+    }
+  }
+
+  protected String element(ThreadState thread) {
+    return elements[thread.threadIndex % MAX_THREADS];
+  }
+}
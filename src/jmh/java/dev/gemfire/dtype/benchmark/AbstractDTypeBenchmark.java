@@ -0,0 +1,106 @@
+/*
+ * Copyright 2024 Broadcom. All rights reserved.
+ */
+
+package dev.gemfire.dtype.benchmark;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import dev.gemfire.dtype.DTypeFactory;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.ThreadParams;
+
+/**
+ * Base class for the benchmarks of each type. A cluster of a locator and two servers is started
+ * for each trial and every benchmark thread uses the same client.
+ * <p>
+ * Contention is controlled by {@link #instances}: each thread operates on instance
+ * {@code threadIndex % instances}, so with a single instance all threads contend for it, while
+ * with at least as many instances as threads there is no contention at all.
+ * <p>
+ * Both throughput and the distribution of latencies are measured. Allocation rates are reported by
+ * running with {@code -prof gc}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 10)
+@Threads(4)
+@Fork(1)
+public abstract class AbstractDTypeBenchmark {
+
+  @Param({"1", "4"})
+  public int instances;
+
+  private BenchmarkCluster cluster;
+  protected DTypeFactory factory;
+
+  @Setup
+  public void startCluster() throws Exception {
+    prepare();
+    cluster = new BenchmarkCluster(2);
+    factory = new DTypeFactory(cluster.getClient());
+    for (int i = 0; i < instances; i++) {
+      createInstance(i, getClass().getSimpleName() + "-" + i);
+    }
+  }
+
+  @TearDown
+  public void stopCluster() {
+    cluster.close();
+  }
+
+  /**
+   * Prepare any data needed by the benchmark before the cluster is started.
+   */
+  protected void prepare() {}
+
+  /**
+   * Create the given instance, which threads will select by its index.
+   */
+  protected abstract void createInstance(int index, String name);
+
+  /**
+   * Return a string of the given length. Strings with different seeds are distinct.
+   */
+  protected static String element(int length, long seed) {
+    Random random = new Random(seed);
+    StringBuilder builder = new StringBuilder(length);
+    builder.append(seed).append(':');
+    while (builder.length() < length) {
+      builder.append((char) ('a' + random.nextInt(26)));
+    }
+    return builder.toString();
+  }
+
+  /**
+   * The state of each benchmark thread, identifying the instance it uses.
+   */
+  @State(Scope.Thread)
+  public static class ThreadState {
+
+    public int threadIndex;
+
+    @Setup
+    public void setup(ThreadParams params) {
+      threadIndex = params.getThreadIndex();
+    }
+
+    public int instance(AbstractDTypeBenchmark benchmark) {
+      return threadIndex % benchmark.instances;
+    }
+  }
+}
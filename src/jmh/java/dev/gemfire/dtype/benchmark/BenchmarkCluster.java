@@ -0,0 +1,148 @@
+/*
+ * Copyright 2024 Broadcom. All rights reserved.
+ */
+
+package dev.gemfire.dtype.benchmark;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.ServerSocket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.apache.geode.cache.client.ClientCache;
+import org.apache.geode.cache.client.ClientCacheFactory;
+import org.apache.geode.distributed.LocatorLauncher;
+import org.apache.geode.distributed.ServerLauncher;
+
+/**
+ * A locator and servers running on this host for the benchmarks to use. A JVM can only hold a
+ * single cache, so each member is started in its own JVM using the benchmark's classpath; the
+ * servers therefore pick up the {@code DTypeService} from the classes being benchmarked.
+ */
+public class BenchmarkCluster implements AutoCloseable {
+
+  private static final String SERVICE_INITIALIZED =
+      "Initialized service for GemFire Distributed Types";
+  private static final long START_TIMEOUT_MS = TimeUnit.MINUTES.toMillis(2);
+
+  private final Path workDir;
+  private final int locatorPort;
+  private final List<Process> members = new ArrayList<>();
+  private ClientCache client;
+
+  public BenchmarkCluster(int serverCount) throws IOException, InterruptedException {
+    workDir = Files.createTempDirectory("dtype-benchmark");
+    locatorPort = freePort();
+
+    try {
+      members.add(launch("locator", LocatorLauncher.class, "--port=" + locatorPort));
+      List<Path> serverLogs = new ArrayList<>();
+      for (int i = 1; i <= serverCount; i++) {
+        String name = "server" + i;
+        members.add(launch(name, ServerLauncher.class, "--server-port=0"));
+        serverLogs.add(workDir.resolve(name).resolve(name + ".log"));
+      }
+      for (Path log : serverLogs) {
+        awaitLogLine(log, SERVICE_INITIALIZED);
+      }
+    } catch (IOException | InterruptedException | RuntimeException e) {
+      close();
+      throw e;
+    }
+  }
+
+  /**
+   * Return a client connected to this cluster. All benchmark threads share the one client.
+   */
+  public synchronized ClientCache getClient() {
+    if (client == null) {
+      client = new ClientCacheFactory()
+          .addPoolLocator("localhost", locatorPort)
+          .set("log-level", "warn")
+          .create();
+    }
+    return client;
+  }
+
+  private Process launch(String name, Class<?> launcher, String... options) throws IOException {
+    Path dir = workDir.resolve(name);
+    Files.createDirectories(dir);
+
+    List<String> command = new ArrayList<>(Arrays.asList(
+        System.getProperty("java.home") + File.separator + "bin" + File.separator + "java",
+        "-cp", System.getProperty("java.class.path"),
+        "-Xmx1g",
+        "-Dgemfire.name=" + name,
+        "-Dgemfire.locators=localhost[" + locatorPort + "]",
+        "-Dgemfire.log-file=" + dir.resolve(name + ".log"),
+        "-Dgemfire.serializable-object-filter=dev.gemfire.dtype.**",
+        "-Dgemfire.enable-cluster-configuration=false",
+        "-Dgemfire.jmx-manager=false",
+        "-Dgemfire.http-service-port=0",
+        launcher.getName(), "start", "--dir=" + dir));
+    command.addAll(Arrays.asList(options));
+
+    return new ProcessBuilder(command)
+        .redirectErrorStream(true)
+        .redirectOutput(dir.resolve("stdout.log").toFile())
+        .start();
+  }
+
+  private void awaitLogLine(Path log, String line) throws IOException, InterruptedException {
+    long deadline = System.currentTimeMillis() + START_TIMEOUT_MS;
+    while (System.currentTimeMillis() < deadline) {
+      for (Process member : members) {
+        if (!member.isAlive()) {
+          throw new IllegalStateException("A cluster member failed to start. See " + workDir);
+        }
+      }
+      if (Files.exists(log)
+          && new String(Files.readAllBytes(log), StandardCharsets.UTF_8).contains(line)) {
+        return;
+      }
+      Thread.sleep(500);
+    }
+    throw new IllegalStateException("Timed out waiting for " + log + " to contain: " + line);
+  }
+
+  private static int freePort() throws IOException {
+    try (ServerSocket socket = new ServerSocket(0)) {
+      return socket.getLocalPort();
+    }
+  }
+
+  @Override
+  public void close() {
+    if (client != null) {
+      client.close();
+    }
+    for (Process member : members) {
+      member.destroy();
+    }
+    for (Process member : members) {
+      try {
+        if (!member.waitFor(30, TimeUnit.SECONDS)) {
+          member.destroyForcibly();
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        member.destroyForcibly();
+      }
+    }
+
+    try (Stream<Path> paths = Files.walk(workDir)) {
+      paths.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+}
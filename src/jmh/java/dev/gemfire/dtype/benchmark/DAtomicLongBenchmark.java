@@ -0,0 +1,48 @@
+/*
+ * Copyright 2024 Broadcom. All rights reserved.
+ */
+
+package dev.gemfire.dtype.benchmark;
+
+import dev.gemfire.dtype.DAtomicLong;
+import org.openjdk.jmh.annotations.Benchmark;
+
+public class DAtomicLongBenchmark extends AbstractDTypeBenchmark {
+
+  private DAtomicLong[] longs;
+
+  @Override
+  protected void createInstance(int index, String name) {
+    if (longs == null) {
+      longs = new DAtomicLong[instances];
+    }
+    longs[index] = factory.createAtomicLong(name);
+  }
+
+  @Benchmark
+  public long get(ThreadState thread) {
+    return longs[thread.instance(this)].get();
+  }
+
+  @Benchmark
+  public void set(ThreadState thread) {
+    longs[thread.instance(this)].set(thread.threadIndex);
+  }
+
+  @Benchmark
+  public long addAndGet(ThreadState thread) {
+    return longs[thread.instance(this)].addAndGet(1);
+  }
+
+  @Benchmark
+  public long getAndSet(ThreadState thread) {
+    return longs[thread.instance(this)].getAndSet(thread.threadIndex);
+  }
+
+  @Benchmark
+  public boolean compareAndSet(ThreadState thread) {
+    DAtomicLong value = longs[thread.instance(this)];
+    long current = value.get();
+    return value.compareAndSet(current, current + 1);
+  }
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright 2024 Broadcom. All rights reserved.
+ */
+
+package dev.gemfire.dtype.benchmark;
+
+import java.io.Serializable;
+import java.util.function.UnaryOperator;
+
+import dev.gemfire.dtype.DAtomicReference;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+
+public class DAtomicReferenceBenchmark extends AbstractDTypeBenchmark {
+
+  @Param({"16", "1024", "65536"})
+  public int elementSize;
+
+  private DAtomicReference<String>[] references;
+  private String value;
+
+  @Override
+  @SuppressWarnings("unchecked")
+  protected void createInstance(int index, String name) {
+    if (references == null) {
+      references = new DAtomicReference[instances];
+      value = element(elementSize, 0);
+    }
+    references[index] = factory.createDAtomicReference(name, value);
+  }
+
+  @Benchmark
+  public String get(ThreadState thread) {
+    return references[thread.instance(this)].get();
+  }
+
+  @Benchmark
+  public void set(ThreadState thread) {
+    references[thread.instance(this)].set(value);
+  }
+
+  @Benchmark
+  public boolean compareAndSet(ThreadState thread) {
+    return references[thread.instance(this)].compareAndSet(value, value);
+  }
+
+  @Benchmark
+  public String updateAndGet(ThreadState thread) {
+    return references[thread.instance(this)]
+        .updateAndGet((UnaryOperator<String> & Serializable) s -> s);
+  }
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright 2024 Broadcom. All rights reserved.
+ */
+
+package dev.gemfire.dtype.benchmark;
+
+import dev.gemfire.dtype.DBlockingQueue;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+
+public class DBlockingQueueBenchmark extends AbstractDCollectionBenchmark {
+
+  private static final int INITIAL_SIZE = 100;
+
+  /**
+   * The segment size of a segmented queue or 0 for a plain queue.
+   */
+  @Param({"0", "1000"})
+  public int segmentSize;
+
+  private DBlockingQueue<String>[] queues;
+
+  @Override
+  @SuppressWarnings("unchecked")
+  protected void createInstance(int index, String name) {
+    if (queues == null) {
+      queues = new DBlockingQueue[instances];
+    }
+    queues[index] = segmentSize == 0
+        ? factory.createDQueue(name, Integer.MAX_VALUE, storage)
+        : factory.createSegmentedDQueue(name, Integer.MAX_VALUE, segmentSize, storage);
+    for (int i = 0; i < INITIAL_SIZE; i++) {
+      queues[index].add(element(elementSize, -i));
+    }
+  }
+
+  @Benchmark
+  public String offerPoll(ThreadState thread) {
+    DBlockingQueue<String> queue = queues[thread.instance(this)];
+    queue.offer(element(thread));
+    return queue.poll();
+  }
+
+  @Benchmark
+  public String putTake(ThreadState thread) throws InterruptedException {
+    DBlockingQueue<String> queue = queues[thread.instance(this)];
+    queue.put(element(thread));
+    return queue.take();
+  }
+
+  @Benchmark
+  public String peek(ThreadState thread) {
+    return queues[thread.instance(this)].peek();
+  }
+
+  @Benchmark
+  public int size(ThreadState thread) {
+    return queues[thread.instance(this)].size();
+  }
+}
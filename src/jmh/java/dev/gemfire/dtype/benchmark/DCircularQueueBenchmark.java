@@ -0,0 +1,45 @@
+/*
+ * Copyright 2024 Broadcom. All rights reserved.
+ */
+
+package dev.gemfire.dtype.benchmark;
+
+import dev.gemfire.dtype.DCircularQueue;
+import org.openjdk.jmh.annotations.Benchmark;
+
+public class DCircularQueueBenchmark extends AbstractDCollectionBenchmark {
+
+  private static final int CAPACITY = 100;
+
+  private DCircularQueue<String>[] queues;
+
+  @Override
+  @SuppressWarnings("unchecked")
+  protected void createInstance(int index, String name) {
+    if (queues == null) {
+      queues = new DCircularQueue[instances];
+    }
+    queues[index] = factory.createDCircularQueue(name, CAPACITY, storage);
+    for (int i = 0; i < CAPACITY; i++) {
+      queues[index].add(element(elementSize, -i));
+    }
+  }
+
+  /**
+   * Adding to a full circular queue evicts its oldest element, so the size remains constant.
+   */
+  @Benchmark
+  public boolean add(ThreadState thread) {
+    return queues[thread.instance(this)].add(element(thread));
+  }
+
+  @Benchmark
+  public String peek(ThreadState thread) {
+    return queues[thread.instance(this)].peek();
+  }
+
+  @Benchmark
+  public int size(ThreadState thread) {
+    return queues[thread.instance(this)].size();
+  }
+}
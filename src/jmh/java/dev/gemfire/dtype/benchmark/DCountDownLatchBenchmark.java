@@ -0,0 +1,31 @@
+/*
+ * Copyright 2024 Broadcom. All rights reserved.
+ */
+
+package dev.gemfire.dtype.benchmark;
+
+import dev.gemfire.dtype.DCountDownLatch;
+import org.openjdk.jmh.annotations.Benchmark;
+
+public class DCountDownLatchBenchmark extends AbstractDTypeBenchmark {
+
+  private DCountDownLatch[] latches;
+
+  @Override
+  protected void createInstance(int index, String name) {
+    if (latches == null) {
+      latches = new DCountDownLatch[instances];
+    }
+    latches[index] = factory.createDCountDownLatch(name, Integer.MAX_VALUE);
+  }
+
+  @Benchmark
+  public long getCount(ThreadState thread) {
+    return latches[thread.instance(this)].getCount();
+  }
+
+  @Benchmark
+  public void countDown(ThreadState thread) {
+    latches[thread.instance(this)].countDown();
+  }
+}
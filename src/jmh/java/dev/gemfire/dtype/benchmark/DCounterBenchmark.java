@@ -0,0 +1,42 @@
+/*
+ * Copyright 2024 Broadcom. All rights reserved.
+ */
+
+package dev.gemfire.dtype.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import dev.gemfire.dtype.DCounter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+
+public class DCounterBenchmark extends AbstractDTypeBenchmark {
+
+  /**
+   * The flush interval, in milliseconds, of buffered counters or 0 for unbuffered counters.
+   */
+  @Param({"0", "10"})
+  public int flushIntervalMs;
+
+  private DCounter[] counters;
+
+  @Override
+  protected void createInstance(int index, String name) {
+    if (counters == null) {
+      counters = new DCounter[instances];
+    }
+    counters[index] = flushIntervalMs == 0
+        ? factory.createDCounter(name)
+        : factory.createBufferedDCounter(name, flushIntervalMs, TimeUnit.MILLISECONDS);
+  }
+
+  @Benchmark
+  public long increment(ThreadState thread) {
+    return counters[thread.instance(this)].increment(1);
+  }
+
+  @Benchmark
+  public long get(ThreadState thread) {
+    return counters[thread.instance(this)].get();
+  }
+}
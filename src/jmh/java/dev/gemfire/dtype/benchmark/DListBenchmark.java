@@ -0,0 +1,56 @@
+/*
+ * Copyright 2024 Broadcom. All rights reserved.
+ */
+
+package dev.gemfire.dtype.benchmark;
+
+import dev.gemfire.dtype.DList;
+import org.openjdk.jmh.annotations.Benchmark;
+
+public class DListBenchmark extends AbstractDCollectionBenchmark {
+
+  private static final int INITIAL_SIZE = 100;
+
+  private DList<String>[] lists;
+
+  @Override
+  @SuppressWarnings("unchecked")
+  protected void createInstance(int index, String name) {
+    if (lists == null) {
+      lists = new DList[instances];
+    }
+    lists[index] = factory.createDList(name, storage);
+    for (int i = 0; i < INITIAL_SIZE; i++) {
+      lists[index].add(element(elementSize, -i));
+    }
+  }
+
+  @Benchmark
+  public String addRemove(ThreadState thread) {
+    DList<String> list = lists[thread.instance(this)];
+    list.add(0, element(thread));
+    return list.remove(0);
+  }
+
+  @Benchmark
+  public String get(ThreadState thread) {
+    return lists[thread.instance(this)].get(INITIAL_SIZE / 2);
+  }
+
+  @Benchmark
+  public String set(ThreadState thread) {
+    DList<String> list = lists[thread.instance(this)];
+    int index = thread.threadIndex % INITIAL_SIZE;
+    return list.set(index, element(thread));
+  }
+
+  @Benchmark
+  public boolean contains(ThreadState thread) {
+    return lists[thread.instance(this)].contains(element(thread));
+  }
+
+  @Benchmark
+  public int size(ThreadState thread) {
+    return lists[thread.instance(this)].size();
+  }
+}
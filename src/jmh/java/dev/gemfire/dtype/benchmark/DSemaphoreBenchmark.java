@@ -0,0 +1,50 @@
+/*
+ * Copyright 2024 Broadcom. All rights reserved.
+ */
+
+package dev.gemfire.dtype.benchmark;
+
+import dev.gemfire.dtype.DSemaphore;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+
+/**
+ * With a single permit, threads sharing a semaphore block each other in {@code acquire}.
+ */
+public class DSemaphoreBenchmark extends AbstractDTypeBenchmark {
+
+  @Param({"1", "4"})
+  public int permits;
+
+  private DSemaphore[] semaphores;
+
+  @Override
+  protected void createInstance(int index, String name) {
+    if (semaphores == null) {
+      semaphores = new DSemaphore[instances];
+    }
+    semaphores[index] = factory.createDSemaphore(name, permits);
+  }
+
+  @Benchmark
+  public void acquireRelease(ThreadState thread) {
+    DSemaphore semaphore = semaphores[thread.instance(this)];
+    semaphore.acquire();
+    semaphore.release();
+  }
+
+  @Benchmark
+  public boolean tryAcquireRelease(ThreadState thread) {
+    DSemaphore semaphore = semaphores[thread.instance(this)];
+    boolean acquired = semaphore.tryAcquire();
+    if (acquired) {
+      semaphore.release();
+    }
+    return acquired;
+  }
+
+  @Benchmark
+  public int availablePermits(ThreadState thread) {
+    return semaphores[thread.instance(this)].availablePermits();
+  }
+}
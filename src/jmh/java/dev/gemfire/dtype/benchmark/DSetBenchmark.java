@@ -0,0 +1,53 @@
+/*
+ * Copyright 2024 Broadcom. All rights reserved.
+ */
+
+package dev.gemfire.dtype.benchmark;
+
+import dev.gemfire.dtype.DSet;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+
+public class DSetBenchmark extends AbstractDCollectionBenchmark {
+
+  private static final int INITIAL_SIZE = 100;
+
+  /**
+   * The number of shards of a sharded set or 0 for a plain set.
+   */
+  @Param({"0", "8"})
+  public int shards;
+
+  private DSet<String>[] sets;
+
+  @Override
+  @SuppressWarnings("unchecked")
+  protected void createInstance(int index, String name) {
+    if (sets == null) {
+      sets = new DSet[instances];
+    }
+    sets[index] = shards == 0
+        ? factory.createDSet(name, storage)
+        : factory.createDShardedSet(name, shards, storage);
+    for (int i = 0; i < INITIAL_SIZE; i++) {
+      sets[index].add(element(elementSize, -i - 1));
+    }
+  }
+
+  @Benchmark
+  public boolean addRemove(ThreadState thread) {
+    DSet<String> set = sets[thread.instance(this)];
+    set.add(element(thread));
+    return set.remove(element(thread));
+  }
+
+  @Benchmark
+  public boolean contains(ThreadState thread) {
+    return sets[thread.instance(this)].contains(element(thread));
+  }
+
+  @Benchmark
+  public int size(ThreadState thread) {
+    return sets[thread.instance(this)].size();
+  }
+}
@@ -58,4 +58,12 @@ public interface DAtomicLong extends DType {
    */
   boolean compareAndSet(long expect, long update);
 
+  /**
+   * Returns an asynchronous view of this instance. Operations performed through the view do not
+   * block the calling thread.
+   *
+   * @return an asynchronous view of this instance
+   */
+  DAtomicLongAsync async();
+
 }
@@ -0,0 +1,65 @@
+/*
+ * Copyright 2024 Broadcom. All rights reserved.
+ */
+
+package dev.gemfire.dtype;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * An asynchronous view of a {@link DAtomicLong}. Each method performs the same operation as the
+ * corresponding method of {@code DAtomicLong}, but returns immediately with a
+ * {@link CompletableFuture} that is completed once the cluster has performed the operation.
+ */
+public interface DAtomicLongAsync {
+
+  /**
+   * Gets the current value.
+   *
+   * @return a future completed with the current value
+   */
+  CompletableFuture<Long> get();
+
+  /**
+   * Set the given value atomically.
+   *
+   * @param value the value to set
+   * @return a future completed once the value has been set
+   */
+  CompletableFuture<Void> set(long value);
+
+  /**
+   * Atomically adds the given value to the current value.
+   *
+   * @param delta the value to add
+   * @return a future completed with the previous value
+   */
+  CompletableFuture<Long> getAndAdd(long delta);
+
+  /**
+   * Atomically sets to the given value and returns the old value.
+   *
+   * @param newValue the new value
+   * @return a future completed with the previous value
+   */
+  CompletableFuture<Long> getAndSet(long newValue);
+
+  /**
+   * Atomically adds the given value to the current value.
+   *
+   * @param delta the value to add
+   * @return a future completed with the updated value
+   */
+  CompletableFuture<Long> addAndGet(long delta);
+
+  /**
+   * Atomically sets the value to the given updated value if the current value {@code ==} the
+   * expected value.
+   *
+   * @param expect the expected value
+   * @param update the new value
+   * @return a future completed with {@code true} if successful
+   */
+  CompletableFuture<Boolean> compareAndSet(long expect, long update);
+
+}
@@ -77,4 +77,13 @@ public interface DAtomicReference<V> extends DType {
    * @return the updated value
    */
   V updateAndGet(UnaryOperator<V> updateFunction);
+
+  /**
+   * Returns an asynchronous view of this instance. Operations performed through the view do not
+   * block the calling thread.
+   *
+   * @return an asynchronous view of this instance
+   */
+  DAtomicReferenceAsync<V> async();
+
 }
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2024 Broadcom. All rights reserved.
+ */
+
+package dev.gemfire.dtype;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.BinaryOperator;
+import java.util.function.UnaryOperator;
+
+/**
+ * An asynchronous view of a {@link DAtomicReference}. Each method performs the same operation as
+ * the corresponding method of {@code DAtomicReference}, but returns immediately with a
+ * {@link CompletableFuture} that is completed once the cluster has performed the operation.
+ *
+ * @param <V> the type of the referenced value
+ */
+public interface DAtomicReferenceAsync<V> {
+
+  /**
+   * Atomically updates the current value with the results of applying the given function to the
+   * current and given values, returning the updated value.
+   *
+   * @param x the update value
+   * @param accumulatorFunction a side-effect-free function of two arguments
+   * @return a future completed with the updated value
+   */
+  CompletableFuture<V> accumulateAndGet(V x, BinaryOperator<V> accumulatorFunction);
+
+  /**
+   * Atomically sets the value to the given updated value if the current value equals the expected
+   * value.
+   *
+   * @param expect the expected value
+   * @param update the new value
+   * @return a future completed with {@code true} if successful
+   */
+  CompletableFuture<Boolean> compareAndSet(V expect, V update);
+
+  /**
+   * Gets the current value.
+   *
+   * @return a future completed with the current value
+   */
+  CompletableFuture<V> get();
+
+  /**
+   * Atomically updates the current value with the results of applying the given function to the
+   * current and given values, returning the previous value.
+   *
+   * @param x the update value
+   * @param accumulatorFunction a side-effect-free function of two arguments
+   * @return a future completed with the previous value
+   */
+  CompletableFuture<V> getAndAccumulate(V x, BinaryOperator<V> accumulatorFunction);
+
+  /**
+   * Atomically updates the current value with the results of applying the given function,
+   * returning the previous value.
+   *
+   * @param updateFunction a side-effect-free function
+   * @return a future completed with the previous value
+   */
+  CompletableFuture<V> getAndUpdate(UnaryOperator<V> updateFunction);
+
+  /**
+   * Atomically sets to the given value and returns the old value.
+   *
+   * @param newValue the value to set
+   * @return a future completed with the previous value
+   */
+  CompletableFuture<V> getAndSet(V newValue);
+
+  /**
+   * Sets to the given value.
+   *
+   * @param newValue the value to set
+   * @return a future completed once the value has been set
+   */
+  CompletableFuture<Void> set(V newValue);
+
+  /**
+   * Atomically updates the current value with the results of applying the given function,
+   * returning the updated value.
+   *
+   * @param updateFunction a side-effect-free function
+   * @return a future completed with the updated value
+   */
+  CompletableFuture<V> updateAndGet(UnaryOperator<V> updateFunction);
+
+}
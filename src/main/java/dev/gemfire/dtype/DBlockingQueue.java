@@ -15,9 +15,10 @@ import org.apache.geode.DataSerializable;
  * Objects added to a queue need to be serializable either as Java {@link Serializable} or one
  * of GemFire's serializable types such as {@link DataSerializable}.
  * <p>
- * Note that iteration methods will serialize the whole structure to the client and perform the
- * iteration locally. Iterators do not support {@code remove()} and will throw an
- * UnsupportedOperationException.
+ * Note that iteration methods perform the iteration locally, retrieving the structure from the
+ * server a page at a time. Modifying the structure while it is being iterated causes the iteration
+ * to fail with a {@link java.util.ConcurrentModificationException}. Iterators do not support
+ * {@code remove()} and will throw an UnsupportedOperationException.
  * <p>
  * Note that methods that are interruptible can only be interrupted locally. There is no interrupt
  * 'signal' that is passed to the server performing the actual operation.
@@ -26,4 +27,20 @@ import org.apache.geode.DataSerializable;
  */
 public interface DBlockingQueue<E> extends BlockingDeque<E>, DType {
 
+  /**
+   * Returns a {@link DStream} over the elements of this queue. The stream's operations are
+   * performed on the server, and only their result is returned.
+   *
+   * @return a new {@code DStream}
+   */
+  DStream<E> dstream();
+
+  /**
+   * Returns an asynchronous view of this instance. Operations performed through the view do not
+   * block the calling thread.
+   *
+   * @return an asynchronous view of this instance
+   */
+  DBlockingQueueAsync<E> async();
+
 }
@@ -0,0 +1,159 @@
+/*
+ * Copyright 2024 Broadcom. All rights reserved.
+ */
+
+package dev.gemfire.dtype;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * An asynchronous view of a {@link DBlockingQueue}. Blocking operations, such as {@code take} or
+ * {@code put}, do not block the caller; the returned future is only completed once the operation
+ * has been able to proceed.
+ *
+ * @param <E> the type of elements held in the queue
+ */
+public interface DBlockingQueueAsync<E> extends DCollectionAsync<E> {
+
+  /**
+   * Insert the given element at the tail of the queue if space is available.
+   *
+   * @param e the element to add
+   * @return a future completed with {@code true} if the element was added
+   */
+  CompletableFuture<Boolean> offer(E e);
+
+  /**
+   * Insert the given element at the head of the queue if space is available.
+   *
+   * @param e the element to add
+   * @return a future completed with {@code true} if the element was added
+   */
+  CompletableFuture<Boolean> offerFirst(E e);
+
+  /**
+   * Insert the given element at the tail of the queue if space is available.
+   *
+   * @param e the element to add
+   * @return a future completed with {@code true} if the element was added
+   */
+  CompletableFuture<Boolean> offerLast(E e);
+
+  /**
+   * Insert the given element at the tail of the queue, waiting up to the given time for space to
+   * become available.
+   *
+   * @param e the element to add
+   * @param timeout how long to wait before giving up
+   * @param unit the time unit of the timeout argument
+   * @return a future completed with {@code true} if the element was added
+   */
+  CompletableFuture<Boolean> offer(E e, long timeout, TimeUnit unit);
+
+  /**
+   * Insert the given element at the tail of the queue, waiting for space to become available.
+   *
+   * @param e the element to add
+   * @return a future completed once the element has been added
+   */
+  CompletableFuture<Void> put(E e);
+
+  /**
+   * Insert the given element at the head of the queue, waiting for space to become available.
+   *
+   * @param e the element to add
+   * @return a future completed once the element has been added
+   */
+  CompletableFuture<Void> putFirst(E e);
+
+  /**
+   * Insert the given element at the tail of the queue, waiting for space to become available.
+   *
+   * @param e the element to add
+   * @return a future completed once the element has been added
+   */
+  CompletableFuture<Void> putLast(E e);
+
+  /**
+   * Retrieve and remove the head of the queue.
+   *
+   * @return a future completed with the head of the queue, or {@code null} if the queue is empty
+   */
+  CompletableFuture<E> poll();
+
+  /**
+   * Retrieve and remove the head of the queue.
+   *
+   * @return a future completed with the head of the queue, or {@code null} if the queue is empty
+   */
+  CompletableFuture<E> pollFirst();
+
+  /**
+   * Retrieve and remove the tail of the queue.
+   *
+   * @return a future completed with the tail of the queue, or {@code null} if the queue is empty
+   */
+  CompletableFuture<E> pollLast();
+
+  /**
+   * Retrieve and remove the head of the queue, waiting up to the given time for an element to
+   * become available.
+   *
+   * @param timeout how long to wait before giving up
+   * @param unit the time unit of the timeout argument
+   * @return a future completed with the head of the queue, or {@code null} if the waiting time
+   *         elapsed
+   */
+  CompletableFuture<E> poll(long timeout, TimeUnit unit);
+
+  /**
+   * Retrieve and remove the head of the queue, waiting for an element to become available.
+   *
+   * @return a future completed with the head of the queue
+   */
+  CompletableFuture<E> take();
+
+  /**
+   * Retrieve and remove the head of the queue, waiting for an element to become available.
+   *
+   * @return a future completed with the head of the queue
+   */
+  CompletableFuture<E> takeFirst();
+
+  /**
+   * Retrieve and remove the tail of the queue, waiting for an element to become available.
+   *
+   * @return a future completed with the tail of the queue
+   */
+  CompletableFuture<E> takeLast();
+
+  /**
+   * Retrieve, but do not remove, the head of the queue.
+   *
+   * @return a future completed with the head of the queue, or {@code null} if the queue is empty
+   */
+  CompletableFuture<E> peek();
+
+  /**
+   * Retrieve, but do not remove, the head of the queue.
+   *
+   * @return a future completed with the head of the queue, or {@code null} if the queue is empty
+   */
+  CompletableFuture<E> peekFirst();
+
+  /**
+   * Retrieve, but do not remove, the tail of the queue.
+   *
+   * @return a future completed with the tail of the queue, or {@code null} if the queue is empty
+   */
+  CompletableFuture<E> peekLast();
+
+  /**
+   * Return the number of additional elements that the queue can accept without blocking.
+   *
+   * @return a future completed with the remaining capacity
+   */
+  CompletableFuture<Integer> remainingCapacity();
+
+}
@@ -0,0 +1,38 @@
+/*
+ * Copyright 2024 Broadcom. All rights reserved.
+ */
+
+package dev.gemfire.dtype;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * An asynchronous view of a {@link DCircularQueue}.
+ *
+ * @param <E> the type of elements held in the queue
+ */
+public interface DCircularQueueAsync<E> extends DCollectionAsync<E> {
+
+  /**
+   * Add the given element, discarding the oldest element if the queue is full.
+   *
+   * @param e the element to add
+   * @return a future completed with {@code true}, always
+   */
+  CompletableFuture<Boolean> offer(E e);
+
+  /**
+   * Retrieve and remove the head of the queue.
+   *
+   * @return a future completed with the head of the queue, or {@code null} if the queue is empty
+   */
+  CompletableFuture<E> poll();
+
+  /**
+   * Retrieve, but do not remove, the head of the queue.
+   *
+   * @return a future completed with the head of the queue, or {@code null} if the queue is empty
+   */
+  CompletableFuture<E> peek();
+
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright 2024 Broadcom. All rights reserved.
+ */
+
+package dev.gemfire.dtype;
+
+import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * The asynchronous operations common to all distributed collections. Each method performs the same
+ * operation as the corresponding method of {@link Collection}, but returns immediately with a
+ * {@link CompletableFuture} that is completed once the cluster has performed the operation.
+ * <p>
+ * Elements passed to these methods are serialized before the method returns, so later changes to
+ * an element will not affect the pending operation.
+ *
+ * @param <E> the type of elements held in the collection
+ */
+public interface DCollectionAsync<E> {
+
+  /**
+   * Add the given element.
+   *
+   * @param e the element to add
+   * @return a future completed with {@code true} if the collection changed
+   */
+  CompletableFuture<Boolean> add(E e);
+
+  /**
+   * Remove a single instance of the given element.
+   *
+   * @param o the element to remove
+   * @return a future completed with {@code true} if an element was removed
+   */
+  CompletableFuture<Boolean> remove(Object o);
+
+  /**
+   * Check whether the collection contains the given element.
+   *
+   * @param o the element to look for
+   * @return a future completed with {@code true} if the element is present
+   */
+  CompletableFuture<Boolean> contains(Object o);
+
+  /**
+   * Add all the given elements.
+   *
+   * @param c the elements to add
+   * @return a future completed with {@code true} if the collection changed
+   */
+  CompletableFuture<Boolean> addAll(Collection<? extends E> c);
+
+  /**
+   * Remove all the given elements.
+   *
+   * @param c the elements to remove
+   * @return a future completed with {@code true} if the collection changed
+   */
+  CompletableFuture<Boolean> removeAll(Collection<?> c);
+
+  /**
+   * Retain only the given elements.
+   *
+   * @param c the elements to retain
+   * @return a future completed with {@code true} if the collection changed
+   */
+  CompletableFuture<Boolean> retainAll(Collection<?> c);
+
+  /**
+   * Check whether the collection contains all the given elements.
+   *
+   * @param c the elements to look for
+   * @return a future completed with {@code true} if all the elements are present
+   */
+  CompletableFuture<Boolean> containsAll(Collection<?> c);
+
+  /**
+   * Return the number of elements in the collection.
+   *
+   * @return a future completed with the number of elements
+   */
+  CompletableFuture<Integer> size();
+
+  /**
+   * Check whether the collection is empty.
+   *
+   * @return a future completed with {@code true} if the collection is empty
+   */
+  CompletableFuture<Boolean> isEmpty();
+
+  /**
+   * Remove all elements.
+   *
+   * @return a future completed once the collection has been cleared
+   */
+  CompletableFuture<Void> clear();
+
+}
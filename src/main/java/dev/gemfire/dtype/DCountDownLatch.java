@@ -60,4 +60,12 @@ public interface DCountDownLatch {
    * @return atring representation of the latch
    */
   String toString();
+
+  /**
+   * Returns an asynchronous view of this instance. Operations performed through the view do not
+   * block the calling thread.
+   *
+   * @return an asynchronous view of this instance
+   */
+  DCountDownLatchAsync async();
 }
@@ -0,0 +1,48 @@
+/*
+ * Copyright 2024 Broadcom. All rights reserved.
+ */
+
+package dev.gemfire.dtype;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * An asynchronous view of a {@link DCountDownLatch}. Each method performs the same operation as
+ * the corresponding method of {@code DCountDownLatch}, but returns immediately with a
+ * {@link CompletableFuture} that is completed once the cluster has performed the operation.
+ */
+public interface DCountDownLatchAsync {
+
+  /**
+   * Wait until the latch has counted down to zero.
+   *
+   * @return a future completed once the latch has counted down to zero
+   */
+  CompletableFuture<Void> await();
+
+  /**
+   * Wait until the latch has counted down to zero or the specified waiting time elapses.
+   *
+   * @param timeout the maximum time to wait
+   * @param unit the time unit of the timeout argument
+   * @return a future completed with true if the count reached zero and false if the waiting time
+   *         elapsed before the count reached zero
+   */
+  CompletableFuture<Boolean> await(long timeout, TimeUnit unit);
+
+  /**
+   * Decrements the count of the latch, releasing all waiting callers if the count reaches zero.
+   *
+   * @return a future completed once the count has been decremented
+   */
+  CompletableFuture<Void> countDown();
+
+  /**
+   * Returns the current count.
+   *
+   * @return a future completed with the current count
+   */
+  CompletableFuture<Long> getCount();
+
+}
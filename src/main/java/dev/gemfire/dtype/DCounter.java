@@ -4,7 +4,7 @@ package dev.gemfire.dtype;
  * A distributed type, similar to a DAtomicLong, but with higher throughput and less potential
  * contention than DAtomicLong.
  */
-public interface DCounter extends DType {
+public interface DCounter extends DType, AutoCloseable {
 
   /**
    * Get the current value.
@@ -17,10 +17,36 @@ public interface DCounter extends DType {
    * Update the value. The returned value reflects the current, local value. Any updates, performed
    * by other clients, will not be reflected in the returned value. Use {@link #get()} to retrieve
    * the most up-to-date value.
+   * <p>
+   * If this counter is buffered, the update is only sent when the buffered increments are
+   * flushed. The returned value then includes the increments still buffered by this instance.
    *
    * @param delta the amount to update by - can be either positive or negative
    * @return the current, local value
    */
   long increment(long delta);
 
+  /**
+   * Send any increments that have been buffered by this instance. This does nothing unless the
+   * counter was created with {@link DTypeFactory#createBufferedDCounter}.
+   */
+  void flush();
+
+  /**
+   * Send any increments that have been buffered by this instance and stop flushing them
+   * periodically. Increments made afterwards are still buffered, and are only sent by an explicit
+   * {@link #flush()} or when the buffered amount reaches the flush threshold. This does nothing
+   * unless the counter was created with {@link DTypeFactory#createBufferedDCounter}.
+   */
+  @Override
+  void close();
+
+  /**
+   * Returns an asynchronous view of this instance. Operations performed through the view do not
+   * block the calling thread.
+   *
+   * @return an asynchronous view of this instance
+   */
+  DCounterAsync async();
+
 }
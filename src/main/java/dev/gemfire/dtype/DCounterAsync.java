@@ -0,0 +1,32 @@
+/*
+ * Copyright 2024 Broadcom. All rights reserved.
+ */
+
+package dev.gemfire.dtype;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * An asynchronous view of a {@link DCounter}. Each method performs the same operation as the
+ * corresponding method of {@code DCounter}, but returns immediately with a
+ * {@link CompletableFuture} that is completed once the cluster has performed the operation.
+ */
+public interface DCounterAsync {
+
+  /**
+   * Get the current value.
+   *
+   * @return a future completed with the current value
+   */
+  CompletableFuture<Long> get();
+
+  /**
+   * Update the value.
+   *
+   * @param delta the amount to update by - can be either positive or negative
+   * @return a future completed with the current, local value
+   * @see DCounter#increment(long)
+   */
+  CompletableFuture<Long> increment(long delta);
+
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright 2024 Broadcom. All rights reserved.
+ */
+
+package dev.gemfire.dtype;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * An asynchronous view of a {@link DList}.
+ *
+ * @param <E> the type of elements held in the list
+ */
+public interface DListAsync<E> extends DCollectionAsync<E> {
+
+  /**
+   * Insert the given element at the given position.
+   *
+   * @param index the index at which to insert the element
+   * @param e the element to insert
+   * @return a future completed once the element has been inserted
+   */
+  CompletableFuture<Void> add(int index, E e);
+
+  /**
+   * Return the element at the given position.
+   *
+   * @param index the index of the element to return
+   * @return a future completed with the element
+   */
+  CompletableFuture<E> get(int index);
+
+  /**
+   * Replace the element at the given position.
+   *
+   * @param index the index of the element to replace
+   * @param e the new element
+   * @return a future completed with the element previously at the given position
+   */
+  CompletableFuture<E> set(int index, E e);
+
+  /**
+   * Remove the element at the given position.
+   *
+   * @param index the index of the element to remove
+   * @return a future completed with the removed element
+   */
+  CompletableFuture<E> remove(int index);
+
+  /**
+   * Return the index of the first occurrence of the given element.
+   *
+   * @param o the element to look for
+   * @return a future completed with the index, or -1 if the element is not present
+   */
+  CompletableFuture<Integer> indexOf(Object o);
+
+  /**
+   * Return the index of the last occurrence of the given element.
+   *
+   * @param o the element to look for
+   * @return a future completed with the index, or -1 if the element is not present
+   */
+  CompletableFuture<Integer> lastIndexOf(Object o);
+
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright 2024 Broadcom. All rights reserved.
+ */
+
+package dev.gemfire.dtype;
+
+/**
+ * A distributed list of {@code long} values. Compared to a {@link DList} of {@code Long}s, values
+ * are never boxed or individually serialized: servers hold them in a {@code long[]}, and bulk
+ * operations transfer them as packed {@code long[]} arrays. Access by index takes constant time.
+ * <p>
+ * Since {@code remove(long)} removes a value, removing the value at an index is done with
+ * {@link #removeAt(int)}.
+ */
+public interface DLongList extends DType {
+
+  /**
+   * Append the given value.
+   *
+   * @param value the value to append
+   */
+  void add(long value);
+
+  /**
+   * Insert the given value at the given index, shifting the value at that index, and any
+   * subsequent values, to the right.
+   *
+   * @param index the index at which to insert the value
+   * @param value the value to insert
+   * @throws IndexOutOfBoundsException if the index is negative or greater than the size
+   */
+  void add(int index, long value);
+
+  /**
+   * Append all the given values, in order.
+   *
+   * @param values the values to append
+   * @return {@code true} if the list changed
+   */
+  boolean addAll(long... values);
+
+  /**
+   * Returns the value at the given index.
+   *
+   * @param index the index of the value
+   * @return the value at the index
+   * @throws IndexOutOfBoundsException if the index is out of range
+   */
+  long get(int index);
+
+  /**
+   * Replace the value at the given index.
+   *
+   * @param index the index of the value to replace
+   * @param value the new value
+   * @return the value previously at the index
+   * @throws IndexOutOfBoundsException if the index is out of range
+   */
+  long set(int index, long value);
+
+  /**
+   * Remove the value at the given index, shifting any subsequent values to the left.
+   *
+   * @param index the index of the value to remove
+   * @return the removed value
+   * @throws IndexOutOfBoundsException if the index is out of range
+   */
+  long removeAt(int index);
+
+  /**
+   * Remove the first occurrence of the given value.
+   *
+   * @param value the value to remove
+   * @return {@code true} if the value was present
+   */
+  boolean remove(long value);
+
+  /**
+   * Check whether the given value is present.
+   *
+   * @param value the value to look for
+   * @return {@code true} if the value is present
+   */
+  boolean contains(long value);
+
+  /**
+   * Returns the index of the first occurrence of the given value.
+   *
+   * @param value the value to look for
+   * @return the index of the value or -1 if it is not present
+   */
+  int indexOf(long value);
+
+  /**
+   * Returns the index of the last occurrence of the given value.
+   *
+   * @param value the value to look for
+   * @return the index of the value or -1 if it is not present
+   */
+  int lastIndexOf(long value);
+
+  /**
+   * Returns the number of values in the list.
+   *
+   * @return the number of values
+   */
+  int size();
+
+  /**
+   * Returns {@code true} if the list holds no values.
+   *
+   * @return {@code true} if the list is empty
+   */
+  boolean isEmpty();
+
+  /**
+   * Remove all values.
+   */
+  void clear();
+
+  /**
+   * Sort the values into ascending order.
+   */
+  void sort();
+
+  /**
+   * Returns all values in the list, in order.
+   *
+   * @return a new array holding the values
+   */
+  long[] toArray();
+
+  /**
+   * Returns the values between {@code fromIndex}, inclusive, and {@code toIndex}, exclusive.
+   *
+   * @param fromIndex the index of the first value to return
+   * @param toIndex the index after the last value to return
+   * @return a new array holding the values
+   * @throws IndexOutOfBoundsException if the range is out of bounds
+   */
+  long[] toArray(int fromIndex, int toIndex);
+
+  /**
+   * Returns an asynchronous view of this instance. Operations performed through the view do not
+   * block the calling thread.
+   *
+   * @return an asynchronous view of this instance
+   */
+  DLongListAsync async();
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2024 Broadcom. All rights reserved.
+ */
+
+package dev.gemfire.dtype;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * An asynchronous view of a {@link DLongList}. Each method performs the same operation as the
+ * corresponding method of {@code DLongList}, but returns immediately with a
+ * {@link CompletableFuture} that is completed once the cluster has performed the operation.
+ */
+public interface DLongListAsync {
+
+  /**
+   * Append the given value.
+   *
+   * @param value the value to append
+   * @return a future completed once the value has been appended
+   */
+  CompletableFuture<Void> add(long value);
+
+  /**
+   * Append all the given values, in order.
+   *
+   * @param values the values to append
+   * @return a future completed with {@code true} if the list changed
+   */
+  CompletableFuture<Boolean> addAll(long... values);
+
+  /**
+   * Returns the value at the given index.
+   *
+   * @param index the index of the value
+   * @return a future completed with the value at the index
+   */
+  CompletableFuture<Long> get(int index);
+
+  /**
+   * Replace the value at the given index.
+   *
+   * @param index the index of the value to replace
+   * @param value the new value
+   * @return a future completed with the value previously at the index
+   */
+  CompletableFuture<Long> set(int index, long value);
+
+  /**
+   * Remove the value at the given index.
+   *
+   * @param index the index of the value to remove
+   * @return a future completed with the removed value
+   */
+  CompletableFuture<Long> removeAt(int index);
+
+  /**
+   * Remove the first occurrence of the given value.
+   *
+   * @param value the value to remove
+   * @return a future completed with {@code true} if the value was present
+   */
+  CompletableFuture<Boolean> remove(long value);
+
+  /**
+   * Returns the number of values in the list.
+   *
+   * @return a future completed with the number of values
+   */
+  CompletableFuture<Integer> size();
+
+  /**
+   * Remove all values.
+   *
+   * @return a future completed once the list has been cleared
+   */
+  CompletableFuture<Void> clear();
+
+  /**
+   * Returns all values in the list, in order.
+   *
+   * @return a future completed with a new array holding the values
+   */
+  CompletableFuture<long[]> toArray();
+}
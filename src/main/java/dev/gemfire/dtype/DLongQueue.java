@@ -0,0 +1,138 @@
+/*
+ * Copyright 2024 Broadcom. All rights reserved.
+ */
+
+package dev.gemfire.dtype;
+
+import java.util.OptionalLong;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A distributed, optionally bounded, first-in first-out blocking queue of {@code long} values.
+ * Compared to a {@link DBlockingQueue} of {@code Long}s, values are never boxed or individually
+ * serialized: servers hold them in a ring buffer of primitive {@code long}s, and bulk operations
+ * transfer them as packed {@code long[]} arrays.
+ * <p>
+ * Blocking operations wait on the server in the same way as those of {@code DBlockingQueue}.
+ */
+public interface DLongQueue extends DType {
+
+  /**
+   * Add the given value to the tail of the queue if there is space for it.
+   *
+   * @param value the value to add
+   * @return {@code true} if the value was added
+   */
+  boolean offer(long value);
+
+  /**
+   * Add the given value to the tail of the queue, waiting up to the given time for space to
+   * become available.
+   *
+   * @param value the value to add
+   * @param timeout how long to wait
+   * @param unit the unit of {@code timeout}
+   * @return {@code true} if the value was added
+   * @throws InterruptedException if interrupted while waiting
+   */
+  boolean offer(long value, long timeout, TimeUnit unit) throws InterruptedException;
+
+  /**
+   * Add the given value to the tail of the queue, waiting for space to become available.
+   *
+   * @param value the value to add
+   * @throws InterruptedException if interrupted while waiting
+   */
+  void put(long value) throws InterruptedException;
+
+  /**
+   * Add all the given values, in order, to the tail of the queue. No values are added if there is
+   * not enough space for all of them.
+   *
+   * @param values the values to add
+   * @return {@code true} if the values were added
+   */
+  boolean offerAll(long... values);
+
+  /**
+   * Remove the value at the head of the queue.
+   *
+   * @return the value, or an empty {@code OptionalLong} if the queue is empty
+   */
+  OptionalLong poll();
+
+  /**
+   * Remove the value at the head of the queue, waiting up to the given time for a value to become
+   * available.
+   *
+   * @param timeout how long to wait
+   * @param unit the unit of {@code timeout}
+   * @return the value, or an empty {@code OptionalLong} if none became available in time
+   * @throws InterruptedException if interrupted while waiting
+   */
+  OptionalLong poll(long timeout, TimeUnit unit) throws InterruptedException;
+
+  /**
+   * Remove the value at the head of the queue, waiting for a value to become available.
+   *
+   * @return the value
+   * @throws InterruptedException if interrupted while waiting
+   */
+  long take() throws InterruptedException;
+
+  /**
+   * Returns the value at the head of the queue without removing it.
+   *
+   * @return the value, or an empty {@code OptionalLong} if the queue is empty
+   */
+  OptionalLong peek();
+
+  /**
+   * Remove up to {@code maxElements} values from the head of the queue.
+   *
+   * @param maxElements the maximum number of values to remove
+   * @return a new array holding the removed values, in order
+   */
+  long[] drain(int maxElements);
+
+  /**
+   * Returns the number of values in the queue.
+   *
+   * @return the number of values
+   */
+  int size();
+
+  /**
+   * Returns {@code true} if the queue holds no values.
+   *
+   * @return {@code true} if the queue is empty
+   */
+  boolean isEmpty();
+
+  /**
+   * Returns the number of values that can be added before the queue is full.
+   *
+   * @return the remaining capacity
+   */
+  int remainingCapacity();
+
+  /**
+   * Remove all values.
+   */
+  void clear();
+
+  /**
+   * Returns all values in the queue, from head to tail.
+   *
+   * @return a new array holding the values
+   */
+  long[] toArray();
+
+  /**
+   * Returns an asynchronous view of this instance. Operations performed through the view do not
+   * block the calling thread.
+   *
+   * @return an asynchronous view of this instance
+   */
+  DLongQueueAsync async();
+}
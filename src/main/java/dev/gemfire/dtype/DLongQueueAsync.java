@@ -0,0 +1,91 @@
+/*
+ * Copyright 2024 Broadcom. All rights reserved.
+ */
+
+package dev.gemfire.dtype;
+
+import java.util.OptionalLong;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * An asynchronous view of a {@link DLongQueue}. Each method performs the same operation as the
+ * corresponding method of {@code DLongQueue}, but returns immediately with a
+ * {@link CompletableFuture} that is completed once the cluster has performed the operation. The
+ * futures of blocking operations are completed once the operation is able to proceed.
+ */
+public interface DLongQueueAsync {
+
+  /**
+   * Add the given value to the tail of the queue if there is space for it.
+   *
+   * @param value the value to add
+   * @return a future completed with {@code true} if the value was added
+   */
+  CompletableFuture<Boolean> offer(long value);
+
+  /**
+   * Add the given value to the tail of the queue, waiting for space to become available.
+   *
+   * @param value the value to add
+   * @return a future completed once the value has been added
+   */
+  CompletableFuture<Void> put(long value);
+
+  /**
+   * Add all the given values, in order, to the tail of the queue, or none of them if there is not
+   * enough space.
+   *
+   * @param values the values to add
+   * @return a future completed with {@code true} if the values were added
+   */
+  CompletableFuture<Boolean> offerAll(long... values);
+
+  /**
+   * Remove the value at the head of the queue.
+   *
+   * @return a future completed with the value, or an empty {@code OptionalLong} if the queue is
+   *         empty
+   */
+  CompletableFuture<OptionalLong> poll();
+
+  /**
+   * Remove the value at the head of the queue, waiting up to the given time for a value to become
+   * available.
+   *
+   * @param timeout how long to wait
+   * @param unit the unit of {@code timeout}
+   * @return a future completed with the value, or an empty {@code OptionalLong} if none became
+   *         available in time
+   */
+  CompletableFuture<OptionalLong> poll(long timeout, TimeUnit unit);
+
+  /**
+   * Remove the value at the head of the queue, waiting for a value to become available.
+   *
+   * @return a future completed with the value
+   */
+  CompletableFuture<Long> take();
+
+  /**
+   * Remove up to {@code maxElements} values from the head of the queue.
+   *
+   * @param maxElements the maximum number of values to remove
+   * @return a future completed with a new array holding the removed values, in order
+   */
+  CompletableFuture<long[]> drain(int maxElements);
+
+  /**
+   * Returns the number of values in the queue.
+   *
+   * @return a future completed with the number of values
+   */
+  CompletableFuture<Integer> size();
+
+  /**
+   * Remove all values.
+   *
+   * @return a future completed once the queue has been cleared
+   */
+  CompletableFuture<Void> clear();
+}
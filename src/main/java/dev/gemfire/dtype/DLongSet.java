@@ -0,0 +1,96 @@
+/*
+ * Copyright 2024 Broadcom. All rights reserved.
+ */
+
+package dev.gemfire.dtype;
+
+/**
+ * A distributed set of {@code long} values. Compared to a {@link DSet} of {@code Long}s, values
+ * are never boxed or individually serialized: servers hold them in a hash table of primitive
+ * {@code long}s, and bulk operations transfer them as packed {@code long[]} arrays. This makes it
+ * considerably smaller, on the servers and on the wire, when holding IDs or similar values.
+ */
+public interface DLongSet extends DType {
+
+  /**
+   * Add the given value.
+   *
+   * @param value the value to add
+   * @return {@code true} if the value was not already present
+   */
+  boolean add(long value);
+
+  /**
+   * Add all the given values.
+   *
+   * @param values the values to add
+   * @return {@code true} if the set changed
+   */
+  boolean addAll(long... values);
+
+  /**
+   * Remove the given value.
+   *
+   * @param value the value to remove
+   * @return {@code true} if the value was present
+   */
+  boolean remove(long value);
+
+  /**
+   * Remove all the given values.
+   *
+   * @param values the values to remove
+   * @return {@code true} if the set changed
+   */
+  boolean removeAll(long... values);
+
+  /**
+   * Check whether the given value is present.
+   *
+   * @param value the value to look for
+   * @return {@code true} if the value is present
+   */
+  boolean contains(long value);
+
+  /**
+   * Check whether all the given values are present.
+   *
+   * @param values the values to look for
+   * @return {@code true} if every value is present
+   */
+  boolean containsAll(long... values);
+
+  /**
+   * Returns the number of values in the set.
+   *
+   * @return the number of values
+   */
+  int size();
+
+  /**
+   * Returns {@code true} if the set holds no values.
+   *
+   * @return {@code true} if the set is empty
+   */
+  boolean isEmpty();
+
+  /**
+   * Remove all values.
+   */
+  void clear();
+
+  /**
+   * Returns all values in the set, in no particular order.
+   *
+   * @return a new array holding the values
+   */
+  long[] toArray();
+
+  /**
+   * Returns an asynchronous view of this instance. Operations performed through the view do not
+   * block the calling thread.
+   *
+   * @return an asynchronous view of this instance
+   */
+  DLongSetAsync async();
+}
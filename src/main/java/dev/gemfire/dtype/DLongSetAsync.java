@@ -0,0 +1,76 @@
+/*
+ * Copyright 2024 Broadcom. All rights reserved.
+ */
+
+package dev.gemfire.dtype;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * An asynchronous view of a {@link DLongSet}. Each method performs the same operation as the
+ * corresponding method of {@code DLongSet}, but returns immediately with a
+ * {@link CompletableFuture} that is completed once the cluster has performed the operation.
+ */
+public interface DLongSetAsync {
+
+  /**
+   * Add the given value.
+   *
+   * @param value the value to add
+   * @return a future completed with {@code true} if the value was not already present
+   */
+  CompletableFuture<Boolean> add(long value);
+
+  /**
+   * Add all the given values.
+   *
+   * @param values the values to add
+   * @return a future completed with {@code true} if the set changed
+   */
+  CompletableFuture<Boolean> addAll(long... values);
+
+  /**
+   * Remove the given value.
+   *
+   * @param value the value to remove
+   * @return a future completed with {@code true} if the value was present
+   */
+  CompletableFuture<Boolean> remove(long value);
+
+  /**
+   * Remove all the given values.
+   *
+   * @param values the values to remove
+   * @return a future completed with {@code true} if the set changed
+   */
+  CompletableFuture<Boolean> removeAll(long... values);
+
+  /**
+   * Check whether the given value is present.
+   *
+   * @param value the value to look for
+   * @return a future completed with {@code true} if the value is present
+   */
+  CompletableFuture<Boolean> contains(long value);
+
+  /**
+   * Returns the number of values in the set.
+   *
+   * @return a future completed with the number of values
+   */
+  CompletableFuture<Integer> size();
+
+  /**
+   * Remove all values.
+   *
+   * @return a future completed once the set has been cleared
+   */
+  CompletableFuture<Void> clear();
+
+  /**
+   * Returns all values in the set, in no particular order.
+   *
+   * @return a future completed with a new array holding the values
+   */
+  CompletableFuture<long[]> toArray();
+}
@@ -118,4 +118,12 @@ public interface DSemaphore extends DType {
    * destroyed.
    */
   void destroy();
+
+  /**
+   * Returns an asynchronous view of this instance. Operations performed through the view do not
+   * block the calling thread.
+   *
+   * @return an asynchronous view of this instance
+   */
+  DSemaphoreAsync async();
 }
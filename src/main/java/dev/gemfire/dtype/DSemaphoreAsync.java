@@ -0,0 +1,75 @@
+/*
+ * Copyright 2024 Broadcom. All rights reserved.
+ */
+
+package dev.gemfire.dtype;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * An asynchronous view of a {@link DSemaphore}. Each method performs the same operation as the
+ * corresponding method of {@code DSemaphore}, but returns immediately with a
+ * {@link CompletableFuture} that is completed once the cluster has performed the operation.
+ */
+public interface DSemaphoreAsync {
+
+  /**
+   * Acquire a single permit.
+   *
+   * @return a future completed once the permit has been acquired
+   */
+  CompletableFuture<Void> acquire();
+
+  /**
+   * Acquire a number of permits.
+   *
+   * @param permits the number of permits to acquire
+   * @return a future completed once the permits have been acquired
+   */
+  CompletableFuture<Void> acquire(int permits);
+
+  /**
+   * Release a single permit.
+   *
+   * @return a future completed once the permit has been released
+   */
+  CompletableFuture<Void> release();
+
+  /**
+   * Release a number of permits.
+   *
+   * @param permits the number of permits to release
+   * @return a future completed once the permits have been released
+   */
+  CompletableFuture<Void> release(int permits);
+
+  /**
+   * Acquire a single permit if one is available.
+   *
+   * @return a future completed with true if the permit was acquired, false otherwise
+   */
+  CompletableFuture<Boolean> tryAcquire();
+
+  /**
+   * Acquire a number of permits if they are available.
+   *
+   * @param permits the number of permits to acquire
+   * @return a future completed with true if the permits were acquired, false otherwise
+   */
+  CompletableFuture<Boolean> tryAcquire(int permits);
+
+  /**
+   * Return the number of permits available.
+   *
+   * @return a future completed with the number of permits available
+   */
+  CompletableFuture<Integer> availablePermits();
+
+  /**
+   * Acquire all remaining permits if any are available.
+   *
+   * @return a future completed with the number of permits acquired
+   */
+  CompletableFuture<Integer> drainPermits();
+
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright 2024 Broadcom. All rights reserved.
+ */
+
+package dev.gemfire.dtype;
+
+/**
+ * A cluster-wide sequence of unique {@code long} values, backed by a {@link DAtomicLong} of the
+ * same name. Rather than updating the {@code DAtomicLong} for every value, each instance reserves
+ * a block of consecutive values in a single operation and hands them out locally, so that
+ * {@link #next()} does not usually involve the cluster at all. The next block is reserved in the
+ * background once half of the current one has been used.
+ * <p>
+ * The size of the blocks adapts to the rate at which values are used, aiming for each block to
+ * last about a second, within the bounds given when the sequence is created.
+ * <p>
+ * Values are unique across all instances with the same name and increase for each instance, but
+ * the values handed out by different instances interleave. Values reserved by an instance that are
+ * never used, for example because its client departs, are skipped.
+ */
+public interface DSequence extends DType {
+
+  int DEFAULT_MIN_BLOCK_SIZE = 16;
+  int DEFAULT_MAX_BLOCK_SIZE = 1 << 16;
+
+  /**
+   * Returns the next value of the sequence.
+   *
+   * @return the next value
+   */
+  long next();
+
+  /**
+   * Destroy the {@link DAtomicLong} backing this sequence. This affects all instances with the same
+   * name.
+   */
+  @Override
+  void destroy();
+}
@@ -15,10 +15,28 @@ import org.apache.geode.DataSerializable;
  * Objects added to a set need to be serializable either as Java {@link Serializable} or one
  * of GemFire's serializable types such as {@link DataSerializable}.
  * <p>
- * Note that iteration methods will serialize the whole structure to the client and perform the
- * iteration locally.
+ * Note that iteration methods perform the iteration locally, retrieving the structure from the
+ * server a page at a time. Modifying the structure while it is being iterated, other than through
+ * the iterator's {@code remove()}, causes the iteration to fail with a
+ * {@link java.util.ConcurrentModificationException}.
  *
  * @param <E> the type of elements held in this set
  */
 public interface DSet<E> extends Set<E>, DType {
+
+  /**
+   * Returns a {@link DStream} over the elements of this set. The stream's operations are
+   * performed on the server, and only their result is returned.
+   *
+   * @return a new {@code DStream}
+   */
+  DStream<E> dstream();
+
+  /**
+   * Returns an asynchronous view of this instance. Operations performed through the view do not
+   * block the calling thread.
+   *
+   * @return an asynchronous view of this instance
+   */
+  DSetAsync<E> async();
 }
@@ -0,0 +1,13 @@
+/*
+ * Copyright 2024 Broadcom. All rights reserved.
+ */
+
+package dev.gemfire.dtype;
+
+/**
+ * An asynchronous view of a {@link DSet}.
+ *
+ * @param <E> the type of elements held in the set
+ */
+public interface DSetAsync<E> extends DCollectionAsync<E> {
+}
@@ -2,6 +2,8 @@ package dev.gemfire.dtype;
 
 import dev.gemfire.dtype.internal.DSnowflakeImpl;
 
+import org.apache.geode.StatisticsFactory;
+
 /**
  * DSnowflake is a cluster-unique ID generator based on the Twitter/X
  * <a href="https://en.wikipedia.org/wiki/Snowflake_ID">Snowflake</a> design. Generated IDs are long
@@ -21,11 +23,20 @@ import dev.gemfire.dtype.internal.DSnowflakeImpl;
  * ({@link #DEFAULT_EPOCH_START}).
  * <p>
  * The default bit sizes allow for generating 4096 (2^12) sequence IDs per millisecond. If that rate
- * is exceeded, generation will block until the next millisecond.
+ * is exceeded, generation will block until the next millisecond. IDs are generated without
+ * locking, and {@link #nextIdBlock(int)} and {@link #nextIds(long[])} reserve many sequence numbers
+ * in a single step.
+ * <p>
+ * If the system clock moves backwards, IDs continue to be generated from the last timestamp used
+ * until its sequence numbers are exhausted, and generation then waits for the clock to catch up.
+ * If the clock has moved back by more than the number of milliseconds given by the
+ * {@code gemfire.dtype.snowflake.max-clock-regression-ms} system property (5 seconds by default),
+ * an {@code IllegalStateException} is thrown.
  * <p>
- * The current implementation generates the default machine ID from the nanosecond timestamp on the
- * system. Thus, DSnowflakes created on the same system, will have different machine IDs. If
- * required, a custom machine ID can be provided.
+ * DSnowflakes created with {@link DTypeFactory#createDSnowflake(String, int, int)} lease a machine
+ * ID from the cluster, which no other DSnowflake with the same name holds. Otherwise, the current
+ * implementation generates the default machine ID from the nanosecond timestamp on the system, so
+ * machine IDs are only probabilistically unique. If required, a custom machine ID can be provided.
  * <p>
  * A builder pattern is used to create custom DSnowflake instance:
  *
@@ -53,6 +64,26 @@ public interface DSnowflake extends DType {
    */
   long nextId();
 
+  /**
+   * Reserve a block of consecutive IDs. The returned ID is the first of the block; the others are
+   * {@code first + 1} up to {@code first + count - 1}. All IDs in a block share the same timestamp,
+   * so the block cannot be larger than the number of sequence numbers per millisecond.
+   *
+   * @param count the number of IDs to reserve
+   * @return the first ID of the block
+   * @throws IllegalArgumentException if {@code count} is less than 1 or larger than 2 to the power
+   *         of the number of sequence bits
+   */
+  long nextIdBlock(int count);
+
+  /**
+   * Fill the given array with new IDs, in increasing order. IDs are reserved a block at a time, so
+   * this is much cheaper than calling {@link #nextId()} for each element.
+   *
+   * @param ids the array to fill
+   */
+  void nextIds(long[] ids);
+
   /**
    * Parse a sequence ID into its individual components based on the configured bit lengths. Note
    * that the timestamp will be adjusted by the epoch start to reflect the 'correct' time.
@@ -63,8 +94,9 @@ public interface DSnowflake extends DType {
   long[] parse(long sequence);
 
   /**
-   * This is a no-op for DSnowflakes. Since nothing is distributed or stored for this type, there
-   * are no additional resources to release.
+   * Release the machine ID leased by a DSnowflake created with a {@link DTypeFactory}. This is a
+   * no-op for DSnowflakes created with a {@link Builder}, since nothing is distributed or stored
+   * for them.
    */
   default void destroy() {};
 
@@ -113,6 +145,16 @@ public interface DSnowflake extends DType {
      */
     Builder withSequenceBits(int sequenceBits);
 
+    /**
+     * Record the number of IDs generated, and how often generation waited for the clock, in a
+     * {@code DSnowflakeStats} instance created with the given factory. Typically the factory is
+     * the {@code DistributedSystem} of a cache.
+     *
+     * @param statisticsFactory the factory used to create the statistics
+     * @return this
+     */
+    Builder withStatistics(StatisticsFactory statisticsFactory);
+
     /**
      * Create a DSnowflake instance
      *
@@ -0,0 +1,120 @@
+/*
+ * Copyright 2024 Broadcom. All rights reserved.
+ */
+
+package dev.gemfire.dtype;
+
+import java.io.Serializable;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * A sequence of operations over the elements of a distributed collection which is performed on
+ * the server hosting the collection. Intermediate operations, such as {@link #filter} and
+ * {@link #map}, only record a step of the pipeline and return a new {@code DStream}. Terminal
+ * operations send the pipeline to the server, where it is applied to the elements of the
+ * collection, and only the result is returned to the client. For example:
+ *
+ * <pre>
+ * long adults = people.dstream()
+ *     .filter((Predicate&lt;Person&gt; &amp; Serializable) p -&gt; p.getAge() &gt;= 18)
+ *     .count();
+ * </pre>
+ * <p>
+ * Every function, predicate and comparator passed to a {@code DStream} must be
+ * {@link Serializable} and its class must be available on the servers. A pipeline runs while the
+ * collection is locked, so long running pipelines will delay other operations on the same
+ * collection.
+ *
+ * @param <T> the type of the stream elements
+ */
+public interface DStream<T> {
+
+  /**
+   * Retain only the elements matching the given predicate.
+   *
+   * @param predicate the predicate to apply to each element
+   * @return the new stream
+   */
+  DStream<T> filter(Predicate<? super T> predicate);
+
+  /**
+   * Replace each element with the result of applying the given function to it.
+   *
+   * @param mapper the function to apply to each element
+   * @param <R> the element type of the new stream
+   * @return the new stream
+   */
+  <R> DStream<R> map(Function<? super T, ? extends R> mapper);
+
+  /**
+   * Count the elements of this stream.
+   *
+   * @return the number of elements
+   */
+  long count();
+
+  /**
+   * Sum the {@code long} values produced by the given function for each element.
+   *
+   * @param mapper the function producing the value of each element
+   * @return the sum of the values
+   */
+  long sumLong(ToLongFunction<? super T> mapper);
+
+  /**
+   * Sum the {@code double} values produced by the given function for each element.
+   *
+   * @param mapper the function producing the value of each element
+   * @return the sum of the values
+   */
+  double sumDouble(ToDoubleFunction<? super T> mapper);
+
+  /**
+   * Return the smallest element according to the given comparator.
+   *
+   * @param comparator the comparator used to compare elements
+   * @return the smallest element, or an empty {@code Optional} if the stream is empty
+   */
+  Optional<T> min(Comparator<? super T> comparator);
+
+  /**
+   * Return the largest element according to the given comparator.
+   *
+   * @param comparator the comparator used to compare elements
+   * @return the largest element, or an empty {@code Optional} if the stream is empty
+   */
+  Optional<T> max(Comparator<? super T> comparator);
+
+  /**
+   * Combine the elements of this stream using the given associative function.
+   *
+   * @param accumulator the function combining two elements
+   * @return the combined value, or an empty {@code Optional} if the stream is empty
+   */
+  Optional<T> reduce(BinaryOperator<T> accumulator);
+
+  /**
+   * Return the {@code k} largest elements according to the given comparator, largest first. The
+   * server only retains {@code k} elements at a time while evaluating this operation.
+   *
+   * @param k the number of elements to return
+   * @param comparator the comparator used to compare elements
+   * @return up to {@code k} elements in descending order
+   */
+  List<T> top(int k, Comparator<? super T> comparator);
+
+  /**
+   * Return all elements of this stream.
+   *
+   * @return a list holding the elements of this stream
+   */
+  List<T> toList();
+
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright 2024 Broadcom. All rights reserved.
+ */
+
+package dev.gemfire.dtype;
+
+import java.util.List;
+
+import dev.gemfire.dtype.internal.BatchOperationPerformer;
+import dev.gemfire.dtype.internal.DAtomicLongImpl;
+import dev.gemfire.dtype.internal.DAtomicReferenceImpl;
+import dev.gemfire.dtype.internal.DBlockingQueueImpl;
+import dev.gemfire.dtype.internal.DCircularQueueImpl;
+import dev.gemfire.dtype.internal.DCounterImpl;
+import dev.gemfire.dtype.internal.DListImpl;
+import dev.gemfire.dtype.internal.DLongListImpl;
+import dev.gemfire.dtype.internal.DLongQueueImpl;
+import dev.gemfire.dtype.internal.DLongSetImpl;
+import dev.gemfire.dtype.internal.DSetImpl;
+import dev.gemfire.dtype.internal.OperationPerformer;
+
+/**
+ * A {@code DTypeBatch} records operations on any number of distributed types and sends them to
+ * the cluster together, using a single function execution per server, when {@link #execute()} is
+ * called. Instances are obtained with {@link DTypeFactory#createBatch()}.
+ * <p>
+ * Operations are recorded through the asynchronous views returned by the various {@code on()}
+ * methods. The futures returned by these views are completed once the batch has been executed.
+ * For example:
+ *
+ * <pre>
+ * DTypeBatch batch = factory.createBatch();
+ * batch.on(set).add("A");
+ * CompletableFuture&lt;Long&gt; count = batch.on(counter).increment(1);
+ * batch.on(list).add("B");
+ * List&lt;Object&gt; results = batch.execute();
+ * </pre>
+ * <p>
+ * Operations on the same instance are performed in the order they were recorded. Operations that
+ * block, such as {@link DBlockingQueueAsync#take()}, will delay the completion of the whole batch.
+ * {@link DSemaphore}, {@link DCountDownLatch}, sharded set and segmented queue instances cannot be
+ * part of a batch.
+ * <p>
+ * A batch is not atomic; a failing operation does not prevent the remaining operations from being
+ * performed. If the batch execution fails as a whole, it is not retried and some operations may
+ * or may not have been applied.
+ */
+public class DTypeBatch {
+
+  private final BatchOperationPerformer performer;
+
+  DTypeBatch(OperationPerformer operationPerformer) {
+    this.performer = new BatchOperationPerformer(operationPerformer);
+  }
+
+  public DAtomicLongAsync on(DAtomicLong atomicLong) {
+    return ((DAtomicLongImpl) atomicLong).async(performer);
+  }
+
+  public <V> DAtomicReferenceAsync<V> on(DAtomicReference<V> atomicReference) {
+    return ((DAtomicReferenceImpl<V>) atomicReference).async(performer);
+  }
+
+  public DCounterAsync on(DCounter counter) {
+    return ((DCounterImpl) counter).async(performer);
+  }
+
+  public <E> DListAsync<E> on(DList<E> list) {
+    return ((DListImpl<E>) list).async(performer);
+  }
+
+  public <E> DSetAsync<E> on(DSet<E> set) {
+    if (!(set instanceof DSetImpl)) {
+      throw new IllegalArgumentException("Sharded sets cannot be part of a batch");
+    }
+    return ((DSetImpl<E>) set).async(performer);
+  }
+
+  public <E> DBlockingQueueAsync<E> on(DBlockingQueue<E> queue) {
+    if (!(queue instanceof DBlockingQueueImpl)) {
+      throw new IllegalArgumentException("Segmented queues cannot be part of a batch");
+    }
+    return ((DBlockingQueueImpl<E>) queue).async(performer);
+  }
+
+  public <E> DCircularQueueAsync<E> on(DCircularQueue<E> queue) {
+    return ((DCircularQueueImpl<E>) queue).async(performer);
+  }
+
+  public DLongSetAsync on(DLongSet set) {
+    return ((DLongSetImpl) set).async(performer);
+  }
+
+  public DLongListAsync on(DLongList list) {
+    return ((DLongListImpl) list).async(performer);
+  }
+
+  public DLongQueueAsync on(DLongQueue queue) {
+    return ((DLongQueueImpl) queue).async(performer);
+  }
+
+  /**
+   * Returns the number of operations recorded and not yet executed.
+   *
+   * @return the number of pending operations
+   */
+  public int size() {
+    return performer.size();
+  }
+
+  /**
+   * Send all recorded operations to the cluster and wait for them to complete. The futures of
+   * the individual operations are completed before this method returns.
+   * <p>
+   * Once executed, the batch is empty and may be used to record further operations.
+   *
+   * @return the result of each operation, in the order in which operations were recorded. An
+   *         operation that failed is represented by the exception it produced.
+   */
+  public List<Object> execute() {
+    return performer.execute();
+  }
+}
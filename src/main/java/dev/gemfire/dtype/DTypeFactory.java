@@ -4,8 +4,10 @@
 
 package dev.gemfire.dtype;
 
+import java.util.concurrent.TimeUnit;
 import java.util.function.BiFunction;
 
+import dev.gemfire.dtype.internal.AbstractDTypeOperation;
 import dev.gemfire.dtype.internal.DAtomicLongImpl;
 import dev.gemfire.dtype.internal.DAtomicReferenceImpl;
 import dev.gemfire.dtype.internal.DBlockingQueueImpl;
@@ -13,8 +15,16 @@ import dev.gemfire.dtype.internal.DCircularQueueImpl;
 import dev.gemfire.dtype.internal.DCountDownLatchImpl;
 import dev.gemfire.dtype.internal.DCounterImpl;
 import dev.gemfire.dtype.internal.DListImpl;
+import dev.gemfire.dtype.internal.DLongListImpl;
+import dev.gemfire.dtype.internal.DLongQueueImpl;
+import dev.gemfire.dtype.internal.DLongSetImpl;
+import dev.gemfire.dtype.internal.DSegmentedQueueImpl;
 import dev.gemfire.dtype.internal.DSemaphoreImpl;
+import dev.gemfire.dtype.internal.DSequenceImpl;
 import dev.gemfire.dtype.internal.DSetImpl;
+import dev.gemfire.dtype.internal.DShardedSetImpl;
+import dev.gemfire.dtype.internal.DSnowflakeImpl;
+import dev.gemfire.dtype.internal.DSnowflakeLeases;
 import dev.gemfire.dtype.internal.FunctionOperationPerformer;
 import dev.gemfire.dtype.internal.OperationPerformer;
 
@@ -46,6 +56,8 @@ public class DTypeFactory {
 
   private final Region<String, Object> region;
   private final OperationPerformer operationPerformer;
+  private final ReadPreference readPreference;
+  private final ElementStorage elementStorage;
 
   /**
    * Instantiate a factory instance used to create specific distributed types.
@@ -74,30 +86,178 @@ public class DTypeFactory {
     String memberTag = ((MemberIdentifier) cacheImpl.getDistributedSystem().getDistributedMember())
         .getUniqueTag();
     this.operationPerformer = performerFunctionFactory.apply(region, memberTag);
+    this.readPreference = ReadPreference.PRIMARY;
+    this.elementStorage = ElementStorage.OBJECT;
+
+    AbstractDTypeOperation.registerInstantiators();
+  }
+
+  private DTypeFactory(DTypeFactory factory, ReadPreference readPreference,
+      ElementStorage elementStorage) {
+    this.region = factory.region;
+    this.operationPerformer = factory.operationPerformer;
+    this.readPreference = readPreference;
+    this.elementStorage = elementStorage;
+  }
+
+  /**
+   * Return a factory, sharing this factory's connection to the cluster, whose instances serve
+   * read-only operations according to the given {@link ReadPreference}. The preference applies to
+   * {@link DAtomicLong#get()}, {@link DAtomicReference#get()} and the {@code contains},
+   * {@code containsAll}, {@code size} and {@code isEmpty} operations of {@link DSet}, along with
+   * their asynchronous variants. For sharded sets, only {@code contains} makes use of the
+   * preference. All other types and operations are served by the primary copy.
+   * <p>
+   * The preference is a property of the instances returned by the factory, not of the named
+   * instance, so clients may read the same instance with different preferences.
+   *
+   * @param readPreference which copy serves read-only operations
+   * @return a factory using the given preference
+   */
+  public DTypeFactory withReadPreference(ReadPreference readPreference) {
+    return new DTypeFactory(this, readPreference, elementStorage);
+  }
+
+  /**
+   * Return a factory, sharing this factory's connection to the cluster, which creates collections
+   * with the given {@link ElementStorage} unless a storage is passed explicitly. For example, with
+   * {@link ElementStorage#OFF_HEAP}, the elements of large collections are held outside the
+   * servers' Java heap.
+   *
+   * @param elementStorage how elements of the collections created are held on the servers
+   * @return a factory using the given storage by default
+   */
+  public DTypeFactory withElementStorage(ElementStorage elementStorage) {
+    return new DTypeFactory(this, readPreference, elementStorage);
   }
 
   public DAtomicLong createAtomicLong(String name) {
     DAtomicLongImpl value =
         (DAtomicLongImpl) region.computeIfAbsent(name, DAtomicLongImpl::new);
     value.initialize(region, operationPerformer);
+    value.setReadPreference(readPreference);
 
     return value;
   }
 
-  @SuppressWarnings("unchecked")
+  /**
+   * Create or retrieve a {@link DAtomicLong} whose {@code get()} returns a value cached by this
+   * client. The cached value is read from the server at most {@code maxStaleness} before it is
+   * returned, and is refreshed in the background once half that time has passed. Updates made
+   * through the returned instance are applied to the cached value; updates made by other clients
+   * are seen once the cached value is refreshed.
+   *
+   * @param name the name of the instance
+   * @param maxStaleness the longest time for which a value read from the server is returned
+   * @param unit the unit of {@code maxStaleness}
+   * @return the named {@code DAtomicLong}
+   */
+  public DAtomicLong createCachedAtomicLong(String name, long maxStaleness, TimeUnit unit) {
+    DAtomicLongImpl value = (DAtomicLongImpl) createAtomicLong(name);
+    value.setMaxStaleness(maxStaleness, unit);
+
+    return value;
+  }
+
+  /**
+   * Create a {@link DSequence} backed by the {@link DAtomicLong} with the given name, using the
+   * default block sizes.
+   *
+   * @param name the name of the sequence
+   * @return a new {@code DSequence}
+   */
+  public DSequence createDSequence(String name) {
+    return createDSequence(name, DSequence.DEFAULT_MIN_BLOCK_SIZE,
+        DSequence.DEFAULT_MAX_BLOCK_SIZE);
+  }
+
+  /**
+   * Create a {@link DSequence} backed by the {@link DAtomicLong} with the given name. Values are
+   * reserved in blocks whose size adapts to the rate at which values are used, between the given
+   * bounds. Larger blocks mean fewer operations on the cluster, but more values skipped when this
+   * client departs.
+   *
+   * @param name the name of the sequence
+   * @param minBlockSize the smallest, and initial, number of values reserved at a time
+   * @param maxBlockSize the largest number of values reserved at a time
+   * @return a new {@code DSequence}
+   */
+  public DSequence createDSequence(String name, int minBlockSize, int maxBlockSize) {
+    return new DSequenceImpl(createAtomicLong(name), minBlockSize, maxBlockSize);
+  }
+
   public <E> DList<E> createDList(String name) {
+    return createDList(name, elementStorage);
+  }
+
+  /**
+   * Create or retrieve a {@link DList} whose elements are held on the servers using the given
+   * {@link ElementStorage}. The storage is only applied when the instance is created.
+   *
+   * @param name the name of the instance
+   * @param storage how elements are held on the servers
+   * @return the named {@code DList}
+   */
+  @SuppressWarnings("unchecked")
+  public <E> DList<E> createDList(String name, ElementStorage storage) {
     DListImpl<E> value =
-        (DListImpl<E>) region.computeIfAbsent(name, DListImpl::new);
+        (DListImpl<E>) region.computeIfAbsent(name, r -> new DListImpl<>(name, storage));
     value.initialize(region, operationPerformer);
 
     return value;
   }
 
-  @SuppressWarnings("unchecked")
   public <E> DSet<E> createDSet(String name) {
+    return createDSet(name, elementStorage);
+  }
+
+  /**
+   * Create or retrieve a {@link DSet} whose elements are held on the servers using the given
+   * {@link ElementStorage}. The storage is only applied when the instance is created.
+   *
+   * @param name the name of the instance
+   * @param storage how elements are held on the servers
+   * @return the named {@code DSet}
+   */
+  @SuppressWarnings("unchecked")
+  public <E> DSet<E> createDSet(String name, ElementStorage storage) {
     DSetImpl<E> value =
-        (DSetImpl<E>) region.computeIfAbsent(name, DSetImpl::new);
+        (DSetImpl<E>) region.computeIfAbsent(name, r -> new DSetImpl<>(name, storage));
     value.initialize(region, operationPerformer);
+    value.setReadPreference(readPreference);
+
+    return value;
+  }
+
+  public <E> DSet<E> createDShardedSet(String name, int shardCount) {
+    return createDShardedSet(name, shardCount, elementStorage);
+  }
+
+  /**
+   * Create or retrieve a {@link DSet} whose elements are spread over {@code shardCount} shards.
+   * Shards are stored as separate entries and are thus distributed across the servers of the
+   * cluster, allowing a heavily used set to make use of more than a single server. Operations on
+   * a single element only involve the shard holding that element; bulk operations, {@code size}
+   * and iteration involve all shards.
+   * <p>
+   * Elements held as objects are assigned to shards by their {@code hashCode}, which must be the
+   * same in every JVM, as for the keys of a partitioned region. Elements held in serialized form
+   * are assigned by their serialized bytes. The number of shards and the storage are only applied
+   * when the instance is created. Sharded sets cannot be part of a
+   * {@link DTypeBatch}.
+   *
+   * @param name the name of the instance
+   * @param shardCount the number of shards
+   * @param storage how elements are held on the servers
+   * @return the named {@code DSet}
+   */
+  @SuppressWarnings("unchecked")
+  public <E> DSet<E> createDShardedSet(String name, int shardCount, ElementStorage storage) {
+    DShardedSetImpl<E> value =
+        (DShardedSetImpl<E>) region.computeIfAbsent(name,
+            r -> new DShardedSetImpl<>(name, shardCount, storage));
+    value.initialize(region, operationPerformer);
+    value.setReadPreference(readPreference);
 
     return value;
   }
@@ -110,30 +270,85 @@ public class DTypeFactory {
     return value;
   }
 
-  @SuppressWarnings("unchecked")
   public <E> DBlockingQueue<E> createDQueue(String name) {
-    DBlockingQueueImpl<E> value =
-        (DBlockingQueueImpl<E>) region.computeIfAbsent(name, DBlockingQueueImpl::new);
-    value.initialize(region, operationPerformer);
+    return createDQueue(name, Integer.MAX_VALUE, elementStorage);
+  }
 
-    return value;
+  public <E> DBlockingQueue<E> createDQueue(String name, int capacity) {
+    return createDQueue(name, capacity, elementStorage);
   }
 
+  /**
+   * Create or retrieve a {@link DBlockingQueue} whose elements are held on the servers using the
+   * given {@link ElementStorage}. The capacity and storage are only applied when the instance is
+   * created.
+   *
+   * @param name the name of the instance
+   * @param capacity the capacity of the queue
+   * @param storage how elements are held on the servers
+   * @return the named {@code DBlockingQueue}
+   */
   @SuppressWarnings("unchecked")
-  public <E> DBlockingQueue<E> createDQueue(String name, int capacity) {
+  public <E> DBlockingQueue<E> createDQueue(String name, int capacity, ElementStorage storage) {
     DBlockingQueueImpl<E> value =
         (DBlockingQueueImpl<E>) region.computeIfAbsent(name,
-            r -> new DBlockingQueueImpl<>(name, capacity));
+            r -> new DBlockingQueueImpl<>(name, capacity, storage));
     value.initialize(region, operationPerformer);
 
     return value;
   }
 
+  public <E> DBlockingQueue<E> createSegmentedDQueue(String name, int capacity,
+      int segmentSize) {
+    return createSegmentedDQueue(name, capacity, segmentSize, elementStorage);
+  }
+
+  /**
+   * Create or retrieve a {@link DBlockingQueue} whose elements are stored in a chain of segments,
+   * each holding up to {@code segmentSize} elements. Segments are stored as separate entries so
+   * that very large queues are spread across the cluster, and adding or removing elements only
+   * needs to distribute a single segment. The capacity, segment size and storage are only applied
+   * when the instance is created.
+   * <p>
+   * Segmented queues cannot be part of a {@link DTypeBatch}.
+   *
+   * @param name the name of the instance
+   * @param capacity the capacity of the queue
+   * @param segmentSize the maximum number of elements held by each segment
+   * @param storage how elements are held on the servers
+   * @return the named {@code DBlockingQueue}
+   */
   @SuppressWarnings("unchecked")
+  public <E> DBlockingQueue<E> createSegmentedDQueue(String name, int capacity, int segmentSize,
+      ElementStorage storage) {
+    DSegmentedQueueImpl<E> value =
+        (DSegmentedQueueImpl<E>) region.computeIfAbsent(name,
+            r -> new DSegmentedQueueImpl<>(name, capacity, segmentSize, storage));
+    value.initialize(region, operationPerformer);
+
+    return value;
+  }
+
   public <E> DCircularQueue<E> createDCircularQueue(String name, int capacity) {
+    return createDCircularQueue(name, capacity, elementStorage);
+  }
+
+  /**
+   * Create or retrieve a {@link DCircularQueue} whose elements are held on the servers using the
+   * given {@link ElementStorage}. The capacity and storage are only applied when the instance is
+   * created.
+   *
+   * @param name the name of the instance
+   * @param capacity the capacity of the queue
+   * @param storage how elements are held on the servers
+   * @return the named {@code DCircularQueue}
+   */
+  @SuppressWarnings("unchecked")
+  public <E> DCircularQueue<E> createDCircularQueue(String name, int capacity,
+      ElementStorage storage) {
     DCircularQueueImpl<E> value =
         (DCircularQueueImpl<E>) region.computeIfAbsent(name,
-            r -> new DCircularQueueImpl<>(name, capacity));
+            r -> new DCircularQueueImpl<>(name, capacity, storage));
     value.initialize(region, operationPerformer);
 
     return value;
@@ -145,6 +360,7 @@ public class DTypeFactory {
         (DAtomicReferenceImpl<V>) region.computeIfAbsent(name,
             r -> new DAtomicReferenceImpl<>(name, object));
     value.initialize(region, operationPerformer);
+    value.setReadPreference(readPreference);
 
     return value;
   }
@@ -153,6 +369,77 @@ public class DTypeFactory {
     return createDAtomicReference(name, null);
   }
 
+  /**
+   * Create or retrieve a {@link DAtomicReference} whose {@code get()} returns a value cached by
+   * this client, read from the server at most {@code maxStaleness} before. See
+   * {@link #createCachedAtomicLong(String, long, TimeUnit)}. Since the cached value is returned to
+   * every caller, it should not be modified.
+   *
+   * @param name the name of the instance
+   * @param maxStaleness the longest time for which a value read from the server is returned
+   * @param unit the unit of {@code maxStaleness}
+   * @return the named {@code DAtomicReference}
+   */
+  public <V> DAtomicReference<V> createCachedDAtomicReference(String name, long maxStaleness,
+      TimeUnit unit) {
+    DAtomicReferenceImpl<V> value = (DAtomicReferenceImpl<V>) this.<V>createDAtomicReference(name);
+    value.setMaxStaleness(maxStaleness, unit);
+
+    return value;
+  }
+
+  /**
+   * Create or retrieve a {@link DLongSet}.
+   *
+   * @param name the name of the instance
+   * @return the named {@code DLongSet}
+   */
+  public DLongSet createDLongSet(String name) {
+    DLongSetImpl value = (DLongSetImpl) region.computeIfAbsent(name, DLongSetImpl::new);
+    value.initialize(region, operationPerformer);
+
+    return value;
+  }
+
+  /**
+   * Create or retrieve a {@link DLongList}.
+   *
+   * @param name the name of the instance
+   * @return the named {@code DLongList}
+   */
+  public DLongList createDLongList(String name) {
+    DLongListImpl value = (DLongListImpl) region.computeIfAbsent(name, DLongListImpl::new);
+    value.initialize(region, operationPerformer);
+
+    return value;
+  }
+
+  /**
+   * Create or retrieve an unbounded {@link DLongQueue}.
+   *
+   * @param name the name of the instance
+   * @return the named {@code DLongQueue}
+   */
+  public DLongQueue createDLongQueue(String name) {
+    return createDLongQueue(name, Integer.MAX_VALUE);
+  }
+
+  /**
+   * Create or retrieve a {@link DLongQueue}. The capacity is only applied when the instance is
+   * created.
+   *
+   * @param name the name of the instance
+   * @param capacity the capacity of the queue
+   * @return the named {@code DLongQueue}
+   */
+  public DLongQueue createDLongQueue(String name, int capacity) {
+    DLongQueueImpl value = (DLongQueueImpl) region.computeIfAbsent(name,
+        r -> new DLongQueueImpl(name, capacity));
+    value.initialize(region, operationPerformer);
+
+    return value;
+  }
+
   public DCountDownLatch createDCountDownLatch(String name, int count) {
     DCountDownLatchImpl value = (DCountDownLatchImpl) region.computeIfAbsent(name,
         r -> new DCountDownLatchImpl(name, count));
@@ -161,6 +448,51 @@ public class DTypeFactory {
     return value;
   }
 
+  /**
+   * Create a {@link DSnowflake} whose machine ID is leased from the cluster, using the default
+   * bit lengths.
+   *
+   * @param name the name of the instance
+   * @return a new {@code DSnowflake}
+   * @see #createDSnowflake(String, int, int)
+   */
+  public DSnowflake createDSnowflake(String name) {
+    return createDSnowflake(name, DSnowflake.DEFAULT_MACHINE_BITS,
+        DSnowflake.DEFAULT_SEQUENCE_BITS);
+  }
+
+  /**
+   * Create a {@link DSnowflake} whose machine ID is leased from the cluster. All snowflakes
+   * created with the same name are guaranteed to hold different machine IDs, so fewer machine
+   * bits, and thus more sequence bits, can be used than with randomly chosen machine IDs. The lease
+   * is renewed in the background, and released when the snowflake is destroyed or this client
+   * departs. The machine bits are only applied when the first snowflake with the given name is
+   * created.
+   *
+   * @param name the name of the instance
+   * @param machineBits the number of bits to use for the machine ID
+   * @param sequenceBits the number of bits to use for the sequence number
+   * @return a new {@code DSnowflake}
+   * @throws DTypeException if all machine IDs are leased
+   */
+  public DSnowflake createDSnowflake(String name, int machineBits, int sequenceBits) {
+    DSnowflakeLeases leases = (DSnowflakeLeases) region.computeIfAbsent(name,
+        r -> new DSnowflakeLeases(name, machineBits));
+    leases.initialize(region, operationPerformer);
+
+    return new DSnowflakeImpl(leases, DSnowflake.DEFAULT_EPOCH_START, sequenceBits,
+        ((GemFireCache) region.getRegionService()).getDistributedSystem());
+  }
+
+  /**
+   * Create a new, empty, batch used to send multiple operations to the cluster together.
+   *
+   * @return a new {@link DTypeBatch}
+   */
+  public DTypeBatch createBatch() {
+    return new DTypeBatch(operationPerformer);
+  }
+
   public DCounter createDCounter(String name) {
     return createDCounter(name, 0);
   }
@@ -174,4 +506,54 @@ public class DTypeFactory {
     return value;
   }
 
+  /**
+   * Create or retrieve a {@link DCounter} whose {@code get()} returns a value cached by this
+   * client, read from the server at most {@code maxStaleness} before. See
+   * {@link #createCachedAtomicLong(String, long, TimeUnit)}.
+   *
+   * @param name the name of the counter
+   * @param maxStaleness the longest time for which a value read from the server is returned
+   * @param unit the unit of {@code maxStaleness}
+   * @return the named {@code DCounter}
+   */
+  public DCounter createCachedDCounter(String name, long maxStaleness, TimeUnit unit) {
+    DCounterImpl value = (DCounterImpl) createDCounter(name);
+    value.setMaxStaleness(maxStaleness, unit);
+
+    return value;
+  }
+
+  /**
+   * Create a {@link DCounter} that buffers increments locally and sends them as a single update
+   * every {@code flushInterval}, or when {@link DCounter#flush()} is called. This allows many
+   * threads to increment the counter at a high rate, at the cost of other clients only seeing the
+   * increments once they have been flushed. Buffered increments that have not been flushed are
+   * lost if this client fails.
+   *
+   * @param name the name of the counter
+   * @param flushInterval how often buffered increments are sent
+   * @param unit the unit of {@code flushInterval}
+   */
+  public DCounter createBufferedDCounter(String name, long flushInterval, TimeUnit unit) {
+    return createBufferedDCounter(name, flushInterval, unit, 0);
+  }
+
+  /**
+   * Create a {@link DCounter} that buffers increments locally and sends them as a single update
+   * every {@code flushInterval}, as soon as the absolute value of the buffered amount reaches
+   * {@code flushThreshold}, or when {@link DCounter#flush()} is called.
+   *
+   * @param name the name of the counter
+   * @param flushInterval how often buffered increments are sent
+   * @param unit the unit of {@code flushInterval}
+   * @param flushThreshold the buffered amount at which increments are sent, or 0 for no threshold
+   */
+  public DCounter createBufferedDCounter(String name, long flushInterval, TimeUnit unit,
+      long flushThreshold) {
+    DCounterImpl value = (DCounterImpl) createDCounter(name);
+    value.setBuffering(unit.toMillis(flushInterval), flushThreshold);
+
+    return value;
+  }
+
 }
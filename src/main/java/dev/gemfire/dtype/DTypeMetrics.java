@@ -0,0 +1,160 @@
+/*
+ * Copyright 2024 Broadcom. All rights reserved.
+ */
+
+package dev.gemfire.dtype;
+
+import java.beans.ConstructorProperties;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+import org.apache.geode.DataSerializable;
+import org.apache.geode.DataSerializer;
+
+/**
+ * A snapshot of the state of, and activity on, a single distributed type instance as held by the
+ * server which is primary for it. Returned by {@link DTypeServiceMXBean}.
+ */
+public class DTypeMetrics implements DataSerializable {
+
+  private String name;
+  private String type;
+  private String member;
+  private int elementCount;
+  private long approximateSize;
+  private long operationCount;
+  private double operationRate;
+  private int blockedWaiters;
+  private long deltaUpdateCount;
+  private long fullUpdateCount;
+
+  public DTypeMetrics() {}
+
+  @ConstructorProperties({"name", "type", "member", "elementCount", "approximateSize",
+      "operationCount", "operationRate", "blockedWaiters", "deltaUpdateCount", "fullUpdateCount"})
+  public DTypeMetrics(String name, String type, String member, int elementCount,
+      long approximateSize, long operationCount, double operationRate, int blockedWaiters,
+      long deltaUpdateCount, long fullUpdateCount) {
+    this.name = name;
+    this.type = type;
+    this.member = member;
+    this.elementCount = elementCount;
+    this.approximateSize = approximateSize;
+    this.operationCount = operationCount;
+    this.operationRate = operationRate;
+    this.blockedWaiters = blockedWaiters;
+    this.deltaUpdateCount = deltaUpdateCount;
+    this.fullUpdateCount = fullUpdateCount;
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * The simple name of the class implementing the instance on the server.
+   */
+  public String getType() {
+    return type;
+  }
+
+  /**
+   * The member which is primary for the instance.
+   */
+  public String getMember() {
+    return member;
+  }
+
+  /**
+   * The number of elements in a collection, or -1 for types which are not collections.
+   */
+  public int getElementCount() {
+    return elementCount;
+  }
+
+  /**
+   * The approximate size, in bytes, of the instance's serialized form. For collections, this is
+   * estimated from the serialized size of a sample of the elements. This approximates the memory
+   * used by the instance, more closely so for collections that keep their elements serialized.
+   */
+  public long getApproximateSize() {
+    return approximateSize;
+  }
+
+  /**
+   * The number of operations performed on the instance since it was loaded by the primary.
+   */
+  public long getOperationCount() {
+    return operationCount;
+  }
+
+  /**
+   * The operations per second performed on the instance since it was previously sampled, or 0
+   * the first time it is sampled.
+   */
+  public double getOperationRate() {
+    return operationRate;
+  }
+
+  /**
+   * The number of threads waiting for a condition on the instance, such as latch waiters, threads
+   * waiting to acquire semaphore permits or to take from an empty queue.
+   */
+  public int getBlockedWaiters() {
+    return blockedWaiters;
+  }
+
+  public long getDeltaUpdateCount() {
+    return deltaUpdateCount;
+  }
+
+  public long getFullUpdateCount() {
+    return fullUpdateCount;
+  }
+
+  /**
+   * The fraction of updates which were distributed to redundant copies as deltas rather than as
+   * the full instance, or 0 if there have been no updates.
+   */
+  public double getDeltaRatio() {
+    long updates = deltaUpdateCount + fullUpdateCount;
+    return updates == 0 ? 0 : (double) deltaUpdateCount / updates;
+  }
+
+  @Override
+  public void toData(DataOutput out) throws IOException {
+    DataSerializer.writeString(name, out);
+    DataSerializer.writeString(type, out);
+    DataSerializer.writeString(member, out);
+    out.writeInt(elementCount);
+    out.writeLong(approximateSize);
+    out.writeLong(operationCount);
+    out.writeDouble(operationRate);
+    out.writeInt(blockedWaiters);
+    out.writeLong(deltaUpdateCount);
+    out.writeLong(fullUpdateCount);
+  }
+
+  @Override
+  public void fromData(DataInput in) throws IOException {
+    name = DataSerializer.readString(in);
+    type = DataSerializer.readString(in);
+    member = DataSerializer.readString(in);
+    elementCount = in.readInt();
+    approximateSize = in.readLong();
+    operationCount = in.readLong();
+    operationRate = in.readDouble();
+    blockedWaiters = in.readInt();
+    deltaUpdateCount = in.readLong();
+    fullUpdateCount = in.readLong();
+  }
+
+  @Override
+  public String toString() {
+    return "DTypeMetrics{name='" + name + "', type=" + type + ", member=" + member
+        + ", elementCount=" + elementCount + ", approximateSize=" + approximateSize
+        + ", operationCount=" + operationCount + ", operationRate=" + operationRate
+        + ", blockedWaiters=" + blockedWaiters + ", deltaRatio=" + getDeltaRatio() + "}";
+  }
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright 2024 Broadcom. All rights reserved.
+ */
+
+package dev.gemfire.dtype;
+
+/**
+ * Management interface registered by each server hosting distributed types. As with other member
+ * MBeans, it is federated to the JMX manager, so it can be reached through the manager for every
+ * server in the cluster.
+ * <p>
+ * Attributes and operations whose names do not start with {@code cluster} only report the
+ * instances for which this server is primary. Those that do are gathered from all servers.
+ */
+public interface DTypeServiceMXBean {
+
+  /**
+   * The number of instances for which this server is primary.
+   */
+  int getInstanceCount();
+
+  /**
+   * The number of threads on this server waiting for a condition on any instance.
+   */
+  int getWaitingThreads();
+
+  /**
+   * Return the metrics for each instance for which this server is primary, ordered by name.
+   */
+  DTypeMetrics[] listMetrics();
+
+  /**
+   * Return the metrics for the named instance or {@code null} if this server is not primary for
+   * it.
+   */
+  DTypeMetrics showMetrics(String name);
+
+  /**
+   * Return the metrics for every instance in the cluster, ordered by name.
+   */
+  DTypeMetrics[] listClusterMetrics();
+
+  /**
+   * Return the metrics for the instances in the cluster with the highest operation rate, in
+   * descending order of that rate.
+   */
+  DTypeMetrics[] listClusterBusiest(int limit);
+
+  /**
+   * Return the metrics for the instances in the cluster with the largest approximate size, in
+   * descending order of that size.
+   */
+  DTypeMetrics[] listClusterLargest(int limit);
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright 2024 Broadcom. All rights reserved.
+ */
+
+package dev.gemfire.dtype;
+
+/**
+ * Determines how the elements of a collection type are held by the servers. The storage is chosen
+ * when an instance is first created and cannot be changed afterwards; subsequent calls to create
+ * the same named instance return the existing instance regardless of the storage requested.
+ */
+public enum ElementStorage {
+
+  /**
+   * Elements are deserialized and held as objects on the servers. Element comparisons use
+   * {@link Object#equals(Object)} and {@link Object#hashCode()}. This is the default.
+   */
+  OBJECT,
+
+  /**
+   * Elements are held on the servers in the serialized form produced by the client and are never
+   * deserialized for storage. Operations such as {@code contains}, {@code remove} and
+   * {@code indexOf} compare the serialized bytes of elements. This avoids most deserialization on
+   * the servers and reduces the memory used by each element.
+   * <p>
+   * Since equality is determined by the serialized form, this storage should only be used for
+   * element types whose serialized form is the same for equal values. For example, types which
+   * serialize unordered collections, or transient state, are not suitable.
+   * <p>
+   * Operations which need to work with element values, such as {@code sort}, {@code replaceAll} and
+   * {@code removeIf}, deserialize elements as required.
+   */
+  SERIALIZED,
+
+  /**
+   * As with {@link #SERIALIZED}, elements are held in serialized form and compared by their
+   * serialized bytes, but the bytes are held in memory outside the Java heap. The heap then only
+   * holds a small, fixed-size reference for each element, so large collections add little to the
+   * work of the garbage collector.
+   * <p>
+   * The memory is allocated as direct buffers, limited by the JVM's
+   * {@code -XX:MaxDirectMemorySize}, of {@code gemfire.dtype.off-heap-slab-size} bytes (1MB by
+   * default). The space of removed elements is reclaimed by periodically compacting the elements
+   * of each collection.
+   */
+  OFF_HEAP
+
+}
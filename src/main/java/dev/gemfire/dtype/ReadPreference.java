@@ -0,0 +1,33 @@
+/*
+ * Copyright 2024 Broadcom. All rights reserved.
+ */
+
+package dev.gemfire.dtype;
+
+/**
+ * Determines which copy of an instance serves its read-only operations. Every instance is held by
+ * a primary server and, since the backing region is redundant, by another server holding a
+ * redundant copy. Only the read-only operations of {@link DAtomicLong}, {@link DAtomicReference}
+ * and {@link DSet} make use of the preference; all other operations are always served by the
+ * primary.
+ *
+ * @see DTypeFactory#withReadPreference(ReadPreference)
+ */
+public enum ReadPreference {
+
+  /**
+   * Reads are served by the primary copy. This is the default.
+   */
+  PRIMARY,
+
+  /**
+   * Reads are served by whichever copy, primary or redundant, GemFire routes them to, spreading
+   * the reads of a heavily used instance over more than one server.
+   * <p>
+   * Updates are applied to redundant copies before they complete, so a read sees every update that
+   * completed before the read was made. A read made while an update is in progress may not see that
+   * update, even if an earlier read, served by a different copy, has already seen it.
+   */
+  ANY
+
+}
@@ -0,0 +1,366 @@
+/*
+ * Copyright 2024 Broadcom. All rights reserved.
+ */
+
+package dev.gemfire.dtype.internal;
+
+import static org.apache.geode.util.internal.UncheckedUtils.uncheckedCast;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import dev.gemfire.dtype.DStream;
+import dev.gemfire.dtype.ElementStorage;
+
+import org.apache.geode.DataSerializer;
+
+/**
+ * Base class for the collection types. Elements are passed from clients in their serialized form
+ * and, depending on the {@link ElementStorage} of the instance, are either deserialized or kept as
+ * {@link SerializedElement}s or {@link OffHeapElement}s by the backing collection.
+ * Implementations should convert element arguments with {@link #toStored} or {@link #toStoredAll}
+ * when they are to be held by the collection, or with {@link #toLookup} or {@link #toLookupAll}
+ * when they are only compared with the elements held, and convert anything returned to the
+ * caller, or iterated on the client, with {@link #toValue} or {@link #toValues}.
+ * <p>
+ * Collections are iterated on the client using a {@link DCursorIterator}, which retrieves the
+ * elements in pages of {@link #CURSOR_PAGE_SIZE} from a cursor over the live collection held on
+ * the server. Subclasses supporting this provide their elements through
+ * {@link #getStoredElements()}.
+ */
+public abstract class AbstractDCollection extends AbstractDType {
+
+  public static final int CURSOR_PAGE_SIZE =
+      Integer.getInteger("gemfire.dtype.cursor-page-size", 1000);
+
+  // The number of elements whose size is used to estimate the size of the collection
+  static final int SIZE_SAMPLE = 64;
+
+  // Opcodes common to all collections. Opcodes defined by subclasses must be lower than these.
+  private static final int OPEN_CURSOR = 1000;
+  private static final int NEXT_PAGE = 1001;
+  private static final int STREAM = 1002;
+  private static final int REMOVE_DURING_ITERATION = 1003;
+
+  private ElementStorage storage;
+  // Created when the first element is stored off-heap
+  private transient OffHeapArena arena;
+
+  public AbstractDCollection() {}
+
+  public AbstractDCollection(String name, ElementStorage storage) {
+    super(name);
+    this.storage = storage;
+  }
+
+  /**
+   * Return whether elements are held in serialized form, either on or off the heap.
+   */
+  protected boolean isStoredAsBytes() {
+    return storage != ElementStorage.OBJECT;
+  }
+
+  protected ElementStorage getElementStorage() {
+    return storage;
+  }
+
+  /**
+   * Serialize a single element argument. {@code null} is passed as is so that each backing
+   * collection retains its own handling of {@code null} elements.
+   */
+  protected static byte[] serializeElement(Object e) {
+    return e == null ? null : serialize(e);
+  }
+
+  /**
+   * Serialize each element of the given collection individually. When the result is the only
+   * argument of an operation it must be cast to {@code Object}, otherwise it is taken as the
+   * varargs array of arguments.
+   */
+  protected static byte[][] serializeElements(Collection<?> c) {
+    byte[][] result = new byte[c.size()][];
+    int i = 0;
+    for (Object e : c) {
+      result[i++] = serializeElement(e);
+    }
+    return result;
+  }
+
+  protected Object toStored(byte[] bytes) {
+    if (bytes == null) {
+      return null;
+    }
+    switch (storage) {
+      case SERIALIZED:
+        return new SerializedElement(bytes);
+      case OFF_HEAP:
+        return storeOffHeap(bytes);
+      default:
+        return deserialize(bytes);
+    }
+  }
+
+  /**
+   * Convert an element argument that is only compared with the elements held by the collection,
+   * as by {@code contains} or {@code remove}. Elements held off-heap are compared with a
+   * {@link SerializedElement} on the heap, so that off-heap memory is only taken by elements that
+   * are actually stored.
+   */
+  protected Object toLookup(byte[] bytes) {
+    if (bytes != null && storage == ElementStorage.OFF_HEAP) {
+      return new SerializedElement(bytes);
+    }
+    return toStored(bytes);
+  }
+
+  /**
+   * Store an element off-heap, first compacting the off-heap memory of this instance if needed.
+   * Compaction moves elements, so it is only performed by operations that hold this entry's lock
+   * exclusively, which also keeps it from interleaving with {@code toData}.
+   */
+  private OffHeapElement storeOffHeap(byte[] bytes) {
+    if (arena == null) {
+      arena = new OffHeapArena();
+    } else if (arena.needsCompaction() && holdsWriteLock()) {
+      Collection<?> elements = getOffHeapElements();
+      if (elements != null) {
+        arena.compact(elements);
+      }
+    }
+    return arena.store(bytes);
+  }
+
+  /**
+   * Return every element stored off-heap by this instance, or {@code null} if this instance does
+   * not hold all the elements it stores and so cannot compact its off-heap memory.
+   */
+  Collection<?> getOffHeapElements() {
+    return getStoredElements();
+  }
+
+  /**
+   * Return the serialized bytes of an element held in serialized form.
+   */
+  private static byte[] bytesOf(Object stored) {
+    return stored instanceof OffHeapElement ? ((OffHeapElement) stored).getBytes()
+        : ((SerializedElement) stored).getBytes();
+  }
+
+  protected List<Object> toStoredAll(byte[][] elements) {
+    List<Object> result = new ArrayList<>(elements.length);
+    for (byte[] bytes : elements) {
+      result.add(toStored(bytes));
+    }
+    return result;
+  }
+
+  protected List<Object> toLookupAll(byte[][] elements) {
+    List<Object> result = new ArrayList<>(elements.length);
+    for (byte[] bytes : elements) {
+      result.add(toLookup(bytes));
+    }
+    return result;
+  }
+
+  protected <T> T toValue(Object stored) {
+    if (isStoredAsBytes() && stored != null) {
+      return deserialize(bytesOf(stored));
+    }
+    return uncheckedCast(stored);
+  }
+
+  /**
+   * Convert stored elements to their values. When elements are held as objects the given
+   * collection is returned as is.
+   */
+  protected <T> Collection<T> toValues(Collection<?> stored) {
+    if (!isStoredAsBytes()) {
+      return uncheckedCast(stored);
+    }
+    List<T> result = new ArrayList<>(stored.size());
+    for (Object e : stored) {
+      result.add(toValue(e));
+    }
+    return result;
+  }
+
+  /**
+   * Return the stored elements in iteration order. This is called on the server, while the entry
+   * is locked, when a cursor iterates the elements.
+   */
+  protected Collection<?> getStoredElements() {
+    throw new UnsupportedOperationException(
+        getClass().getSimpleName() + " does not support cursors");
+  }
+
+  @Override
+  int getElementCount() {
+    return getStoredElements().size();
+  }
+
+  /**
+   * Estimate the size of the collection from the serialized size of its first
+   * {@link #SIZE_SAMPLE} elements, so that reporting metrics does not serialize every element.
+   */
+  @Override
+  long getApproximateSize() {
+    Collection<?> elements = getStoredElements();
+    long sampleSize = 0;
+    int sampled = 0;
+    Iterator<?> iterator = elements.iterator();
+    while (sampled < SIZE_SAMPLE && iterator.hasNext()) {
+      sampleSize += sizeOf(iterator.next());
+      sampled++;
+    }
+    return sampled == 0 ? 0 : sampleSize * elements.size() / sampled;
+  }
+
+  /**
+   * Return the serialized size of a stored element. Elements held in serialized form are not
+   * serialized again.
+   */
+  private static long sizeOf(Object stored) {
+    if (stored == null) {
+      return 1;
+    } else if (stored instanceof OffHeapElement) {
+      return ((OffHeapElement) stored).getLength();
+    } else if (stored instanceof SerializedElement) {
+      return ((SerializedElement) stored).getBytes().length;
+    }
+    return serialize(stored).length;
+  }
+
+  DCursorPage openCursor() {
+    return query(new DTypeOperation(OPEN_CURSOR, CURSOR_PAGE_SIZE), CollectionsBackendFunction.ID);
+  }
+
+  CompletableFuture<DCursorPage> nextPageAsync(String cursorId) {
+    return new CursorView().nextPage(cursorId);
+  }
+
+  /**
+   * Perform the given removal of an element that the given iterator has returned. The cursor from
+   * which the iterator retrieves its elements is told of the removal, so that iteration can
+   * continue rather than failing with a {@link java.util.ConcurrentModificationException}.
+   *
+   * @param removal an operation whose result is {@code false} if it did not remove an element
+   */
+  protected <T> T removeDuringIteration(DCursorIterator<?> iterator,
+      DTypeCollectionsFunction removal) {
+    String cursorId = iterator.getCursorId();
+    if (cursorId == null) {
+      return update(removal, CollectionsBackendFunction.ID);
+    }
+    return update(new DTypeOperation(REMOVE_DURING_ITERATION, cursorId, removal),
+        CollectionsBackendFunction.ID);
+  }
+
+  /**
+   * Retrieve the values of all elements, a page at a time, into a new list.
+   */
+  protected <T> List<T> getPagedValues() {
+    List<T> values = new ArrayList<>();
+    new DCursorIterator<T>(this).forEachRemaining(values::add);
+    return values;
+  }
+
+  /**
+   * Convert an element received in a {@link DCursorPage} to its value.
+   */
+  <T> T fromPage(Object element) {
+    if (isStoredAsBytes() && element != null) {
+      return deserialize((byte[]) element);
+    }
+    return uncheckedCast(element);
+  }
+
+  /**
+   * Create a {@link DStream} whose pipeline is evaluated against the elements of this collection
+   * on the server.
+   */
+  protected <T> DStream<T> newStream() {
+    return new DStreamImpl<>(
+        pipeline -> query(streamFn(pipeline), CollectionsBackendFunction.ID));
+  }
+
+  static DTypeCollectionsFunction streamFn(DStreamPipeline pipeline) {
+    return new DTypeOperation(STREAM, pipeline);
+  }
+
+  /**
+   * Return the elements in the form in which they are sent in a {@link DCursorPage}. Elements held
+   * in serialized form are converted to their bytes as each page is filled.
+   */
+  private Iterator<?> pageElements() {
+    if (!isStoredAsBytes()) {
+      return getStoredElements().iterator();
+    }
+    return getStoredElements().stream()
+        .map(stored -> stored == null ? null : bytesOf(stored))
+        .iterator();
+  }
+
+  @Override
+  protected Object applyOperation(DTypeOperation op) {
+    switch (op.getOpcode()) {
+      case OPEN_CURSOR:
+        return DCursorRegistry.getInstance().open(this, getModificationCount(),
+            this::pageElements, op.getIntArg(0));
+      case NEXT_PAGE:
+        return DCursorRegistry.getInstance().nextPage(op.getArg(0), this, getModificationCount());
+      case REMOVE_DURING_ITERATION: {
+        long modificationCount = getModificationCount();
+        Object result = ((DTypeCollectionsFunction) op.getArg(1)).apply(this);
+        DCursorRegistry.getInstance().removedDuringIteration(op.getArg(0), this,
+            modificationCount, !Boolean.FALSE.equals(result));
+        return result;
+      }
+      case STREAM:
+        DStreamPipeline pipeline = op.getArg(0);
+        return pipeline.evaluate(getStoredElements().stream().map(this::toValue));
+      default:
+        return super.applyOperation(op);
+    }
+  }
+
+  private class CursorView extends AsyncView {
+    CompletableFuture<DCursorPage> nextPage(String cursorId) {
+      return queryAsync(new DTypeOperation(NEXT_PAGE, cursorId), CollectionsBackendFunction.ID);
+    }
+  }
+
+  protected void writeElement(Object stored, DataOutput out) throws IOException {
+    if (isStoredAsBytes()) {
+      DataSerializer.writeByteArray(stored == null ? null : bytesOf(stored), out);
+    } else {
+      DataSerializer.writeObject(stored, out);
+    }
+  }
+
+  protected Object readElement(DataInput in) throws IOException, ClassNotFoundException {
+    if (isStoredAsBytes()) {
+      return toStored(DataSerializer.readByteArray(in));
+    }
+    return DataSerializer.readObject(in);
+  }
+
+  @Override
+  public void toData(DataOutput out) throws IOException {
+    super.toData(out);
+    // A single byte, which reads the same as the boolean written before OFF_HEAP was added
+    DataSerializer.writePrimitiveByte((byte) storage.ordinal(), out);
+  }
+
+  @Override
+  public void fromData(DataInput in) throws IOException, ClassNotFoundException {
+    super.fromData(in);
+    storage = ElementStorage.values()[DataSerializer.readPrimitiveByte(in)];
+  }
+
+}
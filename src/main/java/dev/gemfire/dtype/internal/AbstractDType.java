@@ -14,8 +14,14 @@ import java.io.DataOutput;
 import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 import dev.gemfire.dtype.DType;
+import dev.gemfire.dtype.ReadPreference;
 
 import org.apache.geode.DataSerializable;
 import org.apache.geode.DataSerializer;
@@ -30,7 +36,21 @@ public abstract class AbstractDType implements Delta, DataSerializable, DType {
   private String name;
   private transient Region<String, Object> region;
   private transient DTypeCollectionsFunction deltaOperation = null;
+  private transient DTypeCollectionsFunction deltaEffect = null;
   private transient OperationPerformer operationPerformer;
+  private final transient DTypeWaiters waiters = new DTypeWaiters();
+  private transient ReadPreference readPreference = ReadPreference.PRIMARY;
+
+  // Held exclusively by operations that change this entry, and shared by those that only read it
+  private final transient ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+  // Activity on this server, reported by DTypeServiceMBean. Update counts are only changed while
+  // holding the write lock.
+  private final transient LongAdder operationCount = new LongAdder();
+  private transient long deltaUpdateCount;
+  private transient long fullUpdateCount;
+  // Changed by every update applied on this server, so that cursors can detect modifications
+  private transient long modificationCount;
 
   public AbstractDType() {}
 
@@ -53,6 +73,34 @@ public abstract class AbstractDType implements Delta, DataSerializable, DType {
     this.operationPerformer = operationPerformer;
   }
 
+  /**
+   * Set which copy serves the read-only operations of this instance. Types that do not support
+   * reading from redundant copies ignore the preference.
+   */
+  public void setReadPreference(ReadPreference readPreference) {
+    this.readPreference = readPreference;
+  }
+
+  protected ReadPreference getReadPreference() {
+    return readPreference;
+  }
+
+  /**
+   * Return the ID of the function with which to perform a query that, depending on the read
+   * preference, may be served by a redundant copy of this instance.
+   */
+  protected String readFunctionId() {
+    return readPreference == ReadPreference.ANY ? ReplicaQueryBackendFunction.ID
+        : CollectionsBackendFunction.ID;
+  }
+
+  /**
+   * The executor used to perform work for this instance in the background.
+   */
+  protected Executor getAsyncExecutor() {
+    return operationPerformer.getAsyncExecutor();
+  }
+
   protected <T> T getEntry() {
     return uncheckedCast(region.get(name));
   }
@@ -61,19 +109,191 @@ public abstract class AbstractDType implements Delta, DataSerializable, DType {
     region.put(name, this);
   }
 
+  /**
+   * Set the delta to send to redundant copies after the given operation has been applied. This is
+   * the effect recorded by the operation, if any, or otherwise the operation itself.
+   */
   protected void setDelta(DTypeCollectionsFunction fn) {
-    deltaOperation = fn;
+    deltaOperation = deltaEffect != null ? deltaEffect : fn;
+    deltaEffect = null;
+  }
+
+  /**
+   * Record the effect of the operation being applied, which is sent to redundant copies in place
+   * of the operation. Operations that run user code, whose result may differ between copies, or
+   * whose cost is out of proportion to the change they make should record an effect that applies
+   * the change directly. The effect must only be recorded once the operation can no longer fail.
+   */
+  protected void setDeltaEffect(DTypeCollectionsFunction effect) {
+    deltaEffect = effect;
+  }
+
+  /**
+   * Return the lock to hold while performing an operation of the given type on this entry. Queries
+   * share the lock while all other operations hold it exclusively.
+   */
+  Lock getLock(OperationType operationType) {
+    return operationType == QUERY ? lock.readLock() : lock.writeLock();
+  }
+
+  /**
+   * Acquire and return the lock to hold while serializing this entry, so that serialization does
+   * not interleave with operations changing it. The lock is shared, so that entries can be
+   * serialized while queried, and can also be taken by an operation already holding the lock
+   * exclusively, as when the entry is put back into the region.
+   */
+  protected Lock lockForSerialization() {
+    Lock readLock = getLock(QUERY);
+    readLock.lock();
+    return readLock;
+  }
+
+  /**
+   * Return whether the current thread holds this entry's lock exclusively.
+   */
+  boolean holdsWriteLock() {
+    return lock.isWriteLockedByCurrentThread();
+  }
+
+  /**
+   * Return the threads waiting on conditions of this entry.
+   */
+  DTypeWaiters getConditionWaiters() {
+    return waiters;
+  }
+
+  /**
+   * Wake up to {@code count} threads waiting for the given condition. Operations call this when
+   * they have changed the state of this entry in a way that may allow waiting operations to
+   * proceed.
+   */
+  protected void signal(int condition, int count) {
+    waiters.signal(condition, count);
+  }
+
+  protected void signalAll(int condition) {
+    waiters.signalAll(condition);
+  }
+
+  /**
+   * Return the number of threads waiting for the given condition on this server.
+   */
+  protected int getWaiterCount(int condition) {
+    return waiters.size(condition);
+  }
+
+  /**
+   * Return the number of threads waiting for any condition on this server.
+   */
+  int getTotalWaiterCount() {
+    return waiters.size();
+  }
+
+  /**
+   * Return the number of elements held by this instance or -1 if it is not a collection. Must be
+   * called while holding this entry's lock.
+   */
+  int getElementCount() {
+    return -1;
+  }
+
+  /**
+   * Return the approximate size, in bytes, of this entry's serialized form. Must be called while
+   * holding this entry's lock. By default the entry is serialized, so types whose size grows with
+   * their contents should estimate it instead.
+   */
+  long getApproximateSize() {
+    return getSerializedSize();
+  }
+
+  /**
+   * Serialize this entry and return the number of bytes written, or -1 if it cannot be serialized.
+   */
+  final long getSerializedSize() {
+    HeapDataOutputStream out = new HeapDataOutputStream(0);
+    try {
+      toData(out);
+    } catch (IOException e) {
+      return -1;
+    }
+    return out.size();
+  }
+
+  void recordOperation() {
+    operationCount.increment();
+  }
+
+  void recordUpdate(boolean delta) {
+    modificationCount++;
+    if (delta) {
+      deltaUpdateCount++;
+    } else {
+      fullUpdateCount++;
+    }
+  }
+
+  /**
+   * Return a count that changes whenever an update is applied to this instance on this server. It
+   * must be read while holding this entry's lock.
+   */
+  long getModificationCount() {
+    return modificationCount;
+  }
+
+  long getOperationCount() {
+    return operationCount.sum();
+  }
+
+  long getDeltaUpdateCount() {
+    return deltaUpdateCount;
+  }
+
+  long getFullUpdateCount() {
+    return fullUpdateCount;
+  }
+
+  /**
+   * Perform the given operation on this instance. Implementations handle the opcodes they define
+   * and should defer to this method for any they do not recognize.
+   */
+  protected Object applyOperation(DTypeOperation op) {
+    throw new UnsupportedOperationException(
+        "Unknown opcode " + op.getOpcode() + " for " + getClass().getSimpleName());
+  }
+
+  /**
+   * Perform the given contextual operation on this instance. Implementations handle the opcodes
+   * they define and should defer to this method for any they do not recognize.
+   */
+  protected Object applyOperation(DTypeContextualOperation op, DTypeFunctionContext context) {
+    throw new UnsupportedOperationException(
+        "Unknown opcode " + op.getOpcode() + " for " + getClass().getSimpleName());
   }
 
   protected <T> T query(DTypeFunction fn, String gemfireFunctionId) {
     return operationPerformer.performOperation(this, fn, QUERY, gemfireFunctionId);
   }
 
+  protected <T> T queryInterruptibly(DTypeFunction fn, String functionId)
+      throws InterruptedException {
+    try {
+      return query(fn, functionId);
+    } catch (Exception ex) {
+      if (Thread.currentThread().isInterrupted()) {
+        throw new InterruptedException();
+      }
+      if (ex instanceof UncheckedInterruptedException) {
+        throw (InterruptedException) ex.getCause();
+      }
+      throw ex;
+    }
+  }
+
   protected <T> T update(DTypeFunction fn, String gemfireFunctionId) {
     return operationPerformer.performOperation(this, fn, UPDATE, gemfireFunctionId);
   }
 
-  protected <T> T updateInterruptibly(DTypeCollectionsFunction fn, String functionId)
+  protected <T> T updateInterruptibly(DTypeFunction fn, String functionId)
       throws InterruptedException {
     try {
       return update(fn, functionId);
@@ -94,7 +314,7 @@ public abstract class AbstractDType implements Delta, DataSerializable, DType {
     return operationPerformer.performOperation(this, fn, NO_DELTA_UPDATE, gemfireFunctionId);
   }
 
-  protected <T> T noDeltaUpdateInterruptibly(DTypeCollectionsFunction fn, String functionId)
+  protected <T> T noDeltaUpdateInterruptibly(DTypeFunction fn, String functionId)
       throws InterruptedException {
     try {
       return noDeltaUpdate(fn, functionId);
@@ -146,13 +366,55 @@ public abstract class AbstractDType implements Delta, DataSerializable, DType {
     DataSerializer.writeObject(deltaOperation, out);
   }
 
+  /**
+   * Apply a delta to a redundant copy of this entry. The write lock is held since the copy may be
+   * queried concurrently (see {@link ReplicaQueryBackendFunction}).
+   */
   @Override
   public void fromDelta(DataInput in) throws IOException, InvalidDeltaException {
+    Lock writeLock = getLock(UPDATE);
+    writeLock.lock();
     try {
       DTypeCollectionsFunction fn = DataSerializer.readObject(in);
       fn.apply(this);
+      modificationCount++;
+      // The operation may have recorded an effect, which must not be sent with a later update
+      deltaEffect = null;
     } catch (ClassNotFoundException e) {
       throw new RuntimeException(e);
+    } finally {
+      writeLock.unlock();
+    }
+  }
+
+  /**
+   * Base class for the asynchronous views of each type. A view performs its operations using the
+   * given {@link OperationPerformer} which, by default, is the performer of the enclosing instance.
+   */
+  protected abstract class AsyncView {
+
+    private final OperationPerformer performer;
+
+    protected AsyncView() {
+      this(operationPerformer);
+    }
+
+    protected AsyncView(OperationPerformer performer) {
+      this.performer = performer;
+    }
+
+    protected <T> CompletableFuture<T> queryAsync(DTypeFunction fn, String gemfireFunctionId) {
+      return performer.performOperationAsync(AbstractDType.this, fn, QUERY, gemfireFunctionId);
+    }
+
+    protected <T> CompletableFuture<T> updateAsync(DTypeFunction fn, String gemfireFunctionId) {
+      return performer.performOperationAsync(AbstractDType.this, fn, UPDATE, gemfireFunctionId);
+    }
+
+    protected <T> CompletableFuture<T> noDeltaUpdateAsync(DTypeFunction fn,
+        String gemfireFunctionId) {
+      return performer.performOperationAsync(AbstractDType.this, fn, NO_DELTA_UPDATE,
+          gemfireFunctionId);
     }
   }
 
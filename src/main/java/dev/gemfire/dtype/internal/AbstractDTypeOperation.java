@@ -0,0 +1,109 @@
+/*
+ * Copyright 2024 Broadcom. All rights reserved.
+ */
+
+package dev.gemfire.dtype.internal;
+
+import static org.apache.geode.util.internal.UncheckedUtils.uncheckedCast;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+import org.apache.geode.DataSerializable;
+import org.apache.geode.DataSerializer;
+import org.apache.geode.Instantiator;
+
+/**
+ * Base class for operations which are identified by a numeric opcode together with their
+ * arguments. The type that an operation is applied to interprets the opcode, so opcodes only need
+ * to be unique per type.
+ * <p>
+ * Operations are sent using a registered {@link Instantiator} so that only the instantiator ID,
+ * the opcode and the arguments are written to the wire. Arguments are written using
+ * {@link DataSerializer#writeObject}, which provides compact encodings for primitive wrappers,
+ * strings and byte arrays. Elements of collections should be passed in their serialized form.
+ */
+public abstract class AbstractDTypeOperation implements DataSerializable {
+
+  static final int OPERATION_CLASS_ID = 0x44540001;
+  static final int CONTEXTUAL_OPERATION_CLASS_ID = 0x44540002;
+
+  private static final Object[] NO_ARGS = new Object[0];
+  private static boolean registered = false;
+
+  private int opcode;
+  private Object[] args;
+
+  protected AbstractDTypeOperation() {}
+
+  protected AbstractDTypeOperation(int opcode, Object... args) {
+    this.opcode = opcode;
+    this.args = args.length == 0 ? NO_ARGS : args;
+  }
+
+  /**
+   * Register the instantiators for all operation classes. This must be called on both clients and
+   * servers before any operations are sent.
+   */
+  public static synchronized void registerInstantiators() {
+    if (registered) {
+      return;
+    }
+
+    Instantiator.register(new Instantiator(DTypeOperation.class, OPERATION_CLASS_ID) {
+      @Override
+      public DataSerializable newInstance() {
+        return new DTypeOperation();
+      }
+    });
+    Instantiator.register(
+        new Instantiator(DTypeContextualOperation.class, CONTEXTUAL_OPERATION_CLASS_ID) {
+          @Override
+          public DataSerializable newInstance() {
+            return new DTypeContextualOperation();
+          }
+        });
+    registered = true;
+  }
+
+  public int getOpcode() {
+    return opcode;
+  }
+
+  public <T> T getArg(int index) {
+    return uncheckedCast(args[index]);
+  }
+
+  public int getIntArg(int index) {
+    return (Integer) args[index];
+  }
+
+  public long getLongArg(int index) {
+    return (Long) args[index];
+  }
+
+  @Override
+  public void toData(DataOutput out) throws IOException {
+    out.writeShort(opcode);
+    out.writeByte(args.length);
+    for (Object arg : args) {
+      DataSerializer.writeObject(arg, out);
+    }
+  }
+
+  @Override
+  public void fromData(DataInput in) throws IOException, ClassNotFoundException {
+    opcode = in.readShort();
+    int length = in.readByte();
+    args = length == 0 ? NO_ARGS : new Object[length];
+    for (int i = 0; i < length; i++) {
+      args[i] = DataSerializer.readObject(in);
+    }
+  }
+
+  @Override
+  public String toString() {
+    return getClass().getSimpleName() + "{opcode=" + opcode + ", args=" + args.length + "}";
+  }
+}
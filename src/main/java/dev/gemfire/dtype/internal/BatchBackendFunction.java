@@ -0,0 +1,100 @@
+/*
+ * Copyright 2024 Broadcom. All rights reserved.
+ */
+
+package dev.gemfire.dtype.internal;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.execute.Function;
+import org.apache.geode.cache.execute.FunctionContext;
+import org.apache.geode.cache.execute.RegionFunctionContext;
+
+/**
+ * Function which performs a batch of operations. The function is executed with a filter
+ * containing the names of all entries in the batch and every server only performs the operations
+ * for those entries it is primary for. Each operation is applied in the same way as by the
+ * {@link CollectionsBackendFunction}, and in the order in which it was recorded.
+ * <p>
+ * Each server returns a list of {@code [index, result]} pairs so that the client can put the
+ * results back in order. An operation that fails produces its exception as the result and does
+ * not prevent subsequent operations from being performed.
+ * <p>
+ * Operations that would have to wait when the server has no more threads available for waiting
+ * (see {@link DTypeWaiters}) produce {@link WouldBlock}, as do all later operations on the same
+ * entry so that they are still performed in order. The client sends these operations again in a
+ * further batch.
+ * <p>
+ * Since some operations may already have been applied when a failure occurs, this function is not
+ * HA and will not be retried.
+ */
+public class BatchBackendFunction implements Function<Object> {
+
+  public static final String ID = "dtype-batch-function";
+
+  private final DTypeStats stats;
+
+  public BatchBackendFunction(DTypeStats stats) {
+    this.stats = stats;
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public void execute(FunctionContext<Object> context) {
+    RegionFunctionContext regionContext = (RegionFunctionContext) context;
+    Object[] operations = (Object[]) context.getArguments();
+    Set<?> localNames = regionContext.getFilter();
+    Region<String, AbstractDType> region = regionContext.getDataSet();
+
+    List<Object[]> results = new ArrayList<>();
+    Set<String> deferredNames = new HashSet<>();
+    for (int i = 0; i < operations.length; i++) {
+      Object[] operation = (Object[]) operations[i];
+      String name = (String) operation[0];
+      if (!localNames.contains(name)) {
+        continue;
+      }
+
+      DTypeCollectionsFunction fn = (DTypeCollectionsFunction) operation[1];
+      OperationType operationType = (OperationType) operation[2];
+      Long waitedMs = operation.length > 3 ? (Long) operation[3] : null;
+
+      Object result;
+      if (deferredNames.contains(name)) {
+        result = new WouldBlock();
+      } else {
+        try {
+          result = CollectionsBackendFunction.performOperation(region, name, fn, operationType,
+              waitedMs, stats, fn);
+        } catch (Exception ex) {
+          result = ex;
+        }
+        if (result instanceof WouldBlock) {
+          deferredNames.add(name);
+        }
+      }
+      results.add(new Object[] {i, result});
+    }
+
+    context.getResultSender().lastResult(results);
+  }
+
+  @Override
+  public String getId() {
+    return ID;
+  }
+
+  @Override
+  public boolean optimizeForWrite() {
+    return true;
+  }
+
+  @Override
+  public boolean isHA() {
+    return false;
+  }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright 2024 Broadcom. All rights reserved.
+ */
+
+package dev.gemfire.dtype.internal;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+import dev.gemfire.dtype.DType;
+
+/**
+ * An {@link OperationPerformer} that records asynchronous operations instead of performing them.
+ * Recorded operations are handed to the delegate performer, as a group, when {@link #execute()} is
+ * called.
+ * <p>
+ * Only operations handled by the {@link CollectionsBackendFunction} can be batched.
+ */
+public class BatchOperationPerformer implements OperationPerformer {
+
+  private final OperationPerformer delegate;
+  private final List<BatchedOperation> operations = new ArrayList<>();
+  private final List<CompletableFuture<Object>> futures = new ArrayList<>();
+
+  public BatchOperationPerformer(OperationPerformer delegate) {
+    this.delegate = delegate;
+  }
+
+  @Override
+  public <T> T performOperation(DType entry, DTypeFunction fn, OperationType operationType,
+      String gemFireFunctionId) {
+    throw new UnsupportedOperationException("Synchronous operations cannot be batched");
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public synchronized <T> CompletableFuture<T> performOperationAsync(DType entry, DTypeFunction fn,
+      OperationType operationType, String gemFireFunctionId) {
+    if (!CollectionsBackendFunction.ID.equals(gemFireFunctionId)
+        && !ReplicaQueryBackendFunction.ID.equals(gemFireFunctionId)) {
+      throw new UnsupportedOperationException(
+          "Operations for function " + gemFireFunctionId + " cannot be batched");
+    }
+
+    // Batches are performed on primaries, so queries that may use redundant copies do so too
+    CompletableFuture<Object> future = new CompletableFuture<>();
+    operations.add(
+        new BatchedOperation(entry, fn, operationType, CollectionsBackendFunction.ID));
+    futures.add(future);
+
+    return (CompletableFuture<T>) future;
+  }
+
+  @Override
+  public Executor getAsyncExecutor() {
+    return delegate.getAsyncExecutor();
+  }
+
+  /**
+   * Returns the number of operations recorded since the last call to {@link #execute()}.
+   */
+  public synchronized int size() {
+    return operations.size();
+  }
+
+  /**
+   * Perform all recorded operations and complete their futures. The returned list holds the result
+   * of each operation in the order that it was recorded; an operation that failed is represented
+   * by the exception it produced.
+   * <p>
+   * Once executed, the recorded operations are cleared so that this instance can be reused.
+   */
+  public synchronized List<Object> execute() {
+    List<BatchedOperation> batch = new ArrayList<>(operations);
+    List<CompletableFuture<Object>> batchFutures = new ArrayList<>(futures);
+    operations.clear();
+    futures.clear();
+
+    if (batch.isEmpty()) {
+      return new ArrayList<>();
+    }
+
+    List<Object> results;
+    try {
+      results = delegate.performOperations(batch);
+    } catch (RuntimeException ex) {
+      batchFutures.forEach(f -> f.completeExceptionally(ex));
+      throw ex;
+    }
+
+    for (int i = 0; i < results.size(); i++) {
+      Object result = results.get(i);
+      if (result instanceof Throwable) {
+        batchFutures.get(i).completeExceptionally((Throwable) result);
+      } else {
+        batchFutures.get(i).complete(result);
+      }
+    }
+
+    return results;
+  }
+}
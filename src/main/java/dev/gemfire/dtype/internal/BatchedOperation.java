@@ -0,0 +1,43 @@
+/*
+ * Copyright 2024 Broadcom. All rights reserved.
+ */
+
+package dev.gemfire.dtype.internal;
+
+import dev.gemfire.dtype.DType;
+
+/**
+ * A single operation recorded by a {@link BatchOperationPerformer}, waiting to be sent to the
+ * servers along with the rest of its batch.
+ */
+public class BatchedOperation {
+
+  private final DType entry;
+  private final DTypeFunction fn;
+  private final OperationType operationType;
+  private final String gemfireFunctionId;
+
+  public BatchedOperation(DType entry, DTypeFunction fn, OperationType operationType,
+      String gemfireFunctionId) {
+    this.entry = entry;
+    this.fn = fn;
+    this.operationType = operationType;
+    this.gemfireFunctionId = gemfireFunctionId;
+  }
+
+  public DType getEntry() {
+    return entry;
+  }
+
+  public DTypeFunction getFunction() {
+    return fn;
+  }
+
+  public OperationType getOperationType() {
+    return operationType;
+  }
+
+  public String getGemfireFunctionId() {
+    return gemfireFunctionId;
+  }
+}
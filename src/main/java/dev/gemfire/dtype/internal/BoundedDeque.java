@@ -0,0 +1,101 @@
+/*
+ * Copyright 2024 Broadcom. All rights reserved.
+ */
+
+package dev.gemfire.dtype.internal;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+
+/**
+ * An {@link ArrayDeque} holding at most a fixed number of elements, providing the capacity
+ * semantics of {@link java.util.concurrent.LinkedBlockingDeque} without its locking or its
+ * per-element nodes. Access is synchronized by the lock of the entry holding the deque, so none is
+ * needed here.
+ * <p>
+ * As with {@code LinkedBlockingDeque}, the {@code add} methods throw an
+ * {@link IllegalStateException} when the deque is full, while the {@code offer} methods return
+ * {@code false}.
+ */
+class BoundedDeque<E> extends ArrayDeque<E> {
+
+  private static final long serialVersionUID = 1L;
+
+  private static final int INITIAL_CAPACITY = 16;
+
+  private final int capacity;
+
+  BoundedDeque(int capacity) {
+    super(Math.min(capacity, INITIAL_CAPACITY));
+    if (capacity <= 0) {
+      throw new IllegalArgumentException("capacity must be greater than 0");
+    }
+    this.capacity = capacity;
+  }
+
+  int remainingCapacity() {
+    return capacity - size();
+  }
+
+  @Override
+  public void addFirst(E e) {
+    if (size() >= capacity) {
+      throw new IllegalStateException("Deque full");
+    }
+    super.addFirst(e);
+  }
+
+  @Override
+  public void addLast(E e) {
+    if (size() >= capacity) {
+      throw new IllegalStateException("Deque full");
+    }
+    super.addLast(e);
+  }
+
+  @Override
+  public boolean offerFirst(E e) {
+    if (size() >= capacity) {
+      return false;
+    }
+    super.addFirst(e);
+    return true;
+  }
+
+  @Override
+  public boolean offerLast(E e) {
+    if (size() >= capacity) {
+      return false;
+    }
+    super.addLast(e);
+    return true;
+  }
+
+  /**
+   * Add all the given elements to the end of this deque, throwing an
+   * {@link IllegalStateException} once it is full. Elements added before it became full remain in
+   * the deque.
+   */
+  @Override
+  public boolean addAll(Collection<? extends E> c) {
+    for (E e : c) {
+      addLast(e);
+    }
+    return !c.isEmpty();
+  }
+
+  /**
+   * Remove up to {@code maxElements} elements from the head of this deque, adding them to the given
+   * collection.
+   *
+   * @return the number of elements removed
+   */
+  int drainTo(Collection<? super E> c, int maxElements) {
+    int count = 0;
+    while (count < maxElements && !isEmpty()) {
+      c.add(pollFirst());
+      count++;
+    }
+    return count;
+  }
+}
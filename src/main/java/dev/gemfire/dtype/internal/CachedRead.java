@@ -0,0 +1,110 @@
+/*
+ * Copyright 2024 Broadcom. All rights reserved.
+ */
+
+package dev.gemfire.dtype.internal;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * A value read from the server that is cached on the client for at most a given time (the maximum
+ * staleness). Once half of that time has passed, the value is refreshed in the background while
+ * the cached value is still returned, so that frequently read values rarely have to wait for the
+ * server.
+ * <p>
+ * Updates made by the owning instance are applied to the cached value, but do not count as a read
+ * from the server, so that updates made by other clients are always seen within the maximum
+ * staleness.
+ * <p>
+ * A load may complete after an update, or an invalidation, that was made while it was in
+ * progress, in which case the value it read may predate the update. Each load therefore notes the
+ * version of the cached value when it starts, and discards its value if the version has changed.
+ */
+class CachedRead<T> {
+
+  private final long maxStalenessNanos;
+  private final Supplier<T> loader;
+  private final Executor executor;
+  private final AtomicBoolean refreshing = new AtomicBoolean();
+
+  private volatile Holder<T> holder;
+  // Incremented by every update and invalidation. Guarded by this instance.
+  private long version;
+
+  CachedRead(long maxStaleness, TimeUnit unit, Supplier<T> loader, Executor executor) {
+    if (maxStaleness <= 0) {
+      throw new IllegalArgumentException("maxStaleness must be positive");
+    }
+    this.maxStalenessNanos = unit.toNanos(maxStaleness);
+    this.loader = loader;
+    this.executor = executor;
+  }
+
+  T get() {
+    Holder<T> current = holder;
+    if (current == null) {
+      return load();
+    }
+
+    long age = System.nanoTime() - current.readTime;
+    if (age >= maxStalenessNanos) {
+      return load();
+    }
+    if (age >= maxStalenessNanos / 2 && refreshing.compareAndSet(false, true)) {
+      executor.execute(() -> {
+        try {
+          load();
+        } catch (RuntimeException ignored) {
+          // The next read past the maximum staleness loads the value itself
+        } finally {
+          refreshing.set(false);
+        }
+      });
+    }
+    return current.value;
+  }
+
+  /**
+   * Replace the cached value with one produced by an update made by this client.
+   */
+  synchronized void update(T value) {
+    version++;
+    Holder<T> current = holder;
+    if (current != null) {
+      holder = new Holder<>(value, current.readTime);
+    }
+  }
+
+  synchronized void invalidate() {
+    version++;
+    holder = null;
+  }
+
+  private T load() {
+    long readTime = System.nanoTime();
+    long loadVersion;
+    synchronized (this) {
+      loadVersion = version;
+    }
+    T value = loader.get();
+    synchronized (this) {
+      if (version == loadVersion) {
+        holder = new Holder<>(value, readTime);
+      }
+    }
+    return value;
+  }
+
+  private static class Holder<T> {
+    private final T value;
+    private final long readTime;
+
+    Holder(T value, long readTime) {
+      this.value = value;
+      this.readTime = readTime;
+    }
+  }
+}
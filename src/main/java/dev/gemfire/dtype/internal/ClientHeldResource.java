@@ -0,0 +1,24 @@
+/*
+ * Copyright 2024 Broadcom. All rights reserved.
+ */
+
+package dev.gemfire.dtype.internal;
+
+/**
+ * A backend instance holding resources, such as semaphore permits or machine ID leases, on behalf
+ * of clients. The {@link DSemaphoreTracker} releases these resources when a client departs.
+ */
+interface ClientHeldResource {
+
+  /**
+   * Release everything held by the client with the given memberTag.
+   */
+  void releaseAll(String memberTag);
+
+  /**
+   * Re-register the holders of this instance with the given tracker if this instance was
+   * transferred from another member, and its holders are thus not yet tracked here.
+   */
+  void recoverTrackingIfNeeded(DSemaphoreTracker tracker);
+
+}
@@ -5,8 +5,12 @@
 package dev.gemfire.dtype.internal;
 
 import static dev.gemfire.dtype.internal.OperationType.*;
+import static dev.gemfire.dtype.internal.RetryableException.NO_CONDITION;
 
 import java.util.concurrent.Callable;
+import java.util.concurrent.locks.Lock;
+
+import dev.gemfire.dtype.internal.DTypeStats.OperationStats;
 
 import org.apache.geode.cache.Region;
 import org.apache.geode.cache.RegionDestroyedException;
@@ -21,6 +25,12 @@ public class CollectionsBackendFunction implements Function<Object> {
 
   public static final String ID = "dtype-collections-function";
 
+  private final DTypeStats stats;
+
+  public CollectionsBackendFunction(DTypeStats stats) {
+    this.stats = stats;
+  }
+
   @Override
   @SuppressWarnings("unchecked")
   public void execute(FunctionContext<Object> context) {
@@ -29,8 +39,49 @@ public class CollectionsBackendFunction implements Function<Object> {
     String memberTag = (String) args[1];
     DTypeCollectionsFunction fn = (DTypeCollectionsFunction) args[2];
     OperationType operationType = (OperationType) args[3];
+    Long waitedMs = waitedMs(args);
 
     Region<String, AbstractDType> region = ((RegionFunctionContext) context).getDataSet();
+
+    Object result;
+    try {
+      result = performOperation(region, name, fn, operationType, waitedMs, stats, fn);
+    } catch (PrimaryBucketLockException | BucketMovedException | RegionDestroyedException ex) {
+      throw ex;
+    } catch (Exception ex) {
+      context.getResultSender().sendException(ex);
+      return;
+    }
+
+    context.getResultSender().lastResult(result);
+  }
+
+  /**
+   * Return the time, in milliseconds, that the client has already spent waiting for the operation
+   * to proceed, or {@code null} if the client cannot handle a {@link WouldBlock} result.
+   */
+  static Long waitedMs(Object[] args) {
+    return args.length > 4 ? (Long) args[4] : null;
+  }
+
+  static Object performOperation(Region<String, AbstractDType> region, String name,
+      DTypeCollectionsFunction fn, OperationType operationType, DTypeStats stats)
+      throws Exception {
+    return performOperation(region, name, fn, operationType, null, stats, fn);
+  }
+
+  /**
+   * Apply the given function to the named entry while holding the primary bucket lock, retrying
+   * for as long as the function throws a {@link RetryableException}.
+   *
+   * @param waitedMs the time the client has already waited for this operation or {@code null} if
+   *        the operation may not be handed back to the client
+   * @param stats the statistics to record the operation in
+   * @param operation the operation as sent by the client, which identifies it in the statistics
+   */
+  static Object performOperation(Region<String, AbstractDType> region, String name,
+      DTypeCollectionsFunction fn, OperationType operationType, Long waitedMs, DTypeStats stats,
+      DTypeFunction operation) throws Exception {
     AbstractDType entry = region.get(name);
 
     Callable<Object> wrappingFn = () -> {
@@ -38,49 +89,128 @@ public class CollectionsBackendFunction implements Function<Object> {
       if (operationType == QUERY) {
         innerResult = fn.apply(entry);
       } else {
+        innerResult = fn.apply(entry);
+        // Set after applying since, while this operation was waiting, another operation may have
+        // set its own delta
         if (operationType == UPDATE) {
           entry.setDelta(fn);
         }
-        innerResult = fn.apply(entry);
+        entry.recordUpdate(operationType == UPDATE);
         region.put(name, entry);
       }
       return innerResult;
     };
 
+    return performWithRetries(entry, operationType, waitedMs,
+        stats.forOperation(entry.getClass(), operation),
+        () -> ((PartitionedRegion) region).computeWithPrimaryLocked(name, wrappingFn));
+  }
+
+  /**
+   * Make attempts to perform an operation, while holding the given entry's lock, for as long as
+   * the attempt throws a {@link RetryableException}. Queries share the lock so that they can run
+   * concurrently, while other operations hold it exclusively. If the exception names a wait
+   * condition, the
+   * thread waits, without holding any locks, until another operation signals that condition or
+   * until the exception's retry sleep time has elapsed.
+   * <p>
+   * Waiting threads are function execution threads, so the number of threads that may wait at any
+   * one time is limited (see {@link DTypeWaiters}). If no more threads may wait and
+   * {@code waitedMs} is not {@code null}, {@link WouldBlock} is returned and the client repeats the
+   * operation later.
+   *
+   * @param operationType the type of the operation, which determines how the lock is held
+   * @param waitedMs the time the client has already waited for this operation or {@code null} if
+   *        the operation may not be handed back to the client
+   */
+  public static Object performWithRetries(AbstractDType entry, OperationType operationType,
+      Long waitedMs, Callable<Object> attempt) throws Exception {
+    return performWithRetries(entry, operationType, waitedMs, OperationStats.DISABLED, attempt);
+  }
+
+  static Object performWithRetries(AbstractDType entry, OperationType operationType, Long waitedMs,
+      OperationStats stats, Callable<Object> attempt) throws Exception {
+    long operationStart = stats.startTime();
+    boolean error = true;
+    try {
+      Object result = retry(entry, entry.getLock(operationType), waitedMs, stats, attempt);
+      error = false;
+      return result;
+    } finally {
+      stats.endOperation(operationStart, error);
+    }
+  }
+
+  private static Object retry(AbstractDType entry, Lock lock, Long waitedMs, OperationStats stats,
+      Callable<Object> attempt) throws Exception {
     Object result = null;
-    int retrySleepTime;
-    long startTime = System.currentTimeMillis();
+    long retrySleepTime;
+    int waitCondition = NO_CONDITION;
+    DTypeWaiters.Waiter waiter = null;
+    boolean signalled = false;
+    long startTime = System.currentTimeMillis() - (waitedMs == null ? 0 : waitedMs);
     do {
       retrySleepTime = 0;
-      synchronized (entry) {
+      long lockStart = stats.startTime();
+      lock.lock();
+      try {
+        stats.endLockWait(lockStart);
         try {
-          result = ((PartitionedRegion) region).computeWithPrimaryLocked(name, wrappingFn);
+          result = attempt.call();
+          entry.recordOperation();
         } catch (RetryableException rex) {
+          stats.incRetries();
           retrySleepTime = rex.getRetrySleepTime();
           long elapsedTime = System.currentTimeMillis() - startTime;
-          if (elapsedTime > rex.getMaxTimeToRetryMs()) {
-            result = rex.getFailingResult();
+          boolean timedOut = elapsedTime > rex.getMaxTimeToRetryMs();
+          boolean deferred = !timedOut && rex.getWaitCondition() != NO_CONDITION
+              && !DTypeWaiters.reserve(waitedMs == null);
+          if (timedOut || deferred) {
+            if (signalled) {
+              // Pass on the signal this thread has consumed but will not act on
+              entry.signal(waitCondition, 1);
+            }
+            if (deferred) {
+              stats.incDeferrals();
+            }
+            result = deferred ? new WouldBlock() : rex.getFailingResult();
             break;
           }
-        } catch (PrimaryBucketLockException | BucketMovedException | RegionDestroyedException ex) {
-          throw ex;
-        } catch (Exception ex) {
-          context.getResultSender().sendException(ex);
-          return;
+          waitCondition = rex.getWaitCondition();
+          if (waitCondition != NO_CONDITION) {
+            retrySleepTime = Math.min(retrySleepTime, rex.getMaxTimeToRetryMs() - elapsedTime) + 1;
+            waiter = entry.getConditionWaiters().add(waitCondition, signalled);
+          }
         }
+      } finally {
+        lock.unlock();
       }
       if (retrySleepTime > 0) {
-        try {
-          Thread.sleep(retrySleepTime);
-        } catch (InterruptedException e) {
-          Thread.currentThread().interrupt();
-          context.getResultSender().sendException(new UncheckedInterruptedException(e));
-          break;
+        if (waiter != null) {
+          signalled = false;
+          long waitStart = stats.startTime();
+          try {
+            signalled = waiter.await(retrySleepTime);
+          } finally {
+            stats.endWait(waitStart);
+            DTypeWaiters.release();
+            if (!signalled) {
+              entry.getConditionWaiters().remove(waitCondition, waiter);
+            }
+            waiter = null;
+          }
+        } else {
+          try {
+            Thread.sleep(retrySleepTime);
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new UncheckedInterruptedException(e);
+          }
         }
       }
     } while (retrySleepTime > 0);
 
-    context.getResultSender().lastResult(result);
+    return result;
   }
 
   @Override
@@ -7,15 +7,29 @@ package dev.gemfire.dtype.internal;
 import java.io.DataInput;
 import java.io.DataOutput;
 import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 
 import dev.gemfire.dtype.DAtomicLong;
+import dev.gemfire.dtype.DAtomicLongAsync;
+import dev.gemfire.dtype.ReadPreference;
 
 import org.apache.geode.DataSerializer;
 
 public class DAtomicLongImpl extends AbstractDType implements DAtomicLong {
 
   private AtomicLong value;
+  private transient CachedRead<Long> cachedRead;
+
+  private static final int GET = 1;
+  private static final int SET = 2;
+  private static final int GET_AND_ADD = 3;
+  private static final int GET_AND_SET = 4;
+  private static final int ADD_AND_GET = 5;
+  private static final int COMPARE_AND_SET = 6;
+
+  private static final DTypeCollectionsFunction GET_FN = new DTypeOperation(GET);
 
   public DAtomicLongImpl() {
     // For serialization
@@ -26,43 +40,159 @@ public class DAtomicLongImpl extends AbstractDType implements DAtomicLong {
     value = new AtomicLong(0);
   }
 
+  /**
+   * Cache the value read by {@link #get()} for at most the given time.
+   */
+  public void setMaxStaleness(long maxStaleness, TimeUnit unit) {
+    cachedRead = new CachedRead<>(maxStaleness, unit, this::readValue, getAsyncExecutor());
+  }
+
   @Override
   public long get() {
+    return cachedRead == null ? readValue() : cachedRead.get();
+  }
+
+  private long readValue() {
+    if (getReadPreference() == ReadPreference.ANY) {
+      return query(GET_FN, ReplicaQueryBackendFunction.ID);
+    }
     DAtomicLongImpl entry = getEntry();
     return entry.value.get();
   }
 
   @Override
   public void set(long value) {
-    DTypeCollectionsFunction fn = x -> {
-      ((DAtomicLongImpl) x).value.set(value);
-      return null;
-    };
-    update(fn, CollectionsBackendFunction.ID);
+    update(setFn(value), CollectionsBackendFunction.ID);
+    updateCached(value);
   }
 
   @Override
   public long getAndAdd(long delta) {
-    DTypeCollectionsFunction fn = x -> ((DAtomicLongImpl) x).value.getAndAdd(delta);
-    return update(fn, CollectionsBackendFunction.ID);
+    long result = update(getAndAddFn(delta), CollectionsBackendFunction.ID);
+    updateCached(result + delta);
+    return result;
   }
 
   @Override
   public long getAndSet(long newValue) {
-    DTypeCollectionsFunction fn = x -> ((DAtomicLongImpl) x).value.getAndSet(newValue);
-    return update(fn, CollectionsBackendFunction.ID);
+    long result = update(getAndSetFn(newValue), CollectionsBackendFunction.ID);
+    updateCached(newValue);
+    return result;
   }
 
   @Override
   public long addAndGet(long delta) {
-    DTypeCollectionsFunction fn = x -> ((DAtomicLongImpl) x).value.addAndGet(delta);
-    return update(fn, CollectionsBackendFunction.ID);
+    long result = update(addAndGetFn(delta), CollectionsBackendFunction.ID);
+    updateCached(result);
+    return result;
   }
 
   @Override
   public boolean compareAndSet(long expect, long update) {
-    DTypeCollectionsFunction fn = x -> ((DAtomicLongImpl) x).value.compareAndSet(expect, update);
-    return update(fn, CollectionsBackendFunction.ID);
+    boolean result = update(compareAndSetFn(expect, update), CollectionsBackendFunction.ID);
+    if (result) {
+      updateCached(update);
+    }
+    return result;
+  }
+
+  private void updateCached(long newValue) {
+    if (cachedRead != null) {
+      cachedRead.update(newValue);
+    }
+  }
+
+  @Override
+  public DAtomicLongAsync async() {
+    return new Async();
+  }
+
+  /**
+   * Returns an asynchronous view of this instance whose operations are performed by the given
+   * {@link OperationPerformer}.
+   */
+  public DAtomicLongAsync async(OperationPerformer performer) {
+    return new Async(performer);
+  }
+
+  private static DTypeCollectionsFunction setFn(long value) {
+    return new DTypeOperation(SET, value);
+  }
+
+  private static DTypeCollectionsFunction getAndAddFn(long delta) {
+    return new DTypeOperation(GET_AND_ADD, delta);
+  }
+
+  private static DTypeCollectionsFunction getAndSetFn(long newValue) {
+    return new DTypeOperation(GET_AND_SET, newValue);
+  }
+
+  private static DTypeCollectionsFunction addAndGetFn(long delta) {
+    return new DTypeOperation(ADD_AND_GET, delta);
+  }
+
+  private static DTypeCollectionsFunction compareAndSetFn(long expect, long update) {
+    return new DTypeOperation(COMPARE_AND_SET, expect, update);
+  }
+
+  @Override
+  protected Object applyOperation(DTypeOperation op) {
+    switch (op.getOpcode()) {
+      case GET:
+        return value.get();
+      case SET:
+        value.set(op.getLongArg(0));
+        return null;
+      case GET_AND_ADD:
+        return value.getAndAdd(op.getLongArg(0));
+      case GET_AND_SET:
+        return value.getAndSet(op.getLongArg(0));
+      case ADD_AND_GET:
+        return value.addAndGet(op.getLongArg(0));
+      case COMPARE_AND_SET:
+        return value.compareAndSet(op.getLongArg(0), op.getLongArg(1));
+      default:
+        return super.applyOperation(op);
+    }
+  }
+
+  private class Async extends AsyncView implements DAtomicLongAsync {
+
+    Async() {}
+
+    Async(OperationPerformer performer) {
+      super(performer);
+    }
+
+    @Override
+    public CompletableFuture<Long> get() {
+      return queryAsync(GET_FN, readFunctionId());
+    }
+
+    @Override
+    public CompletableFuture<Void> set(long value) {
+      return updateAsync(setFn(value), CollectionsBackendFunction.ID);
+    }
+
+    @Override
+    public CompletableFuture<Long> getAndAdd(long delta) {
+      return updateAsync(getAndAddFn(delta), CollectionsBackendFunction.ID);
+    }
+
+    @Override
+    public CompletableFuture<Long> getAndSet(long newValue) {
+      return updateAsync(getAndSetFn(newValue), CollectionsBackendFunction.ID);
+    }
+
+    @Override
+    public CompletableFuture<Long> addAndGet(long delta) {
+      return updateAsync(addAndGetFn(delta), CollectionsBackendFunction.ID);
+    }
+
+    @Override
+    public CompletableFuture<Boolean> compareAndSet(long expect, long update) {
+      return updateAsync(compareAndSetFn(expect, update), CollectionsBackendFunction.ID);
+    }
   }
 
   @Override
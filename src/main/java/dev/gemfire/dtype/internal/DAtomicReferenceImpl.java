@@ -3,16 +3,32 @@ package dev.gemfire.dtype.internal;
 import java.io.DataInput;
 import java.io.DataOutput;
 import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.function.BinaryOperator;
 import java.util.function.UnaryOperator;
 
 import dev.gemfire.dtype.DAtomicReference;
+import dev.gemfire.dtype.DAtomicReferenceAsync;
+import dev.gemfire.dtype.ReadPreference;
 
 import org.apache.geode.DataSerializer;
 
 public class DAtomicReferenceImpl<V> extends AbstractDType implements DAtomicReference<V> {
 
   private transient V value;
+  private transient CachedRead<V> cachedRead;
+
+  private static final int GET = 1;
+  private static final int ACCUMULATE_AND_GET = 2;
+  private static final int COMPARE_AND_SET = 3;
+  private static final int GET_AND_ACCUMULATE = 4;
+  private static final int GET_AND_UPDATE = 5;
+  private static final int GET_AND_SET = 6;
+  private static final int SET = 7;
+  private static final int UPDATE_AND_GET = 8;
+
+  private static final DTypeCollectionsFunction GET_FN = new DTypeOperation(GET);
 
   public DAtomicReferenceImpl() {
     // For serialization
@@ -23,16 +39,20 @@ public class DAtomicReferenceImpl<V> extends AbstractDType implements DAtomicRef
     this.value = value;
   }
 
+  /**
+   * Cache the value read by {@link #get()} for at most the given time. The cached value is shared
+   * by all callers of {@code get()} on this instance and so should not be modified.
+   */
+  public void setMaxStaleness(long maxStaleness, TimeUnit unit) {
+    cachedRead = new CachedRead<>(maxStaleness, unit, this::readValue, getAsyncExecutor());
+  }
+
   @Override
-  @SuppressWarnings("unchecked")
   public V accumulateAndGet(V value, BinaryOperator<V> accumulatorFunction) {
-    byte[] arg = serialize(value);
-    DTypeCollectionsFunction fn = x -> {
-      DAtomicReferenceImpl<V> atomicRef = (DAtomicReferenceImpl<V>) x;
-      atomicRef.value = accumulatorFunction.apply(atomicRef.value, deserialize(arg));
-      return atomicRef.value;
-    };
-    return update(fn, CollectionsBackendFunction.ID);
+    V result =
+        update(accumulateAndGetFn(value, accumulatorFunction), CollectionsBackendFunction.ID);
+    updateCached(result);
+    return result;
   }
 
   /**
@@ -46,82 +66,210 @@ public class DAtomicReferenceImpl<V> extends AbstractDType implements DAtomicRef
    *         expected value.
    */
   @Override
-  @SuppressWarnings("unchecked")
   public boolean compareAndSet(V expect, V update) {
-    byte[] argExpect = serialize(expect);
-    byte[] argUpdate = serialize(update);
-    DTypeCollectionsFunction fn = x -> {
-      DAtomicReferenceImpl<V> atomicRef = (DAtomicReferenceImpl<V>) x;
-      V realExpected = deserialize(argExpect);
-      if (atomicRef.value.equals(realExpected)) {
-        atomicRef.value = deserialize(argUpdate);
-        return true;
-      }
-      return false;
-    };
-    return update(fn, CollectionsBackendFunction.ID);
+    boolean result = update(compareAndSetFn(expect, update), CollectionsBackendFunction.ID);
+    if (result) {
+      updateCached(update);
+    }
+    return result;
   }
 
   @Override
   public V get() {
+    return cachedRead == null ? readValue() : cachedRead.get();
+  }
+
+  private V readValue() {
+    if (getReadPreference() == ReadPreference.ANY) {
+      return query(GET_FN, ReplicaQueryBackendFunction.ID);
+    }
     DAtomicReferenceImpl<V> entry = getEntry();
     return entry.value;
   }
 
   @Override
-  @SuppressWarnings("unchecked")
   public V getAndAccumulate(V value, BinaryOperator<V> accumulatorFunction) {
-    byte[] arg = serialize(value);
-    DTypeCollectionsFunction fn = x -> {
-      DAtomicReferenceImpl<V> atomicRef = (DAtomicReferenceImpl<V>) x;
-      V previous = atomicRef.value;
-      atomicRef.value = accumulatorFunction.apply(atomicRef.value, deserialize(arg));
-      return previous;
-    };
-    return update(fn, CollectionsBackendFunction.ID);
+    V result =
+        update(getAndAccumulateFn(value, accumulatorFunction), CollectionsBackendFunction.ID);
+    invalidateCached();
+    return result;
   }
 
   @Override
-  @SuppressWarnings("unchecked")
   public V getAndUpdate(UnaryOperator<V> updateFunction) {
-    DTypeCollectionsFunction fn = x -> {
-      DAtomicReferenceImpl<V> atomicRef = (DAtomicReferenceImpl<V>) x;
-      V previous = atomicRef.value;
-      atomicRef.value = updateFunction.apply(atomicRef.value);
-      return previous;
-    };
-    return update(fn, CollectionsBackendFunction.ID);
+    V result = update(getAndUpdateFn(updateFunction), CollectionsBackendFunction.ID);
+    invalidateCached();
+    return result;
   }
 
   @Override
-  @SuppressWarnings("unchecked")
   public V getAndSet(V newValue) {
-    byte[] arg = serialize(newValue);
-    DTypeCollectionsFunction fn = x -> {
-      DAtomicReferenceImpl<V> atomicRef = (DAtomicReferenceImpl<V>) x;
-      V previous = atomicRef.value;
-      atomicRef.value = deserialize(arg);
-      return previous;
-    };
-    return update(fn, CollectionsBackendFunction.ID);
+    V result = update(getAndSetFn(newValue), CollectionsBackendFunction.ID);
+    updateCached(newValue);
+    return result;
   }
 
   @Override
-  @SuppressWarnings("unchecked")
   public void set(V newValue) {
-    byte[] arg = serialize(newValue);
-    DTypeCollectionsFunction fn = x -> ((DAtomicReferenceImpl<V>) x).value = deserialize(arg);
-    update(fn, CollectionsBackendFunction.ID);
+    update(setFn(newValue), CollectionsBackendFunction.ID);
+    updateCached(newValue);
   }
 
   @Override
   public V updateAndGet(UnaryOperator<V> updateFunction) {
-    DTypeCollectionsFunction fn = x -> {
-      DAtomicReferenceImpl<V> atomicRef = (DAtomicReferenceImpl<V>) x;
-      atomicRef.value = updateFunction.apply(atomicRef.value);
-      return atomicRef.value;
-    };
-    return update(fn, CollectionsBackendFunction.ID);
+    V result = update(updateAndGetFn(updateFunction), CollectionsBackendFunction.ID);
+    updateCached(result);
+    return result;
+  }
+
+  private void updateCached(V newValue) {
+    if (cachedRead != null) {
+      cachedRead.update(newValue);
+    }
+  }
+
+  private void invalidateCached() {
+    if (cachedRead != null) {
+      cachedRead.invalidate();
+    }
+  }
+
+  @Override
+  public DAtomicReferenceAsync<V> async() {
+    return new Async();
+  }
+
+  /**
+   * Returns an asynchronous view of this instance whose operations are performed by the given
+   * {@link OperationPerformer}.
+   */
+  public DAtomicReferenceAsync<V> async(OperationPerformer performer) {
+    return new Async(performer);
+  }
+
+  private static DTypeCollectionsFunction accumulateAndGetFn(Object value,
+      BinaryOperator<?> accumulatorFunction) {
+    return new DTypeOperation(ACCUMULATE_AND_GET, serialize(value), accumulatorFunction);
+  }
+
+  private static DTypeCollectionsFunction compareAndSetFn(Object expect, Object update) {
+    return new DTypeOperation(COMPARE_AND_SET, serialize(expect), serialize(update));
+  }
+
+  private static DTypeCollectionsFunction getAndAccumulateFn(Object value,
+      BinaryOperator<?> accumulatorFunction) {
+    return new DTypeOperation(GET_AND_ACCUMULATE, serialize(value), accumulatorFunction);
+  }
+
+  private static DTypeCollectionsFunction getAndUpdateFn(UnaryOperator<?> updateFunction) {
+    return new DTypeOperation(GET_AND_UPDATE, updateFunction);
+  }
+
+  private static DTypeCollectionsFunction getAndSetFn(Object newValue) {
+    return new DTypeOperation(GET_AND_SET, serialize(newValue));
+  }
+
+  private static DTypeCollectionsFunction setFn(Object newValue) {
+    return new DTypeOperation(SET, serialize(newValue));
+  }
+
+  private static DTypeCollectionsFunction updateAndGetFn(UnaryOperator<?> updateFunction) {
+    return new DTypeOperation(UPDATE_AND_GET, updateFunction);
+  }
+
+  @Override
+  protected Object applyOperation(DTypeOperation op) {
+    V previous = value;
+    switch (op.getOpcode()) {
+      case GET:
+        return value;
+      case ACCUMULATE_AND_GET:
+        setComputedValue(op.<BinaryOperator<V>>getArg(1).apply(value, deserialize(op.getArg(0))));
+        return value;
+      case COMPARE_AND_SET:
+        if (value.equals(deserialize(op.getArg(0)))) {
+          value = deserialize(op.getArg(1));
+          return true;
+        }
+        return false;
+      case GET_AND_ACCUMULATE:
+        setComputedValue(op.<BinaryOperator<V>>getArg(1).apply(value, deserialize(op.getArg(0))));
+        return previous;
+      case GET_AND_UPDATE:
+        setComputedValue(op.<UnaryOperator<V>>getArg(0).apply(value));
+        return previous;
+      case GET_AND_SET:
+        value = deserialize(op.getArg(0));
+        return previous;
+      case SET:
+        value = deserialize(op.getArg(0));
+        return null;
+      case UPDATE_AND_GET:
+        setComputedValue(op.<UnaryOperator<V>>getArg(0).apply(value));
+        return value;
+      default:
+        return super.applyOperation(op);
+    }
+  }
+
+  /**
+   * Set a value computed by a user-supplied function. Redundant copies are sent the new value
+   * rather than the function, which might not compute the same value again.
+   */
+  private void setComputedValue(V newValue) {
+    value = newValue;
+    setDeltaEffect(setFn(newValue));
+  }
+
+  private class Async extends AsyncView implements DAtomicReferenceAsync<V> {
+
+    Async() {}
+
+    Async(OperationPerformer performer) {
+      super(performer);
+    }
+
+    @Override
+    public CompletableFuture<V> accumulateAndGet(V x, BinaryOperator<V> accumulatorFunction) {
+      return updateAsync(accumulateAndGetFn(x, accumulatorFunction),
+          CollectionsBackendFunction.ID);
+    }
+
+    @Override
+    public CompletableFuture<Boolean> compareAndSet(V expect, V update) {
+      return updateAsync(compareAndSetFn(expect, update), CollectionsBackendFunction.ID);
+    }
+
+    @Override
+    public CompletableFuture<V> get() {
+      return queryAsync(GET_FN, readFunctionId());
+    }
+
+    @Override
+    public CompletableFuture<V> getAndAccumulate(V x, BinaryOperator<V> accumulatorFunction) {
+      return updateAsync(getAndAccumulateFn(x, accumulatorFunction),
+          CollectionsBackendFunction.ID);
+    }
+
+    @Override
+    public CompletableFuture<V> getAndUpdate(UnaryOperator<V> updateFunction) {
+      return updateAsync(getAndUpdateFn(updateFunction), CollectionsBackendFunction.ID);
+    }
+
+    @Override
+    public CompletableFuture<V> getAndSet(V newValue) {
+      return updateAsync(getAndSetFn(newValue), CollectionsBackendFunction.ID);
+    }
+
+    @Override
+    public CompletableFuture<Void> set(V newValue) {
+      return updateAsync(setFn(newValue), CollectionsBackendFunction.ID);
+    }
+
+    @Override
+    public CompletableFuture<V> updateAndGet(UnaryOperator<V> updateFunction) {
+      return updateAsync(updateAndGetFn(updateFunction), CollectionsBackendFunction.ID);
+    }
   }
 
   @Override
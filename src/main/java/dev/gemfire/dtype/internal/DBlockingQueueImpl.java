@@ -4,75 +4,98 @@
 
 package dev.gemfire.dtype.internal;
 
+import static dev.gemfire.dtype.internal.RetryableException.MAX_WAIT_MS;
+
 import java.io.DataInput;
 import java.io.DataOutput;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.Spliterator;
-import java.util.concurrent.LinkedBlockingDeque;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
 
 import dev.gemfire.dtype.DBlockingQueue;
+import dev.gemfire.dtype.DBlockingQueueAsync;
+import dev.gemfire.dtype.DStream;
+import dev.gemfire.dtype.ElementStorage;
 
 import org.apache.geode.DataSerializer;
 
-public class DBlockingQueueImpl<E> extends AbstractDType implements DBlockingQueue<E> {
+public class DBlockingQueueImpl<E> extends AbstractDCollection implements DBlockingQueue<E> {
 
-  private transient LinkedBlockingDeque<E> deque;
+  private transient BoundedDeque<Object> deque;
   private int capacity;
 
-  // A few lambdas that can be static since they don't need to capture any values.
-  private static final DTypeCollectionsFunction REMOVE_FIRST_FN =
-      x -> ((DBlockingQueueImpl<?>) x).deque.removeFirst();
-  private static final DTypeCollectionsFunction REMOVE_LAST_FN =
-      x -> ((DBlockingQueueImpl<?>) x).deque.removeLast();
-  private static final DTypeCollectionsFunction POLL_FIRST_FN =
-      x -> ((DBlockingQueueImpl<?>) x).deque.pollFirst();
-  private static final DTypeCollectionsFunction POLL_LAST_FN =
-      x -> ((DBlockingQueueImpl<?>) x).deque.pollLast();
-  private static final DTypeCollectionsFunction GET_FIRST_FN =
-      x -> ((DBlockingQueueImpl<?>) x).deque.getFirst();
-  private static final DTypeCollectionsFunction GET_LAST_FN =
-      x -> ((DBlockingQueueImpl<?>) x).deque.getLast();
-  private static final DTypeCollectionsFunction PEEK_FIRST_FN =
-      x -> ((DBlockingQueueImpl<?>) x).deque.peekFirst();
-  private static final DTypeCollectionsFunction PEEK_LAST_FN =
-      x -> ((DBlockingQueueImpl<?>) x).deque.peekLast();
-  private final DTypeCollectionsFunction TAKE_FIRST_FN = x -> {
-    E result = ((DBlockingQueueImpl<E>) x).deque.pollFirst();
-    if (result == null) {
-      throw new RetryableException(100);
-    }
-    return result;
-  };
-  private final DTypeCollectionsFunction TAKE_LAST_FN = x -> {
-    E result = ((DBlockingQueueImpl<E>) x).deque.pollLast();
-    if (result == null) {
-      throw new RetryableException(100);
-    }
-    return result;
-  };
-  private static final DTypeCollectionsFunction REMOVE_FN =
-      x -> ((DBlockingQueueImpl<?>) x).deque.remove();
-
+  // Conditions that blocked operations wait for
+  static final int NOT_EMPTY = 1;
+  static final int NOT_FULL = 2;
+
+  private static final int ADD_FIRST = 1;
+  private static final int ADD_LAST = 2;
+  private static final int OFFER_FIRST = 3;
+  private static final int OFFER_LAST = 4;
+  private static final int OFFER_FIRST_TIMEOUT = 5;
+  private static final int OFFER_LAST_TIMEOUT = 6;
+  private static final int PUT_FIRST = 7;
+  private static final int PUT_LAST = 8;
+  private static final int REMOVE_FIRST = 9;
+  private static final int REMOVE_LAST = 10;
+  private static final int POLL_FIRST = 11;
+  private static final int POLL_LAST = 12;
+  private static final int POLL_FIRST_TIMEOUT = 13;
+  private static final int POLL_LAST_TIMEOUT = 14;
+  private static final int TAKE_FIRST = 15;
+  private static final int TAKE_LAST = 16;
+  private static final int GET_FIRST = 17;
+  private static final int GET_LAST = 18;
+  private static final int PEEK_FIRST = 19;
+  private static final int PEEK_LAST = 20;
+  private static final int REMOVE_FIRST_OCCURRENCE = 21;
+  private static final int REMOVE_LAST_OCCURRENCE = 22;
+  private static final int ADD = 23;
+  private static final int REMOVE_HEAD = 24;
+  private static final int REMAINING_CAPACITY = 25;
+  private static final int ELEMENT = 26;
+  private static final int PEEK = 27;
+  private static final int REMOVE = 28;
+  private static final int CONTAINS = 29;
+  private static final int CONTAINS_ALL = 30;
+  private static final int ADD_ALL = 31;
+  private static final int REMOVE_ALL = 32;
+  private static final int RETAIN_ALL = 33;
+  private static final int CLEAR = 34;
+  private static final int SIZE = 35;
+  private static final int IS_EMPTY = 36;
+  private static final int DRAIN_TO = 37;
+  private static final int DRAIN_TO_MAX = 38;
+  private static final int REMOVE_IF = 39;
+
+  // A few operations that can be static since they don't have any arguments.
+  private static final DTypeCollectionsFunction REMOVE_FIRST_FN = new DTypeOperation(REMOVE_FIRST);
+  private static final DTypeCollectionsFunction REMOVE_LAST_FN = new DTypeOperation(REMOVE_LAST);
+  private static final DTypeCollectionsFunction POLL_FIRST_FN = new DTypeOperation(POLL_FIRST);
+  private static final DTypeCollectionsFunction POLL_LAST_FN = new DTypeOperation(POLL_LAST);
+  private static final DTypeCollectionsFunction GET_FIRST_FN = new DTypeOperation(GET_FIRST);
+  private static final DTypeCollectionsFunction GET_LAST_FN = new DTypeOperation(GET_LAST);
+  private static final DTypeCollectionsFunction PEEK_FIRST_FN = new DTypeOperation(PEEK_FIRST);
+  private static final DTypeCollectionsFunction PEEK_LAST_FN = new DTypeOperation(PEEK_LAST);
+  private static final DTypeCollectionsFunction TAKE_FIRST_FN = new DTypeOperation(TAKE_FIRST);
+  private static final DTypeCollectionsFunction TAKE_LAST_FN = new DTypeOperation(TAKE_LAST);
+  private static final DTypeCollectionsFunction REMOVE_FN = new DTypeOperation(REMOVE_HEAD);
   private static final DTypeCollectionsFunction REMAINING_CAPACITY_FN =
-      x -> ((DBlockingQueueImpl<?>) x).deque.remainingCapacity();
-  private static final DTypeCollectionsFunction ELEMENT_FN =
-      x -> ((DBlockingQueueImpl<?>) x).deque.element();
-  private static final DTypeCollectionsFunction PEEK_FN =
-      x -> ((DBlockingQueueImpl<?>) x).deque.peek();
-  private static final DTypeCollectionsFunction CLEAR_FN = x -> {
-    ((DBlockingQueueImpl<?>) x).deque.clear();
-    return null;
-  };
-  private static final DTypeCollectionsFunction SIZE_FN =
-      x -> ((DBlockingQueueImpl<?>) x).deque.size();
-  private static final DTypeCollectionsFunction IS_EMPTY_FN =
-      x -> ((DBlockingQueueImpl<?>) x).deque.isEmpty();
+      new DTypeOperation(REMAINING_CAPACITY);
+  private static final DTypeCollectionsFunction ELEMENT_FN = new DTypeOperation(ELEMENT);
+  private static final DTypeCollectionsFunction PEEK_FN = new DTypeOperation(PEEK);
+  private static final DTypeCollectionsFunction CLEAR_FN = new DTypeOperation(CLEAR);
+  private static final DTypeCollectionsFunction SIZE_FN = new DTypeOperation(SIZE);
+  private static final DTypeCollectionsFunction IS_EMPTY_FN = new DTypeOperation(IS_EMPTY);
 
   public DBlockingQueueImpl() {}
 
@@ -81,49 +104,33 @@ public class DBlockingQueueImpl<E> extends AbstractDType implements DBlockingQue
   }
 
   public DBlockingQueueImpl(String name, int capacity) {
-    super(name);
-    deque = new LinkedBlockingDeque<>(capacity);
+    this(name, capacity, ElementStorage.OBJECT);
+  }
+
+  public DBlockingQueueImpl(String name, int capacity, ElementStorage storage) {
+    super(name, storage);
+    deque = new BoundedDeque<>(capacity);
     this.capacity = capacity;
   }
 
   @Override
-  @SuppressWarnings("unchecked")
   public void addFirst(E e) {
-    byte[] arg = serialize(e);
-    DTypeCollectionsFunction fn = x -> {
-      ((DBlockingQueueImpl<E>) x).deque.addFirst(deserialize(arg));
-      return null;
-    };
-    update(fn, CollectionsBackendFunction.ID);
+    update(new DTypeOperation(ADD_FIRST, serializeElement(e)), CollectionsBackendFunction.ID);
   }
 
   @Override
-  @SuppressWarnings("unchecked")
   public void addLast(E e) {
-    byte[] arg = serialize(e);
-    DTypeCollectionsFunction fn = x -> {
-      ((DBlockingQueueImpl<E>) x).deque.addLast(deserialize(arg));
-      return null;
-    };
-    update(fn, CollectionsBackendFunction.ID);
+    update(new DTypeOperation(ADD_LAST, serializeElement(e)), CollectionsBackendFunction.ID);
   }
 
   @Override
-  @SuppressWarnings("unchecked")
   public boolean offerFirst(E e) {
-    byte[] arg = serialize(e);
-    DTypeCollectionsFunction fn =
-        x -> ((DBlockingQueueImpl<E>) x).deque.offerFirst(deserialize(arg));
-    return update(fn, CollectionsBackendFunction.ID);
+    return update(offerFirstFn(e), CollectionsBackendFunction.ID);
   }
 
   @Override
-  @SuppressWarnings("unchecked")
   public boolean offerLast(E e) {
-    byte[] arg = serialize(e);
-    DTypeCollectionsFunction fn =
-        x -> ((DBlockingQueueImpl<E>) x).deque.offerLast(deserialize(arg));
-    return update(fn, CollectionsBackendFunction.ID);
+    return update(offerLastFn(e), CollectionsBackendFunction.ID);
   }
 
   @Override
@@ -148,73 +155,44 @@ public class DBlockingQueueImpl<E> extends AbstractDType implements DBlockingQue
 
   @Override
   public E getFirst() {
-    return update(GET_FIRST_FN, CollectionsBackendFunction.ID);
+    return query(GET_FIRST_FN, CollectionsBackendFunction.ID);
   }
 
   @Override
   public E getLast() {
-    return update(GET_LAST_FN, CollectionsBackendFunction.ID);
+    return query(GET_LAST_FN, CollectionsBackendFunction.ID);
   }
 
   @Override
   public E peekFirst() {
-    return update(PEEK_FIRST_FN, CollectionsBackendFunction.ID);
+    return query(PEEK_FIRST_FN, CollectionsBackendFunction.ID);
   }
 
   @Override
   public E peekLast() {
-    return update(PEEK_LAST_FN, CollectionsBackendFunction.ID);
+    return query(PEEK_LAST_FN, CollectionsBackendFunction.ID);
   }
 
   @Override
-  @SuppressWarnings("unchecked")
   public void putFirst(E e) throws InterruptedException {
-    DTypeCollectionsFunction fn = x -> {
-      if (!((DBlockingQueueImpl<E>) x).deque.offerFirst(e)) {
-        throw new RetryableException(100);
-      }
-      return null;
-    };
-    updateInterruptibly(fn, CollectionsBackendFunction.ID);
+    updateInterruptibly(putFirstFn(e), CollectionsBackendFunction.ID);
   }
 
   @Override
-  @SuppressWarnings("unchecked")
   public void putLast(E e) throws InterruptedException {
-    byte[] arg = serialize(e);
-    DTypeCollectionsFunction fn = x -> {
-      if (!((DBlockingQueueImpl<E>) x).deque.offerLast(deserialize(arg))) {
-        throw new RetryableException(100);
-      }
-      return null;
-    };
-    updateInterruptibly(fn, CollectionsBackendFunction.ID);
+    updateInterruptibly(putLastFn(e), CollectionsBackendFunction.ID);
   }
 
   @Override
-  @SuppressWarnings("unchecked")
   public boolean offerFirst(E e, long timeout, TimeUnit unit) throws InterruptedException {
-    byte[] arg = serialize(e);
-    DTypeCollectionsFunction fn = x -> {
-      if (((DBlockingQueueImpl<E>) x).deque.offerFirst(deserialize(arg))) {
-        return true;
-      }
-      throw new RetryableException(100, timeout, unit, () -> false);
-    };
+    DTypeCollectionsFunction fn =
+        new DTypeOperation(OFFER_FIRST_TIMEOUT, serializeElement(e), unit.toMillis(timeout));
     return updateInterruptibly(fn, CollectionsBackendFunction.ID);
   }
 
   @Override
-  @SuppressWarnings("unchecked")
   public boolean offerLast(E e, long timeout, TimeUnit unit) throws InterruptedException {
-    byte[] arg = serialize(e);
-    DTypeCollectionsFunction fn = x -> {
-      if (((DBlockingQueueImpl<E>) x).deque.offerLast(deserialize(arg))) {
-        return true;
-      }
-      throw new RetryableException(100, timeout, unit, () -> false);
-    };
-    return updateInterruptibly(fn, CollectionsBackendFunction.ID);
+    return updateInterruptibly(offerLastFn(e, timeout, unit), CollectionsBackendFunction.ID);
   }
 
   @Override
@@ -230,88 +208,46 @@ public class DBlockingQueueImpl<E> extends AbstractDType implements DBlockingQue
   }
 
   @Override
-  @SuppressWarnings("unchecked")
   public E pollFirst(long timeout, TimeUnit unit) throws InterruptedException {
-    DTypeCollectionsFunction fn = x -> {
-      E result = ((DBlockingQueueImpl<E>) x).deque.pollFirst();
-      if (result == null) {
-        throw new RetryableException(100, timeout, unit);
-      }
-      return result;
-    };
-    return updateInterruptibly(fn, CollectionsBackendFunction.ID);
+    return updateInterruptibly(pollFirstFn(timeout, unit), CollectionsBackendFunction.ID);
   }
 
   @Override
   public E pollLast(long timeout, TimeUnit unit) throws InterruptedException {
-    DTypeCollectionsFunction fn = x -> {
-      E result = ((DBlockingQueueImpl<E>) x).deque.pollLast();
-      if (result == null) {
-        throw new RetryableException(100, timeout, unit);
-      }
-      return result;
-    };
+    DTypeCollectionsFunction fn = new DTypeOperation(POLL_LAST_TIMEOUT, unit.toMillis(timeout));
     return updateInterruptibly(fn, CollectionsBackendFunction.ID);
   }
 
   @Override
-  @SuppressWarnings("unchecked")
   public boolean removeFirstOccurrence(Object o) {
-    byte[] arg = serialize(o);
-    DTypeCollectionsFunction fn =
-        x -> ((DBlockingQueueImpl<E>) x).deque.removeFirstOccurrence(deserialize(arg));
-    return update(fn, CollectionsBackendFunction.ID);
+    return update(new DTypeOperation(REMOVE_FIRST_OCCURRENCE, serializeElement(o)),
+        CollectionsBackendFunction.ID);
   }
 
   @Override
-  @SuppressWarnings("unchecked")
   public boolean removeLastOccurrence(Object o) {
-    byte[] arg = serialize(o);
-    DTypeCollectionsFunction fn =
-        x -> ((DBlockingQueueImpl<E>) x).deque.removeLastOccurrence(deserialize(arg));
-    return update(fn, CollectionsBackendFunction.ID);
+    return update(new DTypeOperation(REMOVE_LAST_OCCURRENCE, serializeElement(o)),
+        CollectionsBackendFunction.ID);
   }
 
   @Override
-  @SuppressWarnings("unchecked")
   public boolean add(E e) {
-    byte[] arg = serialize(e);
-    DTypeCollectionsFunction fn = x -> ((DBlockingQueueImpl<E>) x).deque.add(deserialize(arg));
-    return update(fn, CollectionsBackendFunction.ID);
+    return update(addFn(e), CollectionsBackendFunction.ID);
   }
 
   @Override
-  @SuppressWarnings("unchecked")
   public boolean offer(E e) {
-    byte[] arg = serialize(e);
-    DTypeCollectionsFunction fn = x -> ((DBlockingQueueImpl<E>) x).deque.offer(deserialize(arg));
-    return update(fn, CollectionsBackendFunction.ID);
+    return update(offerLastFn(e), CollectionsBackendFunction.ID);
   }
 
   @Override
-  @SuppressWarnings("unchecked")
   public void put(E e) throws InterruptedException {
-    byte[] arg = serialize(e);
-    DTypeCollectionsFunction fn = x -> {
-      if (!((DBlockingQueueImpl<E>) x).deque.offerLast(deserialize(arg))) {
-        throw new RetryableException(100);
-      }
-      return null;
-    };
-    updateInterruptibly(fn, CollectionsBackendFunction.ID);
+    updateInterruptibly(putLastFn(e), CollectionsBackendFunction.ID);
   }
 
   @Override
-  @SuppressWarnings("unchecked")
   public boolean offer(E e, long timeout, TimeUnit unit) throws InterruptedException {
-    byte[] arg = serialize(e);
-    DTypeCollectionsFunction fn = x -> {
-      if (((DBlockingQueueImpl<E>) x).deque.offer(deserialize(arg))) {
-        return true;
-      }
-      throw new RetryableException(100, timeout, unit, () -> false);
-    };
-    return updateInterruptibly(fn, CollectionsBackendFunction.ID);
+    return updateInterruptibly(offerLastFn(e, timeout, unit), CollectionsBackendFunction.ID);
   }
 
   @Override
@@ -332,16 +268,8 @@ public class DBlockingQueueImpl<E> extends AbstractDType implements DBlockingQue
   }
 
   @Override
-  @SuppressWarnings("unchecked")
   public E poll(long timeout, TimeUnit unit) throws InterruptedException {
-    DTypeCollectionsFunction fn = x -> {
-      E result = ((DBlockingQueueImpl<E>) x).deque.poll();
-      if (result == null) {
-        throw new RetryableException(100, timeout, unit);
-      }
-      return result;
-    };
-    return updateInterruptibly(fn, CollectionsBackendFunction.ID);
+    return updateInterruptibly(pollFirstFn(timeout, unit), CollectionsBackendFunction.ID);
   }
 
   @Override
@@ -360,44 +288,28 @@ public class DBlockingQueueImpl<E> extends AbstractDType implements DBlockingQue
   }
 
   @Override
-  @SuppressWarnings("unchecked")
   public boolean remove(Object o) {
-    byte[] arg = serialize(o);
-    DTypeCollectionsFunction fn = x -> ((DBlockingQueueImpl<E>) x).deque.remove(deserialize(arg));
-    return update(fn, CollectionsBackendFunction.ID);
+    return update(removeFn(o), CollectionsBackendFunction.ID);
   }
 
   @Override
   public boolean containsAll(Collection<?> c) {
-    byte[] arg = serialize(c);
-    DTypeCollectionsFunction fn =
-        x -> ((DBlockingQueueImpl<?>) x).deque.containsAll(deserialize(arg));
-    return update(fn, CollectionsBackendFunction.ID);
+    return query(containsAllFn(c), CollectionsBackendFunction.ID);
   }
 
   @Override
-  @SuppressWarnings("unchecked")
   public boolean addAll(Collection<? extends E> c) {
-    byte[] arg = serialize(c);
-    DTypeCollectionsFunction fn =
-        x -> ((DBlockingQueueImpl<E>) x).deque.addAll(deserialize(arg));
-    return update(fn, CollectionsBackendFunction.ID);
+    return update(addAllFn(c), CollectionsBackendFunction.ID);
   }
 
   @Override
   public boolean removeAll(Collection<?> c) {
-    byte[] arg = serialize(c);
-    DTypeCollectionsFunction fn =
-        x -> ((DBlockingQueueImpl<?>) x).deque.removeAll(deserialize(arg));
-    return update(fn, CollectionsBackendFunction.ID);
+    return update(removeAllFn(c), CollectionsBackendFunction.ID);
   }
 
   @Override
   public boolean retainAll(Collection<?> c) {
-    byte[] arg = serialize(c);
-    DTypeCollectionsFunction fn =
-        x -> ((DBlockingQueueImpl<?>) x).deque.retainAll(deserialize(arg));
-    return update(fn, CollectionsBackendFunction.ID);
+    return update(retainAllFn(c), CollectionsBackendFunction.ID);
   }
 
   @Override
@@ -407,34 +319,20 @@ public class DBlockingQueueImpl<E> extends AbstractDType implements DBlockingQue
 
   @Override
   public boolean contains(Object o) {
-    byte[] arg = serialize(o);
-    DTypeCollectionsFunction fn =
-        x -> ((DBlockingQueueImpl<?>) x).deque.contains(deserialize(arg));
-    return update(fn, CollectionsBackendFunction.ID);
+    return query(containsFn(o), CollectionsBackendFunction.ID);
   }
 
   @Override
-  @SuppressWarnings("unchecked")
   public int drainTo(Collection<? super E> c) {
-    DTypeCollectionsFunction fn = x -> {
-      Collection<? super E> result = new ArrayList<>();
-      ((DBlockingQueueImpl<E>) x).deque.drainTo(result);
-      return result;
-    };
-    Collection<E> r = update(fn, CollectionsBackendFunction.ID);
+    Collection<E> r = update(new DTypeOperation(DRAIN_TO), CollectionsBackendFunction.ID);
     c.addAll(r);
     return r.size();
   }
 
   @Override
-  @SuppressWarnings("unchecked")
   public int drainTo(Collection<? super E> c, int maxElements) {
-    DTypeCollectionsFunction fn = x -> {
-      Collection<? super E> result = new ArrayList<>();
-      ((DBlockingQueueImpl<E>) x).deque.drainTo(result, maxElements);
-      return result;
-    };
-    Collection<E> r = update(fn, CollectionsBackendFunction.ID);
+    Collection<E> r =
+        update(new DTypeOperation(DRAIN_TO_MAX, maxElements), CollectionsBackendFunction.ID);
     c.addAll(r);
     return r.size();
   }
@@ -452,28 +350,26 @@ public class DBlockingQueueImpl<E> extends AbstractDType implements DBlockingQue
   /**
    * {@inheritDoc}
    * <p>
-   * Note that iteration occurs on the client. As such, the entire structure will be serialized to
-   * the client and then discarded once iteration is complete.
+   * Note that iteration occurs on the client, retrieving the queue from the server a page at a
+   * time. Modifying the queue while it is being iterated causes the iteration to fail with a
+   * {@link java.util.ConcurrentModificationException}.
    * <p>
    * {@code remove} operations are NOT supported for iteration over this structure and will throw an
    * {@code UnsupportedOperationException}.
    */
   @Override
-  @SuppressWarnings("unchecked")
   public Iterator<E> iterator() {
-    return new DelegatingQueueIterator<>(((DBlockingQueueImpl<E>) getEntry()).deque.iterator());
+    return new DelegatingQueueIterator<>(new DCursorIterator<>(this));
   }
 
   @Override
   public Object[] toArray() {
-    DBlockingQueueImpl<E> entry = getEntry();
-    return entry.deque.toArray();
+    return getPagedValues().toArray();
   }
 
   @Override
   public <T> T[] toArray(T[] a) {
-    DBlockingQueueImpl<E> entry = getEntry();
-    return entry.deque.toArray(a);
+    return getPagedValues().toArray(a);
   }
 
   @Override
@@ -482,9 +378,8 @@ public class DBlockingQueueImpl<E> extends AbstractDType implements DBlockingQue
   }
 
   @Override
-  @SuppressWarnings("unchecked")
   public void forEach(Consumer<? super E> action) {
-    ((DBlockingQueueImpl<E>) getEntry()).deque.forEach(action);
+    new DCursorIterator<E>(this).forEachRemaining(action);
   }
 
   @Override
@@ -498,25 +393,417 @@ public class DBlockingQueueImpl<E> extends AbstractDType implements DBlockingQue
   }
 
   @Override
-  @SuppressWarnings("unchecked")
   public boolean removeIf(Predicate<? super E> filter) {
-    DTypeCollectionsFunction fn = x -> ((DBlockingQueueImpl<E>) x).deque.removeIf(filter);
-    return update(fn, CollectionsBackendFunction.ID);
+    return update(new DTypeOperation(REMOVE_IF, filter), CollectionsBackendFunction.ID);
   }
 
   @Override
-  @SuppressWarnings("unchecked")
   public Spliterator<E> spliterator() {
-    return ((DBlockingQueueImpl<E>) getEntry()).deque.spliterator();
+    return Spliterators.spliteratorUnknownSize(new DCursorIterator<>(this), Spliterator.ORDERED);
+  }
+
+  @Override
+  protected Collection<?> getStoredElements() {
+    return deque;
+  }
+
+  @Override
+  public DStream<E> dstream() {
+    return newStream();
   }
 
   @Override
-  public synchronized void toData(DataOutput out) throws IOException {
-    super.toData(out);
-    DataSerializer.writePrimitiveInt(capacity, out);
-    DataSerializer.writePrimitiveInt(deque.size(), out);
-    for (E element : deque) {
-      DataSerializer.writeObject(element, out);
+  public DBlockingQueueAsync<E> async() {
+    return new Async();
+  }
+
+  /**
+   * Returns an asynchronous view of this instance whose operations are performed by the given
+   * {@link OperationPerformer}.
+   */
+  public DBlockingQueueAsync<E> async(OperationPerformer performer) {
+    return new Async(performer);
+  }
+
+  private static DTypeCollectionsFunction addFn(Object e) {
+    return new DTypeOperation(ADD, serializeElement(e));
+  }
+
+  private static DTypeCollectionsFunction offerFirstFn(Object e) {
+    return new DTypeOperation(OFFER_FIRST, serializeElement(e));
+  }
+
+  private static DTypeCollectionsFunction offerLastFn(Object e) {
+    return new DTypeOperation(OFFER_LAST, serializeElement(e));
+  }
+
+  private static DTypeCollectionsFunction offerLastFn(Object e, long timeout, TimeUnit unit) {
+    return new DTypeOperation(OFFER_LAST_TIMEOUT, serializeElement(e), unit.toMillis(timeout));
+  }
+
+  private static DTypeCollectionsFunction putFirstFn(Object e) {
+    return new DTypeOperation(PUT_FIRST, serializeElement(e));
+  }
+
+  private static DTypeCollectionsFunction putLastFn(Object e) {
+    return new DTypeOperation(PUT_LAST, serializeElement(e));
+  }
+
+  private static DTypeCollectionsFunction pollFirstFn(long timeout, TimeUnit unit) {
+    return new DTypeOperation(POLL_FIRST_TIMEOUT, unit.toMillis(timeout));
+  }
+
+  private static DTypeCollectionsFunction removeFn(Object o) {
+    return new DTypeOperation(REMOVE, serializeElement(o));
+  }
+
+  private static DTypeCollectionsFunction containsFn(Object o) {
+    return new DTypeOperation(CONTAINS, serializeElement(o));
+  }
+
+  private static DTypeCollectionsFunction containsAllFn(Collection<?> c) {
+    return new DTypeOperation(CONTAINS_ALL, (Object) serializeElements(c));
+  }
+
+  private static DTypeCollectionsFunction addAllFn(Collection<?> c) {
+    return new DTypeOperation(ADD_ALL, (Object) serializeElements(c));
+  }
+
+  private static DTypeCollectionsFunction removeAllFn(Collection<?> c) {
+    return new DTypeOperation(REMOVE_ALL, (Object) serializeElements(c));
+  }
+
+  private static DTypeCollectionsFunction retainAllFn(Collection<?> c) {
+    return new DTypeOperation(RETAIN_ALL, (Object) serializeElements(c));
+  }
+
+  @Override
+  protected Object applyOperation(DTypeOperation op) {
+    int before = deque.size();
+    Object result = applyQueueOperation(op);
+    signalSizeChange(before, deque.size());
+    return result;
+  }
+
+  /**
+   * Wake waiting takers when elements have been added, or waiting putters when elements have been
+   * removed, one for each element.
+   */
+  private void signalSizeChange(int before, int after) {
+    if (after > before) {
+      signal(NOT_EMPTY, after - before);
+    } else if (after < before) {
+      signal(NOT_FULL, before - after);
+    }
+  }
+
+  /**
+   * Whether the deque has no room for another element. This is checked before an element is
+   * converted with {@link #toStored}, which copies it into the arena when stored off-heap, so that
+   * rejected offers and blocked puts do not make copies that are immediately discarded.
+   */
+  private boolean isFull() {
+    return deque.remainingCapacity() == 0;
+  }
+
+  private void checkNotFull() {
+    if (isFull()) {
+      throw new IllegalStateException("Deque full");
+    }
+  }
+
+  private Object applyQueueOperation(DTypeOperation op) {
+    switch (op.getOpcode()) {
+      case ADD_FIRST:
+        checkNotFull();
+        deque.addFirst(toStored(op.getArg(0)));
+        return null;
+      case ADD_LAST:
+        checkNotFull();
+        deque.addLast(toStored(op.getArg(0)));
+        return null;
+      case OFFER_FIRST:
+        return !isFull() && deque.offerFirst(toStored(op.getArg(0)));
+      case OFFER_LAST:
+        return !isFull() && deque.offerLast(toStored(op.getArg(0)));
+      case OFFER_FIRST_TIMEOUT:
+        if (!isFull()) {
+          return deque.offerFirst(toStored(op.getArg(0)));
+        }
+        throw new RetryableException(MAX_WAIT_MS, op.getLongArg(1), TimeUnit.MILLISECONDS,
+            () -> false, NOT_FULL);
+      case OFFER_LAST_TIMEOUT:
+        if (!isFull()) {
+          return deque.offerLast(toStored(op.getArg(0)));
+        }
+        throw new RetryableException(MAX_WAIT_MS, op.getLongArg(1), TimeUnit.MILLISECONDS,
+            () -> false, NOT_FULL);
+      case PUT_FIRST:
+        if (isFull()) {
+          throw new RetryableException(MAX_WAIT_MS, Long.MAX_VALUE, TimeUnit.MILLISECONDS,
+              () -> null, NOT_FULL);
+        }
+        deque.offerFirst(toStored(op.getArg(0)));
+        return null;
+      case PUT_LAST:
+        if (isFull()) {
+          throw new RetryableException(MAX_WAIT_MS, Long.MAX_VALUE, TimeUnit.MILLISECONDS,
+              () -> null, NOT_FULL);
+        }
+        deque.offerLast(toStored(op.getArg(0)));
+        return null;
+      case REMOVE_FIRST:
+        return toValue(deque.removeFirst());
+      case REMOVE_LAST:
+        return toValue(deque.removeLast());
+      case POLL_FIRST:
+        return toValue(deque.pollFirst());
+      case POLL_LAST:
+        return toValue(deque.pollLast());
+      case POLL_FIRST_TIMEOUT:
+        return toValue(retryIfNull(deque.pollFirst(), op.getLongArg(0)));
+      case POLL_LAST_TIMEOUT:
+        return toValue(retryIfNull(deque.pollLast(), op.getLongArg(0)));
+      case TAKE_FIRST:
+        return toValue(retryIfNull(deque.pollFirst(), Long.MAX_VALUE));
+      case TAKE_LAST:
+        return toValue(retryIfNull(deque.pollLast(), Long.MAX_VALUE));
+      case GET_FIRST:
+        return toValue(deque.getFirst());
+      case GET_LAST:
+        return toValue(deque.getLast());
+      case PEEK_FIRST:
+        return toValue(deque.peekFirst());
+      case PEEK_LAST:
+        return toValue(deque.peekLast());
+      case REMOVE_FIRST_OCCURRENCE:
+        return deque.removeFirstOccurrence(toLookup(op.getArg(0)));
+      case REMOVE_LAST_OCCURRENCE:
+        return deque.removeLastOccurrence(toLookup(op.getArg(0)));
+      case ADD:
+        checkNotFull();
+        return deque.add(toStored(op.getArg(0)));
+      case REMOVE_HEAD:
+        return toValue(deque.remove());
+      case REMAINING_CAPACITY:
+        return deque.remainingCapacity();
+      case ELEMENT:
+        return toValue(deque.element());
+      case PEEK:
+        return toValue(deque.peek());
+      case REMOVE:
+        return deque.remove(toLookup(op.getArg(0)));
+      case CONTAINS:
+        return deque.contains(toLookup(op.getArg(0)));
+      case CONTAINS_ALL:
+        return deque.containsAll(toLookupAll(op.getArg(0)));
+      case ADD_ALL: {
+        byte[][] elements = op.getArg(0);
+        for (byte[] element : elements) {
+          checkNotFull();
+          deque.addLast(toStored(element));
+        }
+        return elements.length > 0;
+      }
+      case REMOVE_ALL:
+        return deque.removeAll(new HashSet<>(toLookupAll(op.getArg(0))));
+      case RETAIN_ALL:
+        return deque.retainAll(new HashSet<>(toLookupAll(op.getArg(0))));
+      case CLEAR:
+        deque.clear();
+        return null;
+      case SIZE:
+        return deque.size();
+      case IS_EMPTY:
+        return deque.isEmpty();
+      case DRAIN_TO: {
+        Collection<Object> result = new ArrayList<>();
+        deque.drainTo(result, Integer.MAX_VALUE);
+        return toValues(result);
+      }
+      case DRAIN_TO_MAX: {
+        Collection<Object> result = new ArrayList<>();
+        deque.drainTo(result, op.getIntArg(0));
+        return toValues(result);
+      }
+      case REMOVE_IF: {
+        Predicate<Object> filter = op.getArg(0);
+        return deque.removeIf(e -> filter.test(toValue(e)));
+      }
+      default:
+        return super.applyOperation(op);
+    }
+  }
+
+  private static <T> T retryIfNull(T result, long timeoutMs) {
+    if (result == null) {
+      throw new RetryableException(MAX_WAIT_MS, timeoutMs, TimeUnit.MILLISECONDS, () -> null,
+          NOT_EMPTY);
+    }
+    return result;
+  }
+
+  private class Async extends AsyncView implements DBlockingQueueAsync<E> {
+
+    Async() {}
+
+    Async(OperationPerformer performer) {
+      super(performer);
+    }
+
+    @Override
+    public CompletableFuture<Boolean> add(E e) {
+      return updateAsync(addFn(e), CollectionsBackendFunction.ID);
+    }
+
+    @Override
+    public CompletableFuture<Boolean> offer(E e) {
+      return updateAsync(offerLastFn(e), CollectionsBackendFunction.ID);
+    }
+
+    @Override
+    public CompletableFuture<Boolean> offerFirst(E e) {
+      return updateAsync(offerFirstFn(e), CollectionsBackendFunction.ID);
+    }
+
+    @Override
+    public CompletableFuture<Boolean> offerLast(E e) {
+      return updateAsync(offerLastFn(e), CollectionsBackendFunction.ID);
+    }
+
+    @Override
+    public CompletableFuture<Boolean> offer(E e, long timeout, TimeUnit unit) {
+      return updateAsync(offerLastFn(e, timeout, unit), CollectionsBackendFunction.ID);
+    }
+
+    @Override
+    public CompletableFuture<Void> put(E e) {
+      return updateAsync(putLastFn(e), CollectionsBackendFunction.ID);
+    }
+
+    @Override
+    public CompletableFuture<Void> putFirst(E e) {
+      return updateAsync(putFirstFn(e), CollectionsBackendFunction.ID);
+    }
+
+    @Override
+    public CompletableFuture<Void> putLast(E e) {
+      return updateAsync(putLastFn(e), CollectionsBackendFunction.ID);
+    }
+
+    @Override
+    public CompletableFuture<E> poll() {
+      return updateAsync(POLL_FIRST_FN, CollectionsBackendFunction.ID);
+    }
+
+    @Override
+    public CompletableFuture<E> pollFirst() {
+      return updateAsync(POLL_FIRST_FN, CollectionsBackendFunction.ID);
+    }
+
+    @Override
+    public CompletableFuture<E> pollLast() {
+      return updateAsync(POLL_LAST_FN, CollectionsBackendFunction.ID);
+    }
+
+    @Override
+    public CompletableFuture<E> poll(long timeout, TimeUnit unit) {
+      return updateAsync(pollFirstFn(timeout, unit), CollectionsBackendFunction.ID);
+    }
+
+    @Override
+    public CompletableFuture<E> take() {
+      return updateAsync(TAKE_FIRST_FN, CollectionsBackendFunction.ID);
+    }
+
+    @Override
+    public CompletableFuture<E> takeFirst() {
+      return updateAsync(TAKE_FIRST_FN, CollectionsBackendFunction.ID);
+    }
+
+    @Override
+    public CompletableFuture<E> takeLast() {
+      return updateAsync(TAKE_LAST_FN, CollectionsBackendFunction.ID);
+    }
+
+    @Override
+    public CompletableFuture<E> peek() {
+      return queryAsync(PEEK_FN, CollectionsBackendFunction.ID);
+    }
+
+    @Override
+    public CompletableFuture<E> peekFirst() {
+      return queryAsync(PEEK_FIRST_FN, CollectionsBackendFunction.ID);
+    }
+
+    @Override
+    public CompletableFuture<E> peekLast() {
+      return queryAsync(PEEK_LAST_FN, CollectionsBackendFunction.ID);
+    }
+
+    @Override
+    public CompletableFuture<Integer> remainingCapacity() {
+      return queryAsync(REMAINING_CAPACITY_FN, CollectionsBackendFunction.ID);
+    }
+
+    @Override
+    public CompletableFuture<Boolean> remove(Object o) {
+      return updateAsync(removeFn(o), CollectionsBackendFunction.ID);
+    }
+
+    @Override
+    public CompletableFuture<Boolean> contains(Object o) {
+      return queryAsync(containsFn(o), CollectionsBackendFunction.ID);
+    }
+
+    @Override
+    public CompletableFuture<Boolean> addAll(Collection<? extends E> c) {
+      return updateAsync(addAllFn(c), CollectionsBackendFunction.ID);
+    }
+
+    @Override
+    public CompletableFuture<Boolean> removeAll(Collection<?> c) {
+      return updateAsync(removeAllFn(c), CollectionsBackendFunction.ID);
+    }
+
+    @Override
+    public CompletableFuture<Boolean> retainAll(Collection<?> c) {
+      return updateAsync(retainAllFn(c), CollectionsBackendFunction.ID);
+    }
+
+    @Override
+    public CompletableFuture<Boolean> containsAll(Collection<?> c) {
+      return queryAsync(containsAllFn(c), CollectionsBackendFunction.ID);
+    }
+
+    @Override
+    public CompletableFuture<Integer> size() {
+      return queryAsync(SIZE_FN, CollectionsBackendFunction.ID);
+    }
+
+    @Override
+    public CompletableFuture<Boolean> isEmpty() {
+      return queryAsync(IS_EMPTY_FN, CollectionsBackendFunction.ID);
+    }
+
+    @Override
+    public CompletableFuture<Void> clear() {
+      return updateAsync(CLEAR_FN, CollectionsBackendFunction.ID);
+    }
+  }
+
+  @Override
+  public void toData(DataOutput out) throws IOException {
+    Lock lock = lockForSerialization();
+    try {
+      super.toData(out);
+      DataSerializer.writePrimitiveInt(capacity, out);
+      DataSerializer.writePrimitiveInt(deque.size(), out);
+      for (Object element : deque) {
+        writeElement(element, out);
+      }
+    } finally {
+      lock.unlock();
     }
   }
 
@@ -524,11 +811,10 @@ public class DBlockingQueueImpl<E> extends AbstractDType implements DBlockingQue
   public void fromData(DataInput in) throws IOException, ClassNotFoundException {
     super.fromData(in);
     capacity = DataSerializer.readPrimitiveInt(in);
-    deque = new LinkedBlockingDeque<>(capacity);
+    deque = new BoundedDeque<>(capacity);
     int size = DataSerializer.readPrimitiveInt(in);
     for (int i = 0; i < size; ++i) {
-      E element = DataSerializer.readObject(in);
-      deque.add(element);
+      deque.add(readElement(in));
     }
   }
 
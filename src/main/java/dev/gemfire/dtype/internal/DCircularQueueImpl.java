@@ -8,40 +8,56 @@ import java.io.DataInput;
 import java.io.DataOutput;
 import java.io.IOException;
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.locks.Lock;
 
 import dev.gemfire.dtype.DCircularQueue;
+import dev.gemfire.dtype.DCircularQueueAsync;
+import dev.gemfire.dtype.DStream;
+import dev.gemfire.dtype.ElementStorage;
 import org.apache.commons.collections4.queue.CircularFifoQueue;
 
 import org.apache.geode.DataSerializer;
 
-public class DCircularQueueImpl<E> extends AbstractDType implements DCircularQueue<E> {
+public class DCircularQueueImpl<E> extends AbstractDCollection implements DCircularQueue<E> {
 
-  private transient CircularFifoQueue<E> queue;
+  private transient CircularFifoQueue<Object> queue;
   private int capacity;
 
-  // A few lambdas that can be static since they don't need to capture any values.
-  private static final DTypeCollectionsFunction REMOVE_FN =
-      x -> ((DCircularQueueImpl<?>) x).queue.remove();
-  private static final DTypeCollectionsFunction POLL_FN =
-      x -> ((DCircularQueueImpl<?>) x).queue.poll();
-  private static final DTypeCollectionsFunction ELEMENT_FN =
-      x -> ((DCircularQueueImpl<?>) x).queue.element();
-  private static final DTypeCollectionsFunction PEEK_FN =
-      x -> ((DCircularQueueImpl<?>) x).queue.peek();
-  private static final DTypeCollectionsFunction SIZE_FN =
-      x -> ((DCircularQueueImpl<?>) x).queue.size();
-  private static final DTypeCollectionsFunction IS_EMPTY_FN =
-      x -> ((DCircularQueueImpl<?>) x).queue.isEmpty();
-  private static final DTypeCollectionsFunction CLEAR_FN = x -> {
-    ((DCircularQueueImpl<?>) x).queue.clear();
-    return null;
-  };
+  private static final int REMOVE_HEAD = 1;
+  private static final int POLL = 2;
+  private static final int ELEMENT = 3;
+  private static final int PEEK = 4;
+  private static final int SIZE = 5;
+  private static final int IS_EMPTY = 6;
+  private static final int CLEAR = 7;
+  private static final int ADD = 8;
+  private static final int REMOVE = 9;
+  private static final int CONTAINS = 10;
+  private static final int CONTAINS_ALL = 11;
+  private static final int ADD_ALL = 12;
+  private static final int REMOVE_ALL = 13;
+  private static final int RETAIN_ALL = 14;
+
+  // A few operations that can be static since they don't have any arguments.
+  private static final DTypeCollectionsFunction REMOVE_FN = new DTypeOperation(REMOVE_HEAD);
+  private static final DTypeCollectionsFunction POLL_FN = new DTypeOperation(POLL);
+  private static final DTypeCollectionsFunction ELEMENT_FN = new DTypeOperation(ELEMENT);
+  private static final DTypeCollectionsFunction PEEK_FN = new DTypeOperation(PEEK);
+  private static final DTypeCollectionsFunction SIZE_FN = new DTypeOperation(SIZE);
+  private static final DTypeCollectionsFunction IS_EMPTY_FN = new DTypeOperation(IS_EMPTY);
+  private static final DTypeCollectionsFunction CLEAR_FN = new DTypeOperation(CLEAR);
 
   public DCircularQueueImpl() {}
 
   public DCircularQueueImpl(String name, int capacity) {
-    super(name);
+    this(name, capacity, ElementStorage.OBJECT);
+  }
+
+  public DCircularQueueImpl(String name, int capacity, ElementStorage storage) {
+    super(name, storage);
     queue = new CircularFifoQueue<>(capacity);
     this.capacity = capacity;
   }
@@ -55,11 +71,8 @@ public class DCircularQueueImpl<E> extends AbstractDType implements DCircularQue
    * @throws NullPointerException if the given element is null
    */
   @Override
-  @SuppressWarnings("unchecked")
   public boolean add(E e) {
-    byte[] arg = serialize(e);
-    DTypeCollectionsFunction fn = x -> ((DCircularQueueImpl<E>) x).queue.add(deserialize(arg));
-    return update(fn, CollectionsBackendFunction.ID);
+    return update(addFn(e), CollectionsBackendFunction.ID);
   }
 
   /**
@@ -71,11 +84,8 @@ public class DCircularQueueImpl<E> extends AbstractDType implements DCircularQue
    * @throws NullPointerException if the given element is null
    */
   @Override
-  @SuppressWarnings("unchecked")
   public boolean offer(E e) {
-    byte[] arg = serialize(e);
-    DTypeCollectionsFunction fn = x -> ((DCircularQueueImpl<E>) x).queue.offer(deserialize(arg));
-    return update(fn, CollectionsBackendFunction.ID);
+    return update(addFn(e), CollectionsBackendFunction.ID);
   }
 
   @Override
@@ -124,73 +134,57 @@ public class DCircularQueueImpl<E> extends AbstractDType implements DCircularQue
 
   @Override
   public boolean contains(Object o) {
-    byte[] arg = serialize(o);
-    DTypeCollectionsFunction fn = x -> ((DCircularQueueImpl<?>) x).queue.contains(deserialize(arg));
-    return query(fn, CollectionsBackendFunction.ID);
+    return query(containsFn(o), CollectionsBackendFunction.ID);
   }
 
   /**
    * {@inheritDoc}
    * <p>
-   * Note that iteration occurs on the client. As such, the entire structure will be serialized to
-   * the client and then discarded once iteration is complete.
+   * Note that iteration occurs on the client, retrieving the queue from the server a page at a
+   * time. Modifying the queue while it is being iterated causes the iteration to fail with a
+   * {@link java.util.ConcurrentModificationException}.
    * <p>
    * {@code remove} operations are NOT supported for iteration over this structure and will throw an
    * {@code UnsupportedOperationException}.
    */
   @Override
-  @SuppressWarnings("unchecked")
   public Iterator<E> iterator() {
-    return new DelegatingQueueIterator<>(((DCircularQueueImpl<E>) getEntry()).queue.iterator());
+    return new DelegatingQueueIterator<>(new DCursorIterator<>(this));
   }
 
   @Override
   public Object[] toArray() {
-    DCircularQueueImpl<E> entry = getEntry();
-    return entry.queue.toArray();
+    return getPagedValues().toArray();
   }
 
   @Override
   public <T> T[] toArray(T[] a) {
-    return null;
+    return getPagedValues().toArray(a);
   }
 
   @Override
   public boolean remove(Object o) {
-    byte[] arg = serialize(o);
-    DTypeCollectionsFunction fn = x -> ((DCircularQueueImpl<?>) x).queue.remove(deserialize(arg));
-    return update(fn, CollectionsBackendFunction.ID);
+    return update(removeFn(o), CollectionsBackendFunction.ID);
   }
 
   @Override
   public boolean containsAll(Collection<?> c) {
-    byte[] arg = serialize(c);
-    DTypeCollectionsFunction fn =
-        x -> ((DCircularQueueImpl<?>) x).queue.containsAll(deserialize(arg));
-    return query(fn, CollectionsBackendFunction.ID);
+    return query(containsAllFn(c), CollectionsBackendFunction.ID);
   }
 
   @Override
   public boolean addAll(Collection<? extends E> c) {
-    byte[] arg = serialize(c);
-    DTypeCollectionsFunction fn = x -> ((DCircularQueueImpl<?>) x).queue.addAll(deserialize(arg));
-    return update(fn, CollectionsBackendFunction.ID);
+    return update(addAllFn(c), CollectionsBackendFunction.ID);
   }
 
   @Override
   public boolean removeAll(Collection<?> c) {
-    byte[] arg = serialize(c);
-    DTypeCollectionsFunction fn =
-        x -> ((DCircularQueueImpl<?>) x).queue.removeAll(deserialize(arg));
-    return update(fn, CollectionsBackendFunction.ID);
+    return update(removeAllFn(c), CollectionsBackendFunction.ID);
   }
 
   @Override
   public boolean retainAll(Collection<?> c) {
-    byte[] arg = serialize(c);
-    DTypeCollectionsFunction fn =
-        x -> ((DCircularQueueImpl<?>) x).queue.retainAll(deserialize(arg));
-    return update(fn, CollectionsBackendFunction.ID);
+    return update(retainAllFn(c), CollectionsBackendFunction.ID);
   }
 
   @Override
@@ -198,13 +192,180 @@ public class DCircularQueueImpl<E> extends AbstractDType implements DCircularQue
     update(CLEAR_FN, CollectionsBackendFunction.ID);
   }
 
+  @Override
+  protected Collection<?> getStoredElements() {
+    return queue;
+  }
+
+  @Override
+  public DStream<E> dstream() {
+    return newStream();
+  }
+
+  @Override
+  public DCircularQueueAsync<E> async() {
+    return new Async();
+  }
+
+  /**
+   * Returns an asynchronous view of this instance whose operations are performed by the given
+   * {@link OperationPerformer}.
+   */
+  public DCircularQueueAsync<E> async(OperationPerformer performer) {
+    return new Async(performer);
+  }
+
+  private static DTypeCollectionsFunction addFn(Object e) {
+    return new DTypeOperation(ADD, serializeElement(e));
+  }
+
+  private static DTypeCollectionsFunction removeFn(Object o) {
+    return new DTypeOperation(REMOVE, serializeElement(o));
+  }
+
+  private static DTypeCollectionsFunction containsFn(Object o) {
+    return new DTypeOperation(CONTAINS, serializeElement(o));
+  }
+
+  private static DTypeCollectionsFunction containsAllFn(Collection<?> c) {
+    return new DTypeOperation(CONTAINS_ALL, (Object) serializeElements(c));
+  }
+
+  private static DTypeCollectionsFunction addAllFn(Collection<?> c) {
+    return new DTypeOperation(ADD_ALL, (Object) serializeElements(c));
+  }
+
+  private static DTypeCollectionsFunction removeAllFn(Collection<?> c) {
+    return new DTypeOperation(REMOVE_ALL, (Object) serializeElements(c));
+  }
+
+  private static DTypeCollectionsFunction retainAllFn(Collection<?> c) {
+    return new DTypeOperation(RETAIN_ALL, (Object) serializeElements(c));
+  }
+
+  @Override
+  protected Object applyOperation(DTypeOperation op) {
+    switch (op.getOpcode()) {
+      case REMOVE_HEAD:
+        return toValue(queue.remove());
+      case POLL:
+        return toValue(queue.poll());
+      case ELEMENT:
+        return toValue(queue.element());
+      case PEEK:
+        return toValue(queue.peek());
+      case SIZE:
+        return queue.size();
+      case IS_EMPTY:
+        return queue.isEmpty();
+      case CLEAR:
+        queue.clear();
+        return null;
+      case ADD:
+        return queue.add(toStored(op.getArg(0)));
+      case REMOVE:
+        return queue.remove(toLookup(op.getArg(0)));
+      case CONTAINS:
+        return queue.contains(toLookup(op.getArg(0)));
+      case CONTAINS_ALL:
+        return queue.containsAll(toLookupAll(op.getArg(0)));
+      case ADD_ALL:
+        return queue.addAll(toStoredAll(op.getArg(0)));
+      case REMOVE_ALL:
+        return queue.removeAll(new HashSet<>(toLookupAll(op.getArg(0))));
+      case RETAIN_ALL:
+        return queue.retainAll(new HashSet<>(toLookupAll(op.getArg(0))));
+      default:
+        return super.applyOperation(op);
+    }
+  }
+
+  private class Async extends AsyncView implements DCircularQueueAsync<E> {
+
+    Async() {}
+
+    Async(OperationPerformer performer) {
+      super(performer);
+    }
+
+    @Override
+    public CompletableFuture<Boolean> add(E e) {
+      return updateAsync(addFn(e), CollectionsBackendFunction.ID);
+    }
+
+    @Override
+    public CompletableFuture<Boolean> offer(E e) {
+      return updateAsync(addFn(e), CollectionsBackendFunction.ID);
+    }
+
+    @Override
+    public CompletableFuture<E> poll() {
+      return updateAsync(POLL_FN, CollectionsBackendFunction.ID);
+    }
+
+    @Override
+    public CompletableFuture<E> peek() {
+      return queryAsync(PEEK_FN, CollectionsBackendFunction.ID);
+    }
+
+    @Override
+    public CompletableFuture<Boolean> remove(Object o) {
+      return updateAsync(removeFn(o), CollectionsBackendFunction.ID);
+    }
+
+    @Override
+    public CompletableFuture<Boolean> contains(Object o) {
+      return queryAsync(containsFn(o), CollectionsBackendFunction.ID);
+    }
+
+    @Override
+    public CompletableFuture<Boolean> addAll(Collection<? extends E> c) {
+      return updateAsync(addAllFn(c), CollectionsBackendFunction.ID);
+    }
+
+    @Override
+    public CompletableFuture<Boolean> removeAll(Collection<?> c) {
+      return updateAsync(removeAllFn(c), CollectionsBackendFunction.ID);
+    }
+
+    @Override
+    public CompletableFuture<Boolean> retainAll(Collection<?> c) {
+      return updateAsync(retainAllFn(c), CollectionsBackendFunction.ID);
+    }
+
+    @Override
+    public CompletableFuture<Boolean> containsAll(Collection<?> c) {
+      return queryAsync(containsAllFn(c), CollectionsBackendFunction.ID);
+    }
+
+    @Override
+    public CompletableFuture<Integer> size() {
+      return queryAsync(SIZE_FN, CollectionsBackendFunction.ID);
+    }
+
+    @Override
+    public CompletableFuture<Boolean> isEmpty() {
+      return queryAsync(IS_EMPTY_FN, CollectionsBackendFunction.ID);
+    }
+
+    @Override
+    public CompletableFuture<Void> clear() {
+      return updateAsync(CLEAR_FN, CollectionsBackendFunction.ID);
+    }
+  }
+
   @Override
   public void toData(DataOutput out) throws IOException {
-    super.toData(out);
-    DataSerializer.writePrimitiveInt(capacity, out);
-    DataSerializer.writePrimitiveInt(queue.size(), out);
-    for (E element : queue) {
-      DataSerializer.writeObject(element, out);
+    Lock lock = lockForSerialization();
+    try {
+      super.toData(out);
+      DataSerializer.writePrimitiveInt(capacity, out);
+      DataSerializer.writePrimitiveInt(queue.size(), out);
+      for (Object element : queue) {
+        writeElement(element, out);
+      }
+    } finally {
+      lock.unlock();
     }
   }
 
@@ -215,8 +376,7 @@ public class DCircularQueueImpl<E> extends AbstractDType implements DCircularQue
     queue = new CircularFifoQueue<>(capacity);
     int size = DataSerializer.readPrimitiveInt(in);
     for (int i = 0; i < size; ++i) {
-      E element = DataSerializer.readObject(in);
-      queue.add(element);
+      queue.add(readElement(in));
     }
   }
 }
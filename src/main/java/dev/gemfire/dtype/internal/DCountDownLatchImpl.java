@@ -1,52 +1,38 @@
 package dev.gemfire.dtype.internal;
 
+import static dev.gemfire.dtype.internal.RetryableException.MAX_WAIT_MS;
+
 import java.io.DataInput;
 import java.io.DataOutput;
 import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 
 import dev.gemfire.dtype.DCountDownLatch;
+import dev.gemfire.dtype.DCountDownLatchAsync;
 import dev.gemfire.dtype.DTypeException;
 
 public class DCountDownLatchImpl extends AbstractDType implements DCountDownLatch {
 
   private long count;
   private boolean isDestroyed = false;
-  private int waiters = 0;
-
-  private final DTypeCollectionsFunction AWAIT_FN = x -> {
-    DCountDownLatchImpl latch = (DCountDownLatchImpl) x;
-    latch.ensureUsable();
-    while (latch.count > 0) {
-      try {
-        latch.waiters++;
-        latch.wait();
-      } catch (InterruptedException e) {
-        throw new RuntimeException(e);
-      } finally {
-        latch.waiters--;
-      }
-    }
-    return null;
-  };
-
-  private final DTypeCollectionsFunction COUNTDOWN_FN = x -> {
-    DCountDownLatchImpl latch = (DCountDownLatchImpl) x;
-    latch.ensureUsable();
-    if (latch.count > 0) {
-      latch.count -= 1;
-      if (latch.count == 0) {
-        latch.notifyAll();
-      }
-    }
-    return null;
-  };
-  private static final DTypeCollectionsFunction GET_COUNT_FN = x -> ((DCountDownLatchImpl) x).count;
-  private static final DTypeCollectionsFunction DESTROY_FN = x -> {
-    ((DCountDownLatchImpl) x).isDestroyed = true;
-    x.notifyAll();
-    return null;
-  };
+
+  private static final int AWAIT = 1;
+  private static final int AWAIT_TIMEOUT = 2;
+  private static final int COUNTDOWN = 3;
+  private static final int GET_COUNT = 4;
+  private static final int SET_COUNT = 5;
+  private static final int DESTROY = 6;
+  private static final int GET_WAITERS = 7;
+
+  // Condition that awaiting operations wait for
+  private static final int COUNT_REACHED_ZERO = 1;
+
+  private static final DTypeCollectionsFunction AWAIT_FN = new DTypeOperation(AWAIT);
+  private static final DTypeCollectionsFunction COUNTDOWN_FN = new DTypeOperation(COUNTDOWN);
+  private static final DTypeCollectionsFunction GET_COUNT_FN = new DTypeOperation(GET_COUNT);
+  private static final DTypeCollectionsFunction DESTROY_FN = new DTypeOperation(DESTROY);
+  private static final DTypeCollectionsFunction GET_WAITERS_FN = new DTypeOperation(GET_WAITERS);
 
   public DCountDownLatchImpl() {
     // For serialization
@@ -59,40 +45,12 @@ public class DCountDownLatchImpl extends AbstractDType implements DCountDownLatc
 
   @Override
   public void await() {
-    noDeltaUpdate(AWAIT_FN, CollectionsBackendFunction.ID);
+    query(AWAIT_FN, CollectionsBackendFunction.ID);
   }
 
   @Override
   public boolean await(long timeout, TimeUnit unit) throws InterruptedException {
-    DTypeCollectionsFunction fn = x -> {
-      DCountDownLatchImpl latch = (DCountDownLatchImpl) x;
-      if (latch.count == 0) {
-        return true;
-      }
-
-      long overallTimeoutMs = unit.toMillis(timeout);
-      long waitTimeoutMs = overallTimeoutMs;
-      long start = System.currentTimeMillis();
-
-      while (latch.count > 0 && System.currentTimeMillis() - start < overallTimeoutMs) {
-        latch.ensureUsable();
-        try {
-          latch.waiters++;
-          long waitStart = System.currentTimeMillis();
-          latch.wait(waitTimeoutMs);
-          overallTimeoutMs -= waitStart;
-          if (latch.count == 0) {
-            return true;
-          }
-        } catch (InterruptedException e) {
-          throw new UncheckedInterruptedException(e);
-        } finally {
-          latch.waiters--;
-        }
-      }
-      return false;
-    };
-    return noDeltaUpdateInterruptibly(fn, CollectionsBackendFunction.ID);
+    return queryInterruptibly(awaitFn(timeout, unit), CollectionsBackendFunction.ID);
   }
 
   @Override
@@ -107,16 +65,7 @@ public class DCountDownLatchImpl extends AbstractDType implements DCountDownLatc
 
   @Override
   public boolean setCount(long newCount) {
-    DTypeCollectionsFunction fn = x -> {
-      DCountDownLatchImpl latch = (DCountDownLatchImpl) x;
-      latch.ensureUsable();
-      if (latch.count > 0) {
-        return false;
-      }
-      latch.count = newCount;
-      return true;
-    };
-    return noDeltaUpdate(fn, CollectionsBackendFunction.ID);
+    return noDeltaUpdate(new DTypeOperation(SET_COUNT, newCount), CollectionsBackendFunction.ID);
   }
 
   @Override
@@ -125,12 +74,88 @@ public class DCountDownLatchImpl extends AbstractDType implements DCountDownLatc
     super.destroy();
   }
 
-  DTypeCollectionsFunction GET_WAITERS_FN = x -> ((DCountDownLatchImpl) x).waiters;
-
   public int getWaiters() {
     return query(GET_WAITERS_FN, CollectionsBackendFunction.ID);
   }
 
+  @Override
+  public DCountDownLatchAsync async() {
+    return new Async();
+  }
+
+  private static DTypeCollectionsFunction awaitFn(long timeout, TimeUnit unit) {
+    return new DTypeOperation(AWAIT_TIMEOUT, unit.toMillis(timeout));
+  }
+
+  @Override
+  protected Object applyOperation(DTypeOperation op) {
+    switch (op.getOpcode()) {
+      case AWAIT:
+        ensureUsable();
+        if (count > 0) {
+          throw new RetryableException(MAX_WAIT_MS, Long.MAX_VALUE, TimeUnit.MILLISECONDS,
+              () -> null, COUNT_REACHED_ZERO);
+        }
+        return null;
+      case AWAIT_TIMEOUT:
+        if (count == 0) {
+          return true;
+        }
+        ensureUsable();
+        throw new RetryableException(MAX_WAIT_MS, op.getLongArg(0), TimeUnit.MILLISECONDS,
+            () -> false, COUNT_REACHED_ZERO);
+      case COUNTDOWN:
+        ensureUsable();
+        if (count > 0) {
+          count -= 1;
+          if (count == 0) {
+            signalAll(COUNT_REACHED_ZERO);
+          }
+        }
+        return null;
+      case GET_COUNT:
+        return count;
+      case SET_COUNT:
+        ensureUsable();
+        if (count > 0) {
+          return false;
+        }
+        count = op.getLongArg(0);
+        return true;
+      case DESTROY:
+        isDestroyed = true;
+        signalAll(COUNT_REACHED_ZERO);
+        return null;
+      case GET_WAITERS:
+        return getWaiterCount(COUNT_REACHED_ZERO);
+      default:
+        return super.applyOperation(op);
+    }
+  }
+
+  private class Async extends AsyncView implements DCountDownLatchAsync {
+
+    @Override
+    public CompletableFuture<Void> await() {
+      return queryAsync(AWAIT_FN, CollectionsBackendFunction.ID);
+    }
+
+    @Override
+    public CompletableFuture<Boolean> await(long timeout, TimeUnit unit) {
+      return queryAsync(awaitFn(timeout, unit), CollectionsBackendFunction.ID);
+    }
+
+    @Override
+    public CompletableFuture<Void> countDown() {
+      return noDeltaUpdateAsync(COUNTDOWN_FN, CollectionsBackendFunction.ID);
+    }
+
+    @Override
+    public CompletableFuture<Long> getCount() {
+      return queryAsync(GET_COUNT_FN, CollectionsBackendFunction.ID);
+    }
+  }
+
   @Override
   public String toString() {
     return String.format("DCountDownLatchImpl{name=%s, count=%d}", getName(), count);
@@ -3,12 +3,21 @@ package dev.gemfire.dtype.internal;
 import java.io.DataInput;
 import java.io.DataOutput;
 import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 
 import dev.gemfire.dtype.DCounter;
+import dev.gemfire.dtype.DCounterAsync;
+import org.apache.logging.log4j.Logger;
 
 import org.apache.geode.DataSerializer;
 import org.apache.geode.InvalidDeltaException;
+import org.apache.geode.logging.internal.log4j.api.LogService;
 
 /**
  * This implementation of DCounter sends a delta value to make CRDT-like updates to the counter.
@@ -17,11 +26,34 @@ import org.apache.geode.InvalidDeltaException;
  * <p>
  * Heavily based on <a href=
  * "https://github.com/charliemblack/gemfire-delta-counter">charliemblack/gemfire-delta-counter</a>
+ * <p>
+ * A buffered instance does not send each increment. Increments are added to a local
+ * {@link LongAdder}, so that concurrent threads do not contend, and the total is sent as a single
+ * delta when the buffered amount reaches a threshold, at a fixed interval, or when
+ * {@link #flush()} is called.
  */
 public class DCounterImpl extends AbstractDType implements DCounter {
 
+  private static final Logger logger = LogService.getLogger();
+
+  private static final ScheduledExecutorService flushScheduler =
+      Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "DCounter-flush");
+        thread.setDaemon(true);
+        return thread;
+      });
+
   private final AtomicLong counter = new AtomicLong(0);
   private final AtomicLong accumulator = new AtomicLong(0);
+  private transient LongAdder buffer;
+  private transient long flushThreshold;
+  private transient ScheduledFuture<?> flushTask;
+  private transient CachedRead<Long> cachedRead;
+
+  private static final int GET = 1;
+  private static final int INCREMENT = 2;
+
+  private static final DTypeCollectionsFunction GET_FN = new DTypeOperation(GET);
 
   public DCounterImpl() {}
 
@@ -30,8 +62,41 @@ public class DCounterImpl extends AbstractDType implements DCounter {
     counter.set(value);
   }
 
+  /**
+   * Buffer increments made through this instance. Buffered increments are flushed every
+   * {@code flushIntervalMs} and, if {@code flushThreshold} is positive, as soon as the absolute
+   * value of the buffered amount reaches it.
+   */
+  public void setBuffering(long flushIntervalMs, long flushThreshold) {
+    if (flushIntervalMs <= 0) {
+      throw new IllegalArgumentException("flushInterval must be positive");
+    }
+    if (buffer != null) {
+      throw new IllegalStateException("Counter is already buffered");
+    }
+    this.buffer = new LongAdder();
+    this.flushThreshold = flushThreshold;
+    this.flushTask = flushScheduler.scheduleAtFixedRate(this::flushQuietly, flushIntervalMs,
+        flushIntervalMs, TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * Cache the value read by {@link #get()} for at most the given time.
+   */
+  public void setMaxStaleness(long maxStaleness, TimeUnit unit) {
+    cachedRead = new CachedRead<>(maxStaleness, unit, this::readValue, getAsyncExecutor());
+  }
+
   @Override
   public long get() {
+    if (cachedRead != null) {
+      return cachedRead.get() + (buffer == null ? 0 : buffer.sum());
+    }
+    flush();
+    return readValue();
+  }
+
+  private long readValue() {
     DCounterImpl entry = getEntry();
     long value = entry.counter.get();
     counter.set(value);
@@ -39,14 +104,103 @@ public class DCounterImpl extends AbstractDType implements DCounter {
   }
 
   @Override
-  public synchronized long increment(long delta) {
+  public long increment(long delta) {
+    if (buffer == null) {
+      return send(delta);
+    }
+
+    buffer.add(delta);
+    long buffered = buffer.sum();
+    if (flushThreshold > 0 && Math.abs(buffered) >= flushThreshold) {
+      flush();
+    }
+    return counter.get() + buffered;
+  }
+
+  /**
+   * Send the buffered increments. Flushes are synchronized so that the scheduled flush, the
+   * threshold and {@link #get()} do not each send the same buffered amount. Increments made while
+   * flushing are buffered as usual and kept for the next flush. If sending fails, the amount is
+   * returned to the buffer.
+   */
+  @Override
+  public synchronized void flush() {
+    if (buffer == null) {
+      return;
+    }
+    // Only subtract what is sent so that concurrent increments are kept for the next flush
+    long delta = buffer.sum();
+    if (delta != 0) {
+      buffer.add(-delta);
+      try {
+        send(delta);
+      } catch (RuntimeException ex) {
+        buffer.add(delta);
+        throw ex;
+      }
+    }
+  }
+
+  @Override
+  public synchronized void close() {
+    if (flushTask != null) {
+      flushTask.cancel(false);
+      flushTask = null;
+    }
+    flush();
+  }
+
+  @Override
+  public void destroy() {
+    if (flushTask != null) {
+      flushTask.cancel(false);
+    }
+    super.destroy();
+  }
+
+  /**
+   * Apply the given delta locally and send it to the server. If the update fails, the local value
+   * is restored and nothing remains to be sent.
+   */
+  private synchronized long send(long delta) {
     accumulator.addAndGet(delta);
     long result = counter.addAndGet(delta);
-    updateEntry();
+    try {
+      updateEntry();
+    } catch (RuntimeException ex) {
+      // The accumulator is only non-zero while an update is in progress
+      accumulator.set(0);
+      counter.addAndGet(-delta);
+      throw ex;
+    }
+    if (cachedRead != null) {
+      cachedRead.update(result);
+    }
 
     return result;
   }
 
+  private void flushQuietly() {
+    try {
+      flush();
+    } catch (RuntimeException ex) {
+      logger.warn("Unable to flush buffered increments of counter '{}'", getName(), ex);
+    }
+  }
+
+  @Override
+  public DCounterAsync async() {
+    return new Async();
+  }
+
+  /**
+   * Returns an asynchronous view of this instance whose operations are performed by the given
+   * {@link OperationPerformer}.
+   */
+  public DCounterAsync async(OperationPerformer performer) {
+    return new Async(performer);
+  }
+
   @Override
   public void toData(DataOutput dataOutput) throws IOException {
     super.toData(dataOutput);
@@ -59,21 +213,76 @@ public class DCounterImpl extends AbstractDType implements DCounter {
     counter.set(dataInput.readLong());
   }
 
+  /**
+   * A client sends the amount accumulated by its increments since its last update. The primary
+   * instead sends the operation it has just performed to redundant copies, as other types do, so
+   * that nothing is left over when an update is not distributed, as when there is no redundant
+   * copy.
+   */
   @Override
   public boolean hasDelta() {
-    return accumulator.get() != 0;
+    return accumulator.get() != 0 || super.hasDelta();
   }
 
   @Override
   public void toDelta(DataOutput dataOutput) throws IOException {
-    long value;
-    value = accumulator.getAndSet(0);
-    DataSerializer.writePrimitiveLong(value, dataOutput);
+    long value = accumulator.getAndSet(0);
+    boolean isAmount = value != 0 || !super.hasDelta();
+    DataSerializer.writePrimitiveBoolean(isAmount, dataOutput);
+    if (isAmount) {
+      DataSerializer.writePrimitiveLong(value, dataOutput);
+    } else {
+      super.toDelta(dataOutput);
+    }
   }
 
   @Override
   public void fromDelta(DataInput dataInput) throws IOException, InvalidDeltaException {
-    counter.addAndGet(DataSerializer.readPrimitiveLong(dataInput));
+    if (DataSerializer.readPrimitiveBoolean(dataInput)) {
+      counter.addAndGet(DataSerializer.readPrimitiveLong(dataInput));
+    } else {
+      super.fromDelta(dataInput);
+    }
+  }
+
+  /**
+   * Used by the asynchronous view, where the increment is performed on the server so that the
+   * operation can be dispatched like any other. The operation is then also what is sent to
+   * secondaries.
+   */
+  private static DTypeCollectionsFunction incrementFn(long delta) {
+    return new DTypeOperation(INCREMENT, delta);
+  }
+
+  @Override
+  protected Object applyOperation(DTypeOperation op) {
+    switch (op.getOpcode()) {
+      case GET:
+        return counter.get();
+      case INCREMENT:
+        return counter.addAndGet(op.getLongArg(0));
+      default:
+        return super.applyOperation(op);
+    }
+  }
+
+  private class Async extends AsyncView implements DCounterAsync {
+
+    Async() {}
+
+    Async(OperationPerformer performer) {
+      super(performer);
+    }
+
+    @Override
+    public CompletableFuture<Long> get() {
+      return queryAsync(GET_FN, CollectionsBackendFunction.ID);
+    }
+
+    @Override
+    public CompletableFuture<Long> increment(long delta) {
+      return updateAsync(incrementFn(delta), CollectionsBackendFunction.ID);
+    }
   }
 
   @Override
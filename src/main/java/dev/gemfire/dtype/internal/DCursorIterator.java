@@ -0,0 +1,74 @@
+/*
+ * Copyright 2024 Broadcom. All rights reserved.
+ */
+
+package dev.gemfire.dtype.internal;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Iterates a collection on the client by retrieving pages from a server side cursor. While the
+ * elements of one page are being consumed, the next page is already being retrieved.
+ * <p>
+ * This iterator does not support {@code remove}; the iterators of each type wrap it in order to
+ * provide their own removal semantics, performing removals with
+ * {@link AbstractDCollection#removeDuringIteration} so that iteration can continue.
+ */
+class DCursorIterator<E> implements Iterator<E> {
+
+  private final AbstractDCollection collection;
+  private List<Object> elements;
+  private int position = 0;
+  private CompletableFuture<DCursorPage> nextPage;
+  private String cursorId;
+
+  DCursorIterator(AbstractDCollection collection) {
+    this.collection = collection;
+    setPage(collection.openCursor());
+  }
+
+  private void setPage(DCursorPage page) {
+    elements = page.getElements();
+    position = 0;
+    cursorId = page.getCursorId();
+    nextPage = cursorId == null ? null : collection.nextPageAsync(cursorId);
+  }
+
+  /**
+   * Return the id of the server side cursor from which further pages are retrieved, or
+   * {@code null} if the last page has been retrieved.
+   */
+  String getCursorId() {
+    return cursorId;
+  }
+
+  @Override
+  public boolean hasNext() {
+    while (position >= elements.size()) {
+      if (nextPage == null) {
+        return false;
+      }
+      try {
+        setPage(nextPage.join());
+      } catch (CompletionException ex) {
+        if (ex.getCause() instanceof RuntimeException) {
+          throw (RuntimeException) ex.getCause();
+        }
+        throw ex;
+      }
+    }
+    return true;
+  }
+
+  @Override
+  public E next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+    return collection.fromPage(elements.get(position++));
+  }
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2024 Broadcom. All rights reserved.
+ */
+
+package dev.gemfire.dtype.internal;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+
+import org.apache.geode.DataSerializable;
+import org.apache.geode.DataSerializer;
+
+/**
+ * A page of elements returned from a cursor. Elements held in serialized form are sent as their
+ * bytes. If more elements remain, the page carries the id of the cursor that will produce the next
+ * page.
+ */
+public class DCursorPage implements DataSerializable {
+
+  private String cursorId;
+  private Object[] elements;
+
+  public DCursorPage() {}
+
+  DCursorPage(String cursorId, Object[] elements) {
+    this.cursorId = cursorId;
+    this.elements = elements;
+  }
+
+  /**
+   * Return the id of the cursor holding the remaining elements, or {@code null} if this is the
+   * last page.
+   */
+  public String getCursorId() {
+    return cursorId;
+  }
+
+  public List<Object> getElements() {
+    return Arrays.asList(elements);
+  }
+
+  @Override
+  public void toData(DataOutput out) throws IOException {
+    DataSerializer.writeString(cursorId, out);
+    DataSerializer.writePrimitiveInt(elements.length, out);
+    for (Object element : elements) {
+      DataSerializer.writeObject(element, out);
+    }
+  }
+
+  @Override
+  public void fromData(DataInput in) throws IOException, ClassNotFoundException {
+    cursorId = DataSerializer.readString(in);
+    elements = new Object[DataSerializer.readPrimitiveInt(in)];
+    for (int i = 0; i < elements.length; i++) {
+      elements[i] = DataSerializer.readObject(in);
+    }
+  }
+}
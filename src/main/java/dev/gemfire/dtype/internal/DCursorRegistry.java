@@ -0,0 +1,216 @@
+/*
+ * Copyright 2024 Broadcom. All rights reserved.
+ */
+
+package dev.gemfire.dtype.internal;
+
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Holds the open cursors of this server. A cursor is a position within a collection's elements,
+ * from which the client retrieves one page at a time. Cursors iterate the live collection rather
+ * than a copy of it, so each records the collection's modification count and fails with a
+ * {@link ConcurrentModificationException} if the collection has been modified since the previous
+ * page was retrieved. The exception is the removal of elements the cursor has already returned, as
+ * performed by the client's iterator, which is reported to the cursor by
+ * {@link #removedDuringIteration} so that it can continue from the same element.
+ * <p>
+ * A cursor is removed once its last page has been retrieved, or when it has not been used for
+ * {@link #CURSOR_TIMEOUT_MS}, for example because the client stopped iterating. At most
+ * {@link #MAX_CURSORS} cursors are held, after which opening a cursor removes the one that was
+ * used least recently.
+ * <p>
+ * Cursors only exist on the server that created them. If the primary for a collection moves while
+ * it is being iterated, subsequent pages cannot be retrieved and iteration fails with a
+ * {@link ConcurrentModificationException}.
+ */
+public class DCursorRegistry {
+
+  static final long CURSOR_TIMEOUT_MS = Long.getLong("gemfire.dtype.cursor-timeout-ms", 300_000);
+
+  static final int MAX_CURSORS = Integer.getInteger("gemfire.dtype.max-cursors", 1000);
+
+  private static final DCursorRegistry INSTANCE = new DCursorRegistry(MAX_CURSORS);
+
+  private final Map<String, Cursor> cursors = new ConcurrentHashMap<>();
+  private final int maxCursors;
+
+  DCursorRegistry(int maxCursors) {
+    if (maxCursors <= 0) {
+      throw new IllegalArgumentException("maxCursors must be greater than 0");
+    }
+    this.maxCursors = maxCursors;
+  }
+
+  public static DCursorRegistry getInstance() {
+    return INSTANCE;
+  }
+
+  private static class Cursor {
+    private final Object owner;
+    private final Supplier<Iterator<?>> elements;
+    private final int pageSize;
+    private Iterator<?> iterator;
+    // The number of elements returned, and how many of those have since been removed
+    private int position;
+    private int removed;
+    private long modificationCount;
+    private volatile long lastAccessed;
+
+    Cursor(Object owner, long modificationCount, Supplier<Iterator<?>> elements, int pageSize) {
+      this.owner = owner;
+      this.modificationCount = modificationCount;
+      this.elements = elements;
+      this.pageSize = pageSize;
+      iterator = elements.get();
+      lastAccessed = System.currentTimeMillis();
+    }
+
+    synchronized Object[] nextPage(Object owner, long modificationCount) {
+      lastAccessed = System.currentTimeMillis();
+      if (owner != this.owner || modificationCount != this.modificationCount) {
+        throw new ConcurrentModificationException(
+            "The collection was modified while it was being iterated");
+      }
+      if (removed > 0) {
+        // The removals invalidated the iterator, but did not move the remaining elements relative
+        // to each other, so skip those that have already been returned
+        position -= removed;
+        removed = 0;
+        iterator = elements.get();
+        for (int i = 0; i < position && iterator.hasNext(); i++) {
+          iterator.next();
+        }
+      }
+      List<Object> page = new ArrayList<>(pageSize);
+      while (page.size() < pageSize && iterator.hasNext()) {
+        page.add(iterator.next());
+      }
+      position += page.size();
+      return page.toArray();
+    }
+
+    synchronized void removedDuringIteration(Object owner, long modificationCount,
+        boolean removed) {
+      if (owner == this.owner && modificationCount == this.modificationCount) {
+        this.modificationCount++;
+        if (removed) {
+          this.removed++;
+        }
+      }
+    }
+
+    synchronized boolean isExhausted() {
+      return !iterator.hasNext();
+    }
+  }
+
+  /**
+   * Open a cursor over the elements of the given owner and return its first page. If the elements
+   * fit in a single page, no cursor is retained.
+   *
+   * @param owner the collection being iterated, which must be given when retrieving later pages
+   * @param modificationCount the owner's current modification count
+   * @param elements supplies iterators over the owner's elements, in the form in which they are
+   *        sent to the client
+   */
+  public DCursorPage open(Object owner, long modificationCount,
+      Supplier<Iterator<?>> elements, int pageSize) {
+    if (pageSize <= 0) {
+      throw new IllegalArgumentException("pageSize must be greater than 0");
+    }
+    expireIdleCursors();
+
+    Cursor cursor = new Cursor(owner, modificationCount, elements, pageSize);
+    Object[] page = cursor.nextPage(owner, modificationCount);
+    if (cursor.isExhausted()) {
+      return new DCursorPage(null, page);
+    }
+
+    evictLeastRecentlyUsed();
+    String id = UUID.randomUUID().toString();
+    cursors.put(id, cursor);
+    return new DCursorPage(id, page);
+  }
+
+  /**
+   * Return the next page of the given cursor.
+   *
+   * @param owner the collection being iterated
+   * @param modificationCount the owner's current modification count
+   * @throws ConcurrentModificationException if the cursor is no longer available, or the owner
+   *         has been modified since the previous page was retrieved
+   */
+  public DCursorPage nextPage(String id, Object owner, long modificationCount) {
+    Cursor cursor = cursors.get(id);
+    if (cursor == null) {
+      throw new ConcurrentModificationException("Cursor " + id + " is no longer available");
+    }
+
+    Object[] page;
+    try {
+      page = cursor.nextPage(owner, modificationCount);
+    } catch (RuntimeException ex) {
+      cursors.remove(id);
+      throw ex;
+    }
+    if (cursor.isExhausted()) {
+      cursors.remove(id);
+      return new DCursorPage(null, page);
+    }
+    return new DCursorPage(id, page);
+  }
+
+  /**
+   * Record that an update, which may have removed an element that the given cursor has already
+   * returned, has been applied to the owner of the cursor. The update must increment the owner's
+   * modification count once it has been applied. If the cursor no longer exists, for example
+   * because it has returned its last page, this does nothing.
+   *
+   * @param modificationCount the owner's modification count before the update was applied
+   * @param removed whether the update removed an element
+   */
+  public void removedDuringIteration(String id, Object owner, long modificationCount,
+      boolean removed) {
+    Cursor cursor = cursors.get(id);
+    if (cursor != null) {
+      cursor.removedDuringIteration(owner, modificationCount, removed);
+    }
+  }
+
+  int size() {
+    return cursors.size();
+  }
+
+  private void expireIdleCursors() {
+    long expiry = System.currentTimeMillis() - CURSOR_TIMEOUT_MS;
+    cursors.values().removeIf(cursor -> cursor.lastAccessed < expiry);
+  }
+
+  /**
+   * Make room for another cursor by removing those used least recently.
+   */
+  private void evictLeastRecentlyUsed() {
+    while (cursors.size() >= maxCursors) {
+      String oldest = null;
+      long oldestAccess = Long.MAX_VALUE;
+      for (Map.Entry<String, Cursor> entry : cursors.entrySet()) {
+        if (entry.getValue().lastAccessed < oldestAccess) {
+          oldest = entry.getKey();
+          oldestAccess = entry.getValue().lastAccessed;
+        }
+      }
+      if (oldest == null) {
+        return;
+      }
+      cursors.remove(oldest);
+    }
+  }
+}
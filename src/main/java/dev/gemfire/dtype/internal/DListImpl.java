@@ -8,39 +8,74 @@ import java.io.DataInput;
 import java.io.DataOutput;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Comparator;
+import java.util.HashSet;
 import java.util.Iterator;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.ListIterator;
+import java.util.Set;
 import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.locks.Lock;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.function.UnaryOperator;
 
 import dev.gemfire.dtype.DList;
+import dev.gemfire.dtype.DListAsync;
+import dev.gemfire.dtype.DStream;
+import dev.gemfire.dtype.ElementStorage;
 
 import org.apache.geode.DataSerializer;
 
-public class DListImpl<E> extends AbstractDType implements DList<E> {
-
-  private LinkedList<E> list;
-
-  // A few lambdas that can be static since they don't need to capture any values.
-  private static final DTypeCollectionsFunction SIZE_FN = x -> ((DListImpl<?>) x).list.size();
-  private static final DTypeCollectionsFunction IS_EMPTY_FN =
-      x -> ((DListImpl<?>) x).list.isEmpty();
-  private static final DTypeCollectionsFunction CLEAR_FN = x -> {
-    ((DListImpl<?>) x).list.clear();
-    return null;
-  };
+public class DListImpl<E> extends AbstractDCollection implements DList<E> {
+
+  private ArrayList<Object> list;
+
+  private static final int SIZE = 1;
+  private static final int IS_EMPTY = 2;
+  private static final int CLEAR = 3;
+  private static final int CONTAINS = 4;
+  private static final int ADD = 5;
+  private static final int ADD_AT = 6;
+  private static final int REMOVE = 7;
+  private static final int GET = 8;
+  private static final int SET = 9;
+  private static final int REMOVE_AT = 10;
+  private static final int CONTAINS_ALL = 11;
+  private static final int ADD_ALL = 12;
+  private static final int ADD_ALL_AT = 13;
+  private static final int REMOVE_ALL = 14;
+  private static final int RETAIN_ALL = 15;
+  private static final int INDEX_OF = 16;
+  private static final int LAST_INDEX_OF = 17;
+  private static final int SUB_LIST = 18;
+  private static final int REPLACE_ALL = 19;
+  private static final int SORT = 20;
+  private static final int REMOVE_IF = 21;
+
+  // Opcodes for the effects of operations, which are applied to redundant copies
+  private static final int REMOVE_INDEXES = 22;
+  private static final int REORDER = 23;
+  private static final int SET_ELEMENTS = 24;
+
+  // A few operations that can be static since they don't have any arguments.
+  private static final DTypeCollectionsFunction SIZE_FN = new DTypeOperation(SIZE);
+  private static final DTypeCollectionsFunction IS_EMPTY_FN = new DTypeOperation(IS_EMPTY);
+  private static final DTypeCollectionsFunction CLEAR_FN = new DTypeOperation(CLEAR);
 
   public DListImpl() {}
 
   public DListImpl(String name) {
-    super(name);
-    list = new LinkedList<>();
+    this(name, ElementStorage.OBJECT);
+  }
+
+  public DListImpl(String name, ElementStorage storage) {
+    super(name, storage);
+    list = new ArrayList<>();
   }
 
   @Override
@@ -55,55 +90,37 @@ public class DListImpl<E> extends AbstractDType implements DList<E> {
 
   @Override
   public boolean contains(Object o) {
-    byte[] arg = serialize(o);
-    DTypeCollectionsFunction fn = x -> ((DListImpl<?>) x).list.contains(deserialize(arg));
-    return query(fn, CollectionsBackendFunction.ID);
+    return query(containsFn(o), CollectionsBackendFunction.ID);
   }
 
   @Override
-  @SuppressWarnings("unchecked")
   public boolean add(E e) {
-    byte[] arg = serialize(e);
-    DTypeCollectionsFunction fn = x -> ((DListImpl<E>) x).list.add(deserialize(arg));
-    return update(fn, CollectionsBackendFunction.ID);
+    return update(addFn(e), CollectionsBackendFunction.ID);
   }
 
   @Override
-  @SuppressWarnings("unchecked")
   public void add(int index, E e) {
-    byte[] arg = serialize(e);
-    DTypeCollectionsFunction fn = x -> {
-      ((DListImpl<E>) x).list.add(index, deserialize(arg));
-      return null;
-    };
-    update(fn, CollectionsBackendFunction.ID);
+    update(addFn(index, e), CollectionsBackendFunction.ID);
   }
 
   @Override
   public boolean remove(Object o) {
-    byte[] arg = serialize(o);
-    DTypeCollectionsFunction fn = x -> ((DListImpl<?>) x).list.remove(deserialize(arg));
-    return update(fn, CollectionsBackendFunction.ID);
+    return update(removeFn(o), CollectionsBackendFunction.ID);
   }
 
   @Override
   public E get(int index) {
-    DTypeCollectionsFunction fn = x -> ((DListImpl<?>) x).list.get(index);
-    return update(fn, CollectionsBackendFunction.ID);
+    return query(getFn(index), CollectionsBackendFunction.ID);
   }
 
   @Override
-  @SuppressWarnings("unchecked")
   public E set(int index, E e) {
-    byte[] arg = serialize(e);
-    DTypeCollectionsFunction fn = x -> ((DListImpl<E>) x).list.set(index, deserialize(arg));
-    return update(fn, CollectionsBackendFunction.ID);
+    return update(setFn(index, e), CollectionsBackendFunction.ID);
   }
 
   @Override
   public E remove(int index) {
-    DTypeCollectionsFunction fn = x -> ((DListImpl<?>) x).list.remove(index);
-    return update(fn, CollectionsBackendFunction.ID);
+    return update(removeFn(index), CollectionsBackendFunction.ID);
   }
 
   @Override
@@ -112,10 +129,10 @@ public class DListImpl<E> extends AbstractDType implements DList<E> {
   }
 
   private class DelegatingListIterator implements Iterator<E> {
-    private Iterator<E> outer;
+    private DCursorIterator<E> outer;
     private int index = 0;
 
-    DelegatingListIterator(Iterator<E> outer) {
+    DelegatingListIterator(DCursorIterator<E> outer) {
       this.outer = outer;
     }
 
@@ -133,164 +150,468 @@ public class DListImpl<E> extends AbstractDType implements DList<E> {
     @Override
     public void remove() {
       index--;
-      DListImpl.this.remove(index);
+      removeDuringIteration(outer, removeFn(index));
     }
   }
 
   /**
    * {@inheritDoc}
    * <p>
-   * Note that iteration occurs on the client. As such, the entire structure will be serialized to
-   * the client and then discarded once iteration is complete. Any {@code remove} calls will be
-   * submitted to the structure maintained on the server.
+   * Note that iteration occurs on the client, retrieving the list from the server a page at a
+   * time. Any {@code remove} calls will be submitted to the structure maintained on the server.
+   * Other modifications made to the list while it is being iterated cause the iterator to fail
+   * with a {@link java.util.ConcurrentModificationException}.
    */
   @Override
   public Iterator<E> iterator() {
-    DListImpl<E> entry = getEntry();
-    return new DelegatingListIterator(entry.list.iterator());
+    return new DelegatingListIterator(new DCursorIterator<>(this));
   }
 
   @Override
   public Object[] toArray() {
-    DListImpl<E> entry = getEntry();
-    return entry.list.toArray();
+    return getPagedValues().toArray();
   }
 
   @Override
   public <T> T[] toArray(T[] a) {
-    DListImpl<E> entry = getEntry();
-    return entry.list.toArray(a);
+    return getPagedValues().toArray(a);
   }
 
   @Override
   public boolean containsAll(Collection<?> c) {
-    byte[] arg = serialize(c);
-    DTypeCollectionsFunction fn = x -> ((DListImpl<?>) x).list.containsAll(deserialize(arg));
-    return query(fn, CollectionsBackendFunction.ID);
+    return query(containsAllFn(c), CollectionsBackendFunction.ID);
   }
 
   @Override
-  @SuppressWarnings("unchecked")
   public boolean addAll(Collection<? extends E> c) {
-    byte[] arg = serialize(c);
-    DTypeCollectionsFunction fn = x -> ((DListImpl<E>) x).list.addAll(deserialize(arg));
-    return update(fn, CollectionsBackendFunction.ID);
+    return update(addAllFn(c), CollectionsBackendFunction.ID);
   }
 
   @Override
-  @SuppressWarnings("unchecked")
   public boolean addAll(int index, Collection<? extends E> c) {
-    byte[] arg = serialize(c);
-    DTypeCollectionsFunction fn = x -> ((DListImpl<E>) x).list.addAll(index, deserialize(arg));
-    return update(fn, CollectionsBackendFunction.ID);
+    return update(new DTypeOperation(ADD_ALL_AT, index, serializeElements(c)),
+        CollectionsBackendFunction.ID);
   }
 
   @Override
-  @SuppressWarnings("unchecked")
   public boolean removeAll(Collection<?> c) {
-    byte[] arg = serialize(c);
-    DTypeCollectionsFunction fn = x -> ((DListImpl<E>) x).list.removeAll(deserialize(arg));
-    return update(fn, CollectionsBackendFunction.ID);
+    return update(removeAllFn(c), CollectionsBackendFunction.ID);
   }
 
   @Override
-  @SuppressWarnings("unchecked")
   public boolean retainAll(Collection<?> c) {
-    byte[] arg = serialize(c);
-    DTypeCollectionsFunction fn = x -> ((DListImpl<E>) x).list.retainAll(deserialize(arg));
-    return update(fn, CollectionsBackendFunction.ID);
+    return update(retainAllFn(c), CollectionsBackendFunction.ID);
   }
 
   @Override
   public int indexOf(Object o) {
-    byte[] arg = serialize(o);
-    DTypeCollectionsFunction fn = x -> ((DListImpl<?>) x).list.indexOf(deserialize(arg));
-    return query(fn, CollectionsBackendFunction.ID);
+    return query(indexOfFn(o), CollectionsBackendFunction.ID);
   }
 
   @Override
   public int lastIndexOf(Object o) {
-    byte[] arg = serialize(o);
-    DTypeCollectionsFunction fn = x -> ((DListImpl<?>) x).list.lastIndexOf(deserialize(arg));
-    return query(fn, CollectionsBackendFunction.ID);
+    return query(lastIndexOfFn(o), CollectionsBackendFunction.ID);
   }
 
   @Override
-  @SuppressWarnings("unchecked")
   public ListIterator<E> listIterator() {
-    return ((DListImpl<E>) getEntry()).list.listIterator();
+    return this.<E>getPagedValues().listIterator();
   }
 
   @Override
-  @SuppressWarnings("unchecked")
   public ListIterator<E> listIterator(int index) {
-    return ((DListImpl<E>) getEntry()).list.listIterator(index);
+    return this.<E>getPagedValues().listIterator(index);
   }
 
   @Override
-  @SuppressWarnings("unchecked")
   public List<E> subList(int fromIndex, int toIndex) {
-    DTypeCollectionsFunction fn =
-        x -> new ArrayList<>(((DListImpl<E>) x).list.subList(fromIndex, toIndex));
-    return query(fn, CollectionsBackendFunction.ID);
+    return query(new DTypeOperation(SUB_LIST, fromIndex, toIndex), CollectionsBackendFunction.ID);
   }
 
   @Override
-  @SuppressWarnings("unchecked")
   public void replaceAll(UnaryOperator<E> operator) {
-    DTypeCollectionsFunction fn = x -> {
-      ((DListImpl<E>) x).list.replaceAll(operator);
-      return null;
-    };
-    update(fn, CollectionsBackendFunction.ID);
+    update(new DTypeOperation(REPLACE_ALL, operator), CollectionsBackendFunction.ID);
   }
 
   @Override
-  @SuppressWarnings("unchecked")
   public void sort(Comparator<? super E> comparator) {
-    DTypeCollectionsFunction fn = x -> {
-      ((DListImpl<E>) x).list.sort(comparator);
-      return null;
-    };
-    update(fn, CollectionsBackendFunction.ID);
+    update(new DTypeOperation(SORT, comparator), CollectionsBackendFunction.ID);
   }
 
   @Override
-  @SuppressWarnings("unchecked")
   public Spliterator<E> spliterator() {
-    return ((DListImpl<E>) getEntry()).list.spliterator();
+    return Spliterators.spliteratorUnknownSize(new DCursorIterator<>(this), Spliterator.ORDERED);
   }
 
   @Override
-  @SuppressWarnings("unchecked")
   public boolean removeIf(Predicate<? super E> filter) {
-    DTypeCollectionsFunction fn = x -> ((DListImpl<E>) x).list.removeIf(filter);
-    return update(fn, CollectionsBackendFunction.ID);
+    return update(new DTypeOperation(REMOVE_IF, filter), CollectionsBackendFunction.ID);
   }
 
   @Override
-  @SuppressWarnings("unchecked")
   public void forEach(Consumer<? super E> action) {
-    ((DListImpl<E>) getEntry()).list.forEach(action);
+    new DCursorIterator<E>(this).forEachRemaining(action);
+  }
+
+  @Override
+  public DStream<E> dstream() {
+    return newStream();
+  }
+
+  @Override
+  public DListAsync<E> async() {
+    return new Async();
+  }
+
+  /**
+   * Returns an asynchronous view of this instance whose operations are performed by the given
+   * {@link OperationPerformer}.
+   */
+  public DListAsync<E> async(OperationPerformer performer) {
+    return new Async(performer);
+  }
+
+  private static DTypeCollectionsFunction containsFn(Object o) {
+    return new DTypeOperation(CONTAINS, serializeElement(o));
+  }
+
+  private static DTypeCollectionsFunction addFn(Object e) {
+    return new DTypeOperation(ADD, serializeElement(e));
+  }
+
+  private static DTypeCollectionsFunction addFn(int index, Object e) {
+    return new DTypeOperation(ADD_AT, index, serializeElement(e));
+  }
+
+  private static DTypeCollectionsFunction removeFn(Object o) {
+    return new DTypeOperation(REMOVE, serializeElement(o));
+  }
+
+  private static DTypeCollectionsFunction getFn(int index) {
+    return new DTypeOperation(GET, index);
+  }
+
+  private static DTypeCollectionsFunction setFn(int index, Object e) {
+    return new DTypeOperation(SET, index, serializeElement(e));
+  }
+
+  private static DTypeCollectionsFunction removeFn(int index) {
+    return new DTypeOperation(REMOVE_AT, index);
+  }
+
+  private static DTypeCollectionsFunction containsAllFn(Collection<?> c) {
+    return new DTypeOperation(CONTAINS_ALL, (Object) serializeElements(c));
+  }
+
+  private static DTypeCollectionsFunction addAllFn(Collection<?> c) {
+    return new DTypeOperation(ADD_ALL, (Object) serializeElements(c));
+  }
+
+  private static DTypeCollectionsFunction removeAllFn(Collection<?> c) {
+    return new DTypeOperation(REMOVE_ALL, (Object) serializeElements(c));
+  }
+
+  private static DTypeCollectionsFunction retainAllFn(Collection<?> c) {
+    return new DTypeOperation(RETAIN_ALL, (Object) serializeElements(c));
+  }
+
+  private static DTypeCollectionsFunction indexOfFn(Object o) {
+    return new DTypeOperation(INDEX_OF, serializeElement(o));
+  }
+
+  private static DTypeCollectionsFunction lastIndexOfFn(Object o) {
+    return new DTypeOperation(LAST_INDEX_OF, serializeElement(o));
+  }
+
+  @Override
+  protected Collection<?> getStoredElements() {
+    return list;
+  }
+
+  @Override
+  protected Object applyOperation(DTypeOperation op) {
+    switch (op.getOpcode()) {
+      case SIZE:
+        return list.size();
+      case IS_EMPTY:
+        return list.isEmpty();
+      case CLEAR:
+        list.clear();
+        return null;
+      case CONTAINS:
+        return list.contains(toLookup(op.getArg(0)));
+      case ADD:
+        return list.add(toStored(op.getArg(0)));
+      case ADD_AT:
+        list.add(op.getIntArg(0), toStored(op.getArg(1)));
+        return null;
+      case REMOVE:
+        return list.remove(toLookup(op.getArg(0)));
+      case GET:
+        return toValue(list.get(op.getIntArg(0)));
+      case SET:
+        return toValue(list.set(op.getIntArg(0), toStored(op.getArg(1))));
+      case REMOVE_AT:
+        return toValue(list.remove(op.getIntArg(0)));
+      case CONTAINS_ALL:
+        return list.containsAll(toLookupAll(op.getArg(0)));
+      case ADD_ALL:
+        return list.addAll(toStoredAll(op.getArg(0)));
+      case ADD_ALL_AT:
+        return list.addAll(op.getIntArg(0), toStoredAll(op.getArg(1)));
+      case REMOVE_ALL: {
+        Set<Object> elements = new HashSet<>(toLookupAll(op.getArg(0)));
+        return removeMatching(elements::contains);
+      }
+      case RETAIN_ALL: {
+        Set<Object> elements = new HashSet<>(toLookupAll(op.getArg(0)));
+        return removeMatching(e -> !elements.contains(e));
+      }
+      case INDEX_OF:
+        return list.indexOf(toLookup(op.getArg(0)));
+      case LAST_INDEX_OF:
+        return list.lastIndexOf(toLookup(op.getArg(0)));
+      case SUB_LIST:
+        return new ArrayList<>(toValues(list.subList(op.getIntArg(0), op.getIntArg(1))));
+      case REPLACE_ALL:
+        replaceValues(op.getArg(0));
+        return null;
+      case SORT:
+        sortValues(op.getArg(0));
+        return null;
+      case REMOVE_IF: {
+        Predicate<Object> filter = op.getArg(0);
+        return removeMatching(e -> filter.test(toValue(e)));
+      }
+      case REMOVE_INDEXES: {
+        int[] indexes = op.getArg(0);
+        removeIndexes(indexes, indexes.length);
+        return null;
+      }
+      case REORDER:
+        reorder(op.getArg(0));
+        return null;
+      case SET_ELEMENTS:
+        setElements(op.getArg(0), null);
+        return null;
+      default:
+        return super.applyOperation(op);
+    }
+  }
+
+  /**
+   * Remove the stored elements matching the given filter. The indexes of the removed elements are
+   * recorded as the effect of the operation, so that redundant copies neither test each element
+   * again nor run the filter, which may be user code. This includes the case where nothing is
+   * removed, since a filter that matches nothing here may match elements of another copy.
+   */
+  private boolean removeMatching(Predicate<Object> filter) {
+    // Test every element before changing the list, so that it is unchanged if the filter fails
+    int[] indexes = new int[list.size()];
+    int count = 0;
+    for (int i = 0; i < list.size(); i++) {
+      if (filter.test(list.get(i))) {
+        indexes[count++] = i;
+      }
+    }
+    removeIndexes(indexes, count);
+    setDeltaEffect(new DTypeOperation(REMOVE_INDEXES, Arrays.copyOf(indexes, count)));
+    return count > 0;
+  }
+
+  /**
+   * Remove the elements at the first {@code count} of the given indexes, which are in ascending
+   * order, shifting the remaining elements down in a single pass.
+   */
+  private void removeIndexes(int[] indexes, int count) {
+    if (count == 0) {
+      return;
+    }
+    int kept = indexes[0];
+    int next = 0;
+    for (int i = indexes[0]; i < list.size(); i++) {
+      if (next < count && indexes[next] == i) {
+        next++;
+      } else {
+        list.set(kept++, list.get(i));
+      }
+    }
+    list.subList(kept, list.size()).clear();
+  }
+
+  /**
+   * Replace each element with the result of the given operator. The new elements are recorded in
+   * serialized form as the effect of the operation, since the operator is user code.
+   */
+  private void replaceValues(UnaryOperator<Object> operator) {
+    Object[] values = new Object[list.size()];
+    byte[][] elements = new byte[list.size()][];
+    for (int i = 0; i < values.length; i++) {
+      values[i] = operator.apply(toValue(list.get(i)));
+      elements[i] = serializeElement(values[i]);
+    }
+
+    setElements(elements, isStoredAsBytes() ? null : values);
+    setDeltaEffect(new DTypeOperation(SET_ELEMENTS, (Object) elements));
+  }
+
+  /**
+   * Replace each element with the given serialized element or, if {@code values} is not
+   * {@code null}, with the given deserialized value.
+   */
+  private void setElements(byte[][] elements, Object[] values) {
+    for (int i = 0; i < elements.length; i++) {
+      list.set(i, values != null ? values[i] : toStored(elements[i]));
+    }
+  }
+
+  /**
+   * Sort the list. When elements are held in serialized form, each element is deserialized once.
+   * The resulting order is recorded as the effect of the operation, so that redundant copies
+   * neither compare elements again nor run the comparator, which may be user code.
+   */
+  @SuppressWarnings("unchecked")
+  private void sortValues(Comparator<Object> comparator) {
+    Comparator<Object> valueComparator = comparator != null ? comparator
+        : (a, b) -> ((Comparable<Object>) a).compareTo(b);
+    Object[] values = new Object[list.size()];
+    Integer[] order = new Integer[list.size()];
+    for (int i = 0; i < values.length; i++) {
+      values[i] = isStoredAsBytes() ? toValue(list.get(i)) : list.get(i);
+      order[i] = i;
+    }
+    // The sort is stable, as with List.sort
+    Arrays.sort(order, (a, b) -> valueComparator.compare(values[a], values[b]));
+
+    int[] positions = new int[order.length];
+    for (int i = 0; i < order.length; i++) {
+      positions[i] = order[i];
+    }
+    reorder(positions);
+    setDeltaEffect(new DTypeOperation(REORDER, positions));
+  }
+
+  /**
+   * Rearrange the list so that the element at each index {@code i} is the one previously at
+   * {@code positions[i]}.
+   */
+  private void reorder(int[] positions) {
+    Object[] elements = list.toArray();
+    for (int i = 0; i < positions.length; i++) {
+      list.set(i, elements[positions[i]]);
+    }
+  }
+
+  private class Async extends AsyncView implements DListAsync<E> {
+
+    Async() {}
+
+    Async(OperationPerformer performer) {
+      super(performer);
+    }
+
+    @Override
+    public CompletableFuture<Boolean> add(E e) {
+      return updateAsync(addFn(e), CollectionsBackendFunction.ID);
+    }
+
+    @Override
+    public CompletableFuture<Void> add(int index, E e) {
+      return updateAsync(addFn(index, e), CollectionsBackendFunction.ID);
+    }
+
+    @Override
+    public CompletableFuture<Boolean> remove(Object o) {
+      return updateAsync(removeFn(o), CollectionsBackendFunction.ID);
+    }
+
+    @Override
+    public CompletableFuture<E> remove(int index) {
+      return updateAsync(removeFn(index), CollectionsBackendFunction.ID);
+    }
+
+    @Override
+    public CompletableFuture<E> get(int index) {
+      return queryAsync(getFn(index), CollectionsBackendFunction.ID);
+    }
+
+    @Override
+    public CompletableFuture<E> set(int index, E e) {
+      return updateAsync(setFn(index, e), CollectionsBackendFunction.ID);
+    }
+
+    @Override
+    public CompletableFuture<Boolean> contains(Object o) {
+      return queryAsync(containsFn(o), CollectionsBackendFunction.ID);
+    }
+
+    @Override
+    public CompletableFuture<Integer> indexOf(Object o) {
+      return queryAsync(indexOfFn(o), CollectionsBackendFunction.ID);
+    }
+
+    @Override
+    public CompletableFuture<Integer> lastIndexOf(Object o) {
+      return queryAsync(lastIndexOfFn(o), CollectionsBackendFunction.ID);
+    }
+
+    @Override
+    public CompletableFuture<Boolean> addAll(Collection<? extends E> c) {
+      return updateAsync(addAllFn(c), CollectionsBackendFunction.ID);
+    }
+
+    @Override
+    public CompletableFuture<Boolean> removeAll(Collection<?> c) {
+      return updateAsync(removeAllFn(c), CollectionsBackendFunction.ID);
+    }
+
+    @Override
+    public CompletableFuture<Boolean> retainAll(Collection<?> c) {
+      return updateAsync(retainAllFn(c), CollectionsBackendFunction.ID);
+    }
+
+    @Override
+    public CompletableFuture<Boolean> containsAll(Collection<?> c) {
+      return queryAsync(containsAllFn(c), CollectionsBackendFunction.ID);
+    }
+
+    @Override
+    public CompletableFuture<Integer> size() {
+      return queryAsync(SIZE_FN, CollectionsBackendFunction.ID);
+    }
+
+    @Override
+    public CompletableFuture<Boolean> isEmpty() {
+      return queryAsync(IS_EMPTY_FN, CollectionsBackendFunction.ID);
+    }
+
+    @Override
+    public CompletableFuture<Void> clear() {
+      return updateAsync(CLEAR_FN, CollectionsBackendFunction.ID);
+    }
   }
 
   @Override
-  public synchronized void toData(DataOutput out) throws IOException {
-    super.toData(out);
-    DataSerializer.writePrimitiveInt(list.size(), out);
-    for (E element : list) {
-      DataSerializer.writeObject(element, out);
+  public void toData(DataOutput out) throws IOException {
+    Lock lock = lockForSerialization();
+    try {
+      super.toData(out);
+      DataSerializer.writePrimitiveInt(list.size(), out);
+      for (Object element : list) {
+        writeElement(element, out);
+      }
+    } finally {
+      lock.unlock();
     }
   }
 
   @Override
   public void fromData(DataInput in) throws IOException, ClassNotFoundException {
     super.fromData(in);
-    list = new LinkedList<>();
     int size = DataSerializer.readPrimitiveInt(in);
+    list = new ArrayList<>(size);
     for (int i = 0; i < size; ++i) {
-      E element = DataSerializer.readObject(in);
-      list.addLast(element);
+      list.add(readElement(in));
     }
   }
 
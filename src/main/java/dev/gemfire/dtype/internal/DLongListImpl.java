@@ -0,0 +1,299 @@
+/*
+ * Copyright 2024 Broadcom. All rights reserved.
+ */
+
+package dev.gemfire.dtype.internal;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.locks.Lock;
+
+import dev.gemfire.dtype.DLongList;
+import dev.gemfire.dtype.DLongListAsync;
+
+import org.apache.geode.DataSerializer;
+
+public class DLongListImpl extends AbstractDType implements DLongList {
+
+  private transient LongArrayList list;
+
+  private static final int ADD = 1;
+  private static final int ADD_AT = 2;
+  private static final int ADD_ALL = 3;
+  private static final int GET = 4;
+  private static final int SET = 5;
+  private static final int REMOVE_AT = 6;
+  private static final int REMOVE = 7;
+  private static final int CONTAINS = 8;
+  private static final int INDEX_OF = 9;
+  private static final int LAST_INDEX_OF = 10;
+  private static final int SIZE = 11;
+  private static final int IS_EMPTY = 12;
+  private static final int CLEAR = 13;
+  private static final int SORT = 14;
+  private static final int TO_ARRAY = 15;
+  private static final int TO_ARRAY_RANGE = 16;
+
+  // A few operations that can be static since they don't have any arguments.
+  private static final DTypeCollectionsFunction SIZE_FN = new DTypeOperation(SIZE);
+  private static final DTypeCollectionsFunction IS_EMPTY_FN = new DTypeOperation(IS_EMPTY);
+  private static final DTypeCollectionsFunction CLEAR_FN = new DTypeOperation(CLEAR);
+  private static final DTypeCollectionsFunction SORT_FN = new DTypeOperation(SORT);
+  private static final DTypeCollectionsFunction TO_ARRAY_FN = new DTypeOperation(TO_ARRAY);
+
+  public DLongListImpl() {}
+
+  public DLongListImpl(String name) {
+    super(name);
+    list = new LongArrayList();
+  }
+
+  @Override
+  public void add(long value) {
+    update(addFn(value), CollectionsBackendFunction.ID);
+  }
+
+  @Override
+  public void add(int index, long value) {
+    update(new DTypeOperation(ADD_AT, index, value), CollectionsBackendFunction.ID);
+  }
+
+  @Override
+  public boolean addAll(long... values) {
+    return update(addAllFn(values), CollectionsBackendFunction.ID);
+  }
+
+  @Override
+  public long get(int index) {
+    return query(getFn(index), CollectionsBackendFunction.ID);
+  }
+
+  @Override
+  public long set(int index, long value) {
+    return update(setFn(index, value), CollectionsBackendFunction.ID);
+  }
+
+  @Override
+  public long removeAt(int index) {
+    return update(removeAtFn(index), CollectionsBackendFunction.ID);
+  }
+
+  @Override
+  public boolean remove(long value) {
+    return update(removeFn(value), CollectionsBackendFunction.ID);
+  }
+
+  @Override
+  public boolean contains(long value) {
+    return query(new DTypeOperation(CONTAINS, value), CollectionsBackendFunction.ID);
+  }
+
+  @Override
+  public int indexOf(long value) {
+    return query(new DTypeOperation(INDEX_OF, value), CollectionsBackendFunction.ID);
+  }
+
+  @Override
+  public int lastIndexOf(long value) {
+    return query(new DTypeOperation(LAST_INDEX_OF, value), CollectionsBackendFunction.ID);
+  }
+
+  @Override
+  public int size() {
+    return query(SIZE_FN, CollectionsBackendFunction.ID);
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return query(IS_EMPTY_FN, CollectionsBackendFunction.ID);
+  }
+
+  @Override
+  public void clear() {
+    update(CLEAR_FN, CollectionsBackendFunction.ID);
+  }
+
+  @Override
+  public void sort() {
+    update(SORT_FN, CollectionsBackendFunction.ID);
+  }
+
+  @Override
+  public long[] toArray() {
+    return query(TO_ARRAY_FN, CollectionsBackendFunction.ID);
+  }
+
+  @Override
+  public long[] toArray(int fromIndex, int toIndex) {
+    return query(new DTypeOperation(TO_ARRAY_RANGE, fromIndex, toIndex),
+        CollectionsBackendFunction.ID);
+  }
+
+  @Override
+  public DLongListAsync async() {
+    return new Async();
+  }
+
+  /**
+   * Returns an asynchronous view of this instance whose operations are performed by the given
+   * {@link OperationPerformer}.
+   */
+  public DLongListAsync async(OperationPerformer performer) {
+    return new Async(performer);
+  }
+
+  @Override
+  int getElementCount() {
+    return list.size();
+  }
+
+  @Override
+  long getApproximateSize() {
+    return (long) Long.BYTES * list.size();
+  }
+
+  private static DTypeCollectionsFunction addFn(long value) {
+    return new DTypeOperation(ADD, value);
+  }
+
+  private static DTypeCollectionsFunction addAllFn(long[] values) {
+    return new DTypeOperation(ADD_ALL, values.clone());
+  }
+
+  private static DTypeCollectionsFunction getFn(int index) {
+    return new DTypeOperation(GET, index);
+  }
+
+  private static DTypeCollectionsFunction setFn(int index, long value) {
+    return new DTypeOperation(SET, index, value);
+  }
+
+  private static DTypeCollectionsFunction removeAtFn(int index) {
+    return new DTypeOperation(REMOVE_AT, index);
+  }
+
+  private static DTypeCollectionsFunction removeFn(long value) {
+    return new DTypeOperation(REMOVE, value);
+  }
+
+  @Override
+  protected Object applyOperation(DTypeOperation op) {
+    switch (op.getOpcode()) {
+      case ADD:
+        list.add(op.getLongArg(0));
+        return null;
+      case ADD_AT:
+        list.add(op.getIntArg(0), op.getLongArg(1));
+        return null;
+      case ADD_ALL: {
+        long[] values = op.getArg(0);
+        list.addAll(values);
+        return values.length > 0;
+      }
+      case GET:
+        return list.get(op.getIntArg(0));
+      case SET:
+        return list.set(op.getIntArg(0), op.getLongArg(1));
+      case REMOVE_AT:
+        return list.removeAt(op.getIntArg(0));
+      case REMOVE:
+        return list.remove(op.getLongArg(0));
+      case CONTAINS:
+        return list.indexOf(op.getLongArg(0)) >= 0;
+      case INDEX_OF:
+        return list.indexOf(op.getLongArg(0));
+      case LAST_INDEX_OF:
+        return list.lastIndexOf(op.getLongArg(0));
+      case SIZE:
+        return list.size();
+      case IS_EMPTY:
+        return list.isEmpty();
+      case CLEAR:
+        list.clear();
+        return null;
+      case SORT:
+        list.sort();
+        return null;
+      case TO_ARRAY:
+        return list.toArray();
+      case TO_ARRAY_RANGE:
+        return list.toArray(op.getIntArg(0), op.getIntArg(1));
+      default:
+        return super.applyOperation(op);
+    }
+  }
+
+  private class Async extends AsyncView implements DLongListAsync {
+
+    Async() {}
+
+    Async(OperationPerformer performer) {
+      super(performer);
+    }
+
+    @Override
+    public CompletableFuture<Void> add(long value) {
+      return updateAsync(addFn(value), CollectionsBackendFunction.ID);
+    }
+
+    @Override
+    public CompletableFuture<Boolean> addAll(long... values) {
+      return updateAsync(addAllFn(values), CollectionsBackendFunction.ID);
+    }
+
+    @Override
+    public CompletableFuture<Long> get(int index) {
+      return queryAsync(getFn(index), CollectionsBackendFunction.ID);
+    }
+
+    @Override
+    public CompletableFuture<Long> set(int index, long value) {
+      return updateAsync(setFn(index, value), CollectionsBackendFunction.ID);
+    }
+
+    @Override
+    public CompletableFuture<Long> removeAt(int index) {
+      return updateAsync(removeAtFn(index), CollectionsBackendFunction.ID);
+    }
+
+    @Override
+    public CompletableFuture<Boolean> remove(long value) {
+      return updateAsync(removeFn(value), CollectionsBackendFunction.ID);
+    }
+
+    @Override
+    public CompletableFuture<Integer> size() {
+      return queryAsync(SIZE_FN, CollectionsBackendFunction.ID);
+    }
+
+    @Override
+    public CompletableFuture<Void> clear() {
+      return updateAsync(CLEAR_FN, CollectionsBackendFunction.ID);
+    }
+
+    @Override
+    public CompletableFuture<long[]> toArray() {
+      return queryAsync(TO_ARRAY_FN, CollectionsBackendFunction.ID);
+    }
+  }
+
+  @Override
+  public void toData(DataOutput out) throws IOException {
+    Lock lock = lockForSerialization();
+    try {
+      super.toData(out);
+      DataSerializer.writeLongArray(list.toArray(), out);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  @Override
+  public void fromData(DataInput in) throws IOException, ClassNotFoundException {
+    super.fromData(in);
+    list = new LongArrayList(DataSerializer.readLongArray(in));
+  }
+
+}
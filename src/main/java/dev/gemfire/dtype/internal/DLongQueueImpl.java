@@ -0,0 +1,336 @@
+/*
+ * Copyright 2024 Broadcom. All rights reserved.
+ */
+
+package dev.gemfire.dtype.internal;
+
+import static dev.gemfire.dtype.internal.RetryableException.MAX_WAIT_MS;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.OptionalLong;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+
+import dev.gemfire.dtype.DLongQueue;
+import dev.gemfire.dtype.DLongQueueAsync;
+
+import org.apache.geode.DataSerializer;
+
+public class DLongQueueImpl extends AbstractDType implements DLongQueue {
+
+  private transient LongArrayQueue queue;
+  private int capacity;
+
+  // Conditions that blocked operations wait for
+  static final int NOT_EMPTY = 1;
+  static final int NOT_FULL = 2;
+
+  private static final int OFFER = 1;
+  private static final int OFFER_TIMEOUT = 2;
+  private static final int PUT = 3;
+  private static final int OFFER_ALL = 4;
+  private static final int POLL = 5;
+  private static final int POLL_TIMEOUT = 6;
+  private static final int TAKE = 7;
+  private static final int PEEK = 8;
+  private static final int DRAIN = 9;
+  private static final int SIZE = 10;
+  private static final int IS_EMPTY = 11;
+  private static final int REMAINING_CAPACITY = 12;
+  private static final int CLEAR = 13;
+  private static final int TO_ARRAY = 14;
+
+  // A few operations that can be static since they don't have any arguments.
+  private static final DTypeCollectionsFunction POLL_FN = new DTypeOperation(POLL);
+  private static final DTypeCollectionsFunction TAKE_FN = new DTypeOperation(TAKE);
+  private static final DTypeCollectionsFunction PEEK_FN = new DTypeOperation(PEEK);
+  private static final DTypeCollectionsFunction SIZE_FN = new DTypeOperation(SIZE);
+  private static final DTypeCollectionsFunction IS_EMPTY_FN = new DTypeOperation(IS_EMPTY);
+  private static final DTypeCollectionsFunction REMAINING_CAPACITY_FN =
+      new DTypeOperation(REMAINING_CAPACITY);
+  private static final DTypeCollectionsFunction CLEAR_FN = new DTypeOperation(CLEAR);
+  private static final DTypeCollectionsFunction TO_ARRAY_FN = new DTypeOperation(TO_ARRAY);
+
+  public DLongQueueImpl() {}
+
+  public DLongQueueImpl(String name) {
+    this(name, Integer.MAX_VALUE);
+  }
+
+  public DLongQueueImpl(String name, int capacity) {
+    super(name);
+    queue = new LongArrayQueue(capacity);
+    this.capacity = capacity;
+  }
+
+  @Override
+  public boolean offer(long value) {
+    return update(offerFn(value), CollectionsBackendFunction.ID);
+  }
+
+  @Override
+  public boolean offer(long value, long timeout, TimeUnit unit) throws InterruptedException {
+    DTypeCollectionsFunction fn =
+        new DTypeOperation(OFFER_TIMEOUT, value, unit.toMillis(timeout));
+    return updateInterruptibly(fn, CollectionsBackendFunction.ID);
+  }
+
+  @Override
+  public void put(long value) throws InterruptedException {
+    updateInterruptibly(putFn(value), CollectionsBackendFunction.ID);
+  }
+
+  @Override
+  public boolean offerAll(long... values) {
+    return update(offerAllFn(values), CollectionsBackendFunction.ID);
+  }
+
+  @Override
+  public OptionalLong poll() {
+    return toOptional(update(POLL_FN, CollectionsBackendFunction.ID));
+  }
+
+  @Override
+  public OptionalLong poll(long timeout, TimeUnit unit) throws InterruptedException {
+    return toOptional(updateInterruptibly(pollFn(timeout, unit), CollectionsBackendFunction.ID));
+  }
+
+  @Override
+  public long take() throws InterruptedException {
+    return updateInterruptibly(TAKE_FN, CollectionsBackendFunction.ID);
+  }
+
+  @Override
+  public OptionalLong peek() {
+    return toOptional(query(PEEK_FN, CollectionsBackendFunction.ID));
+  }
+
+  @Override
+  public long[] drain(int maxElements) {
+    return update(drainFn(maxElements), CollectionsBackendFunction.ID);
+  }
+
+  @Override
+  public int size() {
+    return query(SIZE_FN, CollectionsBackendFunction.ID);
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return query(IS_EMPTY_FN, CollectionsBackendFunction.ID);
+  }
+
+  @Override
+  public int remainingCapacity() {
+    return query(REMAINING_CAPACITY_FN, CollectionsBackendFunction.ID);
+  }
+
+  @Override
+  public void clear() {
+    update(CLEAR_FN, CollectionsBackendFunction.ID);
+  }
+
+  @Override
+  public long[] toArray() {
+    return query(TO_ARRAY_FN, CollectionsBackendFunction.ID);
+  }
+
+  @Override
+  public DLongQueueAsync async() {
+    return new Async();
+  }
+
+  /**
+   * Returns an asynchronous view of this instance whose operations are performed by the given
+   * {@link OperationPerformer}.
+   */
+  public DLongQueueAsync async(OperationPerformer performer) {
+    return new Async(performer);
+  }
+
+  @Override
+  int getElementCount() {
+    return queue.size();
+  }
+
+  @Override
+  long getApproximateSize() {
+    return (long) Long.BYTES * queue.size();
+  }
+
+  private static OptionalLong toOptional(Long value) {
+    return value == null ? OptionalLong.empty() : OptionalLong.of(value);
+  }
+
+  private static DTypeCollectionsFunction offerFn(long value) {
+    return new DTypeOperation(OFFER, value);
+  }
+
+  private static DTypeCollectionsFunction putFn(long value) {
+    return new DTypeOperation(PUT, value);
+  }
+
+  private static DTypeCollectionsFunction offerAllFn(long[] values) {
+    return new DTypeOperation(OFFER_ALL, values.clone());
+  }
+
+  private static DTypeCollectionsFunction pollFn(long timeout, TimeUnit unit) {
+    return new DTypeOperation(POLL_TIMEOUT, unit.toMillis(timeout));
+  }
+
+  private static DTypeCollectionsFunction drainFn(int maxElements) {
+    return new DTypeOperation(DRAIN, maxElements);
+  }
+
+  @Override
+  protected Object applyOperation(DTypeOperation op) {
+    int before = queue.size();
+    Object result = applyQueueOperation(op);
+    signalSizeChange(before, queue.size());
+    return result;
+  }
+
+  /**
+   * Wake waiting takers when values have been added, or waiting putters when values have been
+   * removed, one for each value.
+   */
+  private void signalSizeChange(int before, int after) {
+    if (after > before) {
+      signal(NOT_EMPTY, after - before);
+    } else if (after < before) {
+      signal(NOT_FULL, before - after);
+    }
+  }
+
+  private Object applyQueueOperation(DTypeOperation op) {
+    switch (op.getOpcode()) {
+      case OFFER:
+        return queue.offer(op.getLongArg(0));
+      case OFFER_TIMEOUT:
+        if (queue.offer(op.getLongArg(0))) {
+          return true;
+        }
+        throw new RetryableException(MAX_WAIT_MS, op.getLongArg(1), TimeUnit.MILLISECONDS,
+            () -> false, NOT_FULL);
+      case PUT:
+        if (!queue.offer(op.getLongArg(0))) {
+          throw new RetryableException(MAX_WAIT_MS, Long.MAX_VALUE, TimeUnit.MILLISECONDS,
+              () -> null, NOT_FULL);
+        }
+        return null;
+      case OFFER_ALL:
+        return queue.offerAll(op.getArg(0));
+      case POLL:
+        return queue.isEmpty() ? null : queue.poll();
+      case POLL_TIMEOUT:
+        return pollOrRetry(op.getLongArg(0));
+      case TAKE:
+        return pollOrRetry(Long.MAX_VALUE);
+      case PEEK:
+        return queue.isEmpty() ? null : queue.peek();
+      case DRAIN:
+        return queue.drain(op.getIntArg(0));
+      case SIZE:
+        return queue.size();
+      case IS_EMPTY:
+        return queue.isEmpty();
+      case REMAINING_CAPACITY:
+        return queue.remainingCapacity();
+      case CLEAR:
+        queue.clear();
+        return null;
+      case TO_ARRAY:
+        return queue.toArray();
+      default:
+        return super.applyOperation(op);
+    }
+  }
+
+  private long pollOrRetry(long timeoutMs) {
+    if (queue.isEmpty()) {
+      throw new RetryableException(MAX_WAIT_MS, timeoutMs, TimeUnit.MILLISECONDS, () -> null,
+          NOT_EMPTY);
+    }
+    return queue.poll();
+  }
+
+  private class Async extends AsyncView implements DLongQueueAsync {
+
+    Async() {}
+
+    Async(OperationPerformer performer) {
+      super(performer);
+    }
+
+    @Override
+    public CompletableFuture<Boolean> offer(long value) {
+      return updateAsync(offerFn(value), CollectionsBackendFunction.ID);
+    }
+
+    @Override
+    public CompletableFuture<Void> put(long value) {
+      return updateAsync(putFn(value), CollectionsBackendFunction.ID);
+    }
+
+    @Override
+    public CompletableFuture<Boolean> offerAll(long... values) {
+      return updateAsync(offerAllFn(values), CollectionsBackendFunction.ID);
+    }
+
+    @Override
+    public CompletableFuture<OptionalLong> poll() {
+      return this.<Long>updateAsync(POLL_FN, CollectionsBackendFunction.ID)
+          .thenApply(DLongQueueImpl::toOptional);
+    }
+
+    @Override
+    public CompletableFuture<OptionalLong> poll(long timeout, TimeUnit unit) {
+      return this.<Long>updateAsync(pollFn(timeout, unit), CollectionsBackendFunction.ID)
+          .thenApply(DLongQueueImpl::toOptional);
+    }
+
+    @Override
+    public CompletableFuture<Long> take() {
+      return updateAsync(TAKE_FN, CollectionsBackendFunction.ID);
+    }
+
+    @Override
+    public CompletableFuture<long[]> drain(int maxElements) {
+      return updateAsync(drainFn(maxElements), CollectionsBackendFunction.ID);
+    }
+
+    @Override
+    public CompletableFuture<Integer> size() {
+      return queryAsync(SIZE_FN, CollectionsBackendFunction.ID);
+    }
+
+    @Override
+    public CompletableFuture<Void> clear() {
+      return updateAsync(CLEAR_FN, CollectionsBackendFunction.ID);
+    }
+  }
+
+  @Override
+  public void toData(DataOutput out) throws IOException {
+    Lock lock = lockForSerialization();
+    try {
+      super.toData(out);
+      DataSerializer.writePrimitiveInt(capacity, out);
+      DataSerializer.writeLongArray(queue.toArray(), out);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  @Override
+  public void fromData(DataInput in) throws IOException, ClassNotFoundException {
+    super.fromData(in);
+    capacity = DataSerializer.readPrimitiveInt(in);
+    queue = new LongArrayQueue(capacity);
+    queue.offerAll(DataSerializer.readLongArray(in));
+  }
+
+}
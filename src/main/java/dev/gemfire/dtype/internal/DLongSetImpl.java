@@ -0,0 +1,253 @@
+/*
+ * Copyright 2024 Broadcom. All rights reserved.
+ */
+
+package dev.gemfire.dtype.internal;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.locks.Lock;
+
+import dev.gemfire.dtype.DLongSet;
+import dev.gemfire.dtype.DLongSetAsync;
+
+import org.apache.geode.DataSerializer;
+
+public class DLongSetImpl extends AbstractDType implements DLongSet {
+
+  private transient LongHashSet set;
+
+  private static final int ADD = 1;
+  private static final int ADD_ALL = 2;
+  private static final int REMOVE = 3;
+  private static final int REMOVE_ALL = 4;
+  private static final int CONTAINS = 5;
+  private static final int CONTAINS_ALL = 6;
+  private static final int SIZE = 7;
+  private static final int IS_EMPTY = 8;
+  private static final int CLEAR = 9;
+  private static final int TO_ARRAY = 10;
+
+  // A few operations that can be static since they don't have any arguments.
+  private static final DTypeCollectionsFunction SIZE_FN = new DTypeOperation(SIZE);
+  private static final DTypeCollectionsFunction IS_EMPTY_FN = new DTypeOperation(IS_EMPTY);
+  private static final DTypeCollectionsFunction CLEAR_FN = new DTypeOperation(CLEAR);
+  private static final DTypeCollectionsFunction TO_ARRAY_FN = new DTypeOperation(TO_ARRAY);
+
+  public DLongSetImpl() {}
+
+  public DLongSetImpl(String name) {
+    super(name);
+    set = new LongHashSet();
+  }
+
+  @Override
+  public boolean add(long value) {
+    return update(addFn(value), CollectionsBackendFunction.ID);
+  }
+
+  @Override
+  public boolean addAll(long... values) {
+    return update(addAllFn(values), CollectionsBackendFunction.ID);
+  }
+
+  @Override
+  public boolean remove(long value) {
+    return update(removeFn(value), CollectionsBackendFunction.ID);
+  }
+
+  @Override
+  public boolean removeAll(long... values) {
+    return update(removeAllFn(values), CollectionsBackendFunction.ID);
+  }
+
+  @Override
+  public boolean contains(long value) {
+    return query(containsFn(value), CollectionsBackendFunction.ID);
+  }
+
+  @Override
+  public boolean containsAll(long... values) {
+    return query(new DTypeOperation(CONTAINS_ALL, values.clone()), CollectionsBackendFunction.ID);
+  }
+
+  @Override
+  public int size() {
+    return query(SIZE_FN, CollectionsBackendFunction.ID);
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return query(IS_EMPTY_FN, CollectionsBackendFunction.ID);
+  }
+
+  @Override
+  public void clear() {
+    update(CLEAR_FN, CollectionsBackendFunction.ID);
+  }
+
+  @Override
+  public long[] toArray() {
+    return query(TO_ARRAY_FN, CollectionsBackendFunction.ID);
+  }
+
+  @Override
+  public DLongSetAsync async() {
+    return new Async();
+  }
+
+  /**
+   * Returns an asynchronous view of this instance whose operations are performed by the given
+   * {@link OperationPerformer}.
+   */
+  public DLongSetAsync async(OperationPerformer performer) {
+    return new Async(performer);
+  }
+
+  @Override
+  int getElementCount() {
+    return set.size();
+  }
+
+  @Override
+  long getApproximateSize() {
+    return (long) Long.BYTES * set.size();
+  }
+
+  private static DTypeCollectionsFunction addFn(long value) {
+    return new DTypeOperation(ADD, value);
+  }
+
+  private static DTypeCollectionsFunction addAllFn(long[] values) {
+    return new DTypeOperation(ADD_ALL, values.clone());
+  }
+
+  private static DTypeCollectionsFunction removeFn(long value) {
+    return new DTypeOperation(REMOVE, value);
+  }
+
+  private static DTypeCollectionsFunction removeAllFn(long[] values) {
+    return new DTypeOperation(REMOVE_ALL, values.clone());
+  }
+
+  private static DTypeCollectionsFunction containsFn(long value) {
+    return new DTypeOperation(CONTAINS, value);
+  }
+
+  @Override
+  protected Object applyOperation(DTypeOperation op) {
+    switch (op.getOpcode()) {
+      case ADD:
+        return set.add(op.getLongArg(0));
+      case ADD_ALL: {
+        boolean changed = false;
+        for (long value : op.<long[]>getArg(0)) {
+          changed |= set.add(value);
+        }
+        return changed;
+      }
+      case REMOVE:
+        return set.remove(op.getLongArg(0));
+      case REMOVE_ALL: {
+        boolean changed = false;
+        for (long value : op.<long[]>getArg(0)) {
+          changed |= set.remove(value);
+        }
+        return changed;
+      }
+      case CONTAINS:
+        return set.contains(op.getLongArg(0));
+      case CONTAINS_ALL:
+        for (long value : op.<long[]>getArg(0)) {
+          if (!set.contains(value)) {
+            return false;
+          }
+        }
+        return true;
+      case SIZE:
+        return set.size();
+      case IS_EMPTY:
+        return set.isEmpty();
+      case CLEAR:
+        set.clear();
+        return null;
+      case TO_ARRAY:
+        return set.toArray();
+      default:
+        return super.applyOperation(op);
+    }
+  }
+
+  private class Async extends AsyncView implements DLongSetAsync {
+
+    Async() {}
+
+    Async(OperationPerformer performer) {
+      super(performer);
+    }
+
+    @Override
+    public CompletableFuture<Boolean> add(long value) {
+      return updateAsync(addFn(value), CollectionsBackendFunction.ID);
+    }
+
+    @Override
+    public CompletableFuture<Boolean> addAll(long... values) {
+      return updateAsync(addAllFn(values), CollectionsBackendFunction.ID);
+    }
+
+    @Override
+    public CompletableFuture<Boolean> remove(long value) {
+      return updateAsync(removeFn(value), CollectionsBackendFunction.ID);
+    }
+
+    @Override
+    public CompletableFuture<Boolean> removeAll(long... values) {
+      return updateAsync(removeAllFn(values), CollectionsBackendFunction.ID);
+    }
+
+    @Override
+    public CompletableFuture<Boolean> contains(long value) {
+      return queryAsync(containsFn(value), CollectionsBackendFunction.ID);
+    }
+
+    @Override
+    public CompletableFuture<Integer> size() {
+      return queryAsync(SIZE_FN, CollectionsBackendFunction.ID);
+    }
+
+    @Override
+    public CompletableFuture<Void> clear() {
+      return updateAsync(CLEAR_FN, CollectionsBackendFunction.ID);
+    }
+
+    @Override
+    public CompletableFuture<long[]> toArray() {
+      return queryAsync(TO_ARRAY_FN, CollectionsBackendFunction.ID);
+    }
+  }
+
+  @Override
+  public void toData(DataOutput out) throws IOException {
+    Lock lock = lockForSerialization();
+    try {
+      super.toData(out);
+      DataSerializer.writeLongArray(set.toArray(), out);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  @Override
+  public void fromData(DataInput in) throws IOException, ClassNotFoundException {
+    super.fromData(in);
+    long[] values = DataSerializer.readLongArray(in);
+    set = new LongHashSet(values.length);
+    for (long value : values) {
+      set.add(value);
+    }
+  }
+
+}
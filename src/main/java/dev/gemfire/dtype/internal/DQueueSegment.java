@@ -0,0 +1,80 @@
+/*
+ * Copyright 2024 Broadcom. All rights reserved.
+ */
+
+package dev.gemfire.dtype.internal;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Collection;
+
+import dev.gemfire.dtype.ElementStorage;
+
+import org.apache.geode.DataSerializer;
+
+/**
+ * A segment of a {@link DSegmentedQueueImpl}. Each segment is stored as its own entry and holds a
+ * bounded number of elements, in their stored form, so that updating a segment only requires the
+ * segment itself to be distributed. Segments are only ever accessed on the servers.
+ * <p>
+ * A segment is not changed once it has been put in the region. Operations change a copy of the
+ * segment and put it in its place, so segments can be serialized without holding a lock.
+ */
+public class DQueueSegment extends AbstractDCollection {
+
+  private transient ArrayDeque<Object> elements;
+
+  public DQueueSegment() {}
+
+  public DQueueSegment(String key, ElementStorage storage) {
+    super(key, storage);
+    elements = new ArrayDeque<>();
+  }
+
+  /**
+   * Create a copy of the given segment, holding the same stored elements.
+   */
+  DQueueSegment(DQueueSegment segment) {
+    super(segment.getName(), segment.getElementStorage());
+    elements = new ArrayDeque<>(segment.elements);
+  }
+
+  ArrayDeque<Object> getElements() {
+    return elements;
+  }
+
+  int size() {
+    return elements.size();
+  }
+
+  boolean isEmpty() {
+    return elements.isEmpty();
+  }
+
+  @Override
+  protected Collection<?> getStoredElements() {
+    return elements;
+  }
+
+  @Override
+  public void toData(DataOutput out) throws IOException {
+    super.toData(out);
+    DataSerializer.writePrimitiveInt(elements.size(), out);
+    for (Object element : elements) {
+      writeElement(element, out);
+    }
+  }
+
+  @Override
+  public void fromData(DataInput in) throws IOException, ClassNotFoundException {
+    super.fromData(in);
+    int size = DataSerializer.readPrimitiveInt(in);
+    elements = new ArrayDeque<>(size);
+    for (int i = 0; i < size; ++i) {
+      elements.addLast(readElement(in));
+    }
+  }
+
+}
@@ -0,0 +1,25 @@
+/*
+ * Copyright 2024 Broadcom. All rights reserved.
+ */
+
+package dev.gemfire.dtype.internal;
+
+import org.apache.geode.cache.Region;
+
+/**
+ * Concrete implementation of a {@link DTypeFunctionContext} used to give a
+ * {@link DSegmentedQueueImpl} access to the region holding its segments.
+ */
+public class DSegmentedQueueFunctionContext implements DTypeFunctionContext {
+
+  private final Region<String, Object> region;
+
+  public DSegmentedQueueFunctionContext(Region<String, Object> region) {
+    this.region = region;
+  }
+
+  public Region<String, Object> getRegion() {
+    return region;
+  }
+
+}
@@ -0,0 +1,1181 @@
+/*
+ * Copyright 2024 Broadcom. All rights reserved.
+ */
+
+package dev.gemfire.dtype.internal;
+
+import static dev.gemfire.dtype.internal.DBlockingQueueImpl.NOT_EMPTY;
+import static dev.gemfire.dtype.internal.DBlockingQueueImpl.NOT_FULL;
+import static dev.gemfire.dtype.internal.RetryableException.MAX_WAIT_MS;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.function.Predicate;
+
+import dev.gemfire.dtype.DBlockingQueue;
+import dev.gemfire.dtype.DBlockingQueueAsync;
+import dev.gemfire.dtype.DStream;
+import dev.gemfire.dtype.ElementStorage;
+
+import org.apache.geode.DataSerializer;
+import org.apache.geode.cache.Region;
+
+/**
+ * A {@link DBlockingQueue} whose elements are spread over a chain of segment entries. The entry
+ * stored under the queue's name only holds metadata: the capacity, the segment size, the current
+ * size and the range of segment ids in use. Elements are held by {@link DQueueSegment}s stored
+ * under the keys {@code <name>#seg-<id>}, which are distributed across buckets like any other
+ * entry.
+ * <p>
+ * Adding or removing at either end of the queue only reads and writes a single segment together
+ * with the small metadata entry. Thus, the cost of replicating, rebalancing and recovering a queue
+ * grows with the segment size rather than the size of the queue, and a queue is not limited to
+ * the memory of a single server.
+ * <p>
+ * Segments are put separately from the metadata entry, so a failure or a change of primary during
+ * an operation may leave segments that disagree with the metadata. The metadata is therefore
+ * derived from the segments that exist before the first operation performed by each instance,
+ * and again after an operation fails.
+ * <p>
+ * Operations which need to examine all elements, such as {@code contains} or {@code removeIf},
+ * read every segment on the server. Iteration retrieves one segment at a time.
+ */
+public class DSegmentedQueueImpl<E> extends AbstractDCollection implements DBlockingQueue<E> {
+
+  private int capacity;
+  private int segmentSize;
+  private long headSegment;
+  private long tailSegment;
+  private int size;
+  // Whether the fields above have been checked against the segments by this instance
+  private transient volatile boolean reconciled;
+
+  private static final int ADD_FIRST = 1;
+  private static final int ADD_LAST = 2;
+  private static final int OFFER_FIRST = 3;
+  private static final int OFFER_LAST = 4;
+  private static final int OFFER_FIRST_TIMEOUT = 5;
+  private static final int OFFER_LAST_TIMEOUT = 6;
+  private static final int PUT_FIRST = 7;
+  private static final int PUT_LAST = 8;
+  private static final int REMOVE_FIRST = 9;
+  private static final int REMOVE_LAST = 10;
+  private static final int POLL_FIRST = 11;
+  private static final int POLL_LAST = 12;
+  private static final int POLL_FIRST_TIMEOUT = 13;
+  private static final int POLL_LAST_TIMEOUT = 14;
+  private static final int TAKE_FIRST = 15;
+  private static final int TAKE_LAST = 16;
+  private static final int GET_FIRST = 17;
+  private static final int GET_LAST = 18;
+  private static final int PEEK_FIRST = 19;
+  private static final int PEEK_LAST = 20;
+  private static final int REMOVE_FIRST_OCCURRENCE = 21;
+  private static final int REMOVE_LAST_OCCURRENCE = 22;
+  private static final int REMAINING_CAPACITY = 23;
+  private static final int CONTAINS = 24;
+  private static final int CONTAINS_ALL = 25;
+  private static final int ADD_ALL = 26;
+  private static final int REMOVE_ALL = 27;
+  private static final int RETAIN_ALL = 28;
+  private static final int REMOVE_IF = 29;
+  private static final int CLEAR = 30;
+  private static final int SIZE = 31;
+  private static final int IS_EMPTY = 32;
+  private static final int DRAIN_TO = 33;
+  private static final int SEGMENT_RANGE = 34;
+  private static final int STREAM = 35;
+  private static final int SEGMENT_ELEMENTS = 36;
+
+  // A few operations that can be static since they don't have any arguments.
+  private static final DTypeContextualFunction REMOVE_FIRST_FN =
+      new DTypeContextualOperation(REMOVE_FIRST);
+  private static final DTypeContextualFunction REMOVE_LAST_FN =
+      new DTypeContextualOperation(REMOVE_LAST);
+  private static final DTypeContextualFunction POLL_FIRST_FN =
+      new DTypeContextualOperation(POLL_FIRST);
+  private static final DTypeContextualFunction POLL_LAST_FN =
+      new DTypeContextualOperation(POLL_LAST);
+  private static final DTypeContextualFunction TAKE_FIRST_FN =
+      new DTypeContextualOperation(TAKE_FIRST);
+  private static final DTypeContextualFunction TAKE_LAST_FN =
+      new DTypeContextualOperation(TAKE_LAST);
+  private static final DTypeContextualFunction GET_FIRST_FN =
+      new DTypeContextualOperation(GET_FIRST);
+  private static final DTypeContextualFunction GET_LAST_FN =
+      new DTypeContextualOperation(GET_LAST);
+  private static final DTypeContextualFunction PEEK_FIRST_FN =
+      new DTypeContextualOperation(PEEK_FIRST);
+  private static final DTypeContextualFunction PEEK_LAST_FN =
+      new DTypeContextualOperation(PEEK_LAST);
+  private static final DTypeContextualFunction REMAINING_CAPACITY_FN =
+      new DTypeContextualOperation(REMAINING_CAPACITY);
+  private static final DTypeContextualFunction CLEAR_FN = new DTypeContextualOperation(CLEAR);
+  private static final DTypeContextualFunction SIZE_FN = new DTypeContextualOperation(SIZE);
+  private static final DTypeContextualFunction IS_EMPTY_FN =
+      new DTypeContextualOperation(IS_EMPTY);
+  private static final DTypeContextualFunction SEGMENT_RANGE_FN =
+      new DTypeContextualOperation(SEGMENT_RANGE);
+
+  public DSegmentedQueueImpl() {}
+
+  public DSegmentedQueueImpl(String name, int capacity, int segmentSize,
+      ElementStorage storage) {
+    super(name, storage);
+    if (capacity <= 0) {
+      throw new IllegalArgumentException("capacity must be greater than 0");
+    }
+    if (segmentSize <= 0) {
+      throw new IllegalArgumentException("segmentSize must be greater than 0");
+    }
+    this.capacity = capacity;
+    this.segmentSize = segmentSize;
+  }
+
+  @Override
+  public void addFirst(E e) {
+    noDeltaUpdate(new DTypeContextualOperation(ADD_FIRST, serializeElement(e)),
+        SegmentedQueueBackendFunction.ID);
+  }
+
+  @Override
+  public void addLast(E e) {
+    noDeltaUpdate(new DTypeContextualOperation(ADD_LAST, serializeElement(e)),
+        SegmentedQueueBackendFunction.ID);
+  }
+
+  @Override
+  public boolean offerFirst(E e) {
+    return noDeltaUpdate(offerFirstFn(e), SegmentedQueueBackendFunction.ID);
+  }
+
+  @Override
+  public boolean offerLast(E e) {
+    return noDeltaUpdate(offerLastFn(e), SegmentedQueueBackendFunction.ID);
+  }
+
+  @Override
+  public E removeFirst() {
+    return noDeltaUpdate(REMOVE_FIRST_FN, SegmentedQueueBackendFunction.ID);
+  }
+
+  @Override
+  public E removeLast() {
+    return noDeltaUpdate(REMOVE_LAST_FN, SegmentedQueueBackendFunction.ID);
+  }
+
+  @Override
+  public E pollFirst() {
+    return noDeltaUpdate(POLL_FIRST_FN, SegmentedQueueBackendFunction.ID);
+  }
+
+  @Override
+  public E pollLast() {
+    return noDeltaUpdate(POLL_LAST_FN, SegmentedQueueBackendFunction.ID);
+  }
+
+  @Override
+  public E getFirst() {
+    return query(GET_FIRST_FN, SegmentedQueueBackendFunction.ID);
+  }
+
+  @Override
+  public E getLast() {
+    return query(GET_LAST_FN, SegmentedQueueBackendFunction.ID);
+  }
+
+  @Override
+  public E peekFirst() {
+    return query(PEEK_FIRST_FN, SegmentedQueueBackendFunction.ID);
+  }
+
+  @Override
+  public E peekLast() {
+    return query(PEEK_LAST_FN, SegmentedQueueBackendFunction.ID);
+  }
+
+  @Override
+  public void putFirst(E e) throws InterruptedException {
+    noDeltaUpdateInterruptibly(putFirstFn(e), SegmentedQueueBackendFunction.ID);
+  }
+
+  @Override
+  public void putLast(E e) throws InterruptedException {
+    noDeltaUpdateInterruptibly(putLastFn(e), SegmentedQueueBackendFunction.ID);
+  }
+
+  @Override
+  public boolean offerFirst(E e, long timeout, TimeUnit unit) throws InterruptedException {
+    DTypeContextualFunction fn = new DTypeContextualOperation(OFFER_FIRST_TIMEOUT,
+        serializeElement(e), unit.toMillis(timeout));
+    return noDeltaUpdateInterruptibly(fn, SegmentedQueueBackendFunction.ID);
+  }
+
+  @Override
+  public boolean offerLast(E e, long timeout, TimeUnit unit) throws InterruptedException {
+    return noDeltaUpdateInterruptibly(offerLastFn(e, timeout, unit),
+        SegmentedQueueBackendFunction.ID);
+  }
+
+  @Override
+  public E takeFirst() throws InterruptedException {
+    return noDeltaUpdateInterruptibly(TAKE_FIRST_FN, SegmentedQueueBackendFunction.ID);
+  }
+
+  @Override
+  public E takeLast() throws InterruptedException {
+    return noDeltaUpdateInterruptibly(TAKE_LAST_FN, SegmentedQueueBackendFunction.ID);
+  }
+
+  @Override
+  public E pollFirst(long timeout, TimeUnit unit) throws InterruptedException {
+    return noDeltaUpdateInterruptibly(pollFirstFn(timeout, unit),
+        SegmentedQueueBackendFunction.ID);
+  }
+
+  @Override
+  public E pollLast(long timeout, TimeUnit unit) throws InterruptedException {
+    DTypeContextualFunction fn =
+        new DTypeContextualOperation(POLL_LAST_TIMEOUT, unit.toMillis(timeout));
+    return noDeltaUpdateInterruptibly(fn, SegmentedQueueBackendFunction.ID);
+  }
+
+  @Override
+  public boolean removeFirstOccurrence(Object o) {
+    return noDeltaUpdate(removeFn(o), SegmentedQueueBackendFunction.ID);
+  }
+
+  @Override
+  public boolean removeLastOccurrence(Object o) {
+    return noDeltaUpdate(
+        new DTypeContextualOperation(REMOVE_LAST_OCCURRENCE, serializeElement(o)),
+        SegmentedQueueBackendFunction.ID);
+  }
+
+  @Override
+  public boolean add(E e) {
+    addLast(e);
+    return true;
+  }
+
+  @Override
+  public boolean offer(E e) {
+    return offerLast(e);
+  }
+
+  @Override
+  public void put(E e) throws InterruptedException {
+    putLast(e);
+  }
+
+  @Override
+  public boolean offer(E e, long timeout, TimeUnit unit) throws InterruptedException {
+    return offerLast(e, timeout, unit);
+  }
+
+  @Override
+  public E remove() {
+    return removeFirst();
+  }
+
+  @Override
+  public E poll() {
+    return pollFirst();
+  }
+
+  @Override
+  public E take() throws InterruptedException {
+    return takeFirst();
+  }
+
+  @Override
+  public E poll(long timeout, TimeUnit unit) throws InterruptedException {
+    return pollFirst(timeout, unit);
+  }
+
+  @Override
+  public int remainingCapacity() {
+    return query(REMAINING_CAPACITY_FN, SegmentedQueueBackendFunction.ID);
+  }
+
+  @Override
+  public E element() {
+    return getFirst();
+  }
+
+  @Override
+  public E peek() {
+    return peekFirst();
+  }
+
+  @Override
+  public boolean remove(Object o) {
+    return removeFirstOccurrence(o);
+  }
+
+  @Override
+  public boolean containsAll(Collection<?> c) {
+    return query(containsAllFn(c), SegmentedQueueBackendFunction.ID);
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Unlike {@link java.util.concurrent.LinkedBlockingDeque#addAll}, no elements are added if
+   * there is not enough capacity for all of them.
+   */
+  @Override
+  public boolean addAll(Collection<? extends E> c) {
+    return noDeltaUpdate(addAllFn(c), SegmentedQueueBackendFunction.ID);
+  }
+
+  @Override
+  public boolean removeAll(Collection<?> c) {
+    return noDeltaUpdate(removeAllFn(c), SegmentedQueueBackendFunction.ID);
+  }
+
+  @Override
+  public boolean retainAll(Collection<?> c) {
+    return noDeltaUpdate(retainAllFn(c), SegmentedQueueBackendFunction.ID);
+  }
+
+  @Override
+  public void clear() {
+    noDeltaUpdate(CLEAR_FN, SegmentedQueueBackendFunction.ID);
+  }
+
+  @Override
+  public boolean contains(Object o) {
+    return query(containsFn(o), SegmentedQueueBackendFunction.ID);
+  }
+
+  @Override
+  public int drainTo(Collection<? super E> c) {
+    return drainTo(c, Integer.MAX_VALUE);
+  }
+
+  @Override
+  public int drainTo(Collection<? super E> c, int maxElements) {
+    Collection<E> r = noDeltaUpdate(new DTypeContextualOperation(DRAIN_TO, maxElements),
+        SegmentedQueueBackendFunction.ID);
+    c.addAll(r);
+    return r.size();
+  }
+
+  @Override
+  public int size() {
+    return query(SIZE_FN, SegmentedQueueBackendFunction.ID);
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return query(IS_EMPTY_FN, SegmentedQueueBackendFunction.ID);
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Note that iteration occurs on the client, which retrieves the elements one segment at a time
+   * as the iteration reaches them. The iteration is weakly consistent: changes made to the queue
+   * while iterating may or may not be seen.
+   * <p>
+   * {@code remove} operations are NOT supported for iteration over this structure and will throw an
+   * {@code UnsupportedOperationException}.
+   */
+  @Override
+  public Iterator<E> iterator() {
+    return new SegmentIterator(false);
+  }
+
+  @Override
+  public Object[] toArray() {
+    return getValues().toArray();
+  }
+
+  @Override
+  public <T> T[] toArray(T[] a) {
+    return getValues().toArray(a);
+  }
+
+  @Override
+  public Iterator<E> descendingIterator() {
+    return new SegmentIterator(true);
+  }
+
+  @Override
+  public void push(E e) {
+    addFirst(e);
+  }
+
+  @Override
+  public E pop() {
+    return removeFirst();
+  }
+
+  @Override
+  public boolean removeIf(Predicate<? super E> filter) {
+    return noDeltaUpdate(new DTypeContextualOperation(REMOVE_IF, filter),
+        SegmentedQueueBackendFunction.ID);
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * All segments are removed before the queue itself is removed.
+   */
+  @Override
+  public void destroy() {
+    clear();
+    super.destroy();
+  }
+
+  @Override
+  public DStream<E> dstream() {
+    return new DStreamImpl<>(pipeline -> query(new DTypeContextualOperation(STREAM, pipeline),
+        SegmentedQueueBackendFunction.ID));
+  }
+
+  @Override
+  public DBlockingQueueAsync<E> async() {
+    return new Async();
+  }
+
+  private List<E> getValues() {
+    List<E> values = new ArrayList<>();
+    new SegmentIterator(false).forEachRemaining(values::add);
+    return values;
+  }
+
+  /**
+   * Iterates the queue one segment at a time, in either direction, so that the client only holds
+   * the elements of a single segment at once. The range of segments is read when the iteration
+   * starts, and each segment when the iteration reaches it.
+   */
+  private class SegmentIterator implements Iterator<E> {
+    private final boolean descending;
+    private long nextSegment;
+    private final long lastSegment;
+    private Iterator<E> current = Collections.emptyIterator();
+
+    SegmentIterator(boolean descending) {
+      this.descending = descending;
+      long[] range = query(SEGMENT_RANGE_FN, SegmentedQueueBackendFunction.ID);
+      nextSegment = descending ? range[1] : range[0];
+      lastSegment = descending ? range[0] : range[1];
+    }
+
+    @Override
+    public boolean hasNext() {
+      while (!current.hasNext()) {
+        if (descending ? nextSegment < lastSegment : nextSegment > lastSegment) {
+          return false;
+        }
+        List<E> values = query(new DTypeContextualOperation(SEGMENT_ELEMENTS, nextSegment),
+            SegmentedQueueBackendFunction.ID);
+        if (descending) {
+          Collections.reverse(values);
+          nextSegment--;
+        } else {
+          nextSegment++;
+        }
+        current = values.iterator();
+      }
+      return true;
+    }
+
+    @Override
+    public E next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      return current.next();
+    }
+  }
+
+  private static DTypeContextualFunction offerFirstFn(Object e) {
+    return new DTypeContextualOperation(OFFER_FIRST, serializeElement(e));
+  }
+
+  private static DTypeContextualFunction offerLastFn(Object e) {
+    return new DTypeContextualOperation(OFFER_LAST, serializeElement(e));
+  }
+
+  private static DTypeContextualFunction offerLastFn(Object e, long timeout, TimeUnit unit) {
+    return new DTypeContextualOperation(OFFER_LAST_TIMEOUT, serializeElement(e),
+        unit.toMillis(timeout));
+  }
+
+  private static DTypeContextualFunction putFirstFn(Object e) {
+    return new DTypeContextualOperation(PUT_FIRST, serializeElement(e));
+  }
+
+  private static DTypeContextualFunction putLastFn(Object e) {
+    return new DTypeContextualOperation(PUT_LAST, serializeElement(e));
+  }
+
+  private static DTypeContextualFunction pollFirstFn(long timeout, TimeUnit unit) {
+    return new DTypeContextualOperation(POLL_FIRST_TIMEOUT, unit.toMillis(timeout));
+  }
+
+  private static DTypeContextualFunction removeFn(Object o) {
+    return new DTypeContextualOperation(REMOVE_FIRST_OCCURRENCE, serializeElement(o));
+  }
+
+  private static DTypeContextualFunction containsFn(Object o) {
+    return new DTypeContextualOperation(CONTAINS, serializeElement(o));
+  }
+
+  private static DTypeContextualFunction containsAllFn(Collection<?> c) {
+    return new DTypeContextualOperation(CONTAINS_ALL, (Object) serializeElements(c));
+  }
+
+  private static DTypeContextualFunction addAllFn(Collection<?> c) {
+    return new DTypeContextualOperation(ADD_ALL, (Object) serializeElements(c));
+  }
+
+  private static DTypeContextualFunction removeAllFn(Collection<?> c) {
+    return new DTypeContextualOperation(REMOVE_ALL, (Object) serializeElements(c));
+  }
+
+  private static DTypeContextualFunction retainAllFn(Collection<?> c) {
+    return new DTypeContextualOperation(RETAIN_ALL, (Object) serializeElements(c));
+  }
+
+  @Override
+  int getElementCount() {
+    return size;
+  }
+
+  /**
+   * The elements are held, and their size reported, by the segments, so only the size of the
+   * queue's own entry is returned.
+   */
+  @Override
+  long getApproximateSize() {
+    return getSerializedSize();
+  }
+
+  /**
+   * Elements are held by the segments, which are separate entries, so the off-heap memory of this
+   * instance is not compacted. Elements usually leave the queue in order, so the slabs holding
+   * them are freed as the queue is consumed.
+   */
+  @Override
+  Collection<?> getOffHeapElements() {
+    return null;
+  }
+
+  @Override
+  protected Object applyOperation(DTypeContextualOperation op, DTypeFunctionContext context) {
+    if (!reconciled) {
+      reconcile(((DSegmentedQueueFunctionContext) context).getRegion());
+    }
+    int before = size;
+    Object result;
+    try {
+      result = applyQueueOperation(op, context);
+    } catch (RetryableException ex) {
+      throw ex;
+    } catch (RuntimeException ex) {
+      // The operation may have written some segments but not others
+      reconciled = false;
+      throw ex;
+    }
+    if (size > before) {
+      signal(NOT_EMPTY, size - before);
+    } else if (size < before) {
+      signal(NOT_FULL, before - size);
+    }
+    return result;
+  }
+
+  private Object applyQueueOperation(DTypeContextualOperation op, DTypeFunctionContext context) {
+    Region<String, Object> region = ((DSegmentedQueueFunctionContext) context).getRegion();
+    switch (op.getOpcode()) {
+      case ADD_FIRST:
+        if (!offerFirst(region, op.getArg(0))) {
+          throw new IllegalStateException("Deque full");
+        }
+        return null;
+      case ADD_LAST:
+        if (!offerLast(region, op.getArg(0))) {
+          throw new IllegalStateException("Deque full");
+        }
+        return null;
+      case OFFER_FIRST:
+        return offerFirst(region, op.getArg(0));
+      case OFFER_LAST:
+        return offerLast(region, op.getArg(0));
+      case OFFER_FIRST_TIMEOUT:
+        if (offerFirst(region, op.getArg(0))) {
+          return true;
+        }
+        throw new RetryableException(MAX_WAIT_MS, op.getLongArg(1), TimeUnit.MILLISECONDS,
+            () -> false, NOT_FULL);
+      case OFFER_LAST_TIMEOUT:
+        if (offerLast(region, op.getArg(0))) {
+          return true;
+        }
+        throw new RetryableException(MAX_WAIT_MS, op.getLongArg(1), TimeUnit.MILLISECONDS,
+            () -> false, NOT_FULL);
+      case PUT_FIRST:
+        if (!offerFirst(region, op.getArg(0))) {
+          throw new RetryableException(MAX_WAIT_MS, Long.MAX_VALUE, TimeUnit.MILLISECONDS,
+              () -> null, NOT_FULL);
+        }
+        return null;
+      case PUT_LAST:
+        if (!offerLast(region, op.getArg(0))) {
+          throw new RetryableException(MAX_WAIT_MS, Long.MAX_VALUE, TimeUnit.MILLISECONDS,
+              () -> null, NOT_FULL);
+        }
+        return null;
+      case REMOVE_FIRST:
+        return toValue(requireNonEmpty(pollFirst(region)));
+      case REMOVE_LAST:
+        return toValue(requireNonEmpty(pollLast(region)));
+      case POLL_FIRST:
+        return toValue(pollFirst(region));
+      case POLL_LAST:
+        return toValue(pollLast(region));
+      case POLL_FIRST_TIMEOUT:
+        return toValue(retryIfNull(pollFirst(region), op.getLongArg(0)));
+      case POLL_LAST_TIMEOUT:
+        return toValue(retryIfNull(pollLast(region), op.getLongArg(0)));
+      case TAKE_FIRST:
+        return toValue(retryIfNull(pollFirst(region), Long.MAX_VALUE));
+      case TAKE_LAST:
+        return toValue(retryIfNull(pollLast(region), Long.MAX_VALUE));
+      case GET_FIRST:
+        return toValue(requireNonEmpty(peekFirst(region)));
+      case GET_LAST:
+        return toValue(requireNonEmpty(peekLast(region)));
+      case PEEK_FIRST:
+        return toValue(peekFirst(region));
+      case PEEK_LAST:
+        return toValue(peekLast(region));
+      case REMOVE_FIRST_OCCURRENCE:
+        return removeOccurrence(region, toLookup(op.getArg(0)), true);
+      case REMOVE_LAST_OCCURRENCE:
+        return removeOccurrence(region, toLookup(op.getArg(0)), false);
+      case REMAINING_CAPACITY:
+        return capacity - size;
+      case CONTAINS:
+        return contains(region, toLookup(op.getArg(0)));
+      case CONTAINS_ALL:
+        return containsAll(region, toLookupAll(op.getArg(0)));
+      case ADD_ALL:
+        return addAll(region, op.getArg(0));
+      case REMOVE_ALL: {
+        Set<Object> elements = new HashSet<>(toLookupAll(op.getArg(0)));
+        return removeIf(region, elements::contains);
+      }
+      case RETAIN_ALL: {
+        Set<Object> elements = new HashSet<>(toLookupAll(op.getArg(0)));
+        return removeIf(region, e -> !elements.contains(e));
+      }
+      case REMOVE_IF: {
+        Predicate<Object> filter = op.getArg(0);
+        return removeIf(region, e -> filter.test(toValue(e)));
+      }
+      case CLEAR:
+        clear(region);
+        return null;
+      case SIZE:
+        return size;
+      case IS_EMPTY:
+        return size == 0;
+      case DRAIN_TO:
+        return toValues(drain(region, op.getIntArg(0)));
+      case SEGMENT_RANGE:
+        return new long[] {headSegment, tailSegment};
+      case SEGMENT_ELEMENTS: {
+        DQueueSegment segment = (DQueueSegment) region.get(segmentKey(op.getLongArg(0)));
+        return segment == null ? new ArrayList<>()
+            : new ArrayList<>(toValues(segment.getElements()));
+      }
+      case STREAM:
+        DStreamPipeline pipeline = op.getArg(0);
+        return pipeline.evaluate(elements(region).stream().map(this::toValue));
+      default:
+        return super.applyOperation(op, context);
+    }
+  }
+
+  /**
+   * Derive the range of segments in use, and the size of the queue, from the segments that exist.
+   * Segments written beyond either end by an interrupted operation are included, and empty
+   * segments at either end are skipped. Queries may call this concurrently while sharing the
+   * entry's lock, so it is synchronized.
+   */
+  private synchronized void reconcile(Region<String, Object> region) {
+    if (reconciled) {
+      return;
+    }
+    while (region.containsKey(segmentKey(headSegment - 1))) {
+      headSegment--;
+    }
+    while (region.containsKey(segmentKey(tailSegment + 1))) {
+      tailSegment++;
+    }
+    int count = 0;
+    for (long id = headSegment; id <= tailSegment; id++) {
+      DQueueSegment segment = (DQueueSegment) region.get(segmentKey(id));
+      if (segment != null) {
+        count += segment.size();
+      }
+    }
+    size = count;
+    trimEnds(region);
+    reconciled = true;
+  }
+
+  private String segmentKey(long segment) {
+    return getName() + "#seg-" + segment;
+  }
+
+  private DQueueSegment getSegment(Region<String, Object> region, long segment) {
+    DQueueSegment result = (DQueueSegment) region.get(segmentKey(segment));
+    return result != null ? result : new DQueueSegment(segmentKey(segment), getElementStorage());
+  }
+
+  /**
+   * Return a copy of the given segment to be changed and then stored. The segment held by the
+   * region is never changed in place, since it may be serialized by another thread, and must
+   * remain as it was if the operation fails before storing the copy.
+   */
+  private DQueueSegment getSegmentForUpdate(Region<String, Object> region, long segment) {
+    DQueueSegment result = (DQueueSegment) region.get(segmentKey(segment));
+    return result != null ? new DQueueSegment(result)
+        : new DQueueSegment(segmentKey(segment), getElementStorage());
+  }
+
+  /**
+   * Write the given segment. Empty segments are removed; a missing segment is treated as empty.
+   */
+  private void storeSegment(Region<String, Object> region, long segment, DQueueSegment data) {
+    if (data.isEmpty()) {
+      region.remove(segmentKey(segment));
+    } else {
+      region.put(segmentKey(segment), data);
+    }
+  }
+
+  /**
+   * Skip over empty segments at either end so that the head and tail segments hold elements,
+   * unless the queue is empty.
+   */
+  private void trimEnds(Region<String, Object> region) {
+    while (headSegment < tailSegment && !region.containsKey(segmentKey(headSegment))) {
+      headSegment++;
+    }
+    while (tailSegment > headSegment && !region.containsKey(segmentKey(tailSegment))) {
+      tailSegment--;
+    }
+  }
+
+  private boolean offerFirst(Region<String, Object> region, byte[] bytes) {
+    if (bytes == null) {
+      throw new NullPointerException();
+    }
+    if (size >= capacity) {
+      return false;
+    }
+    Object e = toStored(bytes);
+    DQueueSegment segment = getSegmentForUpdate(region, headSegment);
+    if (segment.size() >= segmentSize) {
+      segment = getSegmentForUpdate(region, --headSegment);
+    }
+    segment.getElements().addFirst(e);
+    storeSegment(region, headSegment, segment);
+    size++;
+    return true;
+  }
+
+  private boolean offerLast(Region<String, Object> region, byte[] bytes) {
+    if (bytes == null) {
+      throw new NullPointerException();
+    }
+    if (size >= capacity) {
+      return false;
+    }
+    Object e = toStored(bytes);
+    DQueueSegment segment = getSegmentForUpdate(region, tailSegment);
+    if (segment.size() >= segmentSize) {
+      segment = getSegmentForUpdate(region, ++tailSegment);
+    }
+    segment.getElements().addLast(e);
+    storeSegment(region, tailSegment, segment);
+    size++;
+    return true;
+  }
+
+  private Object pollFirst(Region<String, Object> region) {
+    if (size == 0) {
+      return null;
+    }
+    DQueueSegment segment = getSegmentForUpdate(region, headSegment);
+    Object result = segment.getElements().pollFirst();
+    if (result != null) {
+      storeSegment(region, headSegment, segment);
+      size--;
+      trimEnds(region);
+    }
+    return result;
+  }
+
+  private Object pollLast(Region<String, Object> region) {
+    if (size == 0) {
+      return null;
+    }
+    DQueueSegment segment = getSegmentForUpdate(region, tailSegment);
+    Object result = segment.getElements().pollLast();
+    if (result != null) {
+      storeSegment(region, tailSegment, segment);
+      size--;
+      trimEnds(region);
+    }
+    return result;
+  }
+
+  private Object peekFirst(Region<String, Object> region) {
+    return size == 0 ? null : getSegment(region, headSegment).getElements().peekFirst();
+  }
+
+  private Object peekLast(Region<String, Object> region) {
+    return size == 0 ? null : getSegment(region, tailSegment).getElements().peekLast();
+  }
+
+  private boolean removeOccurrence(Region<String, Object> region, Object e, boolean first) {
+    if (e == null) {
+      return false;
+    }
+    for (long i = 0; i <= tailSegment - headSegment; i++) {
+      long id = first ? headSegment + i : tailSegment - i;
+      DQueueSegment segment = (DQueueSegment) region.get(segmentKey(id));
+      if (segment != null && segment.getElements().contains(e)) {
+        segment = new DQueueSegment(segment);
+        if (first) {
+          segment.getElements().removeFirstOccurrence(e);
+        } else {
+          segment.getElements().removeLastOccurrence(e);
+        }
+        storeSegment(region, id, segment);
+        size--;
+        trimEnds(region);
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private boolean contains(Region<String, Object> region, Object e) {
+    if (e == null) {
+      return false;
+    }
+    for (long id = headSegment; id <= tailSegment; id++) {
+      DQueueSegment segment = (DQueueSegment) region.get(segmentKey(id));
+      if (segment != null && segment.getElements().contains(e)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private boolean containsAll(Region<String, Object> region, Collection<Object> elements) {
+    Set<Object> remaining = new HashSet<>(elements);
+    for (long id = headSegment; id <= tailSegment && !remaining.isEmpty(); id++) {
+      DQueueSegment segment = (DQueueSegment) region.get(segmentKey(id));
+      if (segment != null) {
+        for (Object e : segment.getElements()) {
+          remaining.remove(e);
+        }
+      }
+    }
+    return remaining.isEmpty();
+  }
+
+  private boolean addAll(Region<String, Object> region, byte[][] elements) {
+    for (byte[] bytes : elements) {
+      if (bytes == null) {
+        throw new NullPointerException();
+      }
+    }
+    if (elements.length > capacity - size) {
+      throw new IllegalStateException("Deque full");
+    }
+    if (elements.length == 0) {
+      return false;
+    }
+
+    DQueueSegment segment = getSegmentForUpdate(region, tailSegment);
+    for (byte[] bytes : elements) {
+      if (segment.size() >= segmentSize) {
+        storeSegment(region, tailSegment, segment);
+        segment = getSegmentForUpdate(region, ++tailSegment);
+      }
+      segment.getElements().addLast(toStored(bytes));
+      size++;
+    }
+    storeSegment(region, tailSegment, segment);
+    return true;
+  }
+
+  private boolean removeIf(Region<String, Object> region, Predicate<Object> filter) {
+    boolean changed = false;
+    for (long id = headSegment; id <= tailSegment; id++) {
+      DQueueSegment segment = (DQueueSegment) region.get(segmentKey(id));
+      if (segment == null) {
+        continue;
+      }
+      DQueueSegment retained = new DQueueSegment(segmentKey(id), getElementStorage());
+      for (Object e : segment.getElements()) {
+        if (!filter.test(e)) {
+          retained.getElements().addLast(e);
+        }
+      }
+      if (retained.size() < segment.size()) {
+        size -= segment.size() - retained.size();
+        storeSegment(region, id, retained);
+        changed = true;
+      }
+    }
+    trimEnds(region);
+    return changed;
+  }
+
+  private void clear(Region<String, Object> region) {
+    for (long id = headSegment; id <= tailSegment; id++) {
+      region.remove(segmentKey(id));
+    }
+    headSegment = 0;
+    tailSegment = 0;
+    size = 0;
+  }
+
+  private List<Object> drain(Region<String, Object> region, int maxElements) {
+    List<Object> result = new ArrayList<>();
+    while (result.size() < maxElements && size > 0) {
+      DQueueSegment segment = getSegmentForUpdate(region, headSegment);
+      if (segment.isEmpty()) {
+        break;
+      }
+      while (result.size() < maxElements && !segment.isEmpty()) {
+        result.add(segment.getElements().pollFirst());
+        size--;
+      }
+      storeSegment(region, headSegment, segment);
+      trimEnds(region);
+    }
+    return result;
+  }
+
+  private List<Object> elements(Region<String, Object> region) {
+    List<Object> result = new ArrayList<>(size);
+    for (long id = headSegment; id <= tailSegment; id++) {
+      DQueueSegment segment = (DQueueSegment) region.get(segmentKey(id));
+      if (segment != null) {
+        result.addAll(segment.getElements());
+      }
+    }
+    return result;
+  }
+
+  private static <T> T requireNonEmpty(T result) {
+    if (result == null) {
+      throw new NoSuchElementException();
+    }
+    return result;
+  }
+
+  private static <T> T retryIfNull(T result, long timeoutMs) {
+    if (result == null) {
+      throw new RetryableException(MAX_WAIT_MS, timeoutMs, TimeUnit.MILLISECONDS, () -> null,
+          NOT_EMPTY);
+    }
+    return result;
+  }
+
+  private class Async extends AsyncView implements DBlockingQueueAsync<E> {
+
+    @Override
+    public CompletableFuture<Boolean> add(E e) {
+      DTypeContextualFunction fn = new DTypeContextualOperation(ADD_LAST, serializeElement(e));
+      return this.<Void>noDeltaUpdateAsync(fn, SegmentedQueueBackendFunction.ID)
+          .thenApply(x -> true);
+    }
+
+    @Override
+    public CompletableFuture<Boolean> offer(E e) {
+      return noDeltaUpdateAsync(offerLastFn(e), SegmentedQueueBackendFunction.ID);
+    }
+
+    @Override
+    public CompletableFuture<Boolean> offerFirst(E e) {
+      return noDeltaUpdateAsync(offerFirstFn(e), SegmentedQueueBackendFunction.ID);
+    }
+
+    @Override
+    public CompletableFuture<Boolean> offerLast(E e) {
+      return noDeltaUpdateAsync(offerLastFn(e), SegmentedQueueBackendFunction.ID);
+    }
+
+    @Override
+    public CompletableFuture<Boolean> offer(E e, long timeout, TimeUnit unit) {
+      return noDeltaUpdateAsync(offerLastFn(e, timeout, unit), SegmentedQueueBackendFunction.ID);
+    }
+
+    @Override
+    public CompletableFuture<Void> put(E e) {
+      return noDeltaUpdateAsync(putLastFn(e), SegmentedQueueBackendFunction.ID);
+    }
+
+    @Override
+    public CompletableFuture<Void> putFirst(E e) {
+      return noDeltaUpdateAsync(putFirstFn(e), SegmentedQueueBackendFunction.ID);
+    }
+
+    @Override
+    public CompletableFuture<Void> putLast(E e) {
+      return noDeltaUpdateAsync(putLastFn(e), SegmentedQueueBackendFunction.ID);
+    }
+
+    @Override
+    public CompletableFuture<E> poll() {
+      return noDeltaUpdateAsync(POLL_FIRST_FN, SegmentedQueueBackendFunction.ID);
+    }
+
+    @Override
+    public CompletableFuture<E> pollFirst() {
+      return noDeltaUpdateAsync(POLL_FIRST_FN, SegmentedQueueBackendFunction.ID);
+    }
+
+    @Override
+    public CompletableFuture<E> pollLast() {
+      return noDeltaUpdateAsync(POLL_LAST_FN, SegmentedQueueBackendFunction.ID);
+    }
+
+    @Override
+    public CompletableFuture<E> poll(long timeout, TimeUnit unit) {
+      return noDeltaUpdateAsync(pollFirstFn(timeout, unit), SegmentedQueueBackendFunction.ID);
+    }
+
+    @Override
+    public CompletableFuture<E> take() {
+      return noDeltaUpdateAsync(TAKE_FIRST_FN, SegmentedQueueBackendFunction.ID);
+    }
+
+    @Override
+    public CompletableFuture<E> takeFirst() {
+      return noDeltaUpdateAsync(TAKE_FIRST_FN, SegmentedQueueBackendFunction.ID);
+    }
+
+    @Override
+    public CompletableFuture<E> takeLast() {
+      return noDeltaUpdateAsync(TAKE_LAST_FN, SegmentedQueueBackendFunction.ID);
+    }
+
+    @Override
+    public CompletableFuture<E> peek() {
+      return queryAsync(PEEK_FIRST_FN, SegmentedQueueBackendFunction.ID);
+    }
+
+    @Override
+    public CompletableFuture<E> peekFirst() {
+      return queryAsync(PEEK_FIRST_FN, SegmentedQueueBackendFunction.ID);
+    }
+
+    @Override
+    public CompletableFuture<E> peekLast() {
+      return queryAsync(PEEK_LAST_FN, SegmentedQueueBackendFunction.ID);
+    }
+
+    @Override
+    public CompletableFuture<Integer> remainingCapacity() {
+      return queryAsync(REMAINING_CAPACITY_FN, SegmentedQueueBackendFunction.ID);
+    }
+
+    @Override
+    public CompletableFuture<Boolean> remove(Object o) {
+      return noDeltaUpdateAsync(removeFn(o), SegmentedQueueBackendFunction.ID);
+    }
+
+    @Override
+    public CompletableFuture<Boolean> contains(Object o) {
+      return queryAsync(containsFn(o), SegmentedQueueBackendFunction.ID);
+    }
+
+    @Override
+    public CompletableFuture<Boolean> addAll(Collection<? extends E> c) {
+      return noDeltaUpdateAsync(addAllFn(c), SegmentedQueueBackendFunction.ID);
+    }
+
+    @Override
+    public CompletableFuture<Boolean> removeAll(Collection<?> c) {
+      return noDeltaUpdateAsync(removeAllFn(c), SegmentedQueueBackendFunction.ID);
+    }
+
+    @Override
+    public CompletableFuture<Boolean> retainAll(Collection<?> c) {
+      return noDeltaUpdateAsync(retainAllFn(c), SegmentedQueueBackendFunction.ID);
+    }
+
+    @Override
+    public CompletableFuture<Boolean> containsAll(Collection<?> c) {
+      return queryAsync(containsAllFn(c), SegmentedQueueBackendFunction.ID);
+    }
+
+    @Override
+    public CompletableFuture<Integer> size() {
+      return queryAsync(SIZE_FN, SegmentedQueueBackendFunction.ID);
+    }
+
+    @Override
+    public CompletableFuture<Boolean> isEmpty() {
+      return queryAsync(IS_EMPTY_FN, SegmentedQueueBackendFunction.ID);
+    }
+
+    @Override
+    public CompletableFuture<Void> clear() {
+      return noDeltaUpdateAsync(CLEAR_FN, SegmentedQueueBackendFunction.ID);
+    }
+  }
+
+  @Override
+  public void toData(DataOutput out) throws IOException {
+    Lock lock = lockForSerialization();
+    try {
+      super.toData(out);
+      DataSerializer.writePrimitiveInt(capacity, out);
+      DataSerializer.writePrimitiveInt(segmentSize, out);
+      DataSerializer.writePrimitiveLong(headSegment, out);
+      DataSerializer.writePrimitiveLong(tailSegment, out);
+      DataSerializer.writePrimitiveInt(size, out);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  @Override
+  public void fromData(DataInput in) throws IOException, ClassNotFoundException {
+    super.fromData(in);
+    capacity = DataSerializer.readPrimitiveInt(in);
+    segmentSize = DataSerializer.readPrimitiveInt(in);
+    headSegment = DataSerializer.readPrimitiveLong(in);
+    tailSegment = DataSerializer.readPrimitiveLong(in);
+    size = DataSerializer.readPrimitiveInt(in);
+  }
+
+}
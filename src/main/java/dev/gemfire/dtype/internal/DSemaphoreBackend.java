@@ -4,11 +4,14 @@
 
 package dev.gemfire.dtype.internal;
 
+import static dev.gemfire.dtype.internal.RetryableException.MAX_WAIT_MS;
+
 import java.io.DataInput;
 import java.io.DataOutput;
 import java.io.IOException;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 import dev.gemfire.dtype.DTypeException;
 import org.apache.logging.log4j.Logger;
@@ -20,16 +23,28 @@ import org.apache.geode.logging.internal.log4j.api.LogService;
  * This class is the backing class that corresponds to {@link DSemaphoreImpl}. All state is held
  * here.
  */
-public class DSemaphoreBackend extends AbstractDType {
+public class DSemaphoreBackend extends AbstractDType implements ClientHeldResource {
 
   private static final Logger logger = LogService.getLogger();
 
+  // Opcodes for the operations sent by DSemaphoreImpl
+  static final int SET_PERMITS = 1;
+  static final int ACQUIRE = 2;
+  static final int RELEASE = 3;
+  static final int TRY_ACQUIRE = 4;
+  static final int AVAILABLE_PERMITS = 5;
+  static final int GET_QUEUE_LENGTH = 6;
+  static final int DRAIN_PERMITS = 7;
+  static final int DESTROY = 8;
+
+  // Condition that acquiring operations wait for
+  private static final int PERMITS_RELEASED = 1;
+
   private int permitsAvailable;
 
   // Map of client member names and corresponding permits held for this semaphore
   private Map<String, Integer> permitHolders = new HashMap<>();
   private boolean isInitialized = false;
-  private int queueLength = 0;
   // This is set when serialization has transferred state to another member and requires tracking
   // to be re-established.
   private boolean requiresRecovery;
@@ -63,23 +78,22 @@ public class DSemaphoreBackend extends AbstractDType {
   }
 
   public int getQueueLength() {
-    return queueLength;
+    return getWaiterCount(PERMITS_RELEASED);
   }
 
+  /**
+   * Acquire the given number of permits. If they are not available, a {@link RetryableException}
+   * is thrown so that the operation waits, without holding this semaphore's locks, until permits
+   * are released.
+   */
   public void acquire(DTypeFunctionContext context, int permits) {
-    while (!_acquire(context, permits)) {
-      try {
-        queueLength++;
-        if (logger.isDebugEnabled()) {
-          logger.debug("Waiting to acquire semaphore '{}' by member {}", getName(),
-              ((DSemaphoreFunctionContext) context).getMemberTag());
-        }
-        this.wait();
-      } catch (InterruptedException e) {
-        throw new UncheckedInterruptedException(e);
-      } finally {
-        queueLength--;
+    if (!_acquire(context, permits)) {
+      if (logger.isDebugEnabled()) {
+        logger.debug("Waiting to acquire semaphore '{}' by member {}", getName(),
+            ((DSemaphoreFunctionContext) context).getMemberTag());
       }
+      throw new RetryableException(MAX_WAIT_MS, Long.MAX_VALUE, TimeUnit.MILLISECONDS,
+          () -> null, PERMITS_RELEASED);
     }
   }
 
@@ -115,7 +129,7 @@ public class DSemaphoreBackend extends AbstractDType {
     }
     permitsAvailable += permits;
 
-    notifyAll();
+    signalAll(PERMITS_RELEASED);
   }
 
   public int availablePermits() {
@@ -144,18 +158,47 @@ public class DSemaphoreBackend extends AbstractDType {
 
     isDestroyed = true;
 
-    notifyAll();
+    signalAll(PERMITS_RELEASED);
   }
 
-  synchronized void releaseAll(String memberTag) {
+  @Override
+  protected Object applyOperation(DTypeContextualOperation op, DTypeFunctionContext context) {
+    switch (op.getOpcode()) {
+      case SET_PERMITS:
+        return setPermits(op.getIntArg(0));
+      case ACQUIRE:
+        acquire(context, op.getIntArg(0));
+        return null;
+      case RELEASE:
+        release(context, op.getIntArg(0));
+        return null;
+      case TRY_ACQUIRE:
+        return tryAcquire(context, op.getIntArg(0));
+      case AVAILABLE_PERMITS:
+        return availablePermits();
+      case GET_QUEUE_LENGTH:
+        return getQueueLength();
+      case DRAIN_PERMITS:
+        return drainPermits(context);
+      case DESTROY:
+        destroy(context);
+        return null;
+      default:
+        return super.applyOperation(op, context);
+    }
+  }
+
+  @Override
+  public synchronized void releaseAll(String memberTag) {
     Integer permits = permitHolders.remove(memberTag);
     if (permits != null) {
       permitsAvailable += permits;
-      notifyAll();
+      signalAll(PERMITS_RELEASED);
     }
   }
 
-  synchronized void recoverTrackingIfNeeded(DSemaphoreTracker tracker) {
+  @Override
+  public synchronized void recoverTrackingIfNeeded(DSemaphoreTracker tracker) {
     if (!requiresRecovery) {
       return;
     }
@@ -4,7 +4,10 @@
 
 package dev.gemfire.dtype.internal;
 
+import java.util.concurrent.CompletableFuture;
+
 import dev.gemfire.dtype.DSemaphore;
+import dev.gemfire.dtype.DSemaphoreAsync;
 
 /**
  * Concrete implementation of DSemaphore that forwards all calls to the backing GemFire cluster.
@@ -14,15 +17,13 @@ import dev.gemfire.dtype.DSemaphore;
 public class DSemaphoreImpl extends AbstractDType implements DSemaphore {
 
   private static final DTypeContextualFunction AVAILABLE_PERMITS_FN =
-      (sem, ctx) -> ((DSemaphoreBackend) sem).availablePermits();
+      new DTypeContextualOperation(DSemaphoreBackend.AVAILABLE_PERMITS);
   private static final DTypeContextualFunction GET_QUEUE_LENGTH_FN =
-      (sem, ctx) -> ((DSemaphoreBackend) sem).getQueueLength();
+      new DTypeContextualOperation(DSemaphoreBackend.GET_QUEUE_LENGTH);
   private static final DTypeContextualFunction DRAIN_PERMITS_FN =
-      (sem, ctx) -> ((DSemaphoreBackend) sem).drainPermits(ctx);
-  private static final DTypeContextualFunction DESTROY_FN = (sem, ctx) -> {
-    ((DSemaphoreBackend) sem).destroy(ctx);
-    return null;
-  };
+      new DTypeContextualOperation(DSemaphoreBackend.DRAIN_PERMITS);
+  private static final DTypeContextualFunction DESTROY_FN =
+      new DTypeContextualOperation(DSemaphoreBackend.DESTROY);
 
   public DSemaphoreImpl(String name) {
     super(name);
@@ -30,7 +31,8 @@ public class DSemaphoreImpl extends AbstractDType implements DSemaphore {
 
   public boolean setPermits(int permits) {
     validatePermits(permits);
-    DTypeContextualFunction fn = (sem, ctx) -> ((DSemaphoreBackend) sem).setPermits(permits);
+    DTypeContextualFunction fn =
+        new DTypeContextualOperation(DSemaphoreBackend.SET_PERMITS, permits);
     return update(fn, SemaphoreBackendFunction.ID);
   }
 
@@ -42,11 +44,7 @@ public class DSemaphoreImpl extends AbstractDType implements DSemaphore {
   @Override
   public void acquire(int permits) {
     validatePermits(permits);
-    DTypeContextualFunction fn = (sem, lock) -> {
-      ((DSemaphoreBackend) sem).acquire(lock, permits);
-      return null;
-    };
-    update(fn, SemaphoreBackendFunction.ID);
+    update(acquireFn(permits), SemaphoreBackendFunction.ID);
   }
 
   @Override
@@ -57,11 +55,7 @@ public class DSemaphoreImpl extends AbstractDType implements DSemaphore {
   @Override
   public void release(int permits) {
     validatePermits(permits);
-    DTypeContextualFunction fn = (sem, ctx) -> {
-      ((DSemaphoreBackend) sem).release(ctx, permits);
-      return null;
-    };
-    update(fn, SemaphoreBackendFunction.ID);
+    update(releaseFn(permits), SemaphoreBackendFunction.ID);
   }
 
   @Override
@@ -72,9 +66,7 @@ public class DSemaphoreImpl extends AbstractDType implements DSemaphore {
   @Override
   public boolean tryAcquire(int permits) {
     validatePermits(permits);
-    DTypeContextualFunction fn =
-        (sem, ctx) -> ((DSemaphoreBackend) sem).tryAcquire(ctx, permits);
-    return update(fn, SemaphoreBackendFunction.ID);
+    return update(tryAcquireFn(permits), SemaphoreBackendFunction.ID);
   }
 
   @Override
@@ -94,10 +86,73 @@ public class DSemaphoreImpl extends AbstractDType implements DSemaphore {
 
   @Override
   public void destroy() {
-    query(DESTROY_FN, SemaphoreBackendFunction.ID);
+    noDeltaUpdate(DESTROY_FN, SemaphoreBackendFunction.ID);
     super.destroy();
   }
 
+  @Override
+  public DSemaphoreAsync async() {
+    return new Async();
+  }
+
+  private static DTypeContextualFunction acquireFn(int permits) {
+    return new DTypeContextualOperation(DSemaphoreBackend.ACQUIRE, permits);
+  }
+
+  private static DTypeContextualFunction releaseFn(int permits) {
+    return new DTypeContextualOperation(DSemaphoreBackend.RELEASE, permits);
+  }
+
+  private static DTypeContextualFunction tryAcquireFn(int permits) {
+    return new DTypeContextualOperation(DSemaphoreBackend.TRY_ACQUIRE, permits);
+  }
+
+  private class Async extends AsyncView implements DSemaphoreAsync {
+
+    @Override
+    public CompletableFuture<Void> acquire() {
+      return acquire(1);
+    }
+
+    @Override
+    public CompletableFuture<Void> acquire(int permits) {
+      validatePermits(permits);
+      return updateAsync(acquireFn(permits), SemaphoreBackendFunction.ID);
+    }
+
+    @Override
+    public CompletableFuture<Void> release() {
+      return release(1);
+    }
+
+    @Override
+    public CompletableFuture<Void> release(int permits) {
+      validatePermits(permits);
+      return updateAsync(releaseFn(permits), SemaphoreBackendFunction.ID);
+    }
+
+    @Override
+    public CompletableFuture<Boolean> tryAcquire() {
+      return tryAcquire(1);
+    }
+
+    @Override
+    public CompletableFuture<Boolean> tryAcquire(int permits) {
+      validatePermits(permits);
+      return updateAsync(tryAcquireFn(permits), SemaphoreBackendFunction.ID);
+    }
+
+    @Override
+    public CompletableFuture<Integer> availablePermits() {
+      return queryAsync(AVAILABLE_PERMITS_FN, SemaphoreBackendFunction.ID);
+    }
+
+    @Override
+    public CompletableFuture<Integer> drainPermits() {
+      return updateAsync(DRAIN_PERMITS_FN, SemaphoreBackendFunction.ID);
+    }
+  }
+
   private void validatePermits(int permits) {
     if (permits < 0) {
       throw new IllegalArgumentException("permits must be a positive integer");
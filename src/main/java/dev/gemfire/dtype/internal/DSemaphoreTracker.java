@@ -19,24 +19,24 @@ import org.apache.geode.management.membership.ClientMembershipEvent;
 import org.apache.geode.management.membership.ClientMembershipListener;
 
 /**
- * This class is responsible for releasing permits of clients that have either crashed or simply
- * 'gone away' without explicitly releasing their permits.
+ * This class is responsible for releasing permits and machine ID leases of clients that have
+ * either crashed or simply 'gone away' without explicitly releasing them.
  * <p>
- * It maintains a map of client memberIds and the backend semaphore instances that the clients
- * have acquired permits for.
+ * It maintains a map of client memberIds and the backend instances, such as semaphores, that the
+ * clients hold resources in.
  */
 public class DSemaphoreTracker implements ClientMembershipListener {
 
   private static final Logger logger = LogService.getLogger();
 
-  Map<String, Set<DSemaphoreBackend>> memberSemaphores = new ConcurrentHashMap<>();
+  Map<String, Set<ClientHeldResource>> memberSemaphores = new ConcurrentHashMap<>();
 
-  public void add(String clientMember, DSemaphoreBackend semaphore) {
+  public void add(String clientMember, ClientHeldResource semaphore) {
     memberSemaphores.computeIfAbsent(clientMember, k -> new HashSet<>()).add(semaphore);
   }
 
-  public void remove(String clientMember, DSemaphoreBackend semaphore) {
-    Set<DSemaphoreBackend> semaphoreSet = memberSemaphores.get(clientMember);
+  public void remove(String clientMember, ClientHeldResource semaphore) {
+    Set<ClientHeldResource> semaphoreSet = memberSemaphores.get(clientMember);
     if (semaphoreSet != null) {
       semaphoreSet.remove(semaphore);
       if (semaphoreSet.isEmpty()) {
@@ -45,7 +45,7 @@ public class DSemaphoreTracker implements ClientMembershipListener {
     }
   }
 
-  public Set<DSemaphoreBackend> getSemaphores(String clientMember) {
+  public Set<ClientHeldResource> getSemaphores(String clientMember) {
     return memberSemaphores.getOrDefault(clientMember, Collections.emptySet());
   }
 
@@ -68,12 +68,12 @@ public class DSemaphoreTracker implements ClientMembershipListener {
       return;
     }
 
-    Set<DSemaphoreBackend> semaphores = memberSemaphores.remove(memberTag);
+    Set<ClientHeldResource> semaphores = memberSemaphores.remove(memberTag);
     if (semaphores == null || semaphores.isEmpty()) {
       return;
     }
 
-    logger.info("Releasing {} semaphore(s) held by {}", semaphores.size(), member);
+    logger.info("Releasing {} semaphore(s) and lease(s) held by {}", semaphores.size(), member);
     semaphores.forEach(s -> s.releaseAll(((MemberIdentifier) member).getUniqueTag()));
   }
 
@@ -0,0 +1,142 @@
+/*
+ * Copyright 2024 Broadcom. All rights reserved.
+ */
+
+package dev.gemfire.dtype.internal;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import dev.gemfire.dtype.DAtomicLong;
+import dev.gemfire.dtype.DSequence;
+
+/**
+ * Hands out the values of blocks reserved by adding the block size to a {@link DAtomicLong}. The
+ * current block is held in a volatile field and its values are claimed with a single
+ * {@code getAndIncrement}, so that threads only synchronize when a block runs out.
+ * <p>
+ * The thread that claims the middle value of a block starts reserving the next one
+ * asynchronously. When a block runs out, its lifetime is compared to {@link #TARGET_BLOCK_NANOS}:
+ * the block size is doubled if it lasted less than half that time and halved if it lasted more
+ * than twice that time.
+ */
+public class DSequenceImpl implements DSequence {
+
+  static final long TARGET_BLOCK_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+  private final DAtomicLong counter;
+  private final int minBlockSize;
+  private final int maxBlockSize;
+
+  private volatile Block block = new Block(0, -1);
+  // Guarded by this
+  private int blockSize;
+  // Guarded by this
+  private CompletableFuture<Block> prefetch;
+
+  public DSequenceImpl(DAtomicLong counter, int minBlockSize, int maxBlockSize) {
+    if (minBlockSize < 1 || maxBlockSize < minBlockSize) {
+      throw new IllegalArgumentException(
+          "block sizes must be positive, with minBlockSize not more than maxBlockSize");
+    }
+    this.counter = counter;
+    this.minBlockSize = minBlockSize;
+    this.maxBlockSize = maxBlockSize;
+    this.blockSize = minBlockSize;
+  }
+
+  @Override
+  public String getName() {
+    return counter.getName();
+  }
+
+  @Override
+  public long next() {
+    while (true) {
+      Block current = block;
+      long value = current.next.getAndIncrement();
+      if (value <= current.last) {
+        if (value == current.prefetchAt) {
+          startPrefetch();
+        }
+        return value;
+      }
+      refill(current);
+    }
+  }
+
+  @Override
+  public void destroy() {
+    counter.destroy();
+  }
+
+  synchronized int getBlockSize() {
+    return blockSize;
+  }
+
+  private synchronized void startPrefetch() {
+    if (prefetch == null) {
+      int size = blockSize;
+      prefetch =
+          counter.async().addAndGet(size).thenApply(last -> new Block(last - size + 1, last));
+    }
+  }
+
+  private synchronized void refill(Block exhausted) {
+    if (block != exhausted) {
+      // Another thread has already replaced the block
+      return;
+    }
+
+    adaptBlockSize(exhausted);
+
+    Block next = null;
+    if (prefetch != null) {
+      try {
+        next = prefetch.join();
+      } catch (CompletionException ignored) {
+        // Reserve the block synchronously instead, which throws if the failure persists
+      }
+      prefetch = null;
+    }
+    if (next == null) {
+      int size = blockSize;
+      long last = counter.addAndGet(size);
+      next = new Block(last - size + 1, last);
+    }
+
+    next.startNanos = System.nanoTime();
+    block = next;
+  }
+
+  private void adaptBlockSize(Block exhausted) {
+    if (exhausted.last < exhausted.first) {
+      // The initial, empty, block
+      return;
+    }
+    long lifetime = System.nanoTime() - exhausted.startNanos;
+    if (lifetime < TARGET_BLOCK_NANOS / 2) {
+      blockSize = (int) Math.min((long) blockSize * 2, maxBlockSize);
+    } else if (lifetime > TARGET_BLOCK_NANOS * 2) {
+      blockSize = Math.max(blockSize / 2, minBlockSize);
+    }
+  }
+
+  private static class Block {
+    private final long first;
+    private final long last;
+    private final long prefetchAt;
+    private final AtomicLong next;
+    // Written before the block is published through the volatile block field
+    private long startNanos;
+
+    Block(long first, long last) {
+      this.first = first;
+      this.last = last;
+      this.prefetchAt = first + (last - first) / 2;
+      this.next = new AtomicLong(first);
+    }
+  }
+}
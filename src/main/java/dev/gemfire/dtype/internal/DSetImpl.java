@@ -10,52 +10,67 @@ import java.io.IOException;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.locks.Lock;
 
 import dev.gemfire.dtype.DSet;
+import dev.gemfire.dtype.DSetAsync;
+import dev.gemfire.dtype.DStream;
+import dev.gemfire.dtype.ElementStorage;
 
 import org.apache.geode.DataSerializer;
 
-public class DSetImpl<E> extends AbstractDType implements DSet<E> {
+public class DSetImpl<E> extends AbstractDCollection implements DSet<E> {
 
-  private transient HashSet<E> set;
+  private transient HashSet<Object> set;
 
-  // A few lambdas that can be static since they don't need to capture any values.
-  private static final DTypeCollectionsFunction SIZE_FN = x -> ((DSetImpl<?>) x).set.size();
-  private static final DTypeCollectionsFunction IS_EMPTY_FN = x -> ((DSetImpl<?>) x).set.isEmpty();
-  private static final DTypeCollectionsFunction CLEAR_FN = x -> {
-    ((DSetImpl<?>) x).set.clear();
-    return null;
-  };
+  private static final int SIZE = 1;
+  private static final int IS_EMPTY = 2;
+  private static final int CLEAR = 3;
+  private static final int CONTAINS = 4;
+  private static final int ADD = 5;
+  private static final int REMOVE = 6;
+  private static final int CONTAINS_ALL = 7;
+  private static final int ADD_ALL = 8;
+  private static final int RETAIN_ALL = 9;
+  private static final int REMOVE_ALL = 10;
+
+  // A few operations that can be static since they don't have any arguments.
+  static final DTypeCollectionsFunction SIZE_FN = new DTypeOperation(SIZE);
+  static final DTypeCollectionsFunction IS_EMPTY_FN = new DTypeOperation(IS_EMPTY);
+  static final DTypeCollectionsFunction CLEAR_FN = new DTypeOperation(CLEAR);
 
   public DSetImpl() {}
 
   public DSetImpl(String name) {
-    super(name);
+    this(name, ElementStorage.OBJECT);
+  }
+
+  public DSetImpl(String name, ElementStorage storage) {
+    super(name, storage);
     set = new HashSet<>();
   }
 
   @Override
   public int size() {
-    return query(SIZE_FN, CollectionsBackendFunction.ID);
+    return query(SIZE_FN, readFunctionId());
   }
 
   @Override
   public boolean isEmpty() {
-    return query(IS_EMPTY_FN, CollectionsBackendFunction.ID);
+    return query(IS_EMPTY_FN, readFunctionId());
   }
 
   @Override
   public boolean contains(Object o) {
-    byte[] arg = serialize(o);
-    DTypeCollectionsFunction fn = x -> ((DSetImpl<?>) x).set.contains(deserialize(arg));
-    return query(fn, CollectionsBackendFunction.ID);
+    return query(containsFn(serializeElement(o)), readFunctionId());
   }
 
   private class DelegatingSetIterator implements Iterator<E> {
-    private Iterator<E> outer;
+    private DCursorIterator<E> outer;
     private E lastEntry;
 
-    DelegatingSetIterator(Iterator<E> outer) {
+    DelegatingSetIterator(DCursorIterator<E> outer) {
       this.outer = outer;
     }
 
@@ -72,68 +87,61 @@ public class DSetImpl<E> extends AbstractDType implements DSet<E> {
 
     @Override
     public void remove() {
-      DSetImpl.this.remove(lastEntry);
+      removeDuringIteration(outer, removeFn(serializeElement(lastEntry)));
     }
   }
 
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Note that iteration occurs on the client, retrieving the set from the server a page at a time.
+   * Any {@code remove} calls will be submitted to the structure maintained on the server. Other
+   * modifications made to the set while it is being iterated cause the iterator to fail with a
+   * {@link java.util.ConcurrentModificationException}.
+   */
   @Override
   public Iterator<E> iterator() {
-    DSetImpl<E> entry = getEntry();
-    return new DelegatingSetIterator(entry.set.iterator());
+    return new DelegatingSetIterator(new DCursorIterator<>(this));
   }
 
   @Override
   public Object[] toArray() {
-    DSetImpl<E> entry = getEntry();
-    return entry.set.toArray();
+    return getPagedValues().toArray();
   }
 
   @Override
   public <T> T[] toArray(T[] a) {
-    DSetImpl<E> entry = getEntry();
-    return entry.set.toArray(a);
+    return getPagedValues().toArray(a);
   }
 
   @Override
   public boolean add(E e) {
-    byte[] arg = serialize(e);
-    DTypeCollectionsFunction fn = x -> ((DSetImpl<?>) x).set.add(deserialize(arg));
-    return update(fn, CollectionsBackendFunction.ID);
+    return update(addFn(serializeElement(e)), CollectionsBackendFunction.ID);
   }
 
   @Override
   public boolean remove(Object o) {
-    byte[] arg = serialize(o);
-    DTypeCollectionsFunction fn = x -> ((DSetImpl<?>) x).set.remove(deserialize(arg));
-    return update(fn, CollectionsBackendFunction.ID);
+    return update(removeFn(serializeElement(o)), CollectionsBackendFunction.ID);
   }
 
   @Override
   public boolean containsAll(Collection<?> c) {
-    byte[] arg = serialize(c);
-    DTypeCollectionsFunction fn = x -> ((DSetImpl<?>) x).set.containsAll(deserialize(arg));
-    return query(fn, CollectionsBackendFunction.ID);
+    return query(containsAllFn(serializeElements(c)), readFunctionId());
   }
 
   @Override
   public boolean addAll(Collection<? extends E> c) {
-    byte[] arg = serialize(c);
-    DTypeCollectionsFunction fn = x -> ((DSetImpl<?>) x).set.addAll(deserialize(arg));
-    return update(fn, CollectionsBackendFunction.ID);
+    return update(addAllFn(serializeElements(c)), CollectionsBackendFunction.ID);
   }
 
   @Override
   public boolean retainAll(Collection<?> c) {
-    byte[] arg = serialize(c);
-    DTypeCollectionsFunction fn = x -> ((DSetImpl<?>) x).set.retainAll(deserialize(arg));
-    return update(fn, CollectionsBackendFunction.ID);
+    return update(retainAllFn(serializeElements(c)), CollectionsBackendFunction.ID);
   }
 
   @Override
   public boolean removeAll(Collection<?> c) {
-    byte[] arg = serialize(c);
-    DTypeCollectionsFunction fn = x -> ((DSetImpl<?>) x).set.removeAll(deserialize(arg));
-    return update(fn, CollectionsBackendFunction.ID);
+    return update(removeAllFn(serializeElements(c)), CollectionsBackendFunction.ID);
   }
 
   @Override
@@ -142,11 +150,172 @@ public class DSetImpl<E> extends AbstractDType implements DSet<E> {
   }
 
   @Override
-  public synchronized void toData(DataOutput out) throws IOException {
-    super.toData(out);
-    DataSerializer.writePrimitiveInt(set.size(), out);
-    for (E element : set) {
-      DataSerializer.writeObject(element, out);
+  public DStream<E> dstream() {
+    return newStream();
+  }
+
+  @Override
+  public DSetAsync<E> async() {
+    return new Async();
+  }
+
+  /**
+   * Returns an asynchronous view of this instance whose operations are performed by the given
+   * {@link OperationPerformer}.
+   */
+  public DSetAsync<E> async(OperationPerformer performer) {
+    return new Async(performer);
+  }
+
+  static DTypeCollectionsFunction containsFn(byte[] element) {
+    return new DTypeOperation(CONTAINS, element);
+  }
+
+  static DTypeCollectionsFunction addFn(byte[] element) {
+    return new DTypeOperation(ADD, element);
+  }
+
+  static DTypeCollectionsFunction removeFn(byte[] element) {
+    return new DTypeOperation(REMOVE, element);
+  }
+
+  static DTypeCollectionsFunction containsAllFn(byte[][] elements) {
+    return new DTypeOperation(CONTAINS_ALL, (Object) elements);
+  }
+
+  static DTypeCollectionsFunction addAllFn(byte[][] elements) {
+    return new DTypeOperation(ADD_ALL, (Object) elements);
+  }
+
+  static DTypeCollectionsFunction retainAllFn(byte[][] elements) {
+    return new DTypeOperation(RETAIN_ALL, (Object) elements);
+  }
+
+  static DTypeCollectionsFunction removeAllFn(byte[][] elements) {
+    return new DTypeOperation(REMOVE_ALL, (Object) elements);
+  }
+
+  @Override
+  protected Collection<?> getStoredElements() {
+    return set;
+  }
+
+  @Override
+  protected Object applyOperation(DTypeOperation op) {
+    switch (op.getOpcode()) {
+      case SIZE:
+        return set.size();
+      case IS_EMPTY:
+        return set.isEmpty();
+      case CLEAR:
+        set.clear();
+        return null;
+      case CONTAINS:
+        return set.contains(toLookup(op.getArg(0)));
+      case ADD:
+        return addElement(op.getArg(0));
+      case REMOVE:
+        return set.remove(toLookup(op.getArg(0)));
+      case CONTAINS_ALL:
+        return set.containsAll(toLookupAll(op.getArg(0)));
+      case ADD_ALL: {
+        byte[][] elements = op.getArg(0);
+        boolean changed = false;
+        for (byte[] bytes : elements) {
+          changed |= addElement(bytes);
+        }
+        return changed;
+      }
+      case RETAIN_ALL:
+        return set.retainAll(new HashSet<>(toLookupAll(op.getArg(0))));
+      case REMOVE_ALL:
+        return set.removeAll(new HashSet<>(toLookupAll(op.getArg(0))));
+      default:
+        return super.applyOperation(op);
+    }
+  }
+
+  /**
+   * Add an element to the set. Elements held off-heap are only stored once found to be absent, so
+   * that adding an element already present does not take up off-heap memory.
+   */
+  private boolean addElement(byte[] bytes) {
+    if (getElementStorage() == ElementStorage.OFF_HEAP && set.contains(toLookup(bytes))) {
+      return false;
+    }
+    return set.add(toStored(bytes));
+  }
+
+  private class Async extends AsyncView implements DSetAsync<E> {
+
+    Async() {}
+
+    Async(OperationPerformer performer) {
+      super(performer);
+    }
+
+    @Override
+    public CompletableFuture<Boolean> add(E e) {
+      return updateAsync(addFn(serializeElement(e)), CollectionsBackendFunction.ID);
+    }
+
+    @Override
+    public CompletableFuture<Boolean> remove(Object o) {
+      return updateAsync(removeFn(serializeElement(o)), CollectionsBackendFunction.ID);
+    }
+
+    @Override
+    public CompletableFuture<Boolean> contains(Object o) {
+      return queryAsync(containsFn(serializeElement(o)), readFunctionId());
+    }
+
+    @Override
+    public CompletableFuture<Boolean> addAll(Collection<? extends E> c) {
+      return updateAsync(addAllFn(serializeElements(c)), CollectionsBackendFunction.ID);
+    }
+
+    @Override
+    public CompletableFuture<Boolean> removeAll(Collection<?> c) {
+      return updateAsync(removeAllFn(serializeElements(c)), CollectionsBackendFunction.ID);
+    }
+
+    @Override
+    public CompletableFuture<Boolean> retainAll(Collection<?> c) {
+      return updateAsync(retainAllFn(serializeElements(c)), CollectionsBackendFunction.ID);
+    }
+
+    @Override
+    public CompletableFuture<Boolean> containsAll(Collection<?> c) {
+      return queryAsync(containsAllFn(serializeElements(c)), readFunctionId());
+    }
+
+    @Override
+    public CompletableFuture<Integer> size() {
+      return queryAsync(SIZE_FN, readFunctionId());
+    }
+
+    @Override
+    public CompletableFuture<Boolean> isEmpty() {
+      return queryAsync(IS_EMPTY_FN, readFunctionId());
+    }
+
+    @Override
+    public CompletableFuture<Void> clear() {
+      return updateAsync(CLEAR_FN, CollectionsBackendFunction.ID);
+    }
+  }
+
+  @Override
+  public void toData(DataOutput out) throws IOException {
+    Lock lock = lockForSerialization();
+    try {
+      super.toData(out);
+      DataSerializer.writePrimitiveInt(set.size(), out);
+      for (Object element : set) {
+        writeElement(element, out);
+      }
+    } finally {
+      lock.unlock();
     }
   }
 
@@ -156,8 +325,7 @@ public class DSetImpl<E> extends AbstractDType implements DSet<E> {
     set = new HashSet<>();
     int size = DataSerializer.readPrimitiveInt(in);
     for (int i = 0; i < size; ++i) {
-      E element = DataSerializer.readObject(in);
-      set.add(element);
+      set.add(readElement(in));
     }
   }
 
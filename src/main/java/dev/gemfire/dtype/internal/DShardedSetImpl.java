@@ -0,0 +1,436 @@
+/*
+ * Copyright 2024 Broadcom. All rights reserved.
+ */
+
+package dev.gemfire.dtype.internal;
+
+import static dev.gemfire.dtype.internal.AbstractDCollection.serializeElement;
+import static dev.gemfire.dtype.internal.OperationType.QUERY;
+import static dev.gemfire.dtype.internal.OperationType.UPDATE;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+import dev.gemfire.dtype.DSet;
+import dev.gemfire.dtype.DSetAsync;
+import dev.gemfire.dtype.DStream;
+import dev.gemfire.dtype.ElementStorage;
+import dev.gemfire.dtype.ReadPreference;
+
+import org.apache.geode.DataSerializer;
+import org.apache.geode.cache.Region;
+
+/**
+ * A {@link DSet} whose elements are spread over a fixed number of {@link DSetImpl} shards, stored
+ * under the keys {@code <name>#shard-<n>}. The entry stored under the set's name only holds the
+ * number of shards and the element storage.
+ * <p>
+ * Each element is assigned to a shard by its hash code, so single element operations are sent to
+ * the primary of that shard only. Since shards are routed to different buckets, the
+ * load of a busy set is spread across the servers of the cluster. Bulk operations, as well as
+ * {@code size}, {@code isEmpty} and {@code clear}, are sent to all relevant shards together, using
+ * one round trip per server.
+ * <p>
+ * The read preference is passed on to the shards, so {@code contains} may be served by a redundant
+ * copy of a shard. Operations sent to all shards together are always served by primaries.
+ * <p>
+ * Operations that span shards are not atomic.
+ */
+public class DShardedSetImpl<E> extends AbstractDType implements DSet<E> {
+
+  private int shardCount;
+  private ElementStorage storage;
+
+  private transient List<DSetImpl<E>> shards;
+  private transient OperationPerformer operationPerformer;
+
+  public DShardedSetImpl() {}
+
+  public DShardedSetImpl(String name, int shardCount, ElementStorage storage) {
+    super(name);
+    if (shardCount <= 0) {
+      throw new IllegalArgumentException("shardCount must be greater than 0");
+    }
+    this.shardCount = shardCount;
+    this.storage = storage;
+  }
+
+  /**
+   * In addition to initializing this instance, create or retrieve each of the shards.
+   */
+  @Override
+  @SuppressWarnings("unchecked")
+  public void initialize(Region<String, Object> region, OperationPerformer operationPerformer) {
+    super.initialize(region, operationPerformer);
+    this.operationPerformer = operationPerformer;
+
+    List<DSetImpl<E>> newShards = new ArrayList<>(shardCount);
+    for (int i = 0; i < shardCount; i++) {
+      String shardName = shardName(i);
+      DSetImpl<E> shard = (DSetImpl<E>) region.computeIfAbsent(shardName,
+          r -> new DSetImpl<>(shardName, storage));
+      shard.initialize(region, operationPerformer);
+      newShards.add(shard);
+    }
+    shards = newShards;
+  }
+
+  @Override
+  public void setReadPreference(ReadPreference readPreference) {
+    super.setReadPreference(readPreference);
+    for (DSetImpl<E> shard : shards) {
+      shard.setReadPreference(readPreference);
+    }
+  }
+
+  private String shardName(int index) {
+    return getName() + "#shard-" + index;
+  }
+
+  /**
+   * Return the index of the shard holding the given element, whose serialized form is also given.
+   * Shards holding elements as objects compare them with {@code equals}, so such elements are
+   * assigned by {@code hashCode}, which must then be the same in every JVM, as for the keys of a
+   * partitioned region. Elements held in serialized form are compared, and so assigned, by their
+   * bytes.
+   */
+  private int shardIndex(Object e, byte[] element) {
+    if (element == null) {
+      return 0;
+    }
+    int hash = storage == ElementStorage.OBJECT ? e.hashCode() : Arrays.hashCode(element);
+    return Math.floorMod(hash, shardCount);
+  }
+
+  private DSetImpl<E> shardFor(Object e, byte[] element) {
+    return shards.get(shardIndex(e, element));
+  }
+
+  @Override
+  public int size() {
+    int size = 0;
+    for (Object result : performOnAllShards(DSetImpl.SIZE_FN, QUERY)) {
+      size += (Integer) result;
+    }
+    return size;
+  }
+
+  @Override
+  public boolean isEmpty() {
+    for (Object result : performOnAllShards(DSetImpl.IS_EMPTY_FN, QUERY)) {
+      if (!(Boolean) result) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @Override
+  public boolean contains(Object o) {
+    byte[] element = serializeElement(o);
+    DSetImpl<E> shard = shardFor(o, element);
+    return shard.query(DSetImpl.containsFn(element), shard.readFunctionId());
+  }
+
+  /**
+   * Iterate each shard in turn. A shard's elements are only retrieved once the iteration reaches
+   * it.
+   */
+  private class ShardedSetIterator implements Iterator<E> {
+    private final Iterator<DSetImpl<E>> shardIterator = shards.iterator();
+    private Iterator<E> current = null;
+    // The iterator that returned the last element, which hasNext() may since have moved past
+    private Iterator<E> last = null;
+
+    @Override
+    public boolean hasNext() {
+      while (current == null || !current.hasNext()) {
+        if (!shardIterator.hasNext()) {
+          return false;
+        }
+        current = shardIterator.next().iterator();
+      }
+      return true;
+    }
+
+    @Override
+    public E next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      last = current;
+      return current.next();
+    }
+
+    @Override
+    public void remove() {
+      if (last == null) {
+        throw new IllegalStateException();
+      }
+      last.remove();
+      last = null;
+    }
+  }
+
+  @Override
+  public Iterator<E> iterator() {
+    return new ShardedSetIterator();
+  }
+
+  @Override
+  public Object[] toArray() {
+    return elements().toArray();
+  }
+
+  @Override
+  public <T> T[] toArray(T[] a) {
+    return elements().toArray(a);
+  }
+
+  private List<E> elements() {
+    List<E> result = new ArrayList<>();
+    for (DSetImpl<E> shard : shards) {
+      result.addAll(shard);
+    }
+    return result;
+  }
+
+  @Override
+  public boolean add(E e) {
+    byte[] element = serializeElement(e);
+    return shardFor(e, element).update(DSetImpl.addFn(element), CollectionsBackendFunction.ID);
+  }
+
+  @Override
+  public boolean remove(Object o) {
+    byte[] element = serializeElement(o);
+    return shardFor(o, element).update(DSetImpl.removeFn(element),
+        CollectionsBackendFunction.ID);
+  }
+
+  @Override
+  public boolean containsAll(Collection<?> c) {
+    for (Object result : performOnShards(c, DSetImpl::containsAllFn, QUERY, false)) {
+      if (!(Boolean) result) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @Override
+  public boolean addAll(Collection<? extends E> c) {
+    return anyTrue(performOnShards(c, DSetImpl::addAllFn, UPDATE, false));
+  }
+
+  @Override
+  public boolean retainAll(Collection<?> c) {
+    // Every shard is involved since shards without any of the given elements must be cleared
+    return anyTrue(performOnShards(c, DSetImpl::retainAllFn, UPDATE, true));
+  }
+
+  @Override
+  public boolean removeAll(Collection<?> c) {
+    return anyTrue(performOnShards(c, DSetImpl::removeAllFn, UPDATE, false));
+  }
+
+  @Override
+  public void clear() {
+    performOnAllShards(DSetImpl.CLEAR_FN, UPDATE);
+  }
+
+  @Override
+  public void destroy() {
+    for (DSetImpl<E> shard : shards) {
+      shard.destroy();
+    }
+    super.destroy();
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * The pipeline is evaluated by every shard, and the partial results are combined on the client.
+   */
+  @Override
+  public DStream<E> dstream() {
+    return new DStreamImpl<>(pipeline -> pipeline.combine(
+        performOnAllShards(AbstractDCollection.streamFn(pipeline), QUERY)));
+  }
+
+  @Override
+  public DSetAsync<E> async() {
+    return new Async();
+  }
+
+  /**
+   * Split the given elements by shard and build an operation for each shard that has at least one
+   * element or, if {@code allShards} is set, for every shard.
+   */
+  private List<BatchedOperation> shardOperations(Collection<?> c,
+      Function<byte[][], DTypeCollectionsFunction> fnFactory, OperationType operationType,
+      boolean allShards) {
+    List<List<byte[]>> elementsByShard = new ArrayList<>(shardCount);
+    for (int i = 0; i < shardCount; i++) {
+      elementsByShard.add(new ArrayList<>());
+    }
+    for (Object e : c) {
+      byte[] element = serializeElement(e);
+      elementsByShard.get(shardIndex(e, element)).add(element);
+    }
+
+    List<BatchedOperation> operations = new ArrayList<>();
+    for (int i = 0; i < shardCount; i++) {
+      List<byte[]> elements = elementsByShard.get(i);
+      if (allShards || !elements.isEmpty()) {
+        operations.add(new BatchedOperation(shards.get(i),
+            fnFactory.apply(elements.toArray(new byte[0][])), operationType,
+            CollectionsBackendFunction.ID));
+      }
+    }
+    return operations;
+  }
+
+  private List<BatchedOperation> allShardOperations(DTypeCollectionsFunction fn,
+      OperationType operationType) {
+    List<BatchedOperation> operations = new ArrayList<>(shardCount);
+    for (DSetImpl<E> shard : shards) {
+      operations.add(
+          new BatchedOperation(shard, fn, operationType, CollectionsBackendFunction.ID));
+    }
+    return operations;
+  }
+
+  private List<Object> performOnShards(Collection<?> c,
+      Function<byte[][], DTypeCollectionsFunction> fnFactory, OperationType operationType,
+      boolean allShards) {
+    return perform(shardOperations(c, fnFactory, operationType, allShards));
+  }
+
+  private List<Object> performOnAllShards(DTypeCollectionsFunction fn,
+      OperationType operationType) {
+    return perform(allShardOperations(fn, operationType));
+  }
+
+  private List<Object> perform(List<BatchedOperation> operations) {
+    if (operations.isEmpty()) {
+      return new ArrayList<>();
+    }
+    List<Object> results = operationPerformer.performOperations(operations);
+    for (Object result : results) {
+      if (result instanceof RuntimeException) {
+        throw (RuntimeException) result;
+      }
+    }
+    return results;
+  }
+
+  private static boolean anyTrue(List<Object> results) {
+    boolean result = false;
+    for (Object r : results) {
+      result |= (Boolean) r;
+    }
+    return result;
+  }
+
+  private class Async implements DSetAsync<E> {
+
+    @Override
+    public CompletableFuture<Boolean> add(E e) {
+      byte[] element = serializeElement(e);
+      return performAsync(new BatchedOperation(shardFor(e, element), DSetImpl.addFn(element),
+          UPDATE, CollectionsBackendFunction.ID));
+    }
+
+    @Override
+    public CompletableFuture<Boolean> remove(Object o) {
+      byte[] element = serializeElement(o);
+      return performAsync(new BatchedOperation(shardFor(o, element), DSetImpl.removeFn(element),
+          UPDATE, CollectionsBackendFunction.ID));
+    }
+
+    @Override
+    public CompletableFuture<Boolean> contains(Object o) {
+      byte[] element = serializeElement(o);
+      DSetImpl<E> shard = shardFor(o, element);
+      return performAsync(new BatchedOperation(shard, DSetImpl.containsFn(element), QUERY,
+          shard.readFunctionId()));
+    }
+
+    @Override
+    public CompletableFuture<Boolean> addAll(Collection<? extends E> c) {
+      return performAllAsync(shardOperations(c, DSetImpl::addAllFn, UPDATE, false))
+          .thenApply(DShardedSetImpl::anyTrue);
+    }
+
+    @Override
+    public CompletableFuture<Boolean> removeAll(Collection<?> c) {
+      return performAllAsync(shardOperations(c, DSetImpl::removeAllFn, UPDATE, false))
+          .thenApply(DShardedSetImpl::anyTrue);
+    }
+
+    @Override
+    public CompletableFuture<Boolean> retainAll(Collection<?> c) {
+      return performAllAsync(shardOperations(c, DSetImpl::retainAllFn, UPDATE, true))
+          .thenApply(DShardedSetImpl::anyTrue);
+    }
+
+    @Override
+    public CompletableFuture<Boolean> containsAll(Collection<?> c) {
+      return performAllAsync(shardOperations(c, DSetImpl::containsAllFn, QUERY, false))
+          .thenApply(results -> results.stream().allMatch(r -> (Boolean) r));
+    }
+
+    @Override
+    public CompletableFuture<Integer> size() {
+      return performAllAsync(allShardOperations(DSetImpl.SIZE_FN, QUERY))
+          .thenApply(results -> results.stream().mapToInt(r -> (Integer) r).sum());
+    }
+
+    @Override
+    public CompletableFuture<Boolean> isEmpty() {
+      return performAllAsync(allShardOperations(DSetImpl.IS_EMPTY_FN, QUERY))
+          .thenApply(results -> results.stream().allMatch(r -> (Boolean) r));
+    }
+
+    @Override
+    public CompletableFuture<Void> clear() {
+      return performAllAsync(allShardOperations(DSetImpl.CLEAR_FN, UPDATE))
+          .thenApply(results -> null);
+    }
+
+    private <T> CompletableFuture<T> performAsync(BatchedOperation op) {
+      return operationPerformer.performOperationAsync(op.getEntry(), op.getFunction(),
+          op.getOperationType(), op.getGemfireFunctionId());
+    }
+
+    private CompletableFuture<List<Object>> performAllAsync(List<BatchedOperation> operations) {
+      return CompletableFuture.supplyAsync(() -> perform(operations),
+          operationPerformer.getAsyncExecutor());
+    }
+  }
+
+  @Override
+  public void toData(DataOutput out) throws IOException {
+    super.toData(out);
+    DataSerializer.writePrimitiveInt(shardCount, out);
+    DataSerializer.writePrimitiveByte((byte) storage.ordinal(), out);
+  }
+
+  @Override
+  public void fromData(DataInput in) throws IOException, ClassNotFoundException {
+    super.fromData(in);
+    shardCount = DataSerializer.readPrimitiveInt(in);
+    storage = ElementStorage.values()[DataSerializer.readPrimitiveByte(in)];
+  }
+
+}
@@ -1,28 +1,78 @@
 package dev.gemfire.dtype.internal;
 
-import java.time.Instant;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 import dev.gemfire.dtype.DSnowflake;
+import org.apache.logging.log4j.Logger;
 
+import org.apache.geode.StatisticsFactory;
+import org.apache.geode.logging.internal.log4j.api.LogService;
+
+/**
+ * The timestamp and sequence number of the most recently reserved ID are packed into a single
+ * {@code AtomicLong}, so that IDs are reserved with a compare-and-set rather than a lock. A
+ * reservation covers a range of sequence numbers within one millisecond, which lets
+ * {@link #nextIdBlock(int)} and {@link #nextIds(long[])} hand out many IDs per compare-and-set.
+ * <p>
+ * If the system clock moves backwards, IDs continue to be issued from the last timestamp used
+ * until its sequence numbers run out, after which generation waits for the clock to catch up. If
+ * the clock is more than {@link #MAX_CLOCK_REGRESSION_MS} behind, an
+ * {@code IllegalStateException} is thrown instead.
+ * <p>
+ * Snowflakes created by a {@code DTypeFactory} lease their machine ID from a
+ * {@link DSnowflakeLeases} instance, and renew the lease every third of
+ * {@link #LEASE_MS}. Should the lease nevertheless be lost, a new machine ID is leased.
+ */
 public class DSnowflakeImpl implements DSnowflake {
 
+  /**
+   * The largest backwards step of the system clock, in milliseconds, that is waited out rather
+   * than failing ID generation.
+   */
+  static final long MAX_CLOCK_REGRESSION_MS =
+      Long.getLong("gemfire.dtype.snowflake.max-clock-regression-ms", 5_000);
+
+  /**
+   * How long, in milliseconds, a machine ID lease lasts unless renewed.
+   */
+  static final long LEASE_MS = Long.getLong("gemfire.dtype.snowflake.lease-ms", 60_000);
+
+  private static final Logger logger = LogService.getLogger();
+
   private static final long HIGH_BITS = (1L << 63) - 1;
 
+  private static final ScheduledExecutorService leaseRenewer =
+      Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "DSnowflake-lease-renewer");
+        thread.setDaemon(true);
+        return thread;
+      });
+
   private final long epochStart;
   private final int machineBits;
-  private final long machineId;
+  // The machine ID, shifted into position, which only changes if a lease is lost
+  private volatile long machineId;
   private final long maxMachineId;
   private final int sequenceBits;
   private final long maxSequenceId;
+  private final DTypeStats.SnowflakeStats stats;
+  private final String name;
+  private final DSnowflakeLeases leases;
+  private final ScheduledFuture<?> leaseRenewal;
 
-  private long sequenceId = -1;
-  private long lastTimestamp;
+  // The timestamp and last sequence number of the most recent reservation
+  private final AtomicLong state = new AtomicLong();
 
   public DSnowflakeImpl() {
-    this(DEFAULT_EPOCH_START, 0, DEFAULT_MACHINE_BITS, DEFAULT_SEQUENCE_BITS);
+    this(DEFAULT_EPOCH_START, 0, DEFAULT_MACHINE_BITS, DEFAULT_SEQUENCE_BITS, null);
   }
 
-  private DSnowflakeImpl(long epochStart, long machineId, int machineBits, int sequenceBits) {
+  private DSnowflakeImpl(long epochStart, long machineId, int machineBits, int sequenceBits,
+      StatisticsFactory statisticsFactory) {
     this.epochStart = epochStart;
     this.machineBits = machineBits;
     this.sequenceBits = sequenceBits;
@@ -34,30 +84,122 @@ public class DSnowflakeImpl implements DSnowflake {
     this.machineId = tmpMachineId;
 
     maxSequenceId = (1L << this.sequenceBits) - 1;
+
+    name = null;
+    leases = null;
+    leaseRenewal = null;
+    stats = new DTypeStats(statisticsFactory).forSnowflake(getName());
+  }
+
+  /**
+   * Create a snowflake using a machine ID leased from the given instance.
+   */
+  public DSnowflakeImpl(DSnowflakeLeases leases, long epochStart, int sequenceBits,
+      StatisticsFactory statisticsFactory) {
+    this.epochStart = epochStart;
+    this.machineBits = leases.getMachineBits();
+    this.sequenceBits = sequenceBits;
+
+    maxMachineId = (1L << this.machineBits) - 1;
+    maxSequenceId = (1L << this.sequenceBits) - 1;
+
+    name = leases.getName();
+    this.leases = leases;
+    stats = new DTypeStats(statisticsFactory).forSnowflake(name);
+
+    machineId = (long) leases.acquire(LEASE_MS) << sequenceBits;
+    leaseRenewal = leaseRenewer.scheduleWithFixedDelay(this::renewLease, LEASE_MS / 3,
+        LEASE_MS / 3, TimeUnit.MILLISECONDS);
   }
 
   @Override
   public String getName() {
-    return "snowflake-" + machineId;
+    return name != null ? name : "snowflake-" + machineId;
   }
 
+  /**
+   * Release the leased machine ID, if any, and close this snowflake's statistics. IDs must not be
+   * generated after this.
+   */
   @Override
-  public synchronized long nextId() {
-    long timestamp = getTimestamp();
-    if (timestamp == lastTimestamp) {
-      sequenceId = (sequenceId + 1) & maxSequenceId;
-      if (sequenceId == 0) {
-        while ((timestamp = getTimestamp()) == lastTimestamp) {
-          Thread.yield();
-        }
+  public void destroy() {
+    if (leases != null) {
+      leaseRenewal.cancel(false);
+      leases.release(getMachineId());
+    }
+    stats.close();
+  }
+
+  private int getMachineId() {
+    return (int) (machineId >> sequenceBits);
+  }
+
+  private void renewLease() {
+    try {
+      if (!leases.renew(getMachineId(), LEASE_MS)) {
+        long lostMachineId = getMachineId();
+        machineId = (long) leases.acquire(LEASE_MS) << sequenceBits;
+        logger.warn("Lease of machine ID {} for snowflake '{}' was lost; now using machine ID {}",
+            lostMachineId, name, getMachineId());
       }
-    } else {
-      sequenceId = 0;
+    } catch (RuntimeException ex) {
+      // Try again at the next renewal; the lease lasts several renewal periods
+      logger.warn("Unable to renew the machine ID lease of snowflake '{}'", name, ex);
     }
+  }
 
-    lastTimestamp = timestamp;
+  @Override
+  public long nextId() {
+    return nextIdBlock(1);
+  }
 
-    return (timestamp << (machineBits + sequenceBits) | machineId | sequenceId) & HIGH_BITS;
+  @Override
+  public long nextIdBlock(int count) {
+    if (count < 1 || count > maxSequenceId + 1) {
+      throw new IllegalArgumentException(
+          "count must be between 1 and " + (maxSequenceId + 1) + ": " + count);
+    }
+
+    while (true) {
+      long previous = state.get();
+      long lastTimestamp = previous >>> sequenceBits;
+      long timestamp = getTimestamp();
+
+      long firstSequenceId;
+      if (timestamp > lastTimestamp) {
+        firstSequenceId = 0;
+      } else {
+        if (timestamp < lastTimestamp) {
+          stats.incClockRegressions();
+          checkClockRegression(lastTimestamp, timestamp);
+        }
+        // Keep issuing IDs from the last timestamp, which may be ahead of the clock
+        firstSequenceId = (previous & maxSequenceId) + 1;
+        if (firstSequenceId + count - 1 > maxSequenceId) {
+          awaitTimestampAfter(lastTimestamp);
+          continue;
+        }
+        timestamp = lastTimestamp;
+      }
+
+      long lastSequenceId = firstSequenceId + count - 1;
+      if (state.compareAndSet(previous, (timestamp << sequenceBits) | lastSequenceId)) {
+        stats.incIds(count);
+        return toId(timestamp, firstSequenceId);
+      }
+    }
+  }
+
+  @Override
+  public void nextIds(long[] ids) {
+    int blockSize = (int) Math.min(maxSequenceId + 1, Integer.MAX_VALUE);
+    for (int offset = 0; offset < ids.length; offset += blockSize) {
+      int count = Math.min(blockSize, ids.length - offset);
+      long first = nextIdBlock(count);
+      for (int i = 0; i < count; i++) {
+        ids[offset + i] = first + i;
+      }
+    }
   }
 
   public long[] parse(long seqId) {
@@ -68,8 +210,34 @@ public class DSnowflakeImpl implements DSnowflake {
     return new long[] {timestamp, machineId, sequence};
   }
 
+  private long toId(long timestamp, long sequenceId) {
+    return (timestamp << (machineBits + sequenceBits) | machineId | sequenceId) & HIGH_BITS;
+  }
+
+  /**
+   * Wait until the clock has moved past the given timestamp, since all of its sequence numbers
+   * have been used.
+   */
+  private void awaitTimestampAfter(long lastTimestamp) {
+    long start = stats.startTime();
+    long timestamp;
+    while ((timestamp = getTimestamp()) <= lastTimestamp) {
+      checkClockRegression(lastTimestamp, timestamp);
+      Thread.yield();
+    }
+    stats.endWait(start);
+  }
+
+  private void checkClockRegression(long lastTimestamp, long timestamp) {
+    if (lastTimestamp - timestamp > MAX_CLOCK_REGRESSION_MS) {
+      throw new IllegalStateException("The system clock moved backwards by "
+          + (lastTimestamp - timestamp) + "ms, more than the "
+          + MAX_CLOCK_REGRESSION_MS + "ms that can be waited out");
+    }
+  }
+
   private long getTimestamp() {
-    return Instant.now().toEpochMilli() - epochStart;
+    return System.currentTimeMillis() - epochStart;
   }
 
   public static class BuilderImpl implements Builder {
@@ -77,6 +245,7 @@ public class DSnowflakeImpl implements DSnowflake {
     private long machineId = 0;
     private int machineBits = DEFAULT_MACHINE_BITS;
     private int sequenceBits = DEFAULT_SEQUENCE_BITS;
+    private StatisticsFactory statisticsFactory;
 
     public Builder withEpochStart(long epochStart) {
       this.epochStart = epochStart;
@@ -98,8 +267,14 @@ public class DSnowflakeImpl implements DSnowflake {
       return this;
     }
 
+    public Builder withStatistics(StatisticsFactory statisticsFactory) {
+      this.statisticsFactory = statisticsFactory;
+      return this;
+    }
+
     public DSnowflake build() {
-      return new DSnowflakeImpl(epochStart, machineId, machineBits, sequenceBits);
+      return new DSnowflakeImpl(epochStart, machineId, machineBits, sequenceBits,
+          statisticsFactory);
     }
   }
 }
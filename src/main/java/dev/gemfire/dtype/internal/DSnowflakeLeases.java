@@ -0,0 +1,195 @@
+/*
+ * Copyright 2024 Broadcom. All rights reserved.
+ */
+
+package dev.gemfire.dtype.internal;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+import dev.gemfire.dtype.DTypeException;
+import org.apache.logging.log4j.Logger;
+
+import org.apache.geode.DataSerializer;
+import org.apache.geode.logging.internal.log4j.api.LogService;
+
+/**
+ * The machine IDs leased to the {@code DSnowflake}s created with the same name. Each client
+ * leases a machine ID that no other client holds, and renews the lease periodically. Leases are
+ * released when the snowflake is destroyed or, through the {@link DSemaphoreTracker}, when the
+ * client departs. A lease that has not been renewed in time, for example because the departure of
+ * its client was missed during a failover, expires and its machine ID may be leased again.
+ */
+public class DSnowflakeLeases extends AbstractDType implements ClientHeldResource {
+
+  private static final Logger logger = LogService.getLogger();
+
+  // Opcodes for the operations sent by DSnowflakeImpl
+  static final int ACQUIRE = 1;
+  static final int RENEW = 2;
+  static final int RELEASE = 3;
+
+  private int machineBits;
+
+  // Map of leased machine IDs and the client member holding each lease
+  private Map<Integer, String> holders = new HashMap<>();
+  // Map of leased machine IDs and the time, in server milliseconds, at which each lease expires
+  private Map<Integer, Long> expiryTimes = new HashMap<>();
+  // This is set when serialization has transferred state to another member and requires tracking
+  // to be re-established.
+  private boolean requiresRecovery;
+
+  public DSnowflakeLeases() {
+    // For serialization
+    requiresRecovery = true;
+  }
+
+  public DSnowflakeLeases(String name, int machineBits) {
+    super(name);
+    this.machineBits = machineBits;
+    requiresRecovery = false;
+  }
+
+  public int getMachineBits() {
+    return machineBits;
+  }
+
+  /**
+   * Lease a machine ID that no other client holds.
+   *
+   * @param leaseMs how long the lease lasts unless renewed
+   * @return the leased machine ID
+   * @throws DTypeException if every machine ID is leased
+   */
+  int acquire(long leaseMs) {
+    return update(new DTypeContextualOperation(ACQUIRE, leaseMs), SemaphoreBackendFunction.ID);
+  }
+
+  /**
+   * Extend the lease of the given machine ID.
+   *
+   * @return {@code false} if the lease had expired and the machine ID has since been leased by
+   *         another client
+   */
+  boolean renew(int machineId, long leaseMs) {
+    return update(new DTypeContextualOperation(RENEW, machineId, leaseMs),
+        SemaphoreBackendFunction.ID);
+  }
+
+  void release(int machineId) {
+    update(new DTypeContextualOperation(RELEASE, machineId), SemaphoreBackendFunction.ID);
+  }
+
+  private synchronized int acquire(DTypeFunctionContext context, long leaseMs) {
+    DSemaphoreFunctionContext leaseContext = (DSemaphoreFunctionContext) context;
+    long now = System.currentTimeMillis();
+    int maxMachineId = (1 << machineBits) - 1;
+
+    for (int machineId = 0; machineId <= maxMachineId; machineId++) {
+      String holder = holders.get(machineId);
+      if (holder != null && expiryTimes.get(machineId) > now) {
+        continue;
+      }
+      if (holder != null) {
+        logger.info("Lease of machine ID {} for snowflake '{}' held by {} has expired", machineId,
+            getName(), holder);
+        removeLease(leaseContext.getTracker(), machineId);
+      }
+      holders.put(machineId, leaseContext.getMemberTag());
+      expiryTimes.put(machineId, now + leaseMs);
+      leaseContext.getTracker().add(leaseContext.getMemberTag(), this);
+      return machineId;
+    }
+
+    throw new DTypeException("all " + (maxMachineId + 1) + " machine IDs of snowflake '"
+        + getName() + "' are leased");
+  }
+
+  private synchronized boolean renew(DTypeFunctionContext context, int machineId, long leaseMs) {
+    DSemaphoreFunctionContext leaseContext = (DSemaphoreFunctionContext) context;
+    if (!leaseContext.getMemberTag().equals(holders.get(machineId))) {
+      return false;
+    }
+    expiryTimes.put(machineId, System.currentTimeMillis() + leaseMs);
+    return true;
+  }
+
+  private synchronized void release(DTypeFunctionContext context, int machineId) {
+    DSemaphoreFunctionContext leaseContext = (DSemaphoreFunctionContext) context;
+    if (leaseContext.getMemberTag().equals(holders.get(machineId))) {
+      removeLease(leaseContext.getTracker(), machineId);
+    }
+  }
+
+  private void removeLease(DSemaphoreTracker tracker, int machineId) {
+    String holder = holders.remove(machineId);
+    expiryTimes.remove(machineId);
+    if (!holders.containsValue(holder)) {
+      tracker.remove(holder, this);
+    }
+  }
+
+  @Override
+  protected Object applyOperation(DTypeContextualOperation op, DTypeFunctionContext context) {
+    switch (op.getOpcode()) {
+      case ACQUIRE:
+        return acquire(context, op.getLongArg(0));
+      case RENEW:
+        return renew(context, op.getIntArg(0), op.getLongArg(1));
+      case RELEASE:
+        release(context, op.getIntArg(0));
+        return null;
+      default:
+        return super.applyOperation(op, context);
+    }
+  }
+
+  @Override
+  public synchronized void releaseAll(String memberTag) {
+    if (holders.values().removeIf(memberTag::equals)) {
+      expiryTimes.keySet().retainAll(holders.keySet());
+    }
+  }
+
+  @Override
+  public synchronized void recoverTrackingIfNeeded(DSemaphoreTracker tracker) {
+    if (!requiresRecovery) {
+      return;
+    }
+
+    for (String clientMemberId : holders.values()) {
+      tracker.add(clientMemberId, this);
+    }
+    requiresRecovery = false;
+  }
+
+  @Override
+  public synchronized void toData(DataOutput out) throws IOException {
+    super.toData(out);
+    DataSerializer.writePrimitiveInt(machineBits, out);
+    DataSerializer.writePrimitiveInt(holders.size(), out);
+    for (Map.Entry<Integer, String> entry : holders.entrySet()) {
+      DataSerializer.writePrimitiveInt(entry.getKey(), out);
+      DataSerializer.writeString(entry.getValue(), out);
+      DataSerializer.writePrimitiveLong(expiryTimes.get(entry.getKey()), out);
+    }
+  }
+
+  @Override
+  public void fromData(DataInput in) throws IOException, ClassNotFoundException {
+    super.fromData(in);
+    machineBits = DataSerializer.readPrimitiveInt(in);
+    int size = DataSerializer.readPrimitiveInt(in);
+    holders = new HashMap<>(size);
+    expiryTimes = new HashMap<>(size);
+    for (int i = 0; i < size; i++) {
+      int machineId = DataSerializer.readPrimitiveInt(in);
+      holders.put(machineId, DataSerializer.readString(in));
+      expiryTimes.put(machineId, DataSerializer.readPrimitiveLong(in));
+    }
+  }
+
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2024 Broadcom. All rights reserved.
+ */
+
+package dev.gemfire.dtype.internal;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToLongFunction;
+
+import dev.gemfire.dtype.DStream;
+import dev.gemfire.dtype.internal.DStreamPipeline.StepType;
+import dev.gemfire.dtype.internal.DStreamPipeline.TerminalType;
+
+/**
+ * Client side {@link DStream} which records the pipeline and hands it to the owning collection to
+ * be evaluated once a terminal operation is called.
+ */
+class DStreamImpl<T> implements DStream<T> {
+
+  private final Function<DStreamPipeline, Object> evaluator;
+  private final DStreamPipeline pipeline;
+
+  DStreamImpl(Function<DStreamPipeline, Object> evaluator) {
+    this(evaluator, new DStreamPipeline());
+  }
+
+  private DStreamImpl(Function<DStreamPipeline, Object> evaluator, DStreamPipeline pipeline) {
+    this.evaluator = evaluator;
+    this.pipeline = pipeline;
+  }
+
+  @Override
+  public DStream<T> filter(Predicate<? super T> predicate) {
+    return new DStreamImpl<>(evaluator, pipeline.withStep(StepType.FILTER, predicate));
+  }
+
+  @Override
+  public <R> DStream<R> map(Function<? super T, ? extends R> mapper) {
+    return new DStreamImpl<>(evaluator, pipeline.withStep(StepType.MAP, mapper));
+  }
+
+  @Override
+  public long count() {
+    return evaluate(TerminalType.COUNT, null, 0);
+  }
+
+  @Override
+  public long sumLong(ToLongFunction<? super T> mapper) {
+    return evaluate(TerminalType.SUM_LONG, mapper, 0);
+  }
+
+  @Override
+  public double sumDouble(ToDoubleFunction<? super T> mapper) {
+    return evaluate(TerminalType.SUM_DOUBLE, mapper, 0);
+  }
+
+  @Override
+  public Optional<T> min(Comparator<? super T> comparator) {
+    return Optional.ofNullable(evaluate(TerminalType.MIN, comparator, 0));
+  }
+
+  @Override
+  public Optional<T> max(Comparator<? super T> comparator) {
+    return Optional.ofNullable(evaluate(TerminalType.MAX, comparator, 0));
+  }
+
+  @Override
+  public Optional<T> reduce(BinaryOperator<T> accumulator) {
+    return Optional.ofNullable(evaluate(TerminalType.REDUCE, accumulator, 0));
+  }
+
+  @Override
+  public List<T> top(int k, Comparator<? super T> comparator) {
+    if (k < 0) {
+      throw new IllegalArgumentException("k must not be negative");
+    }
+    return evaluate(TerminalType.TOP, comparator, k);
+  }
+
+  @Override
+  public List<T> toList() {
+    return evaluate(TerminalType.TO_LIST, null, 0);
+  }
+
+  @SuppressWarnings("unchecked")
+  private <R> R evaluate(TerminalType terminal, Object fn, int limit) {
+    if (fn == null && terminal != TerminalType.COUNT && terminal != TerminalType.TO_LIST) {
+      throw new NullPointerException();
+    }
+    return (R) evaluator.apply(pipeline.withTerminal(terminal, fn, limit));
+  }
+}
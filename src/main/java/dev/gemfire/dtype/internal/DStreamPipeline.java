@@ -0,0 +1,190 @@
+/*
+ * Copyright 2024 Broadcom. All rights reserved.
+ */
+
+package dev.gemfire.dtype.internal;
+
+import static org.apache.geode.util.internal.UncheckedUtils.uncheckedCast;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToLongFunction;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * The serializable form of a {@link dev.gemfire.dtype.DStream}: the intermediate steps together
+ * with the terminal operation. A pipeline is evaluated on the server against the values of a
+ * collection's elements. When a collection is spread over several entries, each entry produces a
+ * partial result and the partial results are combined on the client.
+ */
+public class DStreamPipeline implements Serializable {
+
+  private static final long serialVersionUID = 1L;
+
+  enum StepType {
+    FILTER, MAP
+  }
+
+  enum TerminalType {
+    COUNT, SUM_LONG, SUM_DOUBLE, MIN, MAX, REDUCE, TOP, TO_LIST
+  }
+
+  private static class Step implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private final StepType type;
+    private final Object fn;
+
+    Step(StepType type, Object fn) {
+      this.type = type;
+      this.fn = fn;
+    }
+  }
+
+  private final List<Step> steps;
+  private final TerminalType terminal;
+  private final Object terminalFn;
+  private final int limit;
+
+  DStreamPipeline() {
+    this(Collections.emptyList(), null, null, 0);
+  }
+
+  private DStreamPipeline(List<Step> steps, TerminalType terminal, Object terminalFn, int limit) {
+    this.steps = steps;
+    this.terminal = terminal;
+    this.terminalFn = terminalFn;
+    this.limit = limit;
+  }
+
+  DStreamPipeline withStep(StepType type, Object fn) {
+    Objects.requireNonNull(fn);
+    List<Step> newSteps = new ArrayList<>(steps);
+    newSteps.add(new Step(type, fn));
+    return new DStreamPipeline(newSteps, null, null, 0);
+  }
+
+  DStreamPipeline withTerminal(TerminalType type, Object fn, int limit) {
+    return new DStreamPipeline(steps, type, fn, limit);
+  }
+
+  TerminalType getTerminal() {
+    return terminal;
+  }
+
+  /**
+   * Apply this pipeline to the given element values.
+   */
+  Object evaluate(Stream<Object> values) {
+    Stream<Object> stream = values;
+    for (Step step : steps) {
+      switch (step.type) {
+        case FILTER:
+          stream = stream.filter(uncheckedCast(step.fn));
+          break;
+        case MAP:
+          Function<Object, Object> mapper = uncheckedCast(step.fn);
+          stream = stream.map(mapper);
+          break;
+        default:
+          throw new IllegalStateException("Unknown step " + step.type);
+      }
+    }
+
+    switch (terminal) {
+      case COUNT:
+        return stream.count();
+      case SUM_LONG:
+        ToLongFunction<Object> toLong = uncheckedCast(terminalFn);
+        return stream.mapToLong(toLong).sum();
+      case SUM_DOUBLE:
+        ToDoubleFunction<Object> toDouble = uncheckedCast(terminalFn);
+        return stream.mapToDouble(toDouble).sum();
+      case MIN:
+        return stream.min(comparator()).orElse(null);
+      case MAX:
+        return stream.max(comparator()).orElse(null);
+      case REDUCE:
+        return stream.reduce(accumulator()).orElse(null);
+      case TOP:
+        return top(stream);
+      case TO_LIST:
+        return stream.collect(Collectors.toCollection(ArrayList::new));
+      default:
+        throw new IllegalStateException("Unknown terminal operation " + terminal);
+    }
+  }
+
+  /**
+   * Combine the partial results produced by evaluating this pipeline against several entries.
+   */
+  Object combine(List<Object> results) {
+    switch (terminal) {
+      case COUNT:
+      case SUM_LONG:
+        long longSum = 0;
+        for (Object result : results) {
+          longSum += (Long) result;
+        }
+        return longSum;
+      case SUM_DOUBLE:
+        double doubleSum = 0;
+        for (Object result : results) {
+          doubleSum += (Double) result;
+        }
+        return doubleSum;
+      case MIN:
+        return results.stream().filter(Objects::nonNull).min(comparator()).orElse(null);
+      case MAX:
+        return results.stream().filter(Objects::nonNull).max(comparator()).orElse(null);
+      case REDUCE:
+        return results.stream().filter(Objects::nonNull).reduce(accumulator()).orElse(null);
+      case TOP:
+        return top(results.stream().flatMap(result -> ((List<?>) result).stream()));
+      case TO_LIST:
+        List<Object> all = new ArrayList<>();
+        for (Object result : results) {
+          all.addAll((List<?>) result);
+        }
+        return all;
+      default:
+        throw new IllegalStateException("Unknown terminal operation " + terminal);
+    }
+  }
+
+  private Comparator<Object> comparator() {
+    return uncheckedCast(terminalFn);
+  }
+
+  private BinaryOperator<Object> accumulator() {
+    return uncheckedCast(terminalFn);
+  }
+
+  /**
+   * Retain the largest {@code limit} elements using a min-heap and return them largest first.
+   */
+  private List<Object> top(Stream<Object> stream) {
+    Comparator<Object> comparator = comparator();
+    PriorityQueue<Object> heap = new PriorityQueue<>(limit + 1, comparator);
+    stream.forEach(value -> {
+      heap.add(value);
+      if (heap.size() > limit) {
+        heap.poll();
+      }
+    });
+
+    List<Object> result = new ArrayList<>(heap);
+    result.sort(comparator.reversed());
+    return result;
+  }
+
+}
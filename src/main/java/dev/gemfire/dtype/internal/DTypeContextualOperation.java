@@ -0,0 +1,27 @@
+/*
+ * Copyright 2024 Broadcom. All rights reserved.
+ */
+
+package dev.gemfire.dtype.internal;
+
+import dev.gemfire.dtype.DType;
+
+/**
+ * An opcode based operation which receives a {@link DTypeFunctionContext} when performed. The
+ * operation is interpreted by
+ * {@link AbstractDType#applyOperation(DTypeContextualOperation, DTypeFunctionContext)}.
+ */
+public class DTypeContextualOperation extends AbstractDTypeOperation
+    implements DTypeContextualFunction {
+
+  public DTypeContextualOperation() {}
+
+  public DTypeContextualOperation(int opcode, Object... args) {
+    super(opcode, args);
+  }
+
+  @Override
+  public Object apply(DType entry, DTypeFunctionContext context) {
+    return ((AbstractDType) entry).applyOperation(this, context);
+  }
+}
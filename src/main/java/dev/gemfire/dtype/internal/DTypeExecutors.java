@@ -0,0 +1,67 @@
+/*
+ * Copyright 2024 Broadcom. All rights reserved.
+ */
+
+package dev.gemfire.dtype.internal;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Creates the executors used to perform operations in the background. An asynchronous operation
+ * holds a thread for as long as the server takes to complete it, which, for an operation such as
+ * {@code take()}, may be a long time. Where virtual threads are available (JDK 21 and later), each
+ * task is therefore run by its own virtual thread so that blocked operations do not hold platform
+ * threads. Otherwise, or if the {@code gemfire.dtype.virtual-threads} system property is
+ * {@code false}, a cached pool of daemon platform threads is used.
+ * <p>
+ * Since this library is built for Java 8, virtual threads are created reflectively.
+ */
+final class DTypeExecutors {
+
+  static final boolean VIRTUAL_THREADS_ENABLED =
+      Boolean.parseBoolean(System.getProperty("gemfire.dtype.virtual-threads", "true"));
+
+  private DTypeExecutors() {}
+
+  /**
+   * Return a new executor whose threads are named with the given prefix followed by a number.
+   */
+  static ExecutorService newExecutor(String namePrefix) {
+    if (VIRTUAL_THREADS_ENABLED) {
+      ExecutorService executor = newVirtualThreadExecutor(namePrefix);
+      if (executor != null) {
+        return executor;
+      }
+    }
+
+    AtomicInteger threadId = new AtomicInteger();
+    return Executors.newCachedThreadPool(r -> {
+      Thread thread = new Thread(r, namePrefix + threadId.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    });
+  }
+
+  /**
+   * Return an executor that starts a new virtual thread for each task, or {@code null} if virtual
+   * threads are not available.
+   */
+  static ExecutorService newVirtualThreadExecutor(String namePrefix) {
+    try {
+      Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+      Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+      builder = builderClass.getMethod("name", String.class, long.class)
+          .invoke(builder, namePrefix, 1L);
+      ThreadFactory factory = (ThreadFactory) builderClass.getMethod("factory").invoke(builder);
+
+      return (ExecutorService) Executors.class
+          .getMethod("newThreadPerTaskExecutor", ThreadFactory.class)
+          .invoke(null, factory);
+    } catch (ReflectiveOperationException e) {
+      return null;
+    }
+  }
+}
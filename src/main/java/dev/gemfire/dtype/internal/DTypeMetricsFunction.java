@@ -0,0 +1,149 @@
+/*
+ * Copyright 2024 Broadcom. All rights reserved.
+ */
+
+package dev.gemfire.dtype.internal;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+
+import dev.gemfire.dtype.DTypeMetrics;
+
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.execute.Function;
+import org.apache.geode.cache.execute.FunctionContext;
+import org.apache.geode.cache.execute.RegionFunctionContext;
+import org.apache.geode.cache.partition.PartitionRegionHelper;
+
+/**
+ * Function which returns the {@link DTypeMetrics} of every instance for which the executing server
+ * is primary. It is executed on the region without a filter to gather the metrics of the whole
+ * cluster for {@link DTypeServiceMBean}.
+ * <p>
+ * Operation rates are calculated from the operation count of each instance when it was last
+ * sampled on this server, whether by this function or by the local MBean. A sample is only
+ * replaced once it is at least {@link #MIN_SAMPLE_INTERVAL_MS} old so that frequent sampling does
+ * not produce erratic rates.
+ */
+public class DTypeMetricsFunction implements Function<Object> {
+
+  public static final String ID = "dtype-metrics-function";
+
+  static final long MIN_SAMPLE_INTERVAL_MS = 1000;
+
+  private final String member;
+  private final ConcurrentMap<String, Sample> samples = new ConcurrentHashMap<>();
+
+  public DTypeMetricsFunction(String member) {
+    this.member = member;
+  }
+
+  @Override
+  public void execute(FunctionContext<Object> context) {
+    Region<String, Object> localData =
+        PartitionRegionHelper.getLocalDataForContext((RegionFunctionContext<?>) context);
+    context.getResultSender().lastResult(collect(localData));
+  }
+
+  /**
+   * Return the metrics of all instances in the given local data, ordered by name.
+   */
+  List<DTypeMetrics> collect(Region<String, ?> localData) {
+    List<DTypeMetrics> result = new ArrayList<>();
+    Set<String> names = new HashSet<>(localData.keySet());
+    for (String name : names) {
+      DTypeMetrics metrics = collect(localData, name);
+      if (metrics != null) {
+        result.add(metrics);
+      }
+    }
+    samples.keySet().retainAll(names);
+    result.sort((a, b) -> a.getName().compareTo(b.getName()));
+
+    return result;
+  }
+
+  /**
+   * Return the metrics of the named instance or {@code null} if it is not in the given data.
+   */
+  DTypeMetrics collect(Region<String, ?> localData, String name) {
+    Object value = localData.get(name);
+    if (!(value instanceof AbstractDType)) {
+      return null;
+    }
+
+    AbstractDType entry = (AbstractDType) value;
+    int elementCount;
+    long size;
+    long operationCount;
+    int waiters;
+    long deltaUpdates;
+    long fullUpdates;
+    Lock lock = entry.getLock(OperationType.QUERY);
+    lock.lock();
+    try {
+      elementCount = entry.getElementCount();
+      size = entry.getApproximateSize();
+      operationCount = entry.getOperationCount();
+      waiters = entry.getTotalWaiterCount();
+      deltaUpdates = entry.getDeltaUpdateCount();
+      fullUpdates = entry.getFullUpdateCount();
+    } finally {
+      lock.unlock();
+    }
+
+    return new DTypeMetrics(name, entry.getClass().getSimpleName(), member, elementCount, size,
+        operationCount, operationRate(name, operationCount), waiters, deltaUpdates, fullUpdates);
+  }
+
+  private double operationRate(String name, long operationCount) {
+    long now = System.nanoTime();
+    Sample previous = samples.get(name);
+    // A lower count means the instance has been reloaded, for example after a change of primary
+    if (previous == null || operationCount < previous.operationCount) {
+      samples.put(name, new Sample(operationCount, now));
+      return 0;
+    }
+
+    long elapsed = now - previous.time;
+    if (elapsed <= 0) {
+      return 0;
+    }
+    if (elapsed >= TimeUnit.MILLISECONDS.toNanos(MIN_SAMPLE_INTERVAL_MS)) {
+      samples.replace(name, previous, new Sample(operationCount, now));
+    }
+    return (operationCount - previous.operationCount) * (double) TimeUnit.SECONDS.toNanos(1)
+        / elapsed;
+  }
+
+  @Override
+  public String getId() {
+    return ID;
+  }
+
+  @Override
+  public boolean optimizeForWrite() {
+    return true;
+  }
+
+  @Override
+  public boolean isHA() {
+    return false;
+  }
+
+  private static class Sample {
+    private final long operationCount;
+    private final long time;
+
+    Sample(long operationCount, long time) {
+      this.operationCount = operationCount;
+      this.time = time;
+    }
+  }
+}
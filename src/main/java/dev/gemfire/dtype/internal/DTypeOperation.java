@@ -0,0 +1,25 @@
+/*
+ * Copyright 2024 Broadcom. All rights reserved.
+ */
+
+package dev.gemfire.dtype.internal;
+
+import dev.gemfire.dtype.DType;
+
+/**
+ * An opcode based operation which is performed by the {@link CollectionsBackendFunction}. The
+ * operation is interpreted by {@link AbstractDType#applyOperation(DTypeOperation)}.
+ */
+public class DTypeOperation extends AbstractDTypeOperation implements DTypeCollectionsFunction {
+
+  public DTypeOperation() {}
+
+  public DTypeOperation(int opcode, Object... args) {
+    super(opcode, args);
+  }
+
+  @Override
+  public Object apply(DType entry) {
+    return ((AbstractDType) entry).applyOperation(this);
+  }
+}
@@ -9,8 +9,10 @@ import static dev.gemfire.dtype.DTypeFactory.DTYPES_REGION;
 import org.apache.logging.log4j.Logger;
 
 import org.apache.geode.cache.Cache;
+import org.apache.geode.cache.Region;
 import org.apache.geode.cache.RegionShortcut;
 import org.apache.geode.cache.execute.FunctionService;
+import org.apache.geode.distributed.DistributedMember;
 import org.apache.geode.distributed.internal.ClusterDistributionManager;
 import org.apache.geode.internal.cache.CacheService;
 import org.apache.geode.internal.cache.InternalCache;
@@ -23,6 +25,7 @@ public class DTypeService implements CacheService {
   private static final Logger logger = LogService.getLogger();
 
   private InternalCache cache;
+  private DTypeServiceMBean mbean;
 
   @Override
   public boolean init(Cache cache) {
@@ -35,13 +38,27 @@ public class DTypeService implements CacheService {
       return false;
     }
 
-    cache.createRegionFactory(RegionShortcut.PARTITION_REDUNDANT).create(DTYPES_REGION);
+    Region<String, Object> region = cache.<String, Object>createRegionFactory(
+        RegionShortcut.PARTITION_REDUNDANT).create(DTYPES_REGION);
+
+    AbstractDTypeOperation.registerInstantiators();
 
     DSemaphoreTracker tracker = new DSemaphoreTracker();
     ClientMembership.registerClientMembershipListener(tracker);
 
-    FunctionService.registerFunction(new CollectionsBackendFunction());
-    FunctionService.registerFunction(new SemaphoreBackendFunction(tracker));
+    DTypeStats stats = new DTypeStats(cache.getDistributedSystem());
+
+    FunctionService.registerFunction(new CollectionsBackendFunction(stats));
+    FunctionService.registerFunction(new ReplicaQueryBackendFunction(stats));
+    FunctionService.registerFunction(new BatchBackendFunction(stats));
+    FunctionService.registerFunction(new SegmentedQueueBackendFunction(stats));
+    FunctionService.registerFunction(new SemaphoreBackendFunction(tracker, stats));
+
+    DistributedMember member = cache.getDistributedSystem().getDistributedMember();
+    DTypeMetricsFunction metricsFunction = new DTypeMetricsFunction(
+        member.getName() == null || member.getName().isEmpty() ? member.getId() : member.getName());
+    FunctionService.registerFunction(metricsFunction);
+    mbean = new DTypeServiceMBean(region, metricsFunction);
 
     logger.info("Initialized service for GemFire Distributed Types");
 
@@ -55,6 +72,6 @@ public class DTypeService implements CacheService {
 
   @Override
   public CacheServiceMBeanBase getMBean() {
-    return null;
+    return mbean;
   }
 }
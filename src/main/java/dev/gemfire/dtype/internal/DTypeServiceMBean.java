@@ -0,0 +1,104 @@
+/*
+ * Copyright 2024 Broadcom. All rights reserved.
+ */
+
+package dev.gemfire.dtype.internal;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import dev.gemfire.dtype.DTypeMetrics;
+import dev.gemfire.dtype.DTypeServiceMXBean;
+
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.execute.FunctionService;
+import org.apache.geode.cache.execute.ResultCollector;
+import org.apache.geode.cache.partition.PartitionRegionHelper;
+import org.apache.geode.management.internal.beans.CacheServiceMBeanBase;
+
+/**
+ * MBean registered by {@link DTypeService}. Local metrics are collected directly from this
+ * server's primary data; cluster metrics are gathered by executing the
+ * {@link DTypeMetricsFunction} on every server.
+ */
+public class DTypeServiceMBean extends CacheServiceMBeanBase implements DTypeServiceMXBean {
+
+  private final Region<String, Object> region;
+  private final DTypeMetricsFunction metricsFunction;
+
+  public DTypeServiceMBean(Region<String, Object> region, DTypeMetricsFunction metricsFunction) {
+    this.region = region;
+    this.metricsFunction = metricsFunction;
+  }
+
+  @Override
+  public String getId() {
+    return "DTypeService";
+  }
+
+  @Override
+  public Class<?> getInterfaceClass() {
+    return DTypeServiceMXBean.class;
+  }
+
+  @Override
+  public int getInstanceCount() {
+    return PartitionRegionHelper.getLocalPrimaryData(region).size();
+  }
+
+  @Override
+  public int getWaitingThreads() {
+    return DTypeWaiters.getWaitingThreads();
+  }
+
+  @Override
+  public DTypeMetrics[] listMetrics() {
+    return toArray(metricsFunction.collect(PartitionRegionHelper.getLocalPrimaryData(region)));
+  }
+
+  @Override
+  public DTypeMetrics showMetrics(String name) {
+    return metricsFunction.collect(PartitionRegionHelper.getLocalPrimaryData(region), name);
+  }
+
+  @Override
+  public DTypeMetrics[] listClusterMetrics() {
+    List<DTypeMetrics> metrics = collectCluster();
+    metrics.sort(Comparator.comparing(DTypeMetrics::getName));
+    return toArray(metrics);
+  }
+
+  @Override
+  public DTypeMetrics[] listClusterBusiest(int limit) {
+    List<DTypeMetrics> metrics = collectCluster();
+    metrics.sort(Comparator.comparingDouble(DTypeMetrics::getOperationRate).reversed());
+    return toArray(metrics.subList(0, Math.min(limit, metrics.size())));
+  }
+
+  @Override
+  public DTypeMetrics[] listClusterLargest(int limit) {
+    List<DTypeMetrics> metrics = collectCluster();
+    metrics.sort(Comparator.comparingLong(DTypeMetrics::getApproximateSize).reversed());
+    return toArray(metrics.subList(0, Math.min(limit, metrics.size())));
+  }
+
+  @SuppressWarnings("unchecked")
+  private List<DTypeMetrics> collectCluster() {
+    ResultCollector<Object, List<Object>> collector =
+        FunctionService.onRegion(region).execute(DTypeMetricsFunction.ID);
+
+    List<DTypeMetrics> result = new ArrayList<>();
+    for (Object serverMetrics : collector.getResult()) {
+      if (serverMetrics instanceof RuntimeException) {
+        throw (RuntimeException) serverMetrics;
+      }
+      result.addAll((List<DTypeMetrics>) serverMetrics);
+    }
+    return result;
+  }
+
+  private static DTypeMetrics[] toArray(List<DTypeMetrics> metrics) {
+    return metrics.toArray(new DTypeMetrics[0]);
+  }
+}
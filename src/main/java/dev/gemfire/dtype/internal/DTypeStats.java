@@ -0,0 +1,269 @@
+/*
+ * Copyright 2024 Broadcom. All rights reserved.
+ */
+
+package dev.gemfire.dtype.internal;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+
+import org.apache.geode.StatisticDescriptor;
+import org.apache.geode.Statistics;
+import org.apache.geode.StatisticsFactory;
+import org.apache.geode.StatisticsType;
+import org.apache.geode.StatisticsTypeFactory;
+import org.apache.geode.internal.statistics.StatisticsTypeFactoryImpl;
+
+/**
+ * Statistics for the operations performed on distributed types, registered with GemFire so that
+ * they are sampled into statistics archives along with the other cache statistics.
+ * <p>
+ * A separate {@code DTypeOperationStats} instance is kept for each kind of operation, identified
+ * by the class of the instance it was performed on and the operation's opcode; for example
+ * {@code DBlockingQueueImpl:15}. Clients record the time taken by each call, including the round
+ * trip to the server. Servers additionally record how often and for how long operations were
+ * retried, waited for a condition, or waited to synchronize on an entry.
+ * <p>
+ * Clients also keep a {@code DTypeExecutorStats} instance for the executor that performs their
+ * asynchronous operations, recording how many of its tasks are running and for how long they ran.
+ * <p>
+ * {@code DSnowflake}s built with a {@code StatisticsFactory} keep a {@code DSnowflakeStats}
+ * instance, named after the snowflake, recording how many IDs were generated and how often
+ * generation had to wait for the clock.
+ */
+public class DTypeStats {
+
+  static final DTypeStats DISABLED = new DTypeStats(null);
+
+  private static final StatisticsType type;
+  private static final int operationsId;
+  private static final int operationTimeId;
+  private static final int errorsId;
+  private static final int retriesId;
+  private static final int waitsId;
+  private static final int waitTimeId;
+  private static final int lockWaitTimeId;
+  private static final int deferralsId;
+
+  private static final StatisticsType executorType;
+  private static final int tasksId;
+  private static final int tasksRunningId;
+  private static final int taskTimeId;
+
+  private static final StatisticsType snowflakeType;
+  private static final int idsId;
+  private static final int clockWaitsId;
+  private static final int clockWaitTimeId;
+  private static final int clockRegressionsId;
+
+  static {
+    StatisticsTypeFactory f = StatisticsTypeFactoryImpl.singleton();
+    type = f.createType("DTypeOperationStats",
+        "Statistics for one kind of operation on a distributed type",
+        new StatisticDescriptor[] {
+            f.createLongCounter("operations", "Number of operations completed", "operations"),
+            f.createLongCounter("operationTime",
+                "Total time taken by operations, including those that failed", "nanoseconds"),
+            f.createLongCounter("errors", "Number of operations that failed with an exception",
+                "operations"),
+            f.createLongCounter("retries", "Number of times operations were retried", "retries"),
+            f.createLongCounter("waits", "Number of times operations waited for a condition",
+                "waits"),
+            f.createLongCounter("waitTime", "Total time operations spent waiting for a condition",
+                "nanoseconds"),
+            f.createLongCounter("lockWaitTime",
+                "Total time operations spent waiting to synchronize on an entry", "nanoseconds"),
+            f.createLongCounter("deferrals",
+                "Number of times operations were handed back to the client since too many "
+                    + "threads were waiting",
+                "operations")});
+
+    operationsId = type.nameToId("operations");
+    operationTimeId = type.nameToId("operationTime");
+    errorsId = type.nameToId("errors");
+    retriesId = type.nameToId("retries");
+    waitsId = type.nameToId("waits");
+    waitTimeId = type.nameToId("waitTime");
+    lockWaitTimeId = type.nameToId("lockWaitTime");
+    deferralsId = type.nameToId("deferrals");
+
+    executorType = f.createType("DTypeExecutorStats",
+        "Statistics for an executor performing operations on distributed types in the background",
+        new StatisticDescriptor[] {
+            f.createLongCounter("tasks", "Number of tasks completed", "tasks"),
+            f.createLongGauge("tasksRunning", "Number of tasks currently running", "tasks"),
+            f.createLongCounter("taskTime", "Total time taken by completed tasks",
+                "nanoseconds")});
+
+    tasksId = executorType.nameToId("tasks");
+    tasksRunningId = executorType.nameToId("tasksRunning");
+    taskTimeId = executorType.nameToId("taskTime");
+
+    snowflakeType = f.createType("DSnowflakeStats", "Statistics for a DSnowflake ID generator",
+        new StatisticDescriptor[] {
+            f.createLongCounter("ids", "Number of IDs generated", "ids"),
+            f.createLongCounter("clockWaits",
+                "Number of times generation waited for the clock since all sequence numbers of "
+                    + "a millisecond had been used",
+                "waits"),
+            f.createLongCounter("clockWaitTime", "Total time spent waiting for the clock",
+                "nanoseconds"),
+            f.createLongCounter("clockRegressions",
+                "Number of times IDs were reserved while the clock was behind the last timestamp "
+                    + "used",
+                "operations")});
+
+    idsId = snowflakeType.nameToId("ids");
+    clockWaitsId = snowflakeType.nameToId("clockWaits");
+    clockWaitTimeId = snowflakeType.nameToId("clockWaitTime");
+    clockRegressionsId = snowflakeType.nameToId("clockRegressions");
+  }
+
+  private final StatisticsFactory factory;
+  private final ConcurrentMap<String, OperationStats> operationStats = new ConcurrentHashMap<>();
+
+  public DTypeStats(StatisticsFactory factory) {
+    this.factory = factory;
+  }
+
+  /**
+   * Return the statistics for the given function performed on an instance of the given class.
+   */
+  OperationStats forOperation(Class<?> entryClass, DTypeFunction fn) {
+    if (factory == null) {
+      return OperationStats.DISABLED;
+    }
+
+    String key = entryClass.getSimpleName() + ":"
+        + (fn instanceof AbstractDTypeOperation ? ((AbstractDTypeOperation) fn).getOpcode() : "?");
+    return operationStats.computeIfAbsent(key,
+        k -> new OperationStats(factory.createAtomicStatistics(type, k)));
+  }
+
+  /**
+   * Return an executor which runs tasks using the given executor and records them in a
+   * {@code DTypeExecutorStats} instance with the given name.
+   */
+  Executor meter(String name, Executor executor) {
+    if (factory == null) {
+      return executor;
+    }
+
+    Statistics stats = factory.createAtomicStatistics(executorType, name);
+    return task -> executor.execute(() -> {
+      long start = System.nanoTime();
+      stats.incLong(tasksRunningId, 1);
+      try {
+        task.run();
+      } finally {
+        stats.incLong(tasksRunningId, -1);
+        stats.incLong(tasksId, 1);
+        stats.incLong(taskTimeId, System.nanoTime() - start);
+      }
+    });
+  }
+
+  /**
+   * Return the statistics for the {@code DSnowflake} with the given name. Each call creates new
+   * statistics, which must be closed when the snowflake is destroyed.
+   */
+  SnowflakeStats forSnowflake(String name) {
+    if (factory == null) {
+      return SnowflakeStats.DISABLED;
+    }
+
+    return new SnowflakeStats(factory.createAtomicStatistics(snowflakeType, name));
+  }
+
+  static class OperationStats {
+
+    static final OperationStats DISABLED = new OperationStats(null);
+
+    private final Statistics stats;
+
+    private OperationStats(Statistics stats) {
+      this.stats = stats;
+    }
+
+    long startTime() {
+      return stats == null ? 0 : System.nanoTime();
+    }
+
+    void endOperation(long start, boolean error) {
+      if (stats != null) {
+        stats.incLong(error ? errorsId : operationsId, 1);
+        stats.incLong(operationTimeId, System.nanoTime() - start);
+      }
+    }
+
+    void incRetries() {
+      if (stats != null) {
+        stats.incLong(retriesId, 1);
+      }
+    }
+
+    void endWait(long start) {
+      if (stats != null) {
+        stats.incLong(waitsId, 1);
+        stats.incLong(waitTimeId, System.nanoTime() - start);
+      }
+    }
+
+    void endLockWait(long start) {
+      if (stats != null) {
+        stats.incLong(lockWaitTimeId, System.nanoTime() - start);
+      }
+    }
+
+    void incDeferrals() {
+      if (stats != null) {
+        stats.incLong(deferralsId, 1);
+      }
+    }
+  }
+
+  static class SnowflakeStats {
+
+    static final SnowflakeStats DISABLED = new SnowflakeStats(null);
+
+    private final Statistics stats;
+
+    private SnowflakeStats(Statistics stats) {
+      this.stats = stats;
+    }
+
+    void incIds(int count) {
+      if (stats != null) {
+        stats.incLong(idsId, count);
+      }
+    }
+
+    long startTime() {
+      return stats == null ? 0 : System.nanoTime();
+    }
+
+    void endWait(long start) {
+      if (stats != null) {
+        stats.incLong(clockWaitsId, 1);
+        stats.incLong(clockWaitTimeId, System.nanoTime() - start);
+      }
+    }
+
+    void incClockRegressions() {
+      if (stats != null) {
+        stats.incLong(clockRegressionsId, 1);
+      }
+    }
+
+    /**
+     * Close the statistics, which are otherwise held by the statistics factory for as long as the
+     * client runs.
+     */
+    void close() {
+      if (stats != null) {
+        stats.close();
+      }
+    }
+  }
+}
@@ -0,0 +1,169 @@
+/*
+ * Copyright 2024 Broadcom. All rights reserved.
+ */
+
+package dev.gemfire.dtype.internal;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * The function threads waiting for a condition of an entry to become true. Conditions are
+ * identified by a number that is defined by each type; for example, a queue's "not empty"
+ * condition.
+ * <p>
+ * Waiters are kept in FIFO order for each condition and each signal wakes a single waiter, so that
+ * adding one element to a queue does not wake every thread waiting to take one. Waiters are added
+ * while holding the entry's lock and signalled by operations holding its write lock, which ensures
+ * that a signal cannot be missed between an operation failing and its thread starting to wait.
+ * Since operations that only read the entry share its lock, the waiters are also synchronized
+ * themselves. The waiting itself happens once the entry and primary bucket locks have been
+ * released.
+ * <p>
+ * Since each waiter occupies a function execution thread, the number of threads waiting across all
+ * entries of a server is limited by the {@code gemfire.dtype.max-waiting-threads} system property.
+ * Beyond that limit, operations are handed back to the client, which repeats them after a delay,
+ * so that blocked operations cannot starve the server of threads for unrelated operations.
+ */
+public class DTypeWaiters {
+
+  static final int MAX_WAITING_THREADS =
+      Integer.getInteger("gemfire.dtype.max-waiting-threads", 64);
+
+  private static final AtomicInteger waitingThreads = new AtomicInteger();
+
+  private final Map<Integer, Deque<Waiter>> waiters = new HashMap<>();
+
+  /**
+   * Reserve permission for the current thread to wait. Unless {@code force} is set, this fails if
+   * {@link #MAX_WAITING_THREADS} are already waiting. Every successful reservation must be followed
+   * by a call to {@link #release()}.
+   */
+  static boolean reserve(boolean force) {
+    if (force) {
+      waitingThreads.incrementAndGet();
+      return true;
+    }
+    int current;
+    do {
+      current = waitingThreads.get();
+      if (current >= MAX_WAITING_THREADS) {
+        return false;
+      }
+    } while (!waitingThreads.compareAndSet(current, current + 1));
+    return true;
+  }
+
+  static void release() {
+    waitingThreads.decrementAndGet();
+  }
+
+  /**
+   * Return the number of threads currently waiting on this server.
+   */
+  public static int getWaitingThreads() {
+    return waitingThreads.get();
+  }
+
+  /**
+   * Add a waiter for the current thread. A waiter that was woken by a signal, but still could not
+   * proceed, should be added back at the head of the queue in order to retain its position.
+   */
+  synchronized Waiter add(int condition, boolean first) {
+    Waiter waiter = new Waiter();
+    Deque<Waiter> queue = waiters.computeIfAbsent(condition, k -> new ArrayDeque<>());
+    if (first) {
+      queue.addFirst(waiter);
+    } else {
+      queue.addLast(waiter);
+    }
+    return waiter;
+  }
+
+  synchronized void remove(int condition, Waiter waiter) {
+    Deque<Waiter> queue = waiters.get(condition);
+    if (queue != null) {
+      queue.remove(waiter);
+    }
+  }
+
+  /**
+   * Wake up to {@code count} waiters for the given condition, in the order in which they started
+   * waiting.
+   */
+  synchronized void signal(int condition, int count) {
+    Deque<Waiter> queue = waiters.get(condition);
+    if (queue == null) {
+      return;
+    }
+    while (count > 0 && !queue.isEmpty()) {
+      if (queue.pollFirst().signal()) {
+        count--;
+      }
+    }
+  }
+
+  void signalAll(int condition) {
+    signal(condition, Integer.MAX_VALUE);
+  }
+
+  synchronized int size(int condition) {
+    Deque<Waiter> queue = waiters.get(condition);
+    return queue == null ? 0 : queue.size();
+  }
+
+  synchronized int size() {
+    int size = 0;
+    for (Deque<Waiter> queue : waiters.values()) {
+      size += queue.size();
+    }
+    return size;
+  }
+
+  static class Waiter {
+    private static final int WAITING = 0;
+    private static final int SIGNALLED = 1;
+    private static final int CANCELLED = 2;
+
+    private final AtomicInteger state = new AtomicInteger(WAITING);
+    private final Thread thread = Thread.currentThread();
+
+    boolean signal() {
+      if (state.compareAndSet(WAITING, SIGNALLED)) {
+        LockSupport.unpark(thread);
+        return true;
+      }
+      return false;
+    }
+
+    /**
+     * Wait until signalled or until the timeout expires. Must be called by the thread that created
+     * this waiter and without holding the entry's monitor.
+     *
+     * @return {@code true} if this waiter was signalled
+     */
+    boolean await(long timeoutMs) {
+      long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+      while (state.get() == WAITING) {
+        long remaining = deadline - System.nanoTime();
+        if (remaining <= 0) {
+          break;
+        }
+        LockSupport.parkNanos(this, remaining);
+        if (Thread.interrupted()) {
+          if (state.compareAndSet(WAITING, CANCELLED)) {
+            Thread.currentThread().interrupt();
+            throw new UncheckedInterruptedException(new InterruptedException());
+          }
+          Thread.currentThread().interrupt();
+        }
+      }
+      return !state.compareAndSet(WAITING, CANCELLED);
+    }
+  }
+}
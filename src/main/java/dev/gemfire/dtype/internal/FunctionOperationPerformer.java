@@ -4,44 +4,144 @@
 
 package dev.gemfire.dtype.internal;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
 import dev.gemfire.dtype.DType;
+import dev.gemfire.dtype.internal.DTypeStats.OperationStats;
 
+import org.apache.geode.cache.GemFireCache;
 import org.apache.geode.cache.Region;
 import org.apache.geode.cache.execute.FunctionService;
 import org.apache.geode.cache.execute.ResultCollector;
 
 /**
  * Concrete implementation that uses a function to forward the operation to the backend server.
+ * <p>
+ * GemFire client function execution blocks the calling thread until the result has been received,
+ * so asynchronous operations are handed off to a shared executor which, where available, uses
+ * virtual threads (see {@link DTypeExecutors}).
+ * <p>
+ * If a server has too many threads waiting on blocked operations, it returns {@link WouldBlock}
+ * and the operation is repeated after a delay, together with the time already spent waiting so
+ * that the operation's timeout is honoured. Asynchronous operations are rescheduled rather than
+ * holding a thread while they are delayed.
+ * <p>
+ * The time taken by each operation, including any delays, is recorded in {@link DTypeStats}.
  */
 public class FunctionOperationPerformer implements OperationPerformer {
 
+  private static final ExecutorService sharedAsyncExecutor =
+      DTypeExecutors.newExecutor("DType-async-");
+  private static final ScheduledExecutorService retryScheduler =
+      Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "DType-retry");
+        thread.setDaemon(true);
+        return thread;
+      });
+
+  private static final long MIN_RETRY_DELAY_MS = 10;
+  private static final long MAX_RETRY_DELAY_MS = RetryableException.MAX_WAIT_MS;
+
   private final Region<String, Object> region;
   private final String memberTag;
+  private final DTypeStats stats;
+  private final Executor asyncExecutor;
 
   public FunctionOperationPerformer(Region<String, Object> region, String memberTag) {
     this.region = region;
     this.memberTag = memberTag;
+    this.stats =
+        new DTypeStats(((GemFireCache) region.getRegionService()).getDistributedSystem());
+    this.asyncExecutor = stats.meter("DType-async", sharedAsyncExecutor);
   }
 
   @Override
   @SuppressWarnings("unchecked")
   public <T> T performOperation(DType entry, DTypeFunction fn, OperationType operationType,
       String gemfireFunctionId) {
-    Object[] args = new Object[] {entry.getName(), memberTag, fn, operationType};
+    OperationStats opStats = stats.forOperation(entry.getClass(), fn);
+    long statStart = opStats.startTime();
+    long start = System.currentTimeMillis();
+    long delayMs = MIN_RETRY_DELAY_MS;
+    Object result;
+    boolean error = true;
+    try {
+      while ((result = execute(entry, fn, operationType, gemfireFunctionId,
+          System.currentTimeMillis() - start)) instanceof WouldBlock) {
+        opStats.incDeferrals();
+        try {
+          Thread.sleep(delayMs);
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          throw new UncheckedInterruptedException(e);
+        }
+        delayMs = Math.min(delayMs * 2, MAX_RETRY_DELAY_MS);
+      }
+      error = false;
+    } finally {
+      opStats.endOperation(statStart, error);
+    }
+
+    return (T) result;
+  }
+
+  @Override
+  public <T> CompletableFuture<T> performOperationAsync(DType entry, DTypeFunction fn,
+      OperationType operationType, String gemfireFunctionId) {
+    CompletableFuture<T> future = new CompletableFuture<>();
+    OperationStats opStats = stats.forOperation(entry.getClass(), fn);
+    long statStart = opStats.startTime();
+    asyncExecutor.execute(() -> attemptAsync(future, entry, fn, operationType, gemfireFunctionId,
+        System.currentTimeMillis(), MIN_RETRY_DELAY_MS));
+    return future.whenComplete((r, ex) -> opStats.endOperation(statStart, ex != null));
+  }
+
+  @SuppressWarnings("unchecked")
+  private <T> void attemptAsync(CompletableFuture<T> future, DType entry, DTypeFunction fn,
+      OperationType operationType, String gemfireFunctionId, long start, long delayMs) {
+    Object result;
+    try {
+      result = execute(entry, fn, operationType, gemfireFunctionId,
+          System.currentTimeMillis() - start);
+    } catch (Throwable ex) {
+      future.completeExceptionally(ex);
+      return;
+    }
+
+    if (result instanceof WouldBlock) {
+      stats.forOperation(entry.getClass(), fn).incDeferrals();
+      long nextDelayMs = Math.min(delayMs * 2, MAX_RETRY_DELAY_MS);
+      retryScheduler.schedule(() -> asyncExecutor.execute(() -> attemptAsync(future, entry, fn,
+          operationType, gemfireFunctionId, start, nextDelayMs)), delayMs, TimeUnit.MILLISECONDS);
+    } else {
+      future.complete((T) result);
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private Object execute(DType entry, DTypeFunction fn, OperationType operationType,
+      String gemfireFunctionId, long waitedMs) {
+    Object[] args = new Object[] {entry.getName(), memberTag, fn, operationType, waitedMs};
     Set<String> filter = Collections.singleton(entry.getName());
 
-    T result;
-    ResultCollector<T, List<T>> collector =
+    ResultCollector<Object, List<Object>> collector =
         FunctionService.onRegion(region)
             .withFilter(filter)
             .setArguments(args)
             .execute(gemfireFunctionId);
 
-    result = collector.getResult().get(0);
+    Object result = collector.getResult().get(0);
     if (result instanceof RuntimeException) {
       throw (RuntimeException) result;
     }
@@ -49,4 +149,85 @@ public class FunctionOperationPerformer implements OperationPerformer {
     return result;
   }
 
+  /**
+   * Sends all operations using a single execution of the {@link BatchBackendFunction}. GemFire
+   * routes the execution to every server which is primary for at least one of the entries
+   * involved, so only one round trip is made per server. Operations for which a server returns
+   * {@link WouldBlock} are sent again, in a further batch, after a delay.
+   */
+  @Override
+  public List<Object> performOperations(List<BatchedOperation> operations) {
+    Object[] results = new Object[operations.size()];
+    List<Integer> indexes = new ArrayList<>(operations.size());
+    for (int i = 0; i < results.length; i++) {
+      indexes.add(i);
+    }
+
+    long start = System.currentTimeMillis();
+    long delayMs = MIN_RETRY_DELAY_MS;
+    while (true) {
+      executeBatch(operations, indexes, System.currentTimeMillis() - start, results);
+
+      List<Integer> deferred = new ArrayList<>();
+      for (int index : indexes) {
+        if (results[index] instanceof WouldBlock) {
+          BatchedOperation op = operations.get(index);
+          stats.forOperation(op.getEntry().getClass(), op.getFunction()).incDeferrals();
+          deferred.add(index);
+        }
+      }
+      if (deferred.isEmpty()) {
+        break;
+      }
+
+      try {
+        Thread.sleep(delayMs);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new UncheckedInterruptedException(e);
+      }
+      delayMs = Math.min(delayMs * 2, MAX_RETRY_DELAY_MS);
+      indexes = deferred;
+    }
+
+    return Arrays.asList(results);
+  }
+
+  /**
+   * Execute the {@link BatchBackendFunction} for the operations at the given indexes, storing the
+   * result of each at the same index of {@code results}.
+   */
+  @SuppressWarnings("unchecked")
+  private void executeBatch(List<BatchedOperation> operations, List<Integer> indexes,
+      long waitedMs, Object[] results) {
+    Object[] args = new Object[indexes.size()];
+    Set<String> filter = new HashSet<>();
+    for (int i = 0; i < args.length; i++) {
+      BatchedOperation op = operations.get(indexes.get(i));
+      args[i] = new Object[] {op.getEntry().getName(), op.getFunction(), op.getOperationType(),
+          waitedMs};
+      filter.add(op.getEntry().getName());
+    }
+
+    ResultCollector<Object, List<Object>> collector =
+        FunctionService.onRegion(region)
+            .withFilter(filter)
+            .setArguments(args)
+            .execute(BatchBackendFunction.ID);
+
+    for (Object serverResults : collector.getResult()) {
+      if (serverResults instanceof RuntimeException) {
+        throw (RuntimeException) serverResults;
+      }
+      for (Object[] pair : (List<Object[]>) serverResults) {
+        results[indexes.get((Integer) pair[0])] = pair[1];
+      }
+    }
+  }
+
+  @Override
+  public Executor getAsyncExecutor() {
+    return asyncExecutor;
+  }
+
 }
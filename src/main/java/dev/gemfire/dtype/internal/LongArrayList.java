@@ -0,0 +1,139 @@
+/*
+ * Copyright 2024 Broadcom. All rights reserved.
+ */
+
+package dev.gemfire.dtype.internal;
+
+import java.util.Arrays;
+
+/**
+ * A list of {@code long} values held in a {@code long[]} that grows as required.
+ * <p>
+ * This class is not synchronized.
+ */
+class LongArrayList {
+
+  private static final long[] EMPTY = new long[0];
+  private static final int MIN_GROWTH = 10;
+
+  private long[] elements;
+  private int size;
+
+  LongArrayList() {
+    elements = EMPTY;
+  }
+
+  LongArrayList(long[] values) {
+    elements = values.clone();
+    size = values.length;
+  }
+
+  int size() {
+    return size;
+  }
+
+  boolean isEmpty() {
+    return size == 0;
+  }
+
+  long get(int index) {
+    checkIndex(index, size);
+    return elements[index];
+  }
+
+  long set(int index, long value) {
+    checkIndex(index, size);
+    long previous = elements[index];
+    elements[index] = value;
+    return previous;
+  }
+
+  void add(long value) {
+    ensureCapacity(size + 1);
+    elements[size++] = value;
+  }
+
+  void add(int index, long value) {
+    checkIndex(index, size + 1);
+    ensureCapacity(size + 1);
+    System.arraycopy(elements, index, elements, index + 1, size - index);
+    elements[index] = value;
+    size++;
+  }
+
+  void addAll(long[] values) {
+    ensureCapacity(size + values.length);
+    System.arraycopy(values, 0, elements, size, values.length);
+    size += values.length;
+  }
+
+  long removeAt(int index) {
+    checkIndex(index, size);
+    long previous = elements[index];
+    System.arraycopy(elements, index + 1, elements, index, size - index - 1);
+    size--;
+    return previous;
+  }
+
+  boolean remove(long value) {
+    int index = indexOf(value);
+    if (index < 0) {
+      return false;
+    }
+    removeAt(index);
+    return true;
+  }
+
+  int indexOf(long value) {
+    for (int i = 0; i < size; i++) {
+      if (elements[i] == value) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  int lastIndexOf(long value) {
+    for (int i = size - 1; i >= 0; i--) {
+      if (elements[i] == value) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  void sort() {
+    Arrays.sort(elements, 0, size);
+  }
+
+  void clear() {
+    elements = EMPTY;
+    size = 0;
+  }
+
+  long[] toArray() {
+    return Arrays.copyOf(elements, size);
+  }
+
+  long[] toArray(int fromIndex, int toIndex) {
+    if (fromIndex < 0 || toIndex > size || fromIndex > toIndex) {
+      throw new IndexOutOfBoundsException(
+          "fromIndex: " + fromIndex + ", toIndex: " + toIndex + ", size: " + size);
+    }
+    return Arrays.copyOfRange(elements, fromIndex, toIndex);
+  }
+
+  private void ensureCapacity(int required) {
+    if (required > elements.length) {
+      int growth = Math.max(elements.length >> 1, MIN_GROWTH);
+      int newLength = Math.max(required, elements.length + growth);
+      elements = Arrays.copyOf(elements, newLength);
+    }
+  }
+
+  private void checkIndex(int index, int bound) {
+    if (index < 0 || index >= bound) {
+      throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+    }
+  }
+}
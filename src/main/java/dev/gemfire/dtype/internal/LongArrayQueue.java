@@ -0,0 +1,125 @@
+/*
+ * Copyright 2024 Broadcom. All rights reserved.
+ */
+
+package dev.gemfire.dtype.internal;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * A first-in first-out queue of {@code long} values, holding at most a fixed number of values, in
+ * a ring buffer that grows as required up to that capacity.
+ * <p>
+ * This class is not synchronized.
+ */
+class LongArrayQueue {
+
+  private static final int INITIAL_LENGTH = 16;
+
+  private final int capacity;
+  private long[] elements;
+  private int head;
+  private int size;
+
+  LongArrayQueue(int capacity) {
+    if (capacity <= 0) {
+      throw new IllegalArgumentException("capacity must be greater than 0");
+    }
+    this.capacity = capacity;
+    elements = new long[Math.min(capacity, INITIAL_LENGTH)];
+  }
+
+  int capacity() {
+    return capacity;
+  }
+
+  int size() {
+    return size;
+  }
+
+  boolean isEmpty() {
+    return size == 0;
+  }
+
+  int remainingCapacity() {
+    return capacity - size;
+  }
+
+  boolean offer(long value) {
+    if (size >= capacity) {
+      return false;
+    }
+    if (size == elements.length) {
+      grow(size + 1);
+    }
+    elements[(head + size) % elements.length] = value;
+    size++;
+    return true;
+  }
+
+  /**
+   * Add all the given values, or none of them if there is not enough remaining capacity.
+   *
+   * @return {@code true} if the values were added
+   */
+  boolean offerAll(long[] values) {
+    if (values.length > remainingCapacity()) {
+      return false;
+    }
+    if (size + values.length > elements.length) {
+      grow(size + values.length);
+    }
+    for (long value : values) {
+      elements[(head + size) % elements.length] = value;
+      size++;
+    }
+    return true;
+  }
+
+  long peek() {
+    if (size == 0) {
+      throw new NoSuchElementException();
+    }
+    return elements[head];
+  }
+
+  long poll() {
+    long value = peek();
+    head = (head + 1) % elements.length;
+    size--;
+    return value;
+  }
+
+  /**
+   * Remove and return up to {@code maxElements} values from the head of the queue.
+   */
+  long[] drain(int maxElements) {
+    long[] result = new long[Math.min(Math.max(maxElements, 0), size)];
+    for (int i = 0; i < result.length; i++) {
+      result[i] = poll();
+    }
+    return result;
+  }
+
+  void clear() {
+    elements = new long[Math.min(capacity, INITIAL_LENGTH)];
+    head = 0;
+    size = 0;
+  }
+
+  long[] toArray() {
+    long[] result = new long[size];
+    int firstPart = Math.min(size, elements.length - head);
+    System.arraycopy(elements, head, result, 0, firstPart);
+    System.arraycopy(elements, 0, result, firstPart, size - firstPart);
+    return result;
+  }
+
+  private void grow(int required) {
+    long newLength = Math.max(required, (long) elements.length * 2);
+    long[] grown = toArray();
+    elements = Arrays.copyOf(grown, (int) Math.min(newLength, capacity));
+    head = 0;
+  }
+}
@@ -0,0 +1,167 @@
+/*
+ * Copyright 2024 Broadcom. All rights reserved.
+ */
+
+package dev.gemfire.dtype.internal;
+
+import java.util.Arrays;
+
+/**
+ * A set of {@code long} values held in an open-addressing hash table with linear probing, so that
+ * each value takes up a single slot of a {@code long[]} rather than a boxed {@code Long} and a map
+ * node. Slots holding zero are empty; whether zero itself is in the set is tracked separately.
+ * Removal shifts later entries of a probe sequence back, so no tombstones are left behind.
+ * <p>
+ * This class is not synchronized.
+ */
+class LongHashSet {
+
+  private static final int MIN_TABLE_SIZE = 16;
+  private static final int MAX_TABLE_SIZE = 1 << 30;
+
+  private long[] table;
+  // The number of non-zero values in the table
+  private int count;
+  private boolean containsZero;
+
+  LongHashSet() {
+    this(0);
+  }
+
+  LongHashSet(int expectedSize) {
+    table = new long[tableSizeFor(expectedSize)];
+  }
+
+  int size() {
+    return containsZero ? count + 1 : count;
+  }
+
+  boolean isEmpty() {
+    return size() == 0;
+  }
+
+  boolean contains(long value) {
+    if (value == 0) {
+      return containsZero;
+    }
+    int mask = table.length - 1;
+    for (int i = slot(value, mask);; i = (i + 1) & mask) {
+      long current = table[i];
+      if (current == 0) {
+        return false;
+      }
+      if (current == value) {
+        return true;
+      }
+    }
+  }
+
+  boolean add(long value) {
+    if (value == 0) {
+      if (containsZero) {
+        return false;
+      }
+      containsZero = true;
+      return true;
+    }
+    int mask = table.length - 1;
+    for (int i = slot(value, mask);; i = (i + 1) & mask) {
+      long current = table[i];
+      if (current == value) {
+        return false;
+      }
+      if (current == 0) {
+        table[i] = value;
+        if (++count > maxCount(table.length) && table.length < MAX_TABLE_SIZE) {
+          rehash(table.length * 2);
+        }
+        return true;
+      }
+    }
+  }
+
+  boolean remove(long value) {
+    if (value == 0) {
+      boolean removed = containsZero;
+      containsZero = false;
+      return removed;
+    }
+    int mask = table.length - 1;
+    int gap = slot(value, mask);
+    while (table[gap] != value) {
+      if (table[gap] == 0) {
+        return false;
+      }
+      gap = (gap + 1) & mask;
+    }
+
+    // Move back any later entry of the probe sequence whose home slot is not between the gap and
+    // its current slot, so that lookups never stop early at the emptied slot
+    for (int i = (gap + 1) & mask; table[i] != 0; i = (i + 1) & mask) {
+      int home = slot(table[i], mask);
+      if (((i - home) & mask) >= ((i - gap) & mask)) {
+        table[gap] = table[i];
+        gap = i;
+      }
+    }
+    table[gap] = 0;
+    count--;
+    return true;
+  }
+
+  void clear() {
+    if (table.length > MIN_TABLE_SIZE) {
+      table = new long[MIN_TABLE_SIZE];
+    } else {
+      Arrays.fill(table, 0);
+    }
+    count = 0;
+    containsZero = false;
+  }
+
+  long[] toArray() {
+    long[] result = new long[size()];
+    int i = 0;
+    if (containsZero) {
+      result[i++] = 0;
+    }
+    for (long value : table) {
+      if (value != 0) {
+        result[i++] = value;
+      }
+    }
+    return result;
+  }
+
+  private void rehash(int newSize) {
+    long[] old = table;
+    table = new long[newSize];
+    int mask = newSize - 1;
+    for (long value : old) {
+      if (value != 0) {
+        int i = slot(value, mask);
+        while (table[i] != 0) {
+          i = (i + 1) & mask;
+        }
+        table[i] = value;
+      }
+    }
+  }
+
+  private static int slot(long value, int mask) {
+    long hash = value * 0x9E3779B97F4A7C15L;
+    return (int) (hash ^ (hash >>> 32)) & mask;
+  }
+
+  private static int maxCount(int tableSize) {
+    return tableSize / 4 * 3;
+  }
+
+  private static int tableSizeFor(int expectedSize) {
+    int size = MIN_TABLE_SIZE;
+    while (maxCount(size) < expectedSize && size < MAX_TABLE_SIZE) {
+      size <<= 1;
+    }
+    return size;
+  }
+}
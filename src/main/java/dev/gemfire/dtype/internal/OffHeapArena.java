@@ -0,0 +1,94 @@
+/*
+ * Copyright 2024 Broadcom. All rights reserved.
+ */
+
+package dev.gemfire.dtype.internal;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * The off-heap memory holding the {@link OffHeapElement}s of a single collection. Elements are
+ * appended to direct buffers, or slabs. Slabs start at {@link #MIN_SLAB_SIZE} bytes and each new
+ * slab is as large as all the slabs allocated before it, up to {@link #SLAB_SIZE} bytes, so that
+ * small collections do not hold on to large slabs. The space of removed elements is not reused;
+ * instead, once the slabs allocated since the last compaction reach twice the size of the live
+ * elements, the live elements are copied into new slabs. A slab is freed by the garbage collector
+ * once no element refers to it, so an element can still be read after it has been removed from its
+ * collection or compacted.
+ * <p>
+ * Elements are only stored while the entry is deserialized or by operations holding the entry's
+ * lock exclusively; queries look elements up using {@link SerializedElement}s instead. Compaction
+ * moves elements and must also only be performed while holding the entry's lock exclusively.
+ */
+final class OffHeapArena {
+
+  static final int SLAB_SIZE = Integer.getInteger("gemfire.dtype.off-heap-slab-size", 1 << 20);
+  static final int MIN_SLAB_SIZE = Math.min(4096, SLAB_SIZE);
+
+  private ByteBuffer slab;
+  // The capacity of the slabs allocated since the last compaction
+  private long allocatedBytes;
+  private long compactionThreshold = 2L * MIN_SLAB_SIZE;
+
+  OffHeapElement store(byte[] bytes) {
+    ByteBuffer target = allocate(bytes.length);
+    int offset = target.position();
+    target.put(bytes);
+    return new OffHeapElement(target, offset, bytes.length, Arrays.hashCode(bytes));
+  }
+
+  long getAllocatedBytes() {
+    return allocatedBytes;
+  }
+
+  boolean needsCompaction() {
+    return allocatedBytes >= compactionThreshold;
+  }
+
+  /**
+   * Move the given elements, which must be all the live elements stored by this arena, into new
+   * slabs if they occupy no more than half of the space allocated since the last compaction. The
+   * first new slab is sized to hold the live elements, up to {@link #SLAB_SIZE} bytes. Either way,
+   * the next compaction is not considered until the allocated space has doubled, so that the cost
+   * of compaction is spread over the elements stored in the meantime.
+   */
+  void compact(Collection<?> elements) {
+    long liveBytes = 0;
+    for (Object element : elements) {
+      if (element != null) {
+        liveBytes += ((OffHeapElement) element).getLength();
+      }
+    }
+
+    if (liveBytes * 2 <= allocatedBytes) {
+      slab = null;
+      allocatedBytes = 0;
+      for (Object element : elements) {
+        if (element != null) {
+          OffHeapElement offHeapElement = (OffHeapElement) element;
+          offHeapElement.moveTo(allocate(offHeapElement.getLength(), liveBytes));
+        }
+      }
+    }
+    compactionThreshold = Math.max(2 * allocatedBytes, 2L * MIN_SLAB_SIZE);
+  }
+
+  private ByteBuffer allocate(int length) {
+    return allocate(length, allocatedBytes);
+  }
+
+  /**
+   * Return a slab with room for the given number of bytes, allocating a new slab of at least the
+   * given size if the current one is full.
+   */
+  private ByteBuffer allocate(int length, long size) {
+    if (slab == null || slab.remaining() < length) {
+      long capacity = Math.min(SLAB_SIZE, Math.max(MIN_SLAB_SIZE, size));
+      slab = ByteBuffer.allocateDirect((int) Math.max(capacity, length));
+      allocatedBytes += slab.capacity();
+    }
+    return slab;
+  }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2024 Broadcom. All rights reserved.
+ */
+
+package dev.gemfire.dtype.internal;
+
+import java.nio.ByteBuffer;
+
+/**
+ * An element held in its serialized form in off-heap memory managed by an {@link OffHeapArena}.
+ * Only the location of the bytes is held on the heap. As with a {@link SerializedElement},
+ * equality and hash code are determined by the serialized bytes; the hash code is computed once
+ * when the element is created. An element is also equal to a {@link SerializedElement} with the
+ * same bytes, which is used to look up elements without storing them.
+ */
+public final class OffHeapElement {
+
+  // The location of the bytes, which only changes when the arena is compacted
+  private ByteBuffer slab;
+  private int offset;
+  private final int length;
+  private final int hash;
+
+  OffHeapElement(ByteBuffer slab, int offset, int length, int hash) {
+    this.slab = slab;
+    this.offset = offset;
+    this.length = length;
+    this.hash = hash;
+  }
+
+  /**
+   * Copy the serialized bytes of this element onto the heap.
+   */
+  public byte[] getBytes() {
+    byte[] bytes = new byte[length];
+    ByteBuffer source = slab.duplicate();
+    source.position(offset);
+    source.get(bytes);
+    return bytes;
+  }
+
+  /**
+   * Deserialize this element. A new instance is produced on each call.
+   */
+  public <T> T getValue() {
+    return AbstractDType.deserialize(getBytes());
+  }
+
+  int getLength() {
+    return length;
+  }
+
+  /**
+   * Copy the bytes of this element to the given slab, at its current position, and refer to them
+   * there from now on.
+   */
+  void moveTo(ByteBuffer target) {
+    int targetOffset = target.position();
+    ByteBuffer source = slab.duplicate();
+    source.position(offset);
+    source.limit(offset + length);
+    target.put(source);
+    slab = target;
+    offset = targetOffset;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o instanceof SerializedElement) {
+      return hash == o.hashCode() && hasBytes(((SerializedElement) o).getBytes());
+    }
+    if (!(o instanceof OffHeapElement)) {
+      return false;
+    }
+    OffHeapElement that = (OffHeapElement) o;
+    if (hash != that.hash || length != that.length) {
+      return false;
+    }
+    for (int i = 0; i < length; i++) {
+      if (slab.get(offset + i) != that.slab.get(that.offset + i)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private boolean hasBytes(byte[] bytes) {
+    if (length != bytes.length) {
+      return false;
+    }
+    for (int i = 0; i < length; i++) {
+      if (slab.get(offset + i) != bytes[i]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @Override
+  public int hashCode() {
+    return hash;
+  }
+
+  @Override
+  public String toString() {
+    return "OffHeapElement[" + length + " bytes]";
+  }
+}
@@ -4,6 +4,11 @@
 
 package dev.gemfire.dtype.internal;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
 import dev.gemfire.dtype.DType;
 
 /**
@@ -14,4 +19,39 @@ public interface OperationPerformer {
   <T> T performOperation(DType entry, DTypeFunction fn, OperationType operationType,
       String gemFireFunctionId);
 
+  /**
+   * Asynchronous variant of {@link #performOperation}. The returned future is completed with the
+   * result of the operation, or completed exceptionally with whatever exception the operation
+   * produced.
+   */
+  default <T> CompletableFuture<T> performOperationAsync(DType entry, DTypeFunction fn,
+      OperationType operationType, String gemFireFunctionId) {
+    return CompletableFuture.supplyAsync(
+        () -> performOperation(entry, fn, operationType, gemFireFunctionId), getAsyncExecutor());
+  }
+
+  /**
+   * Perform a group of operations. The returned list holds the result of each operation in the
+   * same order as the given operations; an operation that failed is represented by the exception
+   * it produced. By default, operations are simply performed one after the other.
+   */
+  default List<Object> performOperations(List<BatchedOperation> operations) {
+    List<Object> results = new ArrayList<>(operations.size());
+    for (BatchedOperation op : operations) {
+      try {
+        results.add(performOperation(op.getEntry(), op.getFunction(), op.getOperationType(),
+            op.getGemfireFunctionId()));
+      } catch (RuntimeException ex) {
+        results.add(ex);
+      }
+    }
+    return results;
+  }
+
+  /**
+   * The executor used to run asynchronous operations. Since operations may block for as long as
+   * the corresponding synchronous call would, this executor should not be bounded.
+   */
+  Executor getAsyncExecutor();
+
 }
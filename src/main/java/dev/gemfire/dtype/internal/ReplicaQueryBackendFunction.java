@@ -0,0 +1,77 @@
+/*
+ * Copyright 2024 Broadcom. All rights reserved.
+ */
+
+package dev.gemfire.dtype.internal;
+
+import static dev.gemfire.dtype.internal.OperationType.QUERY;
+
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.RegionDestroyedException;
+import org.apache.geode.cache.execute.Function;
+import org.apache.geode.cache.execute.FunctionContext;
+import org.apache.geode.cache.execute.RegionFunctionContext;
+import org.apache.geode.cache.partition.PartitionRegionHelper;
+import org.apache.geode.internal.cache.execute.BucketMovedException;
+
+/**
+ * Function which performs queries on the copy of an entry held by the executing server, whether
+ * that copy is the primary or a redundant copy. Since this function does not optimize for write,
+ * GemFire may route an execution to any server hosting the entry, spreading queries of a heavily
+ * used instance over its copies.
+ * <p>
+ * Redundant copies are changed by applying deltas, which holds the entry's write lock (see
+ * {@link AbstractDType#fromDelta}), so queries see a consistent state of the entry. Only queries
+ * which never wait for a condition should be performed with this function.
+ */
+public class ReplicaQueryBackendFunction implements Function<Object> {
+
+  public static final String ID = "dtype-replica-query-function";
+
+  private final DTypeStats stats;
+
+  public ReplicaQueryBackendFunction(DTypeStats stats) {
+    this.stats = stats;
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public void execute(FunctionContext<Object> context) {
+    Object[] args = (Object[]) context.getArguments();
+    String name = (String) args[0];
+    DTypeCollectionsFunction fn = (DTypeCollectionsFunction) args[2];
+
+    RegionFunctionContext regionContext = (RegionFunctionContext) context;
+
+    Object result;
+    try {
+      AbstractDType entry = (AbstractDType) PartitionRegionHelper
+          .getLocalDataForContext(regionContext).get(name);
+      if (entry == null) {
+        // The entry's bucket has moved since the execution was routed here
+        Region<String, AbstractDType> region = regionContext.getDataSet();
+        entry = region.get(name);
+      }
+      AbstractDType target = entry;
+      result = CollectionsBackendFunction.performWithRetries(target, QUERY, null,
+          stats.forOperation(target.getClass(), fn), () -> fn.apply(target));
+    } catch (BucketMovedException | RegionDestroyedException ex) {
+      throw ex;
+    } catch (Exception ex) {
+      context.getResultSender().sendException(ex);
+      return;
+    }
+
+    context.getResultSender().lastResult(result);
+  }
+
+  @Override
+  public String getId() {
+    return ID;
+  }
+
+  @Override
+  public boolean optimizeForWrite() {
+    return false;
+  }
+}
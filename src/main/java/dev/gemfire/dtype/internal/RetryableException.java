@@ -9,14 +9,28 @@ import java.util.function.Supplier;
 
 /**
  * An exception used to signal that the executing operation should be retried.
+ * <p>
+ * If a wait condition is given, the operation is retried as soon as the condition is signalled
+ * by another operation on the same entry (see {@link DTypeWaiters}), or once
+ * {@code retrySleepTime} has elapsed, whichever happens first. Otherwise, the operation is simply
+ * retried after sleeping for {@code retrySleepTime}.
  */
 public class RetryableException extends RuntimeException {
 
+  public static final int NO_CONDITION = -1;
+
+  /**
+   * The longest time that an operation waiting for a condition should wait before checking again,
+   * in case a signal was missed, for example because the entry moved to another server.
+   */
+  public static final int MAX_WAIT_MS = 1000;
+
   private static final Supplier<Object> NULL_SUPPLIER = () -> null;
   private final int retrySleepTime;
   private final long maxTimeToRetry;
   private final TimeUnit timeUnit;
   private final Supplier<Object> failingResult;
+  private final int waitCondition;
 
   public RetryableException(int retrySleepTime) {
     this(retrySleepTime, Long.MAX_VALUE, TimeUnit.MILLISECONDS, NULL_SUPPLIER);
@@ -28,10 +42,16 @@ public class RetryableException extends RuntimeException {
 
   public RetryableException(int retrySleepTime, long maxTimeToRetry, TimeUnit timeUnit,
       Supplier<Object> failingResult) {
+    this(retrySleepTime, maxTimeToRetry, timeUnit, failingResult, NO_CONDITION);
+  }
+
+  public RetryableException(int retrySleepTime, long maxTimeToRetry, TimeUnit timeUnit,
+      Supplier<Object> failingResult, int waitCondition) {
     this.retrySleepTime = retrySleepTime;
     this.maxTimeToRetry = maxTimeToRetry;
     this.timeUnit = timeUnit;
     this.failingResult = failingResult;
+    this.waitCondition = waitCondition;
   }
 
   public int getRetrySleepTime() {
@@ -46,4 +66,8 @@ public class RetryableException extends RuntimeException {
     return failingResult.get();
   }
 
+  public int getWaitCondition() {
+    return waitCondition;
+  }
+
 }
@@ -0,0 +1,88 @@
+/*
+ * Copyright 2024 Broadcom. All rights reserved.
+ */
+
+package dev.gemfire.dtype.internal;
+
+import static dev.gemfire.dtype.internal.OperationType.UPDATE;
+import static org.apache.geode.util.internal.UncheckedUtils.uncheckedCast;
+
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.RegionDestroyedException;
+import org.apache.geode.cache.execute.Function;
+import org.apache.geode.cache.execute.FunctionContext;
+import org.apache.geode.cache.execute.RegionFunctionContext;
+import org.apache.geode.internal.cache.PrimaryBucketLockException;
+import org.apache.geode.internal.cache.execute.BucketMovedException;
+
+/**
+ * Performs operations on a {@link DSegmentedQueueImpl}. Operations are applied to the queue's
+ * metadata entry while holding its primary bucket lock, and are given access to the region so
+ * that they can read and write the individual segment entries.
+ * <p>
+ * Since the operations themselves touch segments, they cannot be replayed as deltas on secondary
+ * servers. Updates must be performed as {@link OperationType#NO_DELTA_UPDATE}s, which distribute
+ * the (small) metadata entry, while each modified segment is distributed by its own put.
+ * <p>
+ * Since the segments are put before the metadata entry, an operation that fails part way through
+ * cannot safely be performed again, so this function is not HA and will not be retried. The queue
+ * instead reconciles its metadata with the segments that were written before it is next used.
+ */
+public class SegmentedQueueBackendFunction implements Function<Object> {
+
+  public static final String ID = "dtype-segmented-queue-function";
+
+  private final DTypeStats stats;
+
+  public SegmentedQueueBackendFunction(DTypeStats stats) {
+    this.stats = stats;
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public void execute(FunctionContext<Object> context) {
+    Object[] args = (Object[]) context.getArguments();
+    String name = (String) args[0];
+    DTypeContextualFunction fn = (DTypeContextualFunction) args[2];
+    OperationType operationType = (OperationType) args[3];
+
+    if (operationType == UPDATE) {
+      context.getResultSender().sendException(
+          new IllegalArgumentException("Segmented queue operations cannot be sent as deltas"));
+      return;
+    }
+
+    Region<String, AbstractDType> region = ((RegionFunctionContext) context).getDataSet();
+    DSegmentedQueueFunctionContext queueContext =
+        new DSegmentedQueueFunctionContext(uncheckedCast(region));
+
+    Object result;
+    try {
+      result = CollectionsBackendFunction.performOperation(region, name,
+          entry -> fn.apply(entry, queueContext), operationType,
+          CollectionsBackendFunction.waitedMs(args), stats, fn);
+    } catch (PrimaryBucketLockException | BucketMovedException | RegionDestroyedException ex) {
+      throw ex;
+    } catch (Exception ex) {
+      context.getResultSender().sendException(ex);
+      return;
+    }
+
+    context.getResultSender().lastResult(result);
+  }
+
+  @Override
+  public String getId() {
+    return ID;
+  }
+
+  @Override
+  public boolean optimizeForWrite() {
+    return true;
+  }
+
+  @Override
+  public boolean isHA() {
+    return false;
+  }
+}
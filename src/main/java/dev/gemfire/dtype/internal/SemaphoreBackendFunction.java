@@ -17,14 +17,20 @@ import org.apache.geode.internal.cache.PartitionedRegion;
 import org.apache.geode.internal.cache.PrimaryBucketLockException;
 import org.apache.geode.internal.cache.execute.BucketMovedException;
 
+/**
+ * Performs operations that need to know the calling client, such as those of semaphores and
+ * machine ID leases, so that resources held by a client can be released when it departs.
+ */
 public class SemaphoreBackendFunction implements Function<Object> {
 
   public static final String ID = "dsemaphore-function";
 
   private final DSemaphoreTracker tracker;
+  private final DTypeStats stats;
 
-  public SemaphoreBackendFunction(DSemaphoreTracker tracker) {
+  public SemaphoreBackendFunction(DSemaphoreTracker tracker, DTypeStats stats) {
     this.tracker = tracker;
+    this.stats = stats;
   }
 
   @Override
@@ -41,29 +47,31 @@ public class SemaphoreBackendFunction implements Function<Object> {
 
     if (entry == null) {
       entry = new DSemaphoreBackend(name);
-    } else {
-      ((DSemaphoreBackend) entry).recoverTrackingIfNeeded(tracker);
+    } else if (entry instanceof ClientHeldResource) {
+      ((ClientHeldResource) entry).recoverTrackingIfNeeded(tracker);
     }
 
     AbstractDType finalEntry = entry;
     Callable<Object> wrappingFn = () -> {
       Object innerResult = fn.apply(finalEntry, new DSemaphoreFunctionContext(memberTag, tracker));
       if (operationType == UPDATE) {
+        finalEntry.recordUpdate(false);
         region.put(name, finalEntry);
       }
       return innerResult;
     };
 
     Object result;
-    synchronized (finalEntry) {
-      try {
-        result = ((PartitionedRegion) region).computeWithPrimaryLocked(name, wrappingFn);
-      } catch (PrimaryBucketLockException | BucketMovedException | RegionDestroyedException ex) {
-        throw ex;
-      } catch (Exception ex) {
-        context.getResultSender().sendException(ex);
-        return;
-      }
+    try {
+      result = CollectionsBackendFunction.performWithRetries(finalEntry, operationType,
+          CollectionsBackendFunction.waitedMs(args),
+          stats.forOperation(finalEntry.getClass(), fn),
+          () -> ((PartitionedRegion) region).computeWithPrimaryLocked(name, wrappingFn));
+    } catch (PrimaryBucketLockException | BucketMovedException | RegionDestroyedException ex) {
+      throw ex;
+    } catch (Exception ex) {
+      context.getResultSender().sendException(ex);
+      return;
     }
 
     context.getResultSender().lastResult(result);
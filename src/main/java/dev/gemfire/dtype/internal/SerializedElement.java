@@ -0,0 +1,60 @@
+/*
+ * Copyright 2024 Broadcom. All rights reserved.
+ */
+
+package dev.gemfire.dtype.internal;
+
+import java.util.Arrays;
+
+/**
+ * An element held in its serialized form. Equality and hash code are determined by the serialized
+ * bytes; the hash code is computed once when the element is created. A serialized element is equal
+ * to an {@link OffHeapElement} with the same bytes, so that it can be used to look up elements held
+ * off-heap.
+ */
+public final class SerializedElement {
+
+  private final byte[] bytes;
+  private final int hash;
+
+  public SerializedElement(byte[] bytes) {
+    this.bytes = bytes;
+    this.hash = Arrays.hashCode(bytes);
+  }
+
+  public byte[] getBytes() {
+    return bytes;
+  }
+
+  /**
+   * Deserialize this element. A new instance is produced on each call.
+   */
+  public <T> T getValue() {
+    return AbstractDType.deserialize(bytes);
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o instanceof OffHeapElement) {
+      return o.equals(this);
+    }
+    if (!(o instanceof SerializedElement)) {
+      return false;
+    }
+    SerializedElement that = (SerializedElement) o;
+    return hash == that.hash && Arrays.equals(bytes, that.bytes);
+  }
+
+  @Override
+  public int hashCode() {
+    return hash;
+  }
+
+  @Override
+  public String toString() {
+    return "SerializedElement[" + bytes.length + " bytes]";
+  }
+}
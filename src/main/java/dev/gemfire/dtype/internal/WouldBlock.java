@@ -0,0 +1,26 @@
+/*
+ * Copyright 2024 Broadcom. All rights reserved.
+ */
+
+package dev.gemfire.dtype.internal;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+
+import org.apache.geode.DataSerializable;
+
+/**
+ * Returned by the server, in place of an operation's result, when the operation would have to wait
+ * but the server has no more threads available for waiting. The client repeats the operation
+ * after a delay.
+ */
+public class WouldBlock implements DataSerializable {
+
+  public WouldBlock() {}
+
+  @Override
+  public void toData(DataOutput out) {}
+
+  @Override
+  public void fromData(DataInput in) {}
+}
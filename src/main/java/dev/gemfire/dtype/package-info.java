@@ -43,9 +43,12 @@
  * and most all operations are performed on backend structures that are stored and managed by
  * GemFire.
  * <p>
- * Note that iteration operations will serialize and retrieve the full structure to the client.
- * Iteration is not performed remotely on the server. Only {@code DList} supports removal of
- * elements when iterating.
+ * Note that iteration is performed on the client, retrieving the structure from the server a page
+ * at a time. Only {@code DList} and {@code DSet} support removal of elements when iterating, and
+ * any other modification made while a structure is being iterated causes the iteration to fail
+ * with a {@link java.util.ConcurrentModificationException}. Filtering and aggregating the elements
+ * of a collection is better done with a {@link dev.gemfire.dtype.DStream}, which is evaluated on
+ * the server.
  * <p>
  * Operations that take lambdas as arguments need to ensure that the lambda is also declared as
  * Serializable. For example, the method {@code removeIf(Predicate)} could be used as:
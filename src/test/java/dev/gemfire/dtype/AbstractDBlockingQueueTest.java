@@ -12,6 +12,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -373,6 +374,19 @@ public abstract class AbstractDBlockingQueueTest {
     assertThat(future.get()).isEqualTo("C");
   }
 
+  @Test
+  public void testAsyncTake() throws Exception {
+    DBlockingQueue<String> queue = getFactory().createDQueue(testName.getMethodName());
+    DBlockingQueueAsync<String> async = queue.async();
+
+    CompletableFuture<String> future = async.take();
+    assertThat(future).isNotDone();
+
+    async.offer("A").get();
+    assertThat(future.get()).isEqualTo("A");
+    assertThat(async.isEmpty().get()).isTrue();
+  }
+
   @Test
   public void testPollWithTimeout() throws Exception {
     DBlockingQueue<String> queue = getFactory().createDQueue(testName.getMethodName());
@@ -586,4 +600,41 @@ public abstract class AbstractDBlockingQueueTest {
     assertThat(result).containsExactly("Rambo", "Predator", "Aliens");
   }
 
+  @Test
+  public void testSerializedStorage() {
+    DBlockingQueue<Movie> queue = getFactory().createDQueue(testName.getMethodName(),
+        Integer.MAX_VALUE, ElementStorage.SERIALIZED);
+    Movie rambo = new Movie("Rambo");
+    Movie predator = new Movie("Predator");
+    Movie aliens = new Movie("Aliens");
+    queue.add(rambo);
+    queue.add(predator);
+    queue.add(aliens);
+
+    assertThat(queue.contains(new Movie("Predator"))).isTrue();
+    assertThat(queue.peek()).isEqualTo(rambo);
+
+    queue.removeIf((Predicate<Movie> & Serializable) x -> x.title.equals("Predator"));
+    assertThat(queue.toArray()).containsExactly(rambo, aliens);
+
+    assertThat(queue.remove(new Movie("Rambo"))).isTrue();
+    List<Movie> result = new ArrayList<>();
+    queue.drainTo(result);
+    assertThat(result).containsExactly(aliens);
+  }
+
+  @Test
+  public void testOffHeapStorage() {
+    DBlockingQueue<String> queue = getFactory().withElementStorage(ElementStorage.OFF_HEAP)
+        .createDQueue(testName.getMethodName());
+    queue.add("foo");
+    queue.add("bar");
+    queue.add("baz");
+
+    assertThat(queue.contains("bar")).isTrue();
+    assertThat(queue.remove("bar")).isTrue();
+    assertThat(queue.poll()).isEqualTo("foo");
+    assertThat(queue.toArray()).containsExactly("baz");
+  }
+
 }
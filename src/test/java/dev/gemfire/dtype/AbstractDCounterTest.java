@@ -2,6 +2,11 @@ package dev.gemfire.dtype;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.awaitility.Awaitility;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.TestName;
@@ -26,6 +31,19 @@ public abstract class AbstractDCounterTest {
     assertThat(counter.get()).isEqualTo(1);
   }
 
+  @Test
+  public void testAsyncIncrement() {
+    DCounter counter = getFactory().createDCounter(testName.getMethodName());
+
+    CompletableFuture<?>[] futures = new CompletableFuture<?>[100];
+    for (int i = 0; i < futures.length; i++) {
+      futures[i] = counter.async().increment(1);
+    }
+    CompletableFuture.allOf(futures).join();
+
+    assertThat(counter.async().get().join()).isEqualTo(100L);
+  }
+
   @Test
   public void testConcurrentUpdatesToSameInstance() {
     DCounter counter = getFactory().createDCounter(testName.getMethodName());
@@ -42,6 +60,79 @@ public abstract class AbstractDCounterTest {
     assertThat(counter.get()).isEqualTo(iterations * 5);
   }
 
+  @Test
+  public void testBufferedIncrementsAreFlushed() {
+    DCounter counter =
+        getFactory().createBufferedDCounter(testName.getMethodName(), 1, TimeUnit.HOURS);
+
+    int iterations = 1_000;
+    new ConcurrentLoopingThreads(iterations,
+        i -> counter.increment(1),
+        i -> counter.increment(1),
+        i -> counter.increment(1),
+        i -> counter.increment(1))
+            .run();
+    counter.flush();
+
+    DCounter other = getFactory().createDCounter(testName.getMethodName());
+    assertThat(other.get()).isEqualTo(iterations * 4);
+  }
+
+  @Test
+  public void testConcurrentFlushesSendEachIncrementOnce() {
+    DCounter counter =
+        getFactory().createBufferedDCounter(testName.getMethodName(), 1, TimeUnit.HOURS, 7);
+
+    int iterations = 1_000;
+    new ConcurrentLoopingThreads(iterations,
+        i -> counter.increment(1),
+        i -> counter.increment(1),
+        i -> counter.flush(),
+        i -> counter.get())
+            .run();
+    counter.flush();
+
+    DCounter other = getFactory().createDCounter(testName.getMethodName());
+    assertThat(other.get()).isEqualTo(iterations * 2);
+  }
+
+  @Test
+  public void testCloseFlushesBufferedIncrements() {
+    DCounter counter =
+        getFactory().createBufferedDCounter(testName.getMethodName(), 1, TimeUnit.HOURS);
+    counter.increment(5);
+
+    counter.close();
+
+    DCounter other = getFactory().createDCounter(testName.getMethodName());
+    assertThat(other.get()).isEqualTo(5);
+  }
+
+  @Test
+  public void testBufferedIncrementsAreFlushedAtThreshold() {
+    DCounter counter =
+        getFactory().createBufferedDCounter(testName.getMethodName(), 1, TimeUnit.HOURS, 10);
+
+    for (int i = 0; i < 25; i++) {
+      counter.increment(1);
+    }
+
+    DCounter other = getFactory().createDCounter(testName.getMethodName());
+    assertThat(other.get()).isGreaterThanOrEqualTo(20);
+    assertThat(counter.get()).isEqualTo(25);
+  }
+
+  @Test
+  public void testBufferedIncrementsAreFlushedPeriodically() {
+    DCounter counter = getFactory()
+        .createBufferedDCounter(testName.getMethodName(), 100, TimeUnit.MILLISECONDS);
+    counter.increment(5);
+
+    DCounter other = getFactory().createDCounter(testName.getMethodName());
+    Awaitility.await().atMost(Duration.ofSeconds(10))
+        .untilAsserted(() -> assertThat(other.get()).isEqualTo(5));
+  }
+
   @Test
   public void testConcurrentUpdatesToDifferentInstances() {
     DCounter counter1 = getFactory().createDCounter(testName.getMethodName());
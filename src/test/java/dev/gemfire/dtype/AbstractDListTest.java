@@ -7,10 +7,14 @@ package dev.gemfire.dtype;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.Iterator;
 import java.util.List;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.function.ToLongFunction;
 
 import org.assertj.core.util.Lists;
 import org.junit.Rule;
@@ -188,4 +192,100 @@ public abstract class AbstractDListTest {
     assertThat(list.toArray()).containsExactly(1, 3, 5, 7, 9);
   }
 
+  @Test
+  public void testSerializedStorage() {
+    List<String> list =
+        getFactory().createDList(testName.getMethodName(), ElementStorage.SERIALIZED);
+    list.add("foo");
+    list.add("bar");
+    list.add(1, "baz");
+    list.add("zap");
+
+    assertThat(list.contains("baz")).isTrue();
+    assertThat(list.contains("qux")).isFalse();
+    assertThat(list.indexOf("bar")).isEqualTo(2);
+    assertThat(list.get(0)).isEqualTo("foo");
+    assertThat(list.set(3, "qux")).isEqualTo("zap");
+
+    list.remove("foo");
+    list.sort(Comparator.naturalOrder());
+
+    assertThat(list.toArray()).containsExactly("bar", "baz", "qux");
+    assertThat(list.subList(1, 3)).containsExactly("baz", "qux");
+  }
+
+  @Test
+  public void testOffHeapStorage() {
+    List<String> list = getFactory().withElementStorage(ElementStorage.OFF_HEAP)
+        .createDList(testName.getMethodName());
+    list.add("foo");
+    list.add("bar");
+    list.add(1, "baz");
+    list.add("zap");
+
+    assertThat(list.contains("baz")).isTrue();
+    assertThat(list.contains("qux")).isFalse();
+    assertThat(list.indexOf("bar")).isEqualTo(2);
+    assertThat(list.set(3, "qux")).isEqualTo("zap");
+
+    list.removeIf((Predicate<String> & Serializable) s -> s.startsWith("f"));
+    list.sort(Comparator.naturalOrder());
+
+    assertThat(list.toArray()).containsExactly("bar", "baz", "qux");
+    assertThat(list).containsExactly("bar", "baz", "qux");
+  }
+
+  @Test
+  public void testIterationAcrossPages() {
+    List<Integer> list = getFactory().createDList(testName.getMethodName());
+    List<Integer> expected = new ArrayList<>();
+    for (int i = 0; i < 2500; i++) {
+      expected.add(i);
+    }
+    list.addAll(expected);
+
+    List<Integer> iterated = new ArrayList<>();
+    list.forEach(iterated::add);
+
+    assertThat(iterated).isEqualTo(expected);
+    assertThat(list.toArray()).containsExactly(expected.toArray());
+    assertThat(list.stream().mapToInt(Integer::intValue).sum()).isEqualTo(2500 * 2499 / 2);
+  }
+
+  @Test
+  public void testSerializedIterationAcrossPages() {
+    List<String> list =
+        getFactory().createDList(testName.getMethodName(), ElementStorage.SERIALIZED);
+    for (int i = 0; i < 1500; i++) {
+      list.add("item-" + i);
+    }
+
+    Iterator<String> iterator = list.iterator();
+    for (int i = 0; i < 1500; i++) {
+      assertThat(iterator.next()).isEqualTo("item-" + i);
+    }
+    assertThat(iterator.hasNext()).isFalse();
+  }
+
+  @Test
+  public void testStream() {
+    DList<Integer> list = getFactory().createDList(testName.getMethodName());
+    for (int i = 1; i <= 10; i++) {
+      list.add(i);
+    }
+
+    DStream<Integer> odd =
+        list.dstream().filter((Predicate<Integer> & Serializable) x -> x % 2 == 1);
+
+    assertThat(odd.count()).isEqualTo(5);
+    assertThat(odd.sumLong((ToLongFunction<Integer> & Serializable) x -> x)).isEqualTo(25);
+    assertThat(odd.max((Comparator<Integer> & Serializable) Integer::compare)).contains(9);
+    assertThat(odd.top(2, (Comparator<Integer> & Serializable) Integer::compare))
+        .containsExactly(9, 7);
+    assertThat(odd.map((Function<Integer, String> & Serializable) x -> "#" + x).toList())
+        .containsExactly("#1", "#3", "#5", "#7", "#9");
+    assertThat(list.dstream().filter((Predicate<Integer> & Serializable) x -> x > 10)
+        .reduce((BinaryOperator<Integer> & Serializable) Integer::sum)).isEmpty();
+  }
+
 }
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2024 Broadcom. All rights reserved.
+ */
+
+package dev.gemfire.dtype;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestName;
+
+public abstract class AbstractDTypeBatchTest {
+
+  @Rule
+  public TestName testName = new TestName();
+
+  abstract DTypeFactory getFactory();
+
+  @Test
+  public void testOperationsAreOnlyPerformedOnExecute() {
+    DSet<String> set = getFactory().createDSet(testName.getMethodName());
+    DTypeBatch batch = getFactory().createBatch();
+
+    CompletableFuture<Boolean> future = batch.on(set).add("A");
+
+    assertThat(batch.size()).isEqualTo(1);
+    assertThat(future).isNotDone();
+    assertThat(set.size()).isEqualTo(0);
+
+    batch.execute();
+
+    assertThat(future).isCompletedWithValue(true);
+    assertThat(set).containsExactly("A");
+    assertThat(batch.size()).isEqualTo(0);
+  }
+
+  @Test
+  public void testResultsAreReturnedInOrder() {
+    String name = testName.getMethodName();
+    DSet<String> set = getFactory().createDSet(name + "-set");
+    DList<String> list = getFactory().createDList(name + "-list");
+    DAtomicLong atomicLong = getFactory().createAtomicLong(name + "-long");
+    DCounter counter = getFactory().createDCounter(name + "-counter");
+
+    DTypeBatch batch = getFactory().createBatch();
+    batch.on(set).add("A");
+    batch.on(set).add("A");
+    batch.on(list).add("B");
+    batch.on(atomicLong).addAndGet(5);
+    batch.on(counter).increment(3);
+    batch.on(list).get(0);
+    batch.on(atomicLong).get();
+
+    List<Object> results = batch.execute();
+
+    assertThat(results).containsExactly(true, false, true, 5L, 3L, "B", 5L);
+    assertThat(counter.get()).isEqualTo(3);
+  }
+
+  @Test
+  public void testFailingOperationDoesNotAffectOthers() {
+    DList<String> list = getFactory().createDList(testName.getMethodName());
+    DTypeBatch batch = getFactory().createBatch();
+
+    CompletableFuture<String> failing = batch.on(list).get(10);
+    CompletableFuture<Boolean> succeeding = batch.on(list).add("A");
+
+    List<Object> results = batch.execute();
+
+    assertThat(results.get(0)).isInstanceOf(IndexOutOfBoundsException.class);
+    assertThat(failing).isCompletedExceptionally();
+    assertThat(succeeding).isCompletedWithValue(true);
+    assertThat(list).containsExactly("A");
+  }
+
+}
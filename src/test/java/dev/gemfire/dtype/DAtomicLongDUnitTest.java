@@ -16,6 +16,7 @@ import org.junit.BeforeClass;
 import org.junit.ClassRule;
 import org.junit.Test;
 
+import org.apache.geode.Statistics;
 import org.apache.geode.cache.client.ClientCache;
 import org.apache.geode.cache.client.ClientCacheFactory;
 import org.apache.geode.internal.util.concurrent.ConcurrentLoopingThreads;
@@ -28,6 +29,8 @@ public class DAtomicLongDUnitTest {
   public static ClusterStartupRule cluster = new ClusterStartupRule();
 
   private static MemberVM locator;
+  private static MemberVM server1;
+  private static MemberVM server2;
   private static DTypeFactory factory;
 
   @BeforeClass
@@ -37,8 +40,8 @@ public class DAtomicLongDUnitTest {
     Properties props = new Properties();
     props.setProperty(SERIALIZABLE_OBJECT_FILTER, "dev.gemfire.dtype.**");
 
-    cluster.startServerVM(1, props, locator.getPort());
-    cluster.startServerVM(2, props, locator.getPort());
+    server1 = cluster.startServerVM(1, props, locator.getPort());
+    server2 = cluster.startServerVM(2, props, locator.getPort());
 
     ClientCache client = new ClientCacheFactory()
         .addPoolLocator("localhost", locator.getPort())
@@ -111,4 +114,42 @@ public class DAtomicLongDUnitTest {
     }
   }
 
+  @Test
+  public void readsFromAnyCopySeeCompletedUpdates() {
+    DAtomicLong primaryLong = factory.createAtomicLong("any-copy-long");
+    DAtomicLong anyLong =
+        factory.withReadPreference(ReadPreference.ANY).createAtomicLong("any-copy-long");
+
+    for (int i = 1; i <= 100; i++) {
+      primaryLong.set(i);
+      assertThat(anyLong.get()).isEqualTo(i);
+      assertThat(anyLong.async().get().join()).isEqualTo(i);
+    }
+  }
+
+  @Test
+  public void readsFromAnyCopyAreSpreadOverServers() {
+    DAtomicLong anyLong =
+        factory.withReadPreference(ReadPreference.ANY).createAtomicLong("spread-long");
+    anyLong.set(7);
+
+    for (int i = 0; i < 200; i++) {
+      assertThat(anyLong.get()).isEqualTo(7);
+    }
+
+    long reads1 = server1.invoke(DAtomicLongDUnitTest::getOperationCount);
+    long reads2 = server2.invoke(DAtomicLongDUnitTest::getOperationCount);
+    assertThat(reads1).isGreaterThan(0);
+    assertThat(reads2).isGreaterThan(0);
+  }
+
+  private static long getOperationCount() {
+    long count = 0;
+    for (Statistics statistics : ClusterStartupRule.getCache().getInternalDistributedSystem()
+        .findStatisticsByTextId("DAtomicLongImpl:1")) {
+      count += statistics.getLong("operations");
+    }
+    return count;
+  }
+
 }
@@ -5,11 +5,15 @@
 package dev.gemfire.dtype;
 
 import static org.apache.geode.distributed.ConfigurationProperties.SERIALIZABLE_OBJECT_FILTER;
+import static org.assertj.core.api.Assertions.assertThat;
 
+import java.io.Serializable;
 import java.util.Properties;
+import java.util.function.UnaryOperator;
 
 import org.junit.BeforeClass;
 import org.junit.ClassRule;
+import org.junit.Test;
 
 import org.apache.geode.cache.client.ClientCache;
 import org.apache.geode.cache.client.ClientCacheFactory;
@@ -21,17 +25,21 @@ public class DAtomicReferenceDUnitTest extends AbstractDAtomicReferenceTest {
   @ClassRule
   public static ClusterStartupRule cluster = new ClusterStartupRule();
 
+  private static Properties props;
   private static DTypeFactory factory;
+  private static MemberVM locator;
+  private static MemberVM server1;
+  private static MemberVM server2;
 
   @BeforeClass
   public static void setup() {
-    MemberVM locator = cluster.startLocatorVM(0);
+    locator = cluster.startLocatorVM(0);
 
-    Properties props = new Properties();
+    props = new Properties();
     props.setProperty(SERIALIZABLE_OBJECT_FILTER, "dev.gemfire.dtype.**");
 
-    cluster.startServerVM(1, props, locator.getPort());
-    cluster.startServerVM(2, props, locator.getPort());
+    server1 = cluster.startServerVM(1, props, locator.getPort());
+    server2 = cluster.startServerVM(2, props, locator.getPort());
 
     ClientCache client = new ClientCacheFactory()
         .addPoolLocator("localhost", locator.getPort())
@@ -44,4 +52,23 @@ public class DAtomicReferenceDUnitTest extends AbstractDAtomicReferenceTest {
   DTypeFactory getFactory() {
     return factory;
   }
+
+  @Test
+  public void testRedundantCopyKeepsValueComputedByPrimary() {
+    String name = testName.getMethodName();
+    DAtomicReference<Long> ref = getFactory().createDAtomicReference(name, 0L);
+
+    Long result = ref.updateAndGet((Serializable & UnaryOperator<Long>) x -> System.nanoTime());
+
+    MemberVM primary = TestUtils.getServerForKey(name, server1, server2);
+    primary.stop();
+
+    assertThat(ref.get()).isEqualTo(result);
+
+    if (primary.equals(server1)) {
+      server1 = cluster.startServerVM(1, props, locator.getPort());
+    } else {
+      server2 = cluster.startServerVM(2, props, locator.getPort());
+    }
+  }
 }
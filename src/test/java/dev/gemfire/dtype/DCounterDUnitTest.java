@@ -19,6 +19,7 @@ import org.junit.Test;
 
 import org.apache.geode.cache.client.ClientCache;
 import org.apache.geode.cache.client.ClientCacheFactory;
+import org.apache.geode.cache.partition.PartitionRegionHelper;
 import org.apache.geode.test.dunit.rules.ClusterStartupRule;
 import org.apache.geode.test.dunit.rules.MemberVM;
 import org.apache.geode.test.junit.rules.ExecutorServiceRule;
@@ -95,4 +96,37 @@ public class DCounterDUnitTest extends AbstractDCounterTest {
 
     assertThat(localCount.get()).isEqualTo(counter.get());
   }
+
+  @Test
+  public void testAsyncIncrementsWithoutRedundancyAreNotResent() {
+    String name = testName.getMethodName();
+    DCounter counter = getFactory().createDCounter(name);
+
+    MemberVM primary = TestUtils.getServerForKey(name, server1, server2);
+    MemberVM secondary = primary.equals(server1) ? server2 : server1;
+    secondary.stop();
+    for (int i = 0; i < 10; i++) {
+      counter.async().increment(1).join();
+    }
+
+    secondary = restart(secondary);
+    secondary.invoke(() -> Awaitility.await().until(() -> PartitionRegionHelper
+        .getLocalData(ClusterStartupRule.getCache().getRegion(DTypeFactory.DTYPES_REGION))
+        .containsKey(name)));
+    counter.async().increment(1).join();
+
+    primary = TestUtils.getServerForKey(name, server1, server2);
+    primary.stop();
+    assertThat(counter.get()).isEqualTo(11);
+    restart(primary);
+  }
+
+  private MemberVM restart(MemberVM server) {
+    if (server.equals(server1)) {
+      server1 = cluster.startServerVM(1, props, locator.getPort());
+      return server1;
+    }
+    server2 = cluster.startServerVM(2, props, locator.getPort());
+    return server2;
+  }
 }
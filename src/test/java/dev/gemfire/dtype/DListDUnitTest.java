@@ -5,11 +5,19 @@
 package dev.gemfire.dtype;
 
 import static org.apache.geode.distributed.ConfigurationProperties.SERIALIZABLE_OBJECT_FILTER;
+import static org.assertj.core.api.Assertions.assertThat;
 
+import java.io.Serializable;
+import java.util.Comparator;
+import java.util.List;
 import java.util.Properties;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
 
+import org.assertj.core.util.Lists;
 import org.junit.BeforeClass;
 import org.junit.ClassRule;
+import org.junit.Test;
 
 import org.apache.geode.cache.client.ClientCache;
 import org.apache.geode.cache.client.ClientCacheFactory;
@@ -18,20 +26,26 @@ import org.apache.geode.test.dunit.rules.MemberVM;
 
 public class DListDUnitTest extends AbstractDListTest {
 
+  private static final String MATCH_NOTHING = "dtype.test.match-nothing";
+
   @ClassRule
   public static ClusterStartupRule cluster = new ClusterStartupRule();
 
+  private static Properties props;
   private static DTypeFactory factory;
+  private static MemberVM locator;
+  private static MemberVM server1;
+  private static MemberVM server2;
 
   @BeforeClass
   public static void setup() {
-    MemberVM locator = cluster.startLocatorVM(0);
+    locator = cluster.startLocatorVM(0);
 
-    Properties props = new Properties();
+    props = new Properties();
     props.setProperty(SERIALIZABLE_OBJECT_FILTER, "dev.gemfire.dtype.**");
 
-    cluster.startServerVM(1, props, locator.getPort());
-    cluster.startServerVM(2, props, locator.getPort());
+    server1 = cluster.startServerVM(1, props, locator.getPort());
+    server2 = cluster.startServerVM(2, props, locator.getPort());
 
     ClientCache client = new ClientCacheFactory()
         .addPoolLocator("localhost", locator.getPort())
@@ -45,4 +59,54 @@ public class DListDUnitTest extends AbstractDListTest {
     return factory;
   }
 
+  @Test
+  public void testRedundantCopyAppliesEffectsOfBulkOperations() {
+    String name = testName.getMethodName();
+    List<Integer> list = getFactory().createDList(name);
+    for (int i = 0; i < 20; i++) {
+      list.add(19 - i);
+    }
+
+    list.removeIf((Predicate<Integer> & Serializable) x -> x % 3 == 0);
+    list.removeAll(Lists.list(1, 2));
+    list.retainAll(Lists.list(4, 5, 7, 8, 10, 11, 13));
+    list.sort(Comparator.naturalOrder());
+    list.replaceAll((UnaryOperator<Integer> & Serializable) x -> x * 10);
+
+    MemberVM primary = TestUtils.getServerForKey(name, server1, server2);
+    primary.stop();
+
+    assertThat(list.toArray()).containsExactly(40, 50, 70, 80, 100, 110, 130);
+
+    if (primary.equals(server1)) {
+      server1 = cluster.startServerVM(1, props, locator.getPort());
+    } else {
+      server2 = cluster.startServerVM(2, props, locator.getPort());
+    }
+  }
+
+  @Test
+  public void testRedundantCopyDoesNotRunFilterThatMatchedNothingOnPrimary() {
+    String name = testName.getMethodName();
+    List<Integer> list = getFactory().createDList(name);
+    list.add(1);
+    list.add(2);
+
+    MemberVM primary = TestUtils.getServerForKey(name, server1, server2);
+    primary.invoke(() -> System.setProperty(MATCH_NOTHING, "true"));
+    boolean removed =
+        list.removeIf((Predicate<Integer> & Serializable) x -> !Boolean.getBoolean(MATCH_NOTHING));
+    primary.invoke(() -> System.clearProperty(MATCH_NOTHING));
+    primary.stop();
+
+    assertThat(removed).isFalse();
+    assertThat(list.toArray()).containsExactly(1, 2);
+
+    if (primary.equals(server1)) {
+      server1 = cluster.startServerVM(1, props, locator.getPort());
+    } else {
+      server2 = cluster.startServerVM(2, props, locator.getPort());
+    }
+  }
+
 }
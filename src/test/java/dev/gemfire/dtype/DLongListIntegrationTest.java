@@ -0,0 +1,75 @@
+/*
+ * Copyright 2024 Broadcom. All rights reserved.
+ */
+
+package dev.gemfire.dtype;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.ClassRule;
+import org.junit.Test;
+
+import org.apache.geode.test.junit.rules.ServerStarterRule;
+
+public class DLongListIntegrationTest {
+
+  @ClassRule
+  public static ServerStarterRule server = new ServerStarterRule();
+
+  private static DTypeFactory factory;
+  private static DLongList list;
+
+  @BeforeClass
+  public static void setupClass() {
+    server.startServer();
+    factory = new DTypeFactory(server.getCache(),
+        (region, memberTag) -> new IntegrationTestOperationPerformer());
+    list = factory.createDLongList("longList");
+  }
+
+  @Before
+  public void setup() {
+    list.clear();
+  }
+
+  @Test
+  public void testAddAndGet() {
+    list.add(1);
+    list.addAll(3, 4);
+    list.add(1, 2);
+
+    assertThat(list.size()).isEqualTo(4);
+    assertThat(list.get(1)).isEqualTo(2);
+    assertThat(list.toArray()).containsExactly(1, 2, 3, 4);
+    assertThat(list.toArray(1, 3)).containsExactly(2, 3);
+  }
+
+  @Test
+  public void testRemove() {
+    list.addAll(5, 6, 7, 6);
+
+    assertThat(list.removeAt(0)).isEqualTo(5);
+    assertThat(list.remove(6)).isTrue();
+    assertThat(list.indexOf(6)).isEqualTo(1);
+    assertThat(list.contains(5)).isFalse();
+  }
+
+  @Test
+  public void testSetAndSort() {
+    list.addAll(3, 1, 2);
+
+    assertThat(list.set(0, 4)).isEqualTo(3);
+    list.sort();
+
+    assertThat(list.toArray()).containsExactly(1, 2, 4);
+  }
+
+  @Test
+  public void testIndexOutOfBounds() {
+    assertThatThrownBy(() -> list.get(0)).isInstanceOf(IndexOutOfBoundsException.class);
+  }
+
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2024 Broadcom. All rights reserved.
+ */
+
+package dev.gemfire.dtype;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.OptionalLong;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.ClassRule;
+import org.junit.Test;
+
+import org.apache.geode.test.junit.rules.ServerStarterRule;
+
+public class DLongQueueIntegrationTest {
+
+  @ClassRule
+  public static ServerStarterRule server = new ServerStarterRule();
+
+  private static DTypeFactory factory;
+  private static DLongQueue queue;
+
+  @BeforeClass
+  public static void setupClass() {
+    server.startServer();
+    factory = new DTypeFactory(server.getCache(),
+        (region, memberTag) -> new IntegrationTestOperationPerformer());
+    queue = factory.createDLongQueue("longQueue", 3);
+  }
+
+  @Before
+  public void setup() {
+    queue.clear();
+  }
+
+  @Test
+  public void testOfferAndPoll() {
+    assertThat(queue.offer(1)).isTrue();
+    assertThat(queue.offerAll(2, 3, 4)).isFalse();
+    assertThat(queue.offerAll(2, 3)).isTrue();
+    assertThat(queue.offer(4)).isFalse();
+    assertThat(queue.remainingCapacity()).isEqualTo(0);
+
+    assertThat(queue.peek()).isEqualTo(OptionalLong.of(1));
+    assertThat(queue.poll()).isEqualTo(OptionalLong.of(1));
+    assertThat(queue.drain(5)).containsExactly(2, 3);
+    assertThat(queue.poll()).isEqualTo(OptionalLong.empty());
+  }
+
+  @Test
+  public void testPollTimesOut() throws Exception {
+    assertThat(queue.poll(100, TimeUnit.MILLISECONDS)).isEqualTo(OptionalLong.empty());
+  }
+
+  @Test
+  public void testTakeWaitsForPut() throws Exception {
+    CompletableFuture<Long> taken = queue.async().take();
+
+    queue.put(42);
+
+    assertThat(taken.get(10, TimeUnit.SECONDS)).isEqualTo(42);
+    assertThat(queue.isEmpty()).isTrue();
+  }
+
+}
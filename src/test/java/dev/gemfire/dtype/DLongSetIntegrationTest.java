@@ -0,0 +1,68 @@
+/*
+ * Copyright 2024 Broadcom. All rights reserved.
+ */
+
+package dev.gemfire.dtype;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.ClassRule;
+import org.junit.Test;
+
+import org.apache.geode.test.junit.rules.ServerStarterRule;
+
+public class DLongSetIntegrationTest {
+
+  @ClassRule
+  public static ServerStarterRule server = new ServerStarterRule();
+
+  private static DTypeFactory factory;
+  private static DLongSet set;
+
+  @BeforeClass
+  public static void setupClass() {
+    server.startServer();
+    factory = new DTypeFactory(server.getCache(),
+        (region, memberTag) -> new IntegrationTestOperationPerformer());
+    set = factory.createDLongSet("longSet");
+  }
+
+  @Before
+  public void setup() {
+    set.clear();
+  }
+
+  @Test
+  public void testAddAndRemove() {
+    assertThat(set.add(1)).isTrue();
+    assertThat(set.add(1)).isFalse();
+    assertThat(set.add(0)).isTrue();
+    assertThat(set.size()).isEqualTo(2);
+
+    assertThat(set.remove(1)).isTrue();
+    assertThat(set.contains(1)).isFalse();
+    assertThat(set.contains(0)).isTrue();
+  }
+
+  @Test
+  public void testBulkOperations() {
+    assertThat(set.addAll(1, 2, 3, 4)).isTrue();
+    assertThat(set.addAll(1, 2)).isFalse();
+    assertThat(set.containsAll(1, 2, 3)).isTrue();
+
+    assertThat(set.removeAll(1, 2, 5)).isTrue();
+    assertThat(set.containsAll(1, 3)).isFalse();
+    assertThat(set.toArray()).containsExactlyInAnyOrder(3, 4);
+  }
+
+  @Test
+  public void testAsync() {
+    set.async().addAll(1, 2, 3).join();
+
+    assertThat(set.async().contains(2).join()).isTrue();
+    assertThat(set.async().size().join()).isEqualTo(3);
+  }
+
+}
@@ -0,0 +1,206 @@
+/*
+ * Copyright 2024 Broadcom. All rights reserved.
+ */
+
+package dev.gemfire.dtype;
+
+import static org.apache.geode.distributed.ConfigurationProperties.SERIALIZABLE_OBJECT_FILTER;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.ClassRule;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestName;
+
+import org.apache.geode.cache.client.ClientCache;
+import org.apache.geode.cache.client.ClientCacheFactory;
+import org.apache.geode.test.dunit.rules.ClusterStartupRule;
+import org.apache.geode.test.dunit.rules.MemberVM;
+
+public class DSegmentedQueueDUnitTest {
+
+  @Rule
+  public TestName testName = new TestName();
+
+  @ClassRule
+  public static ClusterStartupRule cluster = new ClusterStartupRule();
+
+  private static MemberVM locator;
+  private static DTypeFactory factory;
+
+  private String queueName;
+
+  @BeforeClass
+  public static void setup() {
+    locator = cluster.startLocatorVM(0);
+
+    Properties props = new Properties();
+    props.setProperty(SERIALIZABLE_OBJECT_FILTER, "dev.gemfire.dtype.**");
+
+    cluster.startServerVM(1, props, locator.getPort());
+    cluster.startServerVM(2, props, locator.getPort());
+
+    ClientCache client = new ClientCacheFactory()
+        .addPoolLocator("localhost", locator.getPort())
+        .create();
+
+    factory = new DTypeFactory(client);
+  }
+
+  @Before
+  public void before() {
+    queueName = testName.getMethodName();
+  }
+
+  @Test
+  public void testInvalidSegmentSize() {
+    assertThatThrownBy(() -> factory.createSegmentedDQueue(queueName, 10, 0))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  public void testOfferAndPollAcrossSegments() {
+    DBlockingQueue<Integer> queue = factory.createSegmentedDQueue(queueName, 100, 3);
+
+    for (int i = 0; i < 10; i++) {
+      assertThat(queue.offer(i)).isTrue();
+    }
+
+    assertThat(queue.size()).isEqualTo(10);
+    assertThat(queue.peek()).isEqualTo(0);
+    assertThat(queue.peekLast()).isEqualTo(9);
+
+    for (int i = 0; i < 10; i++) {
+      assertThat(queue.poll()).isEqualTo(i);
+    }
+
+    assertThat(queue.isEmpty()).isTrue();
+    assertThat(queue.poll()).isNull();
+    assertThatThrownBy(queue::remove).isInstanceOf(NoSuchElementException.class);
+  }
+
+  @Test
+  public void testBothEnds() {
+    DBlockingQueue<Integer> queue = factory.createSegmentedDQueue(queueName, 100, 2);
+
+    queue.offerFirst(2);
+    queue.offerFirst(1);
+    queue.offerFirst(0);
+    queue.offerLast(3);
+    queue.offerLast(4);
+
+    assertThat(new ArrayList<>(queue)).containsExactly(0, 1, 2, 3, 4);
+
+    List<Integer> descending = new ArrayList<>();
+    queue.descendingIterator().forEachRemaining(descending::add);
+    assertThat(descending).containsExactly(4, 3, 2, 1, 0);
+
+    assertThat(queue.pollLast()).isEqualTo(4);
+    assertThat(queue.pollFirst()).isEqualTo(0);
+    assertThat(queue.pollLast()).isEqualTo(3);
+    assertThat(queue.pollFirst()).isEqualTo(1);
+    assertThat(queue.pollLast()).isEqualTo(2);
+    assertThat(queue).isEmpty();
+  }
+
+  @Test
+  public void testIterationSkipsEmptySegments() {
+    DBlockingQueue<Integer> queue = factory.createSegmentedDQueue(queueName, 100, 2);
+    queue.addAll(Arrays.asList(0, 1, 2, 3, 4, 5));
+    queue.remove(2);
+    queue.remove(3);
+
+    assertThat(queue.toArray()).containsExactly(0, 1, 4, 5);
+    List<Integer> descending = new ArrayList<>();
+    queue.descendingIterator().forEachRemaining(descending::add);
+    assertThat(descending).containsExactly(5, 4, 1, 0);
+  }
+
+  @Test
+  public void testCapacity() throws Exception {
+    DBlockingQueue<Integer> queue = factory.createSegmentedDQueue(queueName, 5, 2);
+
+    assertThat(queue.addAll(Arrays.asList(0, 1, 2, 3, 4))).isTrue();
+    assertThat(queue.remainingCapacity()).isEqualTo(0);
+    assertThat(queue.offer(5)).isFalse();
+    assertThat(queue.offer(5, 100, TimeUnit.MILLISECONDS)).isFalse();
+    assertThatThrownBy(() -> queue.add(5)).isInstanceOf(IllegalStateException.class);
+  }
+
+  @Test
+  public void testRemoveAndContains() {
+    DBlockingQueue<String> queue = factory.createSegmentedDQueue(queueName, 100, 2);
+    queue.addAll(Arrays.asList("a", "b", "c", "b", "d", "e"));
+
+    assertThat(queue.contains("d")).isTrue();
+    assertThat(queue.containsAll(Arrays.asList("a", "e"))).isTrue();
+    assertThat(queue.removeLastOccurrence("b")).isTrue();
+    assertThat(queue.remove("b")).isTrue();
+    assertThat(queue.remove("x")).isFalse();
+    assertThat(queue.removeIf("a"::equals)).isTrue();
+
+    assertThat(new ArrayList<>(queue)).containsExactly("c", "d", "e");
+    assertThat(queue.size()).isEqualTo(3);
+    assertThat(queue.poll()).isEqualTo("c");
+  }
+
+  @Test
+  public void testDrainTo() {
+    DBlockingQueue<Integer> queue = factory.createSegmentedDQueue(queueName, 100, 3);
+    for (int i = 0; i < 8; i++) {
+      queue.add(i);
+    }
+
+    List<Integer> drained = new ArrayList<>();
+    assertThat(queue.drainTo(drained, 5)).isEqualTo(5);
+    assertThat(drained).containsExactly(0, 1, 2, 3, 4);
+    assertThat(queue.drainTo(drained)).isEqualTo(3);
+    assertThat(queue).isEmpty();
+  }
+
+  @Test
+  public void testTakeWaitsForElement() throws Exception {
+    DBlockingQueue<Integer> queue = factory.createSegmentedDQueue(queueName, 100, 2);
+
+    assertThat(queue.poll(100, TimeUnit.MILLISECONDS)).isNull();
+    queue.put(1);
+    assertThat(queue.take()).isEqualTo(1);
+  }
+
+  @Test
+  public void testSerializedStorage() {
+    DBlockingQueue<String> queue =
+        factory.createSegmentedDQueue(queueName, 100, 2, ElementStorage.SERIALIZED);
+    queue.addAll(Arrays.asList("a", "b", "c"));
+
+    assertThat(queue.contains("b")).isTrue();
+    assertThat(queue.remove("b")).isTrue();
+    assertThat(new ArrayList<>(queue)).containsExactly("a", "c");
+  }
+
+  @Test
+  public void testClearAndDestroy() {
+    DBlockingQueue<Integer> queue = factory.createSegmentedDQueue(queueName, 100, 2);
+    queue.addAll(Arrays.asList(1, 2, 3, 4, 5));
+
+    queue.clear();
+    assertThat(queue).isEmpty();
+
+    queue.add(6);
+    queue.destroy();
+
+    DBlockingQueue<Integer> recreated = factory.createSegmentedDQueue(queueName, 100, 2);
+    assertThat(recreated).isEmpty();
+  }
+
+}
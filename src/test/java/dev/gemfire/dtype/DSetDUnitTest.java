@@ -6,7 +6,10 @@ package dev.gemfire.dtype;
 
 import static org.apache.geode.distributed.ConfigurationProperties.SERIALIZABLE_OBJECT_FILTER;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import java.util.Collections;
+import java.util.ConcurrentModificationException;
 import java.util.Iterator;
 import java.util.Properties;
 import java.util.UUID;
@@ -45,6 +48,22 @@ public class DSetDUnitTest {
     factory = new DTypeFactory(client);
   }
 
+  @Test
+  public void readsFromAnyCopySeeCompletedUpdates() {
+    DSet<String> primarySet = factory.createDSet("any-copy-set");
+    DSet<String> anySet =
+        factory.withReadPreference(ReadPreference.ANY).createDSet("any-copy-set");
+
+    for (int i = 0; i < 100; i++) {
+      primarySet.add("element-" + i);
+      assertThat(anySet.contains("element-" + i)).isTrue();
+      assertThat(anySet.size()).isEqualTo(i + 1);
+      assertThat(anySet.async().size().join()).isEqualTo(i + 1);
+    }
+    primarySet.clear();
+    assertThat(anySet.isEmpty()).isTrue();
+  }
+
   @Test
   public void testSet() {
     DSet<String> set = factory.createDSet("set");
@@ -91,6 +110,44 @@ public class DSetDUnitTest {
     assertThat(set2.isEmpty()).isTrue();
   }
 
+  @Test
+  public void testRemoveUsingIteratorAcrossPages() {
+    DSet<String> set = factory.createDSet("paged-iterating-set");
+    for (int i = 0; i < 2500; i++) {
+      set.add("value-" + i);
+    }
+
+    int count = 0;
+    Iterator<String> iterator = set.iterator();
+    while (iterator.hasNext()) {
+      if (iterator.next().endsWith("0")) {
+        iterator.remove();
+      }
+      count++;
+    }
+
+    assertThat(count).isEqualTo(2500);
+    assertThat(set.size()).isEqualTo(2250);
+  }
+
+  @Test
+  public void testModificationDuringIterationFails() {
+    DSet<String> set = factory.createDSet("modified-iterating-set");
+    for (int i = 0; i < 3500; i++) {
+      set.add("value-" + i);
+    }
+
+    Iterator<String> iterator = set.iterator();
+    iterator.next();
+    set.add("another-value");
+
+    assertThatThrownBy(() -> {
+      while (iterator.hasNext()) {
+        iterator.next();
+      }
+    }).isInstanceOf(ConcurrentModificationException.class);
+  }
+
   @Test
   public void testSetToArray() {
     UUID uuid1 = UUID.randomUUID();
@@ -108,4 +165,22 @@ public class DSetDUnitTest {
     assertThat(list2.toArray()).contains(uuid1, uuid2, uuid3);
   }
 
+  @Test
+  public void testSerializedStorage() {
+    UUID uuid1 = UUID.randomUUID();
+    UUID uuid2 = UUID.randomUUID();
+
+    DSet<UUID> set = factory.createDSet("serialized-set", ElementStorage.SERIALIZED);
+    assertThat(set.add(uuid1)).isTrue();
+    assertThat(set.add(new UUID(uuid1.getMostSignificantBits(), uuid1.getLeastSignificantBits())))
+        .isFalse();
+    set.add(uuid2);
+
+    assertThat(set.contains(uuid2)).isTrue();
+    assertThat(set.retainAll(Collections.singleton(uuid1))).isTrue();
+
+    DSet<UUID> set2 = factory.createDSet("serialized-set");
+    assertThat(set2.toArray()).containsExactly(uuid1);
+  }
+
 }
@@ -0,0 +1,265 @@
+/*
+ * Copyright 2024 Broadcom. All rights reserved.
+ */
+
+package dev.gemfire.dtype;
+
+import static org.apache.geode.distributed.ConfigurationProperties.SERIALIZABLE_OBJECT_FILTER;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Properties;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.function.ToLongFunction;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.ClassRule;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestName;
+
+import org.apache.geode.cache.client.ClientCache;
+import org.apache.geode.cache.client.ClientCacheFactory;
+import org.apache.geode.test.dunit.rules.ClusterStartupRule;
+import org.apache.geode.test.dunit.rules.MemberVM;
+
+public class DShardedSetDUnitTest {
+
+  @Rule
+  public TestName testName = new TestName();
+
+  @ClassRule
+  public static ClusterStartupRule cluster = new ClusterStartupRule();
+
+  private static MemberVM locator;
+  private static DTypeFactory factory;
+
+  private String setName;
+
+  @BeforeClass
+  public static void setup() {
+    locator = cluster.startLocatorVM(0);
+
+    Properties props = new Properties();
+    props.setProperty(SERIALIZABLE_OBJECT_FILTER, "dev.gemfire.dtype.**");
+
+    cluster.startServerVM(1, props, locator.getPort());
+    cluster.startServerVM(2, props, locator.getPort());
+
+    ClientCache client = new ClientCacheFactory()
+        .addPoolLocator("localhost", locator.getPort())
+        .create();
+
+    factory = new DTypeFactory(client);
+  }
+
+  @Before
+  public void before() {
+    setName = testName.getMethodName();
+  }
+
+  private static Set<Integer> range(int from, int to) {
+    return IntStream.range(from, to).boxed().collect(Collectors.toSet());
+  }
+
+  @Test
+  public void testInvalidShardCount() {
+    assertThatThrownBy(() -> factory.createDShardedSet(setName, 0))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  public void testAddContainsRemove() {
+    DSet<String> set = factory.createDShardedSet(setName, 4);
+
+    assertThat(set.add("a")).isTrue();
+    assertThat(set.add("a")).isFalse();
+    assertThat(set.add("b")).isTrue();
+    assertThat(set.contains("a")).isTrue();
+    assertThat(set.contains("c")).isFalse();
+    assertThat(set.size()).isEqualTo(2);
+
+    assertThat(set.remove("a")).isTrue();
+    assertThat(set.remove("a")).isFalse();
+    assertThat(set).containsExactly("b");
+  }
+
+  @Test
+  public void testBulkOperations() {
+    DSet<Integer> set = factory.createDShardedSet(setName, 8);
+
+    assertThat(set.addAll(range(0, 100))).isTrue();
+    assertThat(set.addAll(range(0, 100))).isFalse();
+    assertThat(set.size()).isEqualTo(100);
+    assertThat(set.containsAll(range(10, 20))).isTrue();
+    assertThat(set.containsAll(range(90, 110))).isFalse();
+
+    assertThat(set.removeAll(range(50, 100))).isTrue();
+    assertThat(set.retainAll(range(0, 10))).isTrue();
+    assertThat(new HashSet<>(set)).isEqualTo(range(0, 10));
+
+    set.clear();
+    assertThat(set.isEmpty()).isTrue();
+  }
+
+  @Test
+  public void testExistingInstanceKeepsShardCount() {
+    DSet<Integer> set = factory.createDShardedSet(setName, 3);
+    set.addAll(range(0, 20));
+
+    DSet<Integer> other = factory.createDShardedSet(setName, 7);
+    assertThat(other.containsAll(range(0, 20))).isTrue();
+    assertThat(other.size()).isEqualTo(20);
+  }
+
+  @Test
+  public void testIteratorRemove() {
+    DSet<Integer> set = factory.createDShardedSet(setName, 4);
+    set.addAll(range(0, 20));
+
+    Iterator<Integer> iterator = set.iterator();
+    while (iterator.hasNext()) {
+      if (iterator.next() % 2 == 0) {
+        iterator.remove();
+      }
+    }
+
+    assertThat(set).containsExactlyInAnyOrderElementsOf(
+        IntStream.range(0, 20).filter(i -> i % 2 == 1).boxed().collect(Collectors.toList()));
+  }
+
+  @Test
+  public void testIteratorRemoveAfterHasNext() {
+    DSet<Integer> set = factory.createDShardedSet(setName, 4);
+    set.addAll(range(0, 20));
+
+    // hasNext() moves on to the next shard once the last element of a shard has been returned
+    Iterator<Integer> iterator = set.iterator();
+    while (iterator.hasNext()) {
+      int element = iterator.next();
+      iterator.hasNext();
+      if (element % 2 == 0) {
+        iterator.remove();
+      }
+    }
+
+    assertThat(set).containsExactlyInAnyOrderElementsOf(
+        IntStream.range(0, 20).filter(i -> i % 2 == 1).boxed().collect(Collectors.toList()));
+  }
+
+  @Test
+  public void testAsync() throws Exception {
+    DSet<Integer> set = factory.createDShardedSet(setName, 4);
+
+    assertThat(set.async().addAll(range(0, 10)).get()).isTrue();
+    assertThat(set.async().add(10).get()).isTrue();
+    assertThat(set.async().contains(5).get()).isTrue();
+    assertThat(set.async().size().get()).isEqualTo(11);
+  }
+
+  @Test
+  public void testSerializedStorage() {
+    DSet<String> set = factory.createDShardedSet(setName, 4, ElementStorage.SERIALIZED);
+
+    set.addAll(Arrays.asList("a", "b", "c"));
+    assertThat(set.contains("b")).isTrue();
+    assertThat(set).containsExactlyInAnyOrder("a", "b", "c");
+  }
+
+  @Test
+  public void testObjectStorageAssignsEqualElementsToTheSameShard() {
+    DSet<Tagged> set = factory.createDShardedSet(setName, 16);
+
+    assertThat(set.add(new Tagged(1, "first"))).isTrue();
+    assertThat(set.add(new Tagged(1, "second"))).isFalse();
+    assertThat(set.addAll(Arrays.asList(new Tagged(1, "third"), new Tagged(2, "first")))).isTrue();
+    assertThat(set.contains(new Tagged(2, "other"))).isTrue();
+    assertThat(set.size()).isEqualTo(2);
+  }
+
+  @Test
+  public void testCannotBeBatched() {
+    DSet<String> set = factory.createDShardedSet(setName, 2);
+
+    assertThatThrownBy(() -> factory.createBatch().on(set))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  public void testDestroy() {
+    DSet<String> set = factory.createDShardedSet(setName, 2);
+    set.addAll(Arrays.asList("a", "b", "c"));
+    set.destroy();
+
+    DSet<String> recreated = factory.createDShardedSet(setName, 2);
+    assertThat(recreated).isEmpty();
+  }
+
+  @Test
+  public void testStream() {
+    DSet<Integer> set = factory.createDShardedSet(setName, 4);
+    set.addAll(range(0, 100));
+
+    DStream<Integer> even =
+        set.dstream().filter((Predicate<Integer> & Serializable) x -> x % 2 == 0);
+
+    assertThat(even.count()).isEqualTo(50);
+    assertThat(even.sumLong((ToLongFunction<Integer> & Serializable) x -> x)).isEqualTo(2450);
+    assertThat(even.min((Comparator<Integer> & Serializable) Integer::compare)).contains(0);
+    assertThat(even.top(3, (Comparator<Integer> & Serializable) Integer::compare))
+        .containsExactly(98, 96, 94);
+    assertThat(even.toList()).hasSize(50);
+  }
+
+  @Test
+  public void readsFromAnyCopySeeCompletedUpdates() {
+    DSet<String> primarySet = factory.createDShardedSet(setName, 4);
+    DSet<String> anySet =
+        factory.withReadPreference(ReadPreference.ANY).createDShardedSet(setName, 4);
+
+    for (int i = 0; i < 20; i++) {
+      primarySet.add("element-" + i);
+      assertThat(anySet.contains("element-" + i)).isTrue();
+      assertThat(anySet.async().contains("element-" + i).join()).isTrue();
+    }
+    assertThat(anySet.size()).isEqualTo(20);
+  }
+
+  /**
+   * An element whose equal values serialize differently.
+   */
+  private static class Tagged implements Serializable {
+    private final int id;
+    private final String tag;
+
+    Tagged(int id, String tag) {
+      this.id = id;
+      this.tag = tag;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      return o instanceof Tagged && ((Tagged) o).id == id;
+    }
+
+    @Override
+    public int hashCode() {
+      return id;
+    }
+
+    @Override
+    public String toString() {
+      return id + ":" + tag;
+    }
+  }
+
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright 2024 Broadcom. All rights reserved.
+ */
+
+package dev.gemfire.dtype;
+
+import static org.apache.geode.distributed.ConfigurationProperties.SERIALIZABLE_OBJECT_FILTER;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Properties;
+
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.ClassRule;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestName;
+
+import org.apache.geode.cache.client.ClientCache;
+import org.apache.geode.cache.client.ClientCacheFactory;
+import org.apache.geode.test.awaitility.GeodeAwaitility;
+import org.apache.geode.test.dunit.rules.ClientVM;
+import org.apache.geode.test.dunit.rules.ClusterStartupRule;
+import org.apache.geode.test.dunit.rules.MemberVM;
+
+public class DSnowflakeDUnitTest {
+
+  @Rule
+  public TestName testName = new TestName();
+
+  @ClassRule
+  public static ClusterStartupRule cluster = new ClusterStartupRule();
+
+  private static final Properties props = new Properties();
+  private static MemberVM locator;
+  private static DTypeFactory factory;
+  private static ClientCache client;
+
+  private String flakeName;
+
+  @BeforeClass
+  public static void setup() throws Exception {
+    locator = cluster.startLocatorVM(0);
+
+    props.setProperty(SERIALIZABLE_OBJECT_FILTER, "dev.gemfire.dtype.**");
+
+    cluster.startServerVM(1, props, locator.getPort());
+    cluster.startServerVM(2, props, locator.getPort());
+
+    client = new ClientCacheFactory()
+        .addPoolLocator("localhost", locator.getPort())
+        .create();
+
+    factory = new DTypeFactory(client);
+  }
+
+  @Before
+  public void before() {
+    flakeName = testName.getMethodName();
+  }
+
+  @Test
+  public void snowflakesWithTheSameNameLeaseDifferentMachineIds() {
+    DSnowflake flake1 = factory.createDSnowflake(flakeName, 1, 20);
+    DSnowflake flake2 = factory.createDSnowflake(flakeName, 1, 20);
+
+    long machineId1 = flake1.parse(flake1.nextId())[1];
+    long machineId2 = flake2.parse(flake2.nextId())[1];
+    assertThat(machineId1).isNotEqualTo(machineId2);
+
+    assertThatThrownBy(() -> factory.createDSnowflake(flakeName, 1, 20))
+        .isInstanceOf(DTypeException.class);
+  }
+
+  @Test
+  public void destroyReleasesTheMachineId() {
+    DSnowflake flake = factory.createDSnowflake(flakeName, 1, 20);
+    factory.createDSnowflake(flakeName, 1, 20);
+
+    long machineId = flake.parse(flake.nextId())[1];
+    flake.destroy();
+
+    DSnowflake replacement = factory.createDSnowflake(flakeName, 1, 20);
+    assertThat(replacement.parse(replacement.nextId())[1]).isEqualTo(machineId);
+  }
+
+  @Test
+  public void machineIdsAreReleasedAfterClientDisconnect() {
+    int locatorPort = locator.getPort();
+    ClientVM client1 = cluster.startClientVM(3, x -> x.withLocatorConnection(locatorPort));
+    String localName = flakeName;
+    client1.invoke(() -> {
+      DTypeFactory factory = new DTypeFactory(ClusterStartupRule.getClientCache());
+      factory.createDSnowflake(localName, 0, 20);
+    });
+
+    assertThatThrownBy(() -> factory.createDSnowflake(flakeName, 0, 20))
+        .isInstanceOf(DTypeException.class);
+
+    client1.invoke(() -> {
+      ClusterStartupRule.getClientCache().close();
+    });
+
+    GeodeAwaitility.await().untilAsserted(
+        () -> assertThat(factory.createDSnowflake(flakeName, 0, 20).nextId()).isPositive());
+  }
+
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2024 Broadcom. All rights reserved.
+ */
+
+package dev.gemfire.dtype;
+
+import static org.apache.geode.distributed.ConfigurationProperties.SERIALIZABLE_OBJECT_FILTER;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+
+import org.junit.BeforeClass;
+import org.junit.ClassRule;
+import org.junit.Test;
+
+import org.apache.geode.cache.client.ClientCache;
+import org.apache.geode.cache.client.ClientCacheFactory;
+import org.apache.geode.test.dunit.rules.ClusterStartupRule;
+import org.apache.geode.test.dunit.rules.MemberVM;
+
+public class DTypeBatchDUnitTest extends AbstractDTypeBatchTest {
+
+  @ClassRule
+  public static ClusterStartupRule cluster = new ClusterStartupRule();
+
+  private static DTypeFactory factory;
+
+  @BeforeClass
+  public static void setup() {
+    MemberVM locator = cluster.startLocatorVM(0);
+
+    Properties props = new Properties();
+    props.setProperty(SERIALIZABLE_OBJECT_FILTER, "dev.gemfire.dtype.**");
+
+    cluster.startServerVM(1, props, locator.getPort());
+    cluster.startServerVM(2, props, locator.getPort());
+
+    ClientCache client = new ClientCacheFactory()
+        .addPoolLocator("localhost", locator.getPort())
+        .create();
+
+    factory = new DTypeFactory(client);
+  }
+
+  @Override
+  DTypeFactory getFactory() {
+    return factory;
+  }
+
+  @Test
+  public void testBatchSpanningAllServers() {
+    List<DAtomicLong> longs = new ArrayList<>();
+    DTypeBatch batch = getFactory().createBatch();
+    for (int i = 0; i < 50; i++) {
+      DAtomicLong atomicLong = getFactory().createAtomicLong(testName.getMethodName() + "-" + i);
+      longs.add(atomicLong);
+      batch.on(atomicLong).addAndGet(i);
+    }
+
+    List<Object> results = batch.execute();
+
+    for (int i = 0; i < 50; i++) {
+      assertThat(results.get(i)).isEqualTo((long) i);
+      assertThat(longs.get(i).get()).isEqualTo(i);
+    }
+  }
+
+}
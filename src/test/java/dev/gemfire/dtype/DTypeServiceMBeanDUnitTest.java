@@ -0,0 +1,113 @@
+/*
+ * Copyright 2024 Broadcom. All rights reserved.
+ */
+
+package dev.gemfire.dtype;
+
+import static org.apache.geode.distributed.ConfigurationProperties.SERIALIZABLE_OBJECT_FILTER;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.Properties;
+
+import dev.gemfire.dtype.internal.DTypeService;
+import org.junit.BeforeClass;
+import org.junit.ClassRule;
+import org.junit.Test;
+
+import org.apache.geode.cache.client.ClientCache;
+import org.apache.geode.cache.client.ClientCacheFactory;
+import org.apache.geode.internal.cache.InternalCache;
+import org.apache.geode.test.dunit.rules.ClusterStartupRule;
+import org.apache.geode.test.dunit.rules.MemberVM;
+
+public class DTypeServiceMBeanDUnitTest {
+
+  @ClassRule
+  public static ClusterStartupRule cluster = new ClusterStartupRule();
+
+  private static DTypeFactory factory;
+  private static MemberVM server1;
+  private static MemberVM server2;
+
+  @BeforeClass
+  public static void setup() {
+    MemberVM locator = cluster.startLocatorVM(0);
+
+    Properties props = new Properties();
+    props.setProperty(SERIALIZABLE_OBJECT_FILTER, "dev.gemfire.dtype.**");
+
+    server1 = cluster.startServerVM(1, props, locator.getPort());
+    server2 = cluster.startServerVM(2, props, locator.getPort());
+
+    ClientCache client = new ClientCacheFactory()
+        .addPoolLocator("localhost", locator.getPort())
+        .create();
+
+    factory = new DTypeFactory(client);
+  }
+
+  @Test
+  public void clusterMetricsIncludeInstancesOnAllServers() {
+    DList<String> list = factory.createDList("metricsList");
+    list.addAll(Arrays.asList("a", "b", "c"));
+    DCounter counter = factory.createDCounter("metricsCounter");
+    counter.increment(1);
+    counter.increment(1);
+
+    server1.invoke(() -> {
+      DTypeMetrics[] metrics = getMBean().listClusterMetrics();
+
+      DTypeMetrics listMetrics = find(metrics, "metricsList");
+      assertThat(listMetrics.getType()).isEqualTo("DListImpl");
+      assertThat(listMetrics.getElementCount()).isEqualTo(3);
+      assertThat(listMetrics.getApproximateSize()).isGreaterThan(0);
+      assertThat(listMetrics.getOperationCount()).isGreaterThan(0);
+
+      DTypeMetrics counterMetrics = find(metrics, "metricsCounter");
+      assertThat(counterMetrics.getElementCount()).isEqualTo(-1);
+      assertThat(counterMetrics.getDeltaUpdateCount()).isGreaterThanOrEqualTo(2);
+    });
+  }
+
+  @Test
+  public void localMetricsOnlyIncludePrimaryInstances() {
+    for (int i = 0; i < 10; i++) {
+      factory.createAtomicLong("metricsLong-" + i).addAndGet(1);
+    }
+
+    int local1 = server1.invoke(() -> countLocal("metricsLong-"));
+    int local2 = server2.invoke(() -> countLocal("metricsLong-"));
+
+    assertThat(local1 + local2).isEqualTo(10);
+  }
+
+  @Test
+  public void busiestAndLargestAreLimited() {
+    factory.createAtomicLong("metricsBusy").addAndGet(1);
+    factory.createAtomicLong("metricsLarge").addAndGet(1);
+
+    server2.invoke(() -> {
+      assertThat(getMBean().listClusterBusiest(1)).hasSize(1);
+      assertThat(getMBean().listClusterLargest(1)).hasSize(1);
+    });
+  }
+
+  private static DTypeServiceMXBean getMBean() {
+    InternalCache cache = ClusterStartupRule.getCache();
+    return (DTypeServiceMXBean) cache.getService(DTypeService.class).getMBean();
+  }
+
+  private static int countLocal(String prefix) {
+    return (int) Arrays.stream(getMBean().listMetrics())
+        .filter(m -> m.getName().startsWith(prefix))
+        .count();
+  }
+
+  private static DTypeMetrics find(DTypeMetrics[] metrics, String name) {
+    return Arrays.stream(metrics)
+        .filter(m -> m.getName().equals(name))
+        .findFirst()
+        .orElseThrow(() -> new AssertionError("No metrics for " + name));
+  }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2024 Broadcom. All rights reserved.
+ */
+
+package dev.gemfire.dtype.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+
+public class BoundedDequeTest {
+
+  @Test
+  public void offersFailWhenFull() {
+    BoundedDeque<Integer> deque = new BoundedDeque<>(2);
+
+    assertThat(deque.offerLast(1)).isTrue();
+    assertThat(deque.offerFirst(0)).isTrue();
+    assertThat(deque.offerLast(2)).isFalse();
+    assertThat(deque.offer(2)).isFalse();
+    assertThat(deque.offerFirst(2)).isFalse();
+    assertThat(deque.remainingCapacity()).isEqualTo(0);
+    assertThat(deque).containsExactly(0, 1);
+  }
+
+  @Test
+  public void addsThrowWhenFull() {
+    BoundedDeque<Integer> deque = new BoundedDeque<>(1);
+    deque.add(1);
+
+    assertThatThrownBy(() -> deque.add(2)).isInstanceOf(IllegalStateException.class);
+    assertThatThrownBy(() -> deque.addFirst(2)).isInstanceOf(IllegalStateException.class);
+    assertThatThrownBy(() -> deque.push(2)).isInstanceOf(IllegalStateException.class);
+    assertThat(deque).containsExactly(1);
+  }
+
+  @Test
+  public void addAllKeepsElementsAddedBeforeFull() {
+    BoundedDeque<Integer> deque = new BoundedDeque<>(3);
+
+    assertThatThrownBy(() -> deque.addAll(Arrays.asList(1, 2, 3, 4)))
+        .isInstanceOf(IllegalStateException.class);
+    assertThat(deque).containsExactly(1, 2, 3);
+  }
+
+  @Test
+  public void unboundedCapacityIsNotAllocated() {
+    BoundedDeque<Integer> deque = new BoundedDeque<>(Integer.MAX_VALUE);
+    for (int i = 0; i < 1000; i++) {
+      deque.add(i);
+    }
+
+    assertThat(deque).hasSize(1000);
+    assertThat(deque.remainingCapacity()).isEqualTo(Integer.MAX_VALUE - 1000);
+  }
+
+  @Test
+  public void drainToRemovesFromHead() {
+    BoundedDeque<Integer> deque = new BoundedDeque<>(10);
+    deque.addAll(Arrays.asList(1, 2, 3, 4));
+    List<Integer> drained = new ArrayList<>();
+
+    assertThat(deque.drainTo(drained, 3)).isEqualTo(3);
+    assertThat(drained).containsExactly(1, 2, 3);
+    assertThat(deque).containsExactly(4);
+    assertThat(deque.drainTo(drained, 3)).isEqualTo(1);
+    assertThat(deque).isEmpty();
+  }
+
+  @Test
+  public void capacityMustBePositive() {
+    assertThatThrownBy(() -> new BoundedDeque<>(0)).isInstanceOf(IllegalArgumentException.class);
+  }
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright 2024 Broadcom. All rights reserved.
+ */
+
+package dev.gemfire.dtype.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Test;
+
+public class CachedReadTest {
+
+  private final AtomicLong serverValue = new AtomicLong();
+  private final AtomicLong loads = new AtomicLong();
+  private final List<Runnable> refreshes = new ArrayList<>();
+  // Run by each load once it has read the server value
+  private volatile Runnable afterRead;
+
+  private CachedRead<Long> cachedRead(long maxStalenessMs) {
+    return new CachedRead<>(maxStalenessMs, TimeUnit.MILLISECONDS, () -> {
+      loads.incrementAndGet();
+      long value = serverValue.get();
+      if (afterRead != null) {
+        afterRead.run();
+      }
+      return value;
+    }, refreshes::add);
+  }
+
+  @Test
+  public void valueIsCached() {
+    CachedRead<Long> cached = cachedRead(60_000);
+    serverValue.set(1);
+
+    assertThat(cached.get()).isEqualTo(1);
+    serverValue.set(2);
+    assertThat(cached.get()).isEqualTo(1);
+    assertThat(loads.get()).isEqualTo(1);
+  }
+
+  @Test
+  public void staleValueIsLoaded() throws Exception {
+    CachedRead<Long> cached = cachedRead(10);
+    serverValue.set(1);
+    cached.get();
+
+    serverValue.set(2);
+    Thread.sleep(20);
+
+    assertThat(cached.get()).isEqualTo(2);
+    assertThat(loads.get()).isEqualTo(2);
+  }
+
+  @Test
+  public void valueIsRefreshedInBackground() throws Exception {
+    CachedRead<Long> cached = cachedRead(2_000);
+    serverValue.set(1);
+    cached.get();
+
+    serverValue.set(2);
+    Thread.sleep(1_100);
+
+    assertThat(cached.get()).isEqualTo(1);
+    assertThat(cached.get()).isEqualTo(1);
+    assertThat(refreshes).hasSize(1);
+
+    refreshes.get(0).run();
+    assertThat(cached.get()).isEqualTo(2);
+  }
+
+  @Test
+  public void refreshDoesNotOverwriteConcurrentUpdate() throws Exception {
+    CachedRead<Long> cached = cachedRead(2_000);
+    serverValue.set(1);
+    cached.get();
+
+    Thread.sleep(1_100);
+    assertThat(cached.get()).isEqualTo(1);
+    assertThat(refreshes).hasSize(1);
+
+    // The refresh reads the value from before the update, which is applied before it completes
+    afterRead = () -> cached.update(2L);
+    refreshes.get(0).run();
+
+    assertThat(cached.get()).isEqualTo(2);
+  }
+
+  @Test
+  public void loadDoesNotOverwriteConcurrentInvalidation() {
+    CachedRead<Long> cached = cachedRead(60_000);
+    serverValue.set(1);
+    afterRead = () -> {
+      afterRead = null;
+      serverValue.set(2);
+      cached.invalidate();
+    };
+
+    assertThat(cached.get()).isEqualTo(1);
+    assertThat(cached.get()).isEqualTo(2);
+  }
+
+  @Test
+  public void updatesAreApplied() {
+    CachedRead<Long> cached = cachedRead(60_000);
+    cached.get();
+
+    cached.update(5L);
+    assertThat(cached.get()).isEqualTo(5);
+
+    cached.invalidate();
+    assertThat(cached.get()).isEqualTo(0);
+    assertThat(loads.get()).isEqualTo(2);
+  }
+
+  @Test
+  public void invalidStalenessIsRejected() {
+    assertThatThrownBy(() -> cachedRead(0)).isInstanceOf(IllegalArgumentException.class);
+  }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright 2024 Broadcom. All rights reserved.
+ */
+
+package dev.gemfire.dtype.internal;
+
+import static dev.gemfire.dtype.internal.OperationType.QUERY;
+import static dev.gemfire.dtype.internal.OperationType.UPDATE;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+public class CollectionsBackendFunctionTest {
+
+  private final AbstractDType entry = new DAtomicLongImpl("test");
+
+  @Test
+  public void queriesRunConcurrently() throws Exception {
+    CountDownLatch bothStarted = new CountDownLatch(2);
+    CompletableFuture<Object> first = CompletableFuture.supplyAsync(() -> perform(QUERY, () -> {
+      bothStarted.countDown();
+      return bothStarted.await(10, TimeUnit.SECONDS);
+    }));
+
+    Object second = perform(QUERY, () -> {
+      bothStarted.countDown();
+      return bothStarted.await(10, TimeUnit.SECONDS);
+    });
+
+    assertThat(second).isEqualTo(true);
+    assertThat(first.get()).isEqualTo(true);
+  }
+
+  @Test
+  public void updatesExcludeQueries() throws Exception {
+    CountDownLatch updateStarted = new CountDownLatch(1);
+    CountDownLatch releaseUpdate = new CountDownLatch(1);
+    CompletableFuture<Object> update = CompletableFuture.supplyAsync(() -> perform(UPDATE, () -> {
+      updateStarted.countDown();
+      return releaseUpdate.await(10, TimeUnit.SECONDS);
+    }));
+    assertThat(updateStarted.await(10, TimeUnit.SECONDS)).isTrue();
+
+    CompletableFuture<Object> query =
+        CompletableFuture.supplyAsync(() -> perform(QUERY, releaseUpdate::getCount));
+
+    Thread.sleep(200);
+    assertThat(query).isNotDone();
+
+    releaseUpdate.countDown();
+    assertThat(update.get()).isEqualTo(true);
+    assertThat(query.get()).isEqualTo(0L);
+  }
+
+  @Test
+  public void blockedOperationIsDeferredWhenNoThreadMayWait() throws Exception {
+    int reserved = 0;
+    try {
+      while (DTypeWaiters.reserve(false)) {
+        reserved++;
+      }
+
+      Object result = CollectionsBackendFunction.performWithRetries(entry, UPDATE, 0L, () -> {
+        throw new RetryableException(1000, Long.MAX_VALUE, TimeUnit.MILLISECONDS, () -> null, 1);
+      });
+
+      assertThat(result).isInstanceOf(WouldBlock.class);
+      assertThat(DTypeWaiters.getWaitingThreads()).isEqualTo(reserved);
+    } finally {
+      for (int i = 0; i < reserved; i++) {
+        DTypeWaiters.release();
+      }
+    }
+  }
+
+  private Object perform(OperationType operationType, Callable<Object> fn) {
+    try {
+      return CollectionsBackendFunction.performWithRetries(entry, operationType, null, fn);
+    } catch (Exception e) {
+      throw new RuntimeException(e);
+    }
+  }
+}
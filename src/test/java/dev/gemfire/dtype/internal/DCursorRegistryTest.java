@@ -0,0 +1,115 @@
+/*
+ * Copyright 2024 Broadcom. All rights reserved.
+ */
+
+package dev.gemfire.dtype.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.junit.Test;
+
+public class DCursorRegistryTest {
+
+  private final DCursorRegistry registry = new DCursorRegistry(2);
+  private final Object owner = new Object();
+
+  @Test
+  public void smallSnapshotIsReturnedInOnePage() {
+    DCursorPage page = registry.open(owner, 0, elements(1, 2, 3), 10);
+
+    assertThat(page.getElements()).containsExactly(1, 2, 3);
+    assertThat(page.getCursorId()).isNull();
+    assertThat(registry.size()).isEqualTo(0);
+  }
+
+  @Test
+  public void snapshotIsReturnedInPages() {
+    DCursorPage page = registry.open(owner, 0, elements(1, 2, 3, 4, 5), 2);
+    assertThat(page.getElements()).containsExactly(1, 2);
+    assertThat(page.getCursorId()).isNotNull();
+
+    page = registry.nextPage(page.getCursorId(), owner, 0);
+    assertThat(page.getElements()).containsExactly(3, 4);
+    assertThat(page.getCursorId()).isNotNull();
+
+    page = registry.nextPage(page.getCursorId(), owner, 0);
+    assertThat(page.getElements()).containsExactly(5);
+    assertThat(page.getCursorId()).isNull();
+    assertThat(registry.size()).isEqualTo(0);
+  }
+
+  @Test
+  public void exhaustedCursorIsRemoved() {
+    DCursorPage page = registry.open(owner, 0, elements(1, 2, 3, 4), 2);
+    String cursorId = page.getCursorId();
+
+    assertThat(registry.nextPage(cursorId, owner, 0).getCursorId()).isNull();
+    assertThatThrownBy(() -> registry.nextPage(cursorId, owner, 0))
+        .isInstanceOf(ConcurrentModificationException.class);
+  }
+
+  @Test
+  public void invalidPageSizeIsRejected() {
+    assertThatThrownBy(() -> registry.open(owner, 0, elements(), 0))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  public void modificationIsDetected() {
+    DCursorPage page = registry.open(owner, 0, elements(1, 2, 3, 4, 5), 2);
+    String cursorId = page.getCursorId();
+
+    assertThatThrownBy(() -> registry.nextPage(cursorId, owner, 1))
+        .isInstanceOf(ConcurrentModificationException.class);
+    assertThat(registry.size()).isEqualTo(0);
+  }
+
+  @Test
+  public void replacedOwnerIsDetected() {
+    DCursorPage page = registry.open(owner, 0, elements(1, 2, 3, 4, 5), 2);
+    String cursorId = page.getCursorId();
+
+    assertThatThrownBy(() -> registry.nextPage(cursorId, new Object(), 0))
+        .isInstanceOf(ConcurrentModificationException.class);
+  }
+
+  @Test
+  public void leastRecentlyUsedCursorIsRemovedWhenFull() throws Exception {
+    String first = registry.open(owner, 0, elements(1, 2, 3), 1).getCursorId();
+    Thread.sleep(2);
+    String second = registry.open(owner, 0, elements(1, 2, 3), 1).getCursorId();
+    Thread.sleep(2);
+    String third = registry.open(owner, 0, elements(1, 2, 3), 1).getCursorId();
+
+    assertThat(registry.size()).isEqualTo(2);
+    assertThatThrownBy(() -> registry.nextPage(first, owner, 0))
+        .isInstanceOf(ConcurrentModificationException.class);
+    assertThat(registry.nextPage(second, owner, 0).getElements()).containsExactly(2);
+    assertThat(registry.nextPage(third, owner, 0).getElements()).containsExactly(2);
+  }
+
+  @Test
+  public void iterationContinuesAfterRemovingReturnedElements() {
+    List<Object> elements = new ArrayList<>(Arrays.asList(1, 2, 3, 4, 5));
+    DCursorPage page = registry.open(owner, 0, elements::iterator, 2);
+    String cursorId = page.getCursorId();
+
+    elements.remove(0);
+    registry.removedDuringIteration(cursorId, owner, 0, true);
+
+    page = registry.nextPage(cursorId, owner, 1);
+    assertThat(page.getElements()).containsExactly(3, 4);
+  }
+
+  private static Supplier<Iterator<?>> elements(Object... elements) {
+    return () -> Arrays.asList(elements).iterator();
+  }
+}
@@ -5,6 +5,7 @@
 package dev.gemfire.dtype.internal;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import org.junit.Before;
 import org.junit.ClassRule;
@@ -55,6 +56,17 @@ public class DSemaphoreBackendTest {
     assertThat(tracker.getSemaphores(MEMBER)).isEmpty();
   }
 
+  @Test
+  public void acquireWithoutPermitsIsRetried() {
+    DSemaphoreBackend semaphore = new DSemaphoreBackend(testName.getMethodName());
+    semaphore.setPermits(1);
+    semaphore.acquire(context, 1);
+
+    assertThatThrownBy(() -> semaphore.acquire(context, 1))
+        .isInstanceOf(RetryableException.class);
+    assertThat(semaphore.availablePermits()).isEqualTo(0);
+  }
+
   @Test
   public void permitsAreDrained() {
     DSemaphoreBackend semaphore = new DSemaphoreBackend(testName.getMethodName());
@@ -0,0 +1,155 @@
+/*
+ * Copyright 2024 Broadcom. All rights reserved.
+ */
+
+package dev.gemfire.dtype.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import dev.gemfire.dtype.DAtomicLong;
+import dev.gemfire.dtype.DAtomicLongAsync;
+import org.junit.Test;
+
+import org.apache.geode.internal.util.concurrent.ConcurrentLoopingThreads;
+
+public class DSequenceImplTest {
+
+  private final LocalAtomicLong counter = new LocalAtomicLong();
+
+  @Test
+  public void valuesAreConsecutiveForASingleInstance() {
+    DSequenceImpl sequence = new DSequenceImpl(counter, 4, 4);
+
+    for (long i = 1; i <= 100; i++) {
+      assertThat(sequence.next()).isEqualTo(i);
+    }
+    assertThat(counter.reservations.get()).isEqualTo(25);
+  }
+
+  @Test
+  public void instancesDoNotShareValues() {
+    DSequenceImpl sequence1 = new DSequenceImpl(counter, 8, 8);
+    DSequenceImpl sequence2 = new DSequenceImpl(counter, 8, 8);
+    Set<Long> values = ConcurrentHashMap.newKeySet();
+
+    new ConcurrentLoopingThreads(10_000,
+        i -> assertThat(values.add(sequence1.next())).isTrue(),
+        i -> assertThat(values.add(sequence1.next())).isTrue(),
+        i -> assertThat(values.add(sequence2.next())).isTrue(),
+        i -> assertThat(values.add(sequence2.next())).isTrue()).run();
+
+    assertThat(values).hasSize(40_000);
+  }
+
+  @Test
+  public void blockSizeGrowsWhenValuesAreUsedQuickly() {
+    DSequenceImpl sequence = new DSequenceImpl(counter, 2, 64);
+
+    for (int i = 0; i < 1_000; i++) {
+      sequence.next();
+    }
+
+    assertThat(sequence.getBlockSize()).isEqualTo(64);
+    assertThat(counter.reservations.get()).isLessThan(100);
+  }
+
+  @Test
+  public void blockSizesAreValidated() {
+    assertThatThrownBy(() -> new DSequenceImpl(counter, 0, 10))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> new DSequenceImpl(counter, 10, 5))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  /**
+   * An in-memory {@code DAtomicLong} that counts the blocks reserved from it.
+   */
+  private static class LocalAtomicLong implements DAtomicLong {
+
+    private final AtomicLong value = new AtomicLong();
+    private final AtomicInteger reservations = new AtomicInteger();
+
+    @Override
+    public String getName() {
+      return "sequence";
+    }
+
+    @Override
+    public void destroy() {}
+
+    @Override
+    public long get() {
+      return value.get();
+    }
+
+    @Override
+    public void set(long newValue) {
+      value.set(newValue);
+    }
+
+    @Override
+    public long getAndAdd(long delta) {
+      return value.getAndAdd(delta);
+    }
+
+    @Override
+    public long getAndSet(long newValue) {
+      return value.getAndSet(newValue);
+    }
+
+    @Override
+    public long addAndGet(long delta) {
+      reservations.incrementAndGet();
+      return value.addAndGet(delta);
+    }
+
+    @Override
+    public boolean compareAndSet(long expect, long update) {
+      return value.compareAndSet(expect, update);
+    }
+
+    @Override
+    public DAtomicLongAsync async() {
+      return new DAtomicLongAsync() {
+        @Override
+        public CompletableFuture<Long> get() {
+          return CompletableFuture.supplyAsync(LocalAtomicLong.this::get);
+        }
+
+        @Override
+        public CompletableFuture<Void> set(long newValue) {
+          return CompletableFuture.runAsync(() -> LocalAtomicLong.this.set(newValue));
+        }
+
+        @Override
+        public CompletableFuture<Long> getAndAdd(long delta) {
+          return CompletableFuture.supplyAsync(() -> LocalAtomicLong.this.getAndAdd(delta));
+        }
+
+        @Override
+        public CompletableFuture<Long> getAndSet(long newValue) {
+          return CompletableFuture.supplyAsync(() -> LocalAtomicLong.this.getAndSet(newValue));
+        }
+
+        @Override
+        public CompletableFuture<Long> addAndGet(long delta) {
+          return CompletableFuture.supplyAsync(() -> LocalAtomicLong.this.addAndGet(delta));
+        }
+
+        @Override
+        public CompletableFuture<Boolean> compareAndSet(long expect, long update) {
+          return CompletableFuture
+              .supplyAsync(() -> LocalAtomicLong.this.compareAndSet(expect, update));
+        }
+      };
+    }
+  }
+
+}
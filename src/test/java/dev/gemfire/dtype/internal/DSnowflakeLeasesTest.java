@@ -0,0 +1,91 @@
+/*
+ * Copyright 2024 Broadcom. All rights reserved.
+ */
+
+package dev.gemfire.dtype.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import dev.gemfire.dtype.DTypeException;
+import org.junit.Before;
+import org.junit.Test;
+
+public class DSnowflakeLeasesTest {
+
+  private static final String MEMBER = "member-id";
+  private static final String OTHER_MEMBER = "other-member-id";
+  private static final long LEASE_MS = 60_000;
+
+  private DSnowflakeLeases leases;
+  private DSemaphoreTracker tracker;
+  private DSemaphoreFunctionContext context;
+  private DSemaphoreFunctionContext otherContext;
+
+  @Before
+  public void setUp() {
+    leases = new DSnowflakeLeases("flake", 2);
+    tracker = new DSemaphoreTracker();
+    context = new DSemaphoreFunctionContext(MEMBER, tracker);
+    otherContext = new DSemaphoreFunctionContext(OTHER_MEMBER, tracker);
+  }
+
+  @Test
+  public void machineIdsAreUnique() {
+    assertThat(acquire(context, LEASE_MS)).isEqualTo(0);
+    assertThat(acquire(otherContext, LEASE_MS)).isEqualTo(1);
+    assertThat(acquire(context, LEASE_MS)).isEqualTo(2);
+    assertThat(acquire(otherContext, LEASE_MS)).isEqualTo(3);
+
+    assertThatThrownBy(() -> acquire(context, LEASE_MS))
+        .isInstanceOf(DTypeException.class);
+  }
+
+  @Test
+  public void releasedMachineIdsAreLeasedAgain() {
+    acquire(context, LEASE_MS);
+    assertThat(tracker.getSemaphores(MEMBER)).hasSize(1);
+
+    apply(new DTypeContextualOperation(DSnowflakeLeases.RELEASE, 0), context);
+
+    assertThat(tracker.getSemaphores(MEMBER)).isEmpty();
+    assertThat(acquire(otherContext, LEASE_MS)).isEqualTo(0);
+  }
+
+  @Test
+  public void departedMembersReleaseTheirLeases() {
+    acquire(context, LEASE_MS);
+    acquire(context, LEASE_MS);
+    acquire(otherContext, LEASE_MS);
+
+    leases.releaseAll(MEMBER);
+
+    assertThat(acquire(otherContext, LEASE_MS)).isEqualTo(0);
+    assertThat(acquire(otherContext, LEASE_MS)).isEqualTo(1);
+  }
+
+  @Test
+  public void expiredLeasesCannotBeRenewed() {
+    acquire(context, -1);
+
+    assertThat(acquire(otherContext, LEASE_MS)).isEqualTo(0);
+    assertThat(renew(context, 0)).isFalse();
+    assertThat(renew(otherContext, 0)).isTrue();
+    assertThat(tracker.getSemaphores(MEMBER)).isEmpty();
+  }
+
+  private int acquire(DSemaphoreFunctionContext context, long leaseMs) {
+    return (Integer) apply(new DTypeContextualOperation(DSnowflakeLeases.ACQUIRE, leaseMs),
+        context);
+  }
+
+  private boolean renew(DSemaphoreFunctionContext context, int machineId) {
+    return (Boolean) apply(
+        new DTypeContextualOperation(DSnowflakeLeases.RENEW, machineId, LEASE_MS), context);
+  }
+
+  private Object apply(DTypeContextualOperation op, DSemaphoreFunctionContext context) {
+    return op.apply(leases, context);
+  }
+
+}
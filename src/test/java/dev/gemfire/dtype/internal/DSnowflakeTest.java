@@ -1,8 +1,10 @@
 package dev.gemfire.dtype.internal;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import java.time.Instant;
+import java.util.Arrays;
 
 import dev.gemfire.dtype.DSnowflake;
 import org.assertj.core.data.Offset;
@@ -78,4 +80,59 @@ public class DSnowflakeTest {
         i -> assertThat(flake.nextId()).isLessThan(flake.nextId())).run();
   }
 
+  @Test
+  public void idBlocksAreConsecutive() {
+    DSnowflake flake = new DSnowflakeImpl();
+
+    long first = flake.nextIdBlock(100);
+    long[] parsedFirst = flake.parse(first);
+    long[] parsedLast = flake.parse(first + 99);
+
+    assertThat(parsedLast[0]).isEqualTo(parsedFirst[0]);
+    assertThat(parsedLast[1]).isEqualTo(parsedFirst[1]);
+    assertThat(parsedLast[2]).isEqualTo(parsedFirst[2] + 99);
+    assertThat(flake.nextId()).isGreaterThan(first + 99);
+  }
+
+  @Test
+  public void idBlockSizeIsLimitedBySequenceBits() {
+    DSnowflake flake = DSnowflake.builder()
+        .withSequenceBits(4)
+        .build();
+
+    assertThat(flake.parse(flake.nextIdBlock(16))[2]).isEqualTo(0);
+    assertThatThrownBy(() -> flake.nextIdBlock(17)).isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> flake.nextIdBlock(0)).isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  public void nextIdsSpansMultipleBlocks() {
+    DSnowflake flake = DSnowflake.builder()
+        .withSequenceBits(4)
+        .build();
+    long[] ids = new long[100];
+
+    flake.nextIds(ids);
+
+    for (int i = 1; i < ids.length; i++) {
+      assertThat(ids[i]).isGreaterThan(ids[i - 1]);
+    }
+    assertThat(Arrays.stream(ids).distinct().count()).isEqualTo(ids.length);
+  }
+
+  @Test
+  public void concurrentIdBlocksDoNotOverlap() {
+    DSnowflake flake = new DSnowflakeImpl();
+    long[][] ids = new long[4][10_000];
+
+    new ConcurrentLoopingThreads(1,
+        i -> flake.nextIds(ids[0]),
+        i -> flake.nextIds(ids[1]),
+        i -> flake.nextIds(ids[2]),
+        i -> flake.nextIds(ids[3])).run();
+
+    assertThat(Arrays.stream(ids).flatMapToLong(Arrays::stream).distinct().count())
+        .isEqualTo(40_000);
+  }
+
 }
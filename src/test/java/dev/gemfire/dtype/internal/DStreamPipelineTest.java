@@ -0,0 +1,64 @@
+/*
+ * Copyright 2024 Broadcom. All rights reserved.
+ */
+
+package dev.gemfire.dtype.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+import dev.gemfire.dtype.internal.DStreamPipeline.StepType;
+import dev.gemfire.dtype.internal.DStreamPipeline.TerminalType;
+import org.junit.Test;
+
+public class DStreamPipelineTest {
+
+  private static final Comparator<Integer> NATURAL = Integer::compare;
+
+  private static Stream<Object> values(Object... values) {
+    return Arrays.stream(values);
+  }
+
+  @Test
+  public void stepsAreAppliedInOrder() {
+    DStreamPipeline pipeline = new DStreamPipeline()
+        .withStep(StepType.FILTER, (Predicate<Integer>) x -> x > 2)
+        .withStep(StepType.MAP, (Function<Integer, Integer>) x -> x * 10)
+        .withTerminal(TerminalType.TO_LIST, null, 0);
+
+    assertThat(pipeline.evaluate(values(1, 2, 3, 4))).isEqualTo(Arrays.asList(30, 40));
+  }
+
+  @Test
+  public void topRetainsLargestElementsInDescendingOrder() {
+    DStreamPipeline pipeline = new DStreamPipeline().withTerminal(TerminalType.TOP, NATURAL, 3);
+
+    assertThat(pipeline.evaluate(values(5, 1, 9, 3, 7, 2))).isEqualTo(Arrays.asList(9, 7, 5));
+  }
+
+  @Test
+  public void minOfEmptyStreamIsNull() {
+    DStreamPipeline pipeline = new DStreamPipeline().withTerminal(TerminalType.MIN, NATURAL, 0);
+
+    assertThat(pipeline.evaluate(values())).isNull();
+  }
+
+  @Test
+  public void partialResultsAreCombined() {
+    DStreamPipeline count = new DStreamPipeline().withTerminal(TerminalType.COUNT, null, 0);
+    assertThat(count.combine(Arrays.asList(2L, 3L))).isEqualTo(5L);
+
+    DStreamPipeline max = new DStreamPipeline().withTerminal(TerminalType.MAX, NATURAL, 0);
+    assertThat(max.combine(Arrays.asList(4, null, 8))).isEqualTo(8);
+
+    DStreamPipeline top = new DStreamPipeline().withTerminal(TerminalType.TOP, NATURAL, 2);
+    List<Object> partials = Arrays.asList(Arrays.asList(9, 1), Arrays.asList(8, 7));
+    assertThat(top.combine(partials)).isEqualTo(Arrays.asList(9, 8));
+  }
+}
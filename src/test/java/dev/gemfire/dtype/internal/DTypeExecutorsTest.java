@@ -0,0 +1,55 @@
+/*
+ * Copyright 2024 Broadcom. All rights reserved.
+ */
+
+package dev.gemfire.dtype.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.ExecutorService;
+
+import org.junit.Test;
+
+public class DTypeExecutorsTest {
+
+  @Test
+  public void tasksRunOnNamedDaemonThreads() throws Exception {
+    ExecutorService executor = DTypeExecutors.newExecutor("test-executor-");
+    try {
+      Thread thread = executor.submit(Thread::currentThread).get();
+
+      assertThat(thread.getName()).startsWith("test-executor-");
+      assertThat(thread.isDaemon()).isTrue();
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  public void virtualThreadsAreUsedWhereAvailable() throws Exception {
+    boolean available = hasMethod(Thread.class, "ofVirtual");
+    ExecutorService executor = DTypeExecutors.newVirtualThreadExecutor("test-virtual-");
+    if (!available) {
+      assertThat(executor).isNull();
+      return;
+    }
+
+    try {
+      Thread thread = executor.submit(Thread::currentThread).get();
+
+      assertThat(thread.getClass().getMethod("isVirtual").invoke(thread)).isEqualTo(true);
+      assertThat(thread.getName()).startsWith("test-virtual-");
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  private static boolean hasMethod(Class<?> type, String name) {
+    try {
+      type.getMethod(name);
+      return true;
+    } catch (NoSuchMethodException e) {
+      return false;
+    }
+  }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2024 Broadcom. All rights reserved.
+ */
+
+package dev.gemfire.dtype.internal;
+
+import static org.apache.geode.util.internal.UncheckedUtils.uncheckedCast;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.util.concurrent.Executor;
+
+import dev.gemfire.dtype.DType;
+import org.junit.Test;
+
+import org.apache.geode.internal.HeapDataOutputStream;
+import org.apache.geode.internal.serialization.ByteArrayDataInput;
+
+public class DTypeOperationTest {
+
+  @Test
+  public void operationRoundTripsThroughSerialization() throws Exception {
+    byte[] element = AbstractDType.serialize("element");
+    DTypeOperation op = new DTypeOperation(42, element, 7, 11L);
+
+    DTypeOperation copy = roundTrip(op, new DTypeOperation());
+
+    assertThat(copy.getOpcode()).isEqualTo(42);
+    assertThat(copy.<byte[]>getArg(0)).isEqualTo(element);
+    assertThat(copy.getIntArg(1)).isEqualTo(7);
+    assertThat(copy.getLongArg(2)).isEqualTo(11L);
+  }
+
+  @Test
+  public void operationWithoutArgsRoundTripsThroughSerialization() throws Exception {
+    DTypeContextualOperation copy =
+        roundTrip(new DTypeContextualOperation(3), new DTypeContextualOperation());
+
+    assertThat(copy.getOpcode()).isEqualTo(3);
+  }
+
+  @Test
+  public void operationsAreAppliedToEntryAfterSerialization() {
+    DAtomicLongImpl atomicLong = new DAtomicLongImpl("test");
+    atomicLong.initialize(null, new SerializingOperationPerformer());
+
+    assertThat(atomicLong.addAndGet(10)).isEqualTo(10);
+    assertThat(atomicLong.getAndAdd(5)).isEqualTo(10);
+    assertThat(atomicLong.compareAndSet(15, 1)).isTrue();
+    assertThat(atomicLong.async().get().join()).isEqualTo(1);
+  }
+
+  @Test
+  public void unknownOpcodeIsRejected() {
+    DAtomicLongImpl atomicLong = new DAtomicLongImpl("test");
+
+    assertThatThrownBy(() -> new DTypeOperation(Short.MAX_VALUE).apply(atomicLong))
+        .isInstanceOf(UnsupportedOperationException.class);
+  }
+
+  private static <T extends AbstractDTypeOperation> T roundTrip(T op, T copy) throws IOException,
+      ClassNotFoundException {
+    HeapDataOutputStream out = new HeapDataOutputStream(0);
+    op.toData(out);
+    copy.fromData(new ByteArrayDataInput(out.toByteArray()));
+    return copy;
+  }
+
+  /**
+   * Applies operations, after a serialization round trip, directly to the given entry.
+   */
+  private static class SerializingOperationPerformer implements OperationPerformer {
+    @Override
+    public <T> T performOperation(DType entry, DTypeFunction fn, OperationType operationType,
+        String gemFireFunctionId) {
+      try {
+        return uncheckedCast(roundTrip((DTypeOperation) fn, new DTypeOperation()).apply(entry));
+      } catch (IOException | ClassNotFoundException e) {
+        throw new RuntimeException(e);
+      }
+    }
+
+    @Override
+    public Executor getAsyncExecutor() {
+      return Runnable::run;
+    }
+  }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2024 Broadcom. All rights reserved.
+ */
+
+package dev.gemfire.dtype.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.Executor;
+
+import dev.gemfire.dtype.DSnowflake;
+import org.junit.Test;
+
+import org.apache.geode.Statistics;
+import org.apache.geode.internal.statistics.LocalStatisticsFactory;
+
+public class DTypeStatsTest {
+
+  private final LocalStatisticsFactory factory = new LocalStatisticsFactory(null);
+  private final DTypeStats stats = new DTypeStats(factory);
+
+  @Test
+  public void statisticsAreKeptPerClassAndOpcode() {
+    DTypeStats.OperationStats offer =
+        stats.forOperation(DBlockingQueueImpl.class, new DTypeOperation(1));
+
+    assertThat(stats.forOperation(DBlockingQueueImpl.class, new DTypeOperation(1)))
+        .isSameAs(offer);
+    assertThat(stats.forOperation(DBlockingQueueImpl.class, new DTypeOperation(2)))
+        .isNotSameAs(offer);
+    assertThat(stats.forOperation(DListImpl.class, new DTypeOperation(1)))
+        .isNotSameAs(offer);
+  }
+
+  @Test
+  public void operationsAndErrorsAreCounted() {
+    DTypeStats.OperationStats opStats =
+        stats.forOperation(DCounterImpl.class, new DTypeOperation(1));
+
+    opStats.endOperation(opStats.startTime(), false);
+    opStats.endOperation(opStats.startTime(), false);
+    opStats.endOperation(opStats.startTime(), true);
+    opStats.incRetries();
+
+    Statistics statistics = factory.findStatisticsByTextId("DCounterImpl:1")[0];
+    assertThat(statistics.getLong("operations")).isEqualTo(2);
+    assertThat(statistics.getLong("errors")).isEqualTo(1);
+    assertThat(statistics.getLong("retries")).isEqualTo(1);
+  }
+
+  @Test
+  public void executorTasksAreCounted() {
+    Executor executor = stats.meter("test-executor", Runnable::run);
+
+    executor.execute(() -> {
+      Statistics running = factory.findStatisticsByTextId("test-executor")[0];
+      assertThat(running.getLong("tasksRunning")).isEqualTo(1);
+    });
+
+    Statistics statistics = factory.findStatisticsByTextId("test-executor")[0];
+    assertThat(statistics.getLong("tasks")).isEqualTo(1);
+    assertThat(statistics.getLong("tasksRunning")).isEqualTo(0);
+  }
+
+  @Test
+  public void snowflakeIdsAreCounted() {
+    DSnowflake flake = DSnowflake.builder()
+        .withMachineId(5)
+        .withStatistics(factory)
+        .build();
+
+    flake.nextId();
+    flake.nextIds(new long[10]);
+
+    Statistics statistics = factory.findStatisticsByTextId(flake.getName())[0];
+    assertThat(statistics.getLong("ids")).isEqualTo(11);
+  }
+
+  @Test
+  public void snowflakeStatisticsAreClosedOnDestroy() {
+    DSnowflake flake = DSnowflake.builder()
+        .withMachineId(6)
+        .withStatistics(factory)
+        .build();
+    Statistics statistics = factory.findStatisticsByTextId(flake.getName())[0];
+
+    flake.destroy();
+
+    assertThat(statistics.isClosed()).isTrue();
+  }
+
+  @Test
+  public void disabledStatisticsRecordNothing() {
+    DTypeStats.OperationStats opStats =
+        DTypeStats.DISABLED.forOperation(DCounterImpl.class, new DTypeOperation(1));
+
+    assertThat(opStats).isSameAs(DTypeStats.OperationStats.DISABLED);
+    assertThat(opStats.startTime()).isEqualTo(0);
+    opStats.endOperation(0, true);
+  }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright 2024 Broadcom. All rights reserved.
+ */
+
+package dev.gemfire.dtype.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+public class DTypeWaitersTest {
+
+  private static final int CONDITION = 1;
+  private static final int OTHER_CONDITION = 2;
+
+  private final DTypeWaiters waiters = new DTypeWaiters();
+
+  @Test
+  public void signalWakesWaitersInOrder() {
+    DTypeWaiters.Waiter first = waiters.add(CONDITION, false);
+    DTypeWaiters.Waiter second = waiters.add(CONDITION, false);
+
+    waiters.signal(CONDITION, 1);
+
+    assertThat(first.await(0)).isTrue();
+    assertThat(second.await(0)).isFalse();
+    assertThat(waiters.size(CONDITION)).isEqualTo(1);
+  }
+
+  @Test
+  public void requeuedWaiterIsSignalledFirst() {
+    DTypeWaiters.Waiter waiting = waiters.add(CONDITION, false);
+    DTypeWaiters.Waiter requeued = waiters.add(CONDITION, true);
+
+    waiters.signal(CONDITION, 1);
+
+    assertThat(requeued.await(0)).isTrue();
+    assertThat(waiting.await(0)).isFalse();
+  }
+
+  @Test
+  public void signalSkipsCancelledWaiters() {
+    DTypeWaiters.Waiter cancelled = waiters.add(CONDITION, false);
+    DTypeWaiters.Waiter waiting = waiters.add(CONDITION, false);
+    assertThat(cancelled.await(0)).isFalse();
+
+    waiters.signal(CONDITION, 1);
+
+    assertThat(waiting.await(0)).isTrue();
+    assertThat(waiters.size(CONDITION)).isEqualTo(0);
+  }
+
+  @Test
+  public void signalOnlyWakesWaitersForCondition() {
+    DTypeWaiters.Waiter waiter = waiters.add(CONDITION, false);
+
+    waiters.signalAll(OTHER_CONDITION);
+
+    assertThat(waiter.await(0)).isFalse();
+  }
+
+  @Test
+  public void awaitReturnsWhenSignalledByAnotherThread() throws Exception {
+    DTypeWaiters.Waiter waiter = waiters.add(CONDITION, false);
+
+    CompletableFuture.runAsync(() -> waiters.signal(CONDITION, 1));
+
+    long start = System.nanoTime();
+    assertThat(waiter.await(10_000)).isTrue();
+    assertThat(System.nanoTime() - start).isLessThan(TimeUnit.SECONDS.toNanos(5));
+  }
+
+  @Test
+  public void waitingThreadsAreLimited() {
+    int reserved = 0;
+    try {
+      while (DTypeWaiters.reserve(false)) {
+        reserved++;
+      }
+      assertThat(DTypeWaiters.getWaitingThreads()).isEqualTo(DTypeWaiters.MAX_WAITING_THREADS);
+
+      assertThat(DTypeWaiters.reserve(true)).isTrue();
+      reserved++;
+    } finally {
+      for (int i = 0; i < reserved; i++) {
+        DTypeWaiters.release();
+      }
+    }
+    assertThat(DTypeWaiters.getWaitingThreads()).isEqualTo(0);
+  }
+
+  @Test
+  public void interruptedAwaitIsCancelled() {
+    DTypeWaiters.Waiter waiter = waiters.add(CONDITION, false);
+    Thread.currentThread().interrupt();
+
+    try {
+      assertThatThrownBy(() -> waiter.await(10_000))
+          .isInstanceOf(UncheckedInterruptedException.class);
+      assertThat(waiter.signal()).isFalse();
+    } finally {
+      Thread.interrupted();
+    }
+  }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2024 Broadcom. All rights reserved.
+ */
+
+package dev.gemfire.dtype.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.Test;
+
+public class LongArrayListTest {
+
+  @Test
+  public void addInsertsAtIndex() {
+    LongArrayList list = new LongArrayList();
+    list.add(1);
+    list.add(3);
+    list.add(1, 2);
+    list.add(0, 0);
+    list.add(4, 4);
+
+    assertThat(list.toArray()).containsExactly(0, 1, 2, 3, 4);
+  }
+
+  @Test
+  public void addAllGrowsTheList() {
+    LongArrayList list = new LongArrayList(new long[] {1, 2});
+    long[] values = new long[100];
+    for (int i = 0; i < values.length; i++) {
+      values[i] = i;
+    }
+
+    list.addAll(values);
+
+    assertThat(list.size()).isEqualTo(102);
+    assertThat(list.get(0)).isEqualTo(1);
+    assertThat(list.get(101)).isEqualTo(99);
+  }
+
+  @Test
+  public void removeShiftsSubsequentValues() {
+    LongArrayList list = new LongArrayList(new long[] {5, 6, 7, 6});
+
+    assertThat(list.removeAt(0)).isEqualTo(5);
+    assertThat(list.remove(6)).isTrue();
+    assertThat(list.remove(8)).isFalse();
+
+    assertThat(list.toArray()).containsExactly(7, 6);
+  }
+
+  @Test
+  public void indexOfFindsFirstAndLastOccurrences() {
+    LongArrayList list = new LongArrayList(new long[] {1, 2, 1});
+
+    assertThat(list.indexOf(1)).isEqualTo(0);
+    assertThat(list.lastIndexOf(1)).isEqualTo(2);
+    assertThat(list.indexOf(3)).isEqualTo(-1);
+  }
+
+  @Test
+  public void setAndSortReplaceValues() {
+    LongArrayList list = new LongArrayList(new long[] {3, 1, 2});
+
+    assertThat(list.set(0, 4)).isEqualTo(3);
+    list.sort();
+
+    assertThat(list.toArray()).containsExactly(1, 2, 4);
+    assertThat(list.toArray(1, 3)).containsExactly(2, 4);
+  }
+
+  @Test
+  public void indexesAreChecked() {
+    LongArrayList list = new LongArrayList(new long[] {1});
+
+    assertThatThrownBy(() -> list.get(1)).isInstanceOf(IndexOutOfBoundsException.class);
+    assertThatThrownBy(() -> list.set(-1, 0)).isInstanceOf(IndexOutOfBoundsException.class);
+    assertThatThrownBy(() -> list.add(2, 0)).isInstanceOf(IndexOutOfBoundsException.class);
+    assertThatThrownBy(() -> list.removeAt(1)).isInstanceOf(IndexOutOfBoundsException.class);
+    assertThatThrownBy(() -> list.toArray(0, 2)).isInstanceOf(IndexOutOfBoundsException.class);
+  }
+
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2024 Broadcom. All rights reserved.
+ */
+
+package dev.gemfire.dtype.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.NoSuchElementException;
+
+import org.junit.Test;
+
+public class LongArrayQueueTest {
+
+  @Test
+  public void valuesArePolledInOrderAcrossWrapAround() {
+    LongArrayQueue queue = new LongArrayQueue(100);
+    for (long i = 0; i < 10; i++) {
+      queue.offer(i);
+    }
+    for (long i = 0; i < 8; i++) {
+      assertThat(queue.poll()).isEqualTo(i);
+    }
+    // Wrap around the end of the buffer, then grow it
+    for (long i = 10; i < 40; i++) {
+      queue.offer(i);
+    }
+
+    assertThat(queue.toArray()).hasSize(32);
+    for (long i = 8; i < 40; i++) {
+      assertThat(queue.poll()).isEqualTo(i);
+    }
+    assertThat(queue.isEmpty()).isTrue();
+  }
+
+  @Test
+  public void offersFailWhenFull() {
+    LongArrayQueue queue = new LongArrayQueue(3);
+
+    assertThat(queue.offer(1)).isTrue();
+    assertThat(queue.offerAll(new long[] {2, 3, 4})).isFalse();
+    assertThat(queue.offerAll(new long[] {2, 3})).isTrue();
+    assertThat(queue.offer(4)).isFalse();
+    assertThat(queue.remainingCapacity()).isEqualTo(0);
+    assertThat(queue.toArray()).containsExactly(1, 2, 3);
+  }
+
+  @Test
+  public void drainRemovesUpToMaxValues() {
+    LongArrayQueue queue = new LongArrayQueue(10);
+    queue.offerAll(new long[] {1, 2, 3});
+
+    assertThat(queue.drain(2)).containsExactly(1, 2);
+    assertThat(queue.drain(5)).containsExactly(3);
+    assertThat(queue.drain(5)).isEmpty();
+  }
+
+  @Test
+  public void emptyQueueHasNoHead() {
+    LongArrayQueue queue = new LongArrayQueue(1);
+
+    assertThatThrownBy(queue::peek).isInstanceOf(NoSuchElementException.class);
+    assertThatThrownBy(queue::poll).isInstanceOf(NoSuchElementException.class);
+  }
+
+  @Test
+  public void capacityMustBePositive() {
+    assertThatThrownBy(() -> new LongArrayQueue(0))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2024 Broadcom. All rights reserved.
+ */
+
+package dev.gemfire.dtype.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.Test;
+
+public class LongHashSetTest {
+
+  @Test
+  public void addAndRemoveTrackMembership() {
+    LongHashSet set = new LongHashSet();
+
+    assertThat(set.add(7)).isTrue();
+    assertThat(set.add(7)).isFalse();
+    assertThat(set.add(-7)).isTrue();
+    assertThat(set.contains(7)).isTrue();
+    assertThat(set.size()).isEqualTo(2);
+
+    assertThat(set.remove(7)).isTrue();
+    assertThat(set.remove(7)).isFalse();
+    assertThat(set.contains(7)).isFalse();
+    assertThat(set.contains(-7)).isTrue();
+    assertThat(set.size()).isEqualTo(1);
+  }
+
+  @Test
+  public void zeroIsAnOrdinaryValue() {
+    LongHashSet set = new LongHashSet();
+
+    assertThat(set.contains(0)).isFalse();
+    assertThat(set.add(0)).isTrue();
+    assertThat(set.add(0)).isFalse();
+    assertThat(set.contains(0)).isTrue();
+    assertThat(set.toArray()).containsExactly(0L);
+
+    assertThat(set.remove(0)).isTrue();
+    assertThat(set.isEmpty()).isTrue();
+  }
+
+  @Test
+  public void clearRemovesAllValues() {
+    LongHashSet set = new LongHashSet();
+    for (long i = 0; i < 100; i++) {
+      set.add(i);
+    }
+
+    set.clear();
+
+    assertThat(set.isEmpty()).isTrue();
+    assertThat(set.contains(0)).isFalse();
+    assertThat(set.contains(50)).isFalse();
+    assertThat(set.toArray()).isEmpty();
+  }
+
+  @Test
+  public void behavesLikeHashSetUnderRandomOperations() {
+    LongHashSet set = new LongHashSet();
+    Set<Long> expected = new HashSet<>();
+    Random random = new Random(42);
+
+    for (int i = 0; i < 100_000; i++) {
+      // A small range ensures plenty of collisions and removals of present values
+      long value = random.nextInt(2_000) - 1_000;
+      if (random.nextBoolean()) {
+        assertThat(set.add(value)).isEqualTo(expected.add(value));
+      } else {
+        assertThat(set.remove(value)).isEqualTo(expected.remove(value));
+      }
+    }
+
+    assertThat(set.size()).isEqualTo(expected.size());
+    for (long value = -1_000; value < 1_000; value++) {
+      assertThat(set.contains(value)).isEqualTo(expected.contains(value));
+    }
+    assertThat(set.toArray()).containsExactlyInAnyOrder(
+        expected.stream().mapToLong(Long::longValue).toArray());
+  }
+
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2024 Broadcom. All rights reserved.
+ */
+
+package dev.gemfire.dtype.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.Test;
+
+public class OffHeapArenaTest {
+
+  private final OffHeapArena arena = new OffHeapArena();
+
+  @Test
+  public void elementsWithTheSameBytesAreEqual() {
+    OffHeapElement a = arena.store(AbstractDType.serialize("foo"));
+    OffHeapElement b = arena.store(AbstractDType.serialize("foo"));
+    OffHeapElement c = arena.store(AbstractDType.serialize("bar"));
+
+    assertThat(a).isEqualTo(b);
+    assertThat(a.hashCode()).isEqualTo(b.hashCode());
+    assertThat(a).isNotEqualTo(c);
+    assertThat(a.<String>getValue()).isEqualTo("foo");
+  }
+
+  @Test
+  public void elementsCanBeUsedInHashedCollections() {
+    Set<OffHeapElement> set = new HashSet<>();
+    set.add(arena.store(AbstractDType.serialize(1L)));
+    set.add(arena.store(AbstractDType.serialize(1L)));
+    set.add(arena.store(AbstractDType.serialize(2L)));
+
+    assertThat(set).hasSize(2);
+    assertThat(set.contains(arena.store(AbstractDType.serialize(2L)))).isTrue();
+  }
+
+  @Test
+  public void serializedElementsWithTheSameBytesAreEqual() {
+    OffHeapElement stored = arena.store(AbstractDType.serialize("foo"));
+    SerializedElement lookup = new SerializedElement(AbstractDType.serialize("foo"));
+
+    assertThat(lookup).isEqualTo(stored);
+    assertThat(stored).isEqualTo(lookup);
+    assertThat(lookup.hashCode()).isEqualTo(stored.hashCode());
+    assertThat(stored).isNotEqualTo(new SerializedElement(AbstractDType.serialize("bar")));
+
+    Set<OffHeapElement> set = new HashSet<>();
+    set.add(stored);
+    assertThat(set.contains(lookup)).isTrue();
+  }
+
+  @Test
+  public void slabsGrowWithTheStoredElements() {
+    arena.store(AbstractDType.serialize("foo"));
+    assertThat(arena.getAllocatedBytes()).isEqualTo(OffHeapArena.MIN_SLAB_SIZE);
+
+    byte[] bytes = new byte[OffHeapArena.MIN_SLAB_SIZE];
+    arena.store(bytes);
+    arena.store(bytes);
+    assertThat(arena.getAllocatedBytes()).isEqualTo(4L * OffHeapArena.MIN_SLAB_SIZE);
+  }
+
+  @Test
+  public void elementsLargerThanASlabAreStored() {
+    byte[] bytes = new byte[OffHeapArena.SLAB_SIZE + 1];
+    bytes[bytes.length - 1] = 7;
+
+    OffHeapElement element = arena.store(bytes);
+
+    assertThat(element.getBytes()).isEqualTo(bytes);
+  }
+
+  @Test
+  public void compactionMovesLiveElementsIntoNewSlabs() {
+    byte[] bytes = new byte[OffHeapArena.SLAB_SIZE / 4];
+    List<OffHeapElement> live = new ArrayList<>();
+    for (int i = 0; i < 16; i++) {
+      bytes[0] = (byte) i;
+      OffHeapElement element = arena.store(bytes);
+      if (i % 4 == 0) {
+        live.add(element);
+      }
+    }
+    assertThat(arena.needsCompaction()).isTrue();
+
+    arena.compact(live);
+
+    assertThat(arena.getAllocatedBytes()).isEqualTo(OffHeapArena.SLAB_SIZE);
+    assertThat(arena.needsCompaction()).isFalse();
+    for (int i = 0; i < live.size(); i++) {
+      assertThat(live.get(i).getBytes()[0]).isEqualTo((byte) (i * 4));
+    }
+  }
+
+  @Test
+  public void compactionIsSkippedWhenMostElementsAreLive() {
+    byte[] bytes = new byte[OffHeapArena.SLAB_SIZE / 4];
+    List<OffHeapElement> live = new ArrayList<>();
+    for (int i = 0; i < 8; i++) {
+      live.add(arena.store(bytes));
+    }
+
+    arena.compact(live);
+
+    assertThat(arena.getAllocatedBytes()).isEqualTo(2L * OffHeapArena.SLAB_SIZE);
+    assertThat(arena.needsCompaction()).isFalse();
+  }
+
+}
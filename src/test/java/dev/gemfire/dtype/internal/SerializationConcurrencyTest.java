@@ -0,0 +1,94 @@
+/*
+ * Copyright 2024 Broadcom. All rights reserved.
+ */
+
+package dev.gemfire.dtype.internal;
+
+import static org.apache.geode.util.internal.UncheckedUtils.uncheckedCast;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+import dev.gemfire.dtype.DType;
+import dev.gemfire.dtype.ElementStorage;
+import org.junit.Test;
+
+import org.apache.geode.internal.HeapDataOutputStream;
+import org.apache.geode.internal.util.concurrent.ConcurrentLoopingThreads;
+
+/**
+ * Entries are serialized, for example during GII or rebalancing, by threads other than those
+ * performing operations, so serialization must not interleave with updates.
+ */
+public class SerializationConcurrencyTest {
+
+  private final OperationPerformer performer = new LocalOperationPerformer();
+
+  @Test
+  public void listCanBeSerializedWhileUpdated() {
+    DListImpl<Integer> list = new DListImpl<>("list", ElementStorage.OBJECT);
+    list.initialize(null, performer);
+
+    new ConcurrentLoopingThreads(10_000,
+        i -> list.add(i),
+        i -> list.remove(Integer.valueOf(i)),
+        i -> serialize(list)).run();
+  }
+
+  @Test
+  public void setCanBeSerializedWhileUpdated() {
+    DSetImpl<Integer> set = new DSetImpl<>("set", ElementStorage.SERIALIZED);
+    set.initialize(null, performer);
+
+    new ConcurrentLoopingThreads(10_000,
+        i -> set.add(i),
+        i -> set.remove(i - 1),
+        i -> serialize(set)).run();
+  }
+
+  @Test
+  public void queueCanBeSerializedWhileUpdated() {
+    DBlockingQueueImpl<Integer> queue = new DBlockingQueueImpl<>("queue");
+    queue.initialize(null, performer);
+
+    new ConcurrentLoopingThreads(10_000,
+        i -> queue.offer(i),
+        i -> queue.poll(),
+        i -> serialize(queue)).run();
+  }
+
+  private static void serialize(AbstractDType entry) {
+    try {
+      entry.toData(new HeapDataOutputStream(0));
+    } catch (IOException ex) {
+      throw new UncheckedIOException(ex);
+    }
+  }
+
+  /**
+   * Performs operations on the local instance in the same way as a server, without a region.
+   */
+  private static class LocalOperationPerformer implements OperationPerformer {
+
+    @Override
+    public <T> T performOperation(DType entry, DTypeFunction fn, OperationType operationType,
+        String gemFireFunctionId) {
+      try {
+        return uncheckedCast(CollectionsBackendFunction.performWithRetries((AbstractDType) entry,
+            operationType, null, () -> ((DTypeCollectionsFunction) fn).apply(entry)));
+      } catch (RuntimeException ex) {
+        throw ex;
+      } catch (Exception ex) {
+        throw new RuntimeException(ex);
+      }
+    }
+
+    @Override
+    public Executor getAsyncExecutor() {
+      return ForkJoinPool.commonPool();
+    }
+  }
+
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright 2024 Broadcom. All rights reserved.
+ */
+
+package dev.gemfire.dtype.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.Test;
+
+public class SerializedElementTest {
+
+  @Test
+  public void elementsWithTheSameBytesAreEqual() {
+    SerializedElement a = new SerializedElement(AbstractDType.serialize("foo"));
+    SerializedElement b = new SerializedElement(AbstractDType.serialize("foo"));
+    SerializedElement c = new SerializedElement(AbstractDType.serialize("bar"));
+
+    assertThat(a).isEqualTo(b);
+    assertThat(a.hashCode()).isEqualTo(b.hashCode());
+    assertThat(a).isNotEqualTo(c);
+  }
+
+  @Test
+  public void elementsCanBeUsedInHashedCollections() {
+    Set<SerializedElement> set = new HashSet<>();
+    set.add(new SerializedElement(AbstractDType.serialize(1L)));
+    set.add(new SerializedElement(AbstractDType.serialize(1L)));
+    set.add(new SerializedElement(AbstractDType.serialize(2L)));
+
+    assertThat(set).hasSize(2);
+    assertThat(set.contains(new SerializedElement(AbstractDType.serialize(2L)))).isTrue();
+  }
+
+  @Test
+  public void valueIsDeserialized() {
+    SerializedElement element = new SerializedElement(AbstractDType.serialize("foo"));
+
+    assertThat(element.<String>getValue()).isEqualTo("foo");
+  }
+
+}